@@ -0,0 +1,210 @@
+package com.github.hanyaeger.api;
+
+import com.github.hanyaeger.api.scenes.DynamicScene;
+import com.github.hanyaeger.core.YaegerConfig;
+import com.github.hanyaeger.core.annotations.AnnotationProcessor;
+import com.github.hanyaeger.core.exceptions.YaegerLifecycleException;
+import com.github.hanyaeger.core.guice.YaegerModule;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import javafx.scene.input.KeyCode;
+
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link HeadlessRunner} runs a single {@link DynamicScene} without a {@link YaegerGame}, and thus without a
+ * {@link javafx.stage.Stage} or the JavaFX toolkit. Instead of following the refresh rate of the display, each
+ * Game World Update is performed when it is requested, as fast as possible, with a timestamp provided by a
+ * {@link SimulationClock}. This makes it possible to simulate a game many times faster than real time, for instance
+ * to balance it or to test it on a machine without a display.
+ * <p>
+ * The locations, bounding boxes and collisions of all entities behave as they would in a {@link YaegerGame}, but
+ * nothing is rendered and no user input is received. Pressed keys can be provided through
+ * {@link #setPressedKeys(Set)}. Since loading images and fonts requires the JavaFX toolkit, a headless
+ * {@link DynamicScene} should only contain entities that do not use them, such as shape entities.
+ * <p>
+ * To find out which entities take the most time, profiling can be enabled through {@link #setProfiling(boolean)},
+ * after which {@link #getProfileReport(int)} shows the slowest parts of the Game World Update.
+ * <p>
+ * All methods of a {@link HeadlessRunner} should be called from the same thread.
+ */
+public class HeadlessRunner {
+
+    /**
+     * The number of Game World Updates per second of the {@link SimulationClock} that is used, when none is provided.
+     */
+    public static final double DEFAULT_STEPS_PER_SECOND = 60;
+
+    private final DynamicScene scene;
+    private final Size size;
+    private final SimulationClock clock;
+
+    private boolean profiling;
+    private UpdateProfiler profiler;
+    private boolean started;
+    private long steps;
+
+    /**
+     * Create a new {@link HeadlessRunner} for the given {@link DynamicScene}, with
+     * {@link YaegerGame#DEFAULT_GAME_DIMENSIONS} and {@link #DEFAULT_STEPS_PER_SECOND}.
+     *
+     * @param scene the {@link DynamicScene} to be run
+     */
+    public HeadlessRunner(final DynamicScene scene) {
+        this(scene, YaegerGame.DEFAULT_GAME_DIMENSIONS, SimulationClock.fixedRate(DEFAULT_STEPS_PER_SECOND));
+    }
+
+    /**
+     * Create a new {@link HeadlessRunner} for the given {@link DynamicScene}.
+     *
+     * @param scene the {@link DynamicScene} to be run
+     * @param size  the {@link Size} of the {@link DynamicScene}
+     * @param clock the {@link SimulationClock} that provides the timestamps of the Game World Updates
+     */
+    public HeadlessRunner(final DynamicScene scene, final Size size, final SimulationClock clock) {
+        if (scene == null || size == null || clock == null) {
+            throw new IllegalArgumentException("The scene, size and clock of a HeadlessRunner are required.");
+        }
+        this.scene = scene;
+        this.size = size;
+        this.clock = clock;
+    }
+
+    /**
+     * Activate the {@link DynamicScene}, which calls its {@link DynamicScene#setupScene()} and
+     * {@link DynamicScene#setupEntities()} and adds all its entities. No Game World Update is performed yet.
+     */
+    public void start() {
+        if (started) {
+            throw new YaegerLifecycleException("A HeadlessRunner that is running can not be started again.");
+        }
+        started = true;
+
+        final Injector injector = Guice.createInjector(new YaegerModule());
+        profiler = injector.getInstance(UpdateProfiler.class);
+        profiler.setEnabled(profiling);
+        final var annotationProcessor = injector.getInstance(AnnotationProcessor.class);
+
+        scene.init(injector);
+        scene.setConfig(new YaegerConfig(false, false, false, profiling));
+        scene.setHeadless(size);
+
+        injector.injectMembers(scene);
+        annotationProcessor.configureUpdateDelegators(scene);
+        scene.activate();
+        annotationProcessor.invokeActivators(scene);
+        annotationProcessor.invokePostActivators(scene);
+        scene.postActivate();
+    }
+
+    /**
+     * Perform a single pulse of the Game Loop, unless the {@link DynamicScene} has been paused. Its timestamp is handled
+     * as it would be in a {@link YaegerGame}, so without a fixed timestep it results in exactly one Game World Update,
+     * and a recording or replay of the {@link DynamicScene} applies as well.
+     *
+     * @return {@code true} if the pulse has been performed
+     */
+    public boolean step() {
+        requireStarted();
+        if (!scene.isActiveGWU()) {
+            return false;
+        }
+
+        scene.pulse(clock.nextTimestamp());
+        steps++;
+        return true;
+    }
+
+    /**
+     * Perform the given number of Game World Updates, or fewer if the {@link DynamicScene} pauses.
+     *
+     * @param count the number of Game World Updates
+     * @return the number of Game World Updates that have been performed
+     */
+    public long run(final long count) {
+        return runUntil(() -> false, count);
+    }
+
+    /**
+     * Perform Game World Updates until the given condition is met, the {@link DynamicScene} pauses or the given
+     * maximum number of Game World Updates has been performed. The condition is checked before each Game World Update.
+     *
+     * @param condition the {@link BooleanSupplier} that states whether the simulation should stop
+     * @param maxCount  the maximum number of Game World Updates
+     * @return the number of Game World Updates that have been performed
+     */
+    public long runUntil(final BooleanSupplier condition, final long maxCount) {
+        var count = 0L;
+        while (count < maxCount && !condition.getAsBoolean() && step()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Set the keys that are currently pressed, as the user would by pressing or releasing keys. All instances of
+     * {@link com.github.hanyaeger.api.userinput.KeyListener} are notified.
+     *
+     * @param keys a {@link Set} containing all pressed keys
+     */
+    public void setPressedKeys(final Set<KeyCode> keys) {
+        requireStarted();
+        scene.onInputChanged(keys);
+    }
+
+    /**
+     * Set whether the duration of each {@link com.github.hanyaeger.core.Updatable} and of each part of the Game World
+     * Update should be measured. Profiling is disabled by default and should be enabled before this
+     * {@link HeadlessRunner} is started.
+     *
+     * @param profiling whether profiling should be enabled
+     */
+    public void setProfiling(final boolean profiling) {
+        if (started) {
+            throw new YaegerLifecycleException("Profiling of a HeadlessRunner should be enabled before it is started.");
+        }
+        this.profiling = profiling;
+    }
+
+    /**
+     * Create a report of the parts of the Game World Update that took the most time in total, as a table with one
+     * line per part. Each {@link com.github.hanyaeger.core.Updatable} is reported per class of the entity that
+     * provides it. The report only contains measurements if profiling was enabled through
+     * {@link #setProfiling(boolean)}.
+     *
+     * @param size the maximum number of parts in the report
+     * @return the report as a {@link String}
+     */
+    public String getProfileReport(final int size) {
+        if (profiler == null) {
+            throw new YaegerLifecycleException("A HeadlessRunner should be started first.");
+        }
+        return profiler.report(size);
+    }
+
+    /**
+     * Return the total number of Game World Updates that have been performed.
+     *
+     * @return the number of Game World Updates
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Destroy the {@link DynamicScene}, after which no Game World Update can be performed.
+     */
+    public void stop() {
+        requireStarted();
+        scene.destroy();
+        started = false;
+    }
+
+    private void requireStarted() {
+        if (!started) {
+            throw new YaegerLifecycleException("A HeadlessRunner should be started first.");
+        }
+    }
+}
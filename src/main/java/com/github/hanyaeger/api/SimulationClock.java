@@ -0,0 +1,30 @@
+package com.github.hanyaeger.api;
+
+import com.github.hanyaeger.core.FixedTimestep;
+
+/**
+ * A {@link SimulationClock} provides the timestamps of the Game World Updates that are performed by a
+ * {@link HeadlessRunner}. Since a {@link HeadlessRunner} performs its Game World Updates as fast as possible, the
+ * timestamps need not follow the actual time.
+ */
+@FunctionalInterface
+public interface SimulationClock {
+
+    /**
+     * Return the timestamp of the next Game World Update. Each timestamp should be larger than the previous one.
+     *
+     * @return the timestamp in nanoseconds
+     */
+    long nextTimestamp();
+
+    /**
+     * Create a {@link SimulationClock} that advances by exactly one step on each call, as a game that runs at the
+     * given number of Game World Updates per second would. The first timestamp is the duration of a single step.
+     *
+     * @param stepsPerSecond the number of Game World Updates per second, which should be larger than {@code 0}
+     * @return a new {@link SimulationClock}
+     */
+    static SimulationClock fixedRate(final double stepsPerSecond) {
+        return new FixedTimestep(stepsPerSecond)::nextStep;
+    }
+}
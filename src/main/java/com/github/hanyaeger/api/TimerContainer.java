@@ -28,6 +28,9 @@ public interface TimerContainer extends TimerListProvider {
     default void addTimer(final Timer timer) {
         if (getTimers() != null) {
             getTimers().add(timer);
+            if (this instanceof YaegerEntity yaegerEntity) {
+                yaegerEntity.wakeUp();
+            }
         } else {
             throw new YaegerEngineException("getTimers() returns null, please return an instance of ArrayList<>");
         }
@@ -0,0 +1,70 @@
+package com.github.hanyaeger.api;
+
+import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.core.Updater;
+import com.github.hanyaeger.core.annotations.UpdatableProvider;
+
+/**
+ * The phases of a single Game World Update. All instances of {@link Updatable} that belong to a phase are called
+ * before those of the next phase, for all entities in the {@link com.github.hanyaeger.api.scenes.YaegerScene}.
+ * The phase of an {@link Updatable} is set through {@link UpdatableProvider#phase()} or
+ * {@link Updater#addUpdatable(Updatable, UpdatePhase)}. A whole phase can be skipped through
+ * {@link com.github.hanyaeger.api.scenes.DynamicScene#setUpdatePhaseEnabled(UpdatePhase, boolean)}.
+ */
+public enum UpdatePhase {
+
+    /**
+     * The phase for handling user input, before anything has moved.
+     */
+    INPUT,
+
+    /**
+     * The phase for changing the speed or direction of an entity, before it is moved.
+     */
+    PRE_PHYSICS,
+
+    /**
+     * The phase in which entities are moved. This is the phase of an {@link Updatable} for which no phase is
+     * stated.
+     */
+    MOTION,
+
+    /**
+     * The phase after all entities have been moved. At the end of this phase collision detection is performed.
+     */
+    COLLISION,
+
+    /**
+     * The phase after all collisions have been handled.
+     */
+    POST_COLLISION,
+
+    /**
+     * The phase for animating the appearance of an entity.
+     */
+    ANIMATION,
+
+    /**
+     * The last phase of a Game World Update, for synchronising state with what is rendered.
+     */
+    RENDER_SYNC;
+
+    /**
+     * The phase of an {@link Updatable} for which no phase is stated.
+     */
+    public static final UpdatePhase DEFAULT = MOTION;
+
+    private static final UpdatePhase[] ALL = values();
+
+    /**
+     * Return all phases, in the order in which they are performed. The same array is returned on each call and should
+     * not be modified.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link YaegerGame}</b>
+     *
+     * @return an array containing all instances of {@link UpdatePhase}
+     */
+    public static UpdatePhase[] ordered() {
+        return ALL;
+    }
+}
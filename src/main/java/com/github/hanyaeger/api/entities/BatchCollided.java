@@ -0,0 +1,34 @@
+package com.github.hanyaeger.api.entities;
+
+import java.util.List;
+
+/**
+ * A {@link BatchCollided} is a {@link Collided} that is notified of all instances of {@link Collider} it collides
+ * with at once, instead of only the first one. This way all overlaps can be resolved during a single Game World
+ * Update, instead of one per Game World Update.
+ *
+ * <p>The instances of {@link Collider} are passed in the same order in which they would otherwise have been
+ * checked. Whether this {@link BatchCollided} collides with a {@link Collider} is determined by
+ * {@link #isCollidingWith(Collider)}. The method {@link #onCollision(Collider)} is not called for a
+ * {@link BatchCollided}.
+ * </p>
+ */
+public interface BatchCollided extends Collided {
+
+    /**
+     * This method is called if one or more collisions have occurred. The {@link List} is reused for all instances
+     * of {@link BatchCollided}, so it should not be stored or modified.
+     *
+     * @param collidingObjects all instances of {@link Collider} you are colliding with
+     */
+    void onCollisions(final List<Collider> collidingObjects);
+
+    /**
+     * Not called for a {@link BatchCollided}, use {@link #onCollisions(List)} instead.
+     *
+     * @param collidingObject the {@link Collider} you are colliding with
+     */
+    @Override
+    default void onCollision(final Collider collidingObject) {
+    }
+}
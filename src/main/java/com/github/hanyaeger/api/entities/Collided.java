@@ -20,6 +20,11 @@ import java.util.Set;
  * down the game and framerate. So make sure only those instances of {@link YaegerEntity} that really need to be part
  * of the collision detection to implement the {@link Collided} or {@link Collider} interfaces.
  * </p>
+ *
+ * <p>Furthermore, a {@link Collided} can ignore all instances of {@link Collider} that are part of specific collision
+ * layers, by overriding {@link #getIgnoredCollisionLayers()}. These are skipped before any bounding box is
+ * calculated.
+ * </p>
  */
 public interface Collided extends Bounded {
 
@@ -30,12 +35,30 @@ public interface Collided extends Bounded {
      */
     void onCollision(final Collider collidingObject);
 
+    /**
+     * Return a bitmask of the collision layers this {@link Collided} should ignore. Bit {@code n} represents the
+     * collision layer {@code n}, as returned by {@link Collider#getCollisionLayer()}. An enemy that should not
+     * collide with other enemies on layer {@code 2} would thus return {@code 1 << 2}.
+     * <p>
+     * By default no layers are ignored. This value is only read when the {@link Collided} is added to the
+     * {@link YaegerScene}, so it should not change afterwards.
+     *
+     * @return the ignored collision layers as a bitmask
+     */
+    default int getIgnoredCollisionLayers() {
+        return 0;
+    }
+
     /**
      * Perform collision detection with a {@link Set} of {@link Collider} instances. Only the first collision
      * is detected.
      * <p>
      * Note that all of this takes place during the same Game World update. The re-rendering takes place after this update
      * completes, meaning the undoing will cause no jitter effect.
+     * <p>
+     * During the Game World Update this method is only called if it has been overridden. Otherwise, the collisions
+     * that have already been detected through {@link #isCollidingWith(Collider)} are reported directly, by calling
+     * {@link #onCollision(Collider)} with the first {@link Collider} that was hit.
      *
      * @param colliders a {@link Set} of colliders that should be checked for collisions
      */
@@ -45,14 +68,21 @@ public interface Collided extends Bounded {
         }
 
         for (final var collider : colliders) {
-            if (hasCollidedWith(collider)) {
+            if (isCollidingWith(collider)) {
                 onCollision(collider);
                 break;
             }
         }
     }
 
-    private boolean hasCollidedWith(final Collider collider) {
+    /**
+     * Return whether this {@link Collided} collides with the given {@link Collider}. By default this is the case if
+     * their bounding boxes intersect.
+     *
+     * @param collider the {@link Collider} to check
+     * @return {@code true} if this {@link Collided} collides with the {@link Collider}
+     */
+    default boolean isCollidingWith(final Collider collider) {
         return !this.equals(collider) && getBoundingBox().intersects(collider.getBoundingBox());
     }
 }
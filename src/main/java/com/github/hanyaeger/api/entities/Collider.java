@@ -7,6 +7,32 @@ import com.github.hanyaeger.core.entities.Bounded;
  * by a {@link Collided}
  * <p>
  * In case of a collision, only the {@link Collided} will be notified.
+ * <p>
+ * Each {@link Collider} is part of a collision layer, which can be used by a {@link Collided} to ignore all instances
+ * of {@link Collider} that are part of that layer. See {@link Collided#getIgnoredCollisionLayers()}.
  */
 public interface Collider extends Bounded {
+
+    /**
+     * The collision layer of a {@link Collider} that does not override {@link #getCollisionLayer()}.
+     */
+    int DEFAULT_COLLISION_LAYER = 0;
+
+    /**
+     * The number of available collision layers, numbered from {@code 0} up to and including {@code 31}.
+     */
+    int COLLISION_LAYERS = Integer.SIZE;
+
+    /**
+     * Return the collision layer of this {@link Collider}. Override this method to place this {@link Collider}
+     * on a different layer than {@link #DEFAULT_COLLISION_LAYER}.
+     * <p>
+     * This value is only read when the {@link Collider} is added to the {@link com.github.hanyaeger.api.scenes.YaegerScene},
+     * so it should not change afterwards.
+     *
+     * @return the collision layer as an {@code int} between {@code 0} and {@link #COLLISION_LAYERS} (exclusive)
+     */
+    default int getCollisionLayer() {
+        return DEFAULT_COLLISION_LAYER;
+    }
 }
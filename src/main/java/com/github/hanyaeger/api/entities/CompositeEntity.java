@@ -70,6 +70,7 @@ public abstract class CompositeEntity extends YaegerEntity {
      */
     protected void addEntity(final YaegerEntity yaegerEntity) {
         entities.add(yaegerEntity);
+        yaegerEntity.composite = this;
     }
 
     /**
@@ -136,6 +137,28 @@ public abstract class CompositeEntity extends YaegerEntity {
         });
     }
 
+    /**
+     * Because the instances of {@link YaegerEntity} that are part of this {@link CompositeEntity} are placed
+     * relative to it, their cached {@link javafx.geometry.Bounds} are invalidated as well.
+     */
+    @Override
+    void invalidateBoundingBox() {
+        super.invalidateBoundingBox();
+
+        entities.forEach(YaegerEntity::invalidateBoundingBox);
+    }
+
+    /**
+     * Because the instances of {@link YaegerEntity} that are part of this {@link CompositeEntity} are placed
+     * relative to it, they are marked as transformed as well.
+     */
+    @Override
+    protected void markAsTransformed() {
+        super.markAsTransformed();
+
+        entities.forEach(YaegerEntity::markAsTransformed);
+    }
+
     @Override
     public Optional<Node> getNode() {
         if (group.isPresent()) {
@@ -0,0 +1,172 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.scenes.YaegerScene;
+import com.github.hanyaeger.core.entities.motion.Movable;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+import java.util.List;
+
+/**
+ * A {@link ContinuousCollided} is a {@link Collided} that moves so fast that it could pass through a {@link Collider}
+ * within a single Game World Update, such as a bullet. Instead of only comparing its bounding box at the end of the
+ * Game World Update, the bounding box is swept along the path it travelled from its previous location to its
+ * current location. This way no collision is missed, regardless of its speed.
+ *
+ * <p>Of all instances of {@link Collider} that are hit along that path, only the first one that is hit is reported,
+ * together with the time of impact. The instances of {@link Collider} themselves are considered to be at their
+ * location at the end of the Game World Update.
+ * </p>
+ *
+ * <p>Only the path travelled because of its motion is swept. When its anchor location is set directly, for instance
+ * to teleport it, no path is swept until it moves again.
+ * </p>
+ */
+public interface ContinuousCollided extends Collided, Movable {
+
+    /**
+     * This method is called if a collision has occurred.
+     *
+     * @param collidingObject the {@link Collider} you are colliding with
+     * @param timeOfImpact    the moment of impact as a fraction of the distance travelled during the last Game World
+     *                        Update, where {@code 0} is the previous location and {@code 1} the current location
+     */
+    void onCollision(final Collider collidingObject, final double timeOfImpact);
+
+    /**
+     * Called with a time of impact of {@code 1}, meaning the collision took place at the current location.
+     *
+     * @param collidingObject the {@link Collider} you are colliding with
+     */
+    @Override
+    default void onCollision(final Collider collidingObject) {
+        onCollision(collidingObject, 1D);
+    }
+
+    /**
+     * Return the {@link Bounds} within the {@link YaegerScene} that were covered while travelling from the previous
+     * location to the current location during the last Game World Update.
+     *
+     * @return the {@link Bounds} of the path travelled
+     */
+    default Bounds getSweptBoundingBox() {
+        final var end = getBoundingBox();
+        final var displacementX = getDisplacementX();
+        final var displacementY = getDisplacementY();
+
+        return new BoundingBox(
+                Math.min(end.getMinX(), end.getMinX() - displacementX),
+                Math.min(end.getMinY(), end.getMinY() - displacementY),
+                end.getWidth() + Math.abs(displacementX),
+                end.getHeight() + Math.abs(displacementY));
+    }
+
+    /**
+     * Perform swept collision detection with a {@link List} of {@link Collider} instances. Only the first
+     * {@link Collider} that is hit along the path travelled is reported.
+     *
+     * @param colliders a {@link List} of colliders that should be checked for collisions
+     */
+    @Override
+    default void checkForCollisions(final List<Collider> colliders) {
+        if (colliders == null || colliders.isEmpty()) {
+            return;
+        }
+
+        final var end = getBoundingBox();
+        final var displacementX = getDisplacementX();
+        final var displacementY = getDisplacementY();
+
+        Collider firstHit = null;
+        var firstTimeOfImpact = Double.POSITIVE_INFINITY;
+
+        for (final var collider : colliders) {
+            if (this.equals(collider)) {
+                continue;
+            }
+
+            final var timeOfImpact = calculateTimeOfImpact(end, displacementX, displacementY, collider.getBoundingBox());
+            if (timeOfImpact < firstTimeOfImpact) {
+                firstHit = collider;
+                firstTimeOfImpact = timeOfImpact;
+            }
+        }
+
+        if (firstHit != null) {
+            onCollision(firstHit, firstTimeOfImpact);
+        }
+    }
+
+    /**
+     * Return whether the path travelled during the last Game World Update hits the given {@link Collider}.
+     *
+     * @param collider the {@link Collider} to check
+     * @return {@code true} if the path travelled hits the {@link Collider}
+     */
+    @Override
+    default boolean isCollidingWith(final Collider collider) {
+        return !this.equals(collider) && Double.isFinite(
+                calculateTimeOfImpact(getBoundingBox(), getDisplacementX(), getDisplacementY(), collider.getBoundingBox()));
+    }
+
+    private double getDisplacementX() {
+        final var motionApplier = getMotionApplier();
+        if (motionApplier == null) {
+            return 0D;
+        }
+        return motionApplier.hasPreviousLocation() ? getAnchorLocation().getX() - motionApplier.getPreviousX() : 0D;
+    }
+
+    private double getDisplacementY() {
+        final var motionApplier = getMotionApplier();
+        if (motionApplier == null) {
+            return 0D;
+        }
+        return motionApplier.hasPreviousLocation() ? getAnchorLocation().getY() - motionApplier.getPreviousY() : 0D;
+    }
+
+    /**
+     * Calculate when the bounding box, moving towards {@code end} over the given displacement, first touches the
+     * bounding box of the {@link Collider}, using the slab method.
+     *
+     * @return the time of impact between {@code 0} and {@code 1}, or {@link Double#POSITIVE_INFINITY} if there is
+     * no impact
+     */
+    private static double calculateTimeOfImpact(final Bounds end, final double displacementX, final double displacementY, final Bounds target) {
+        if (target == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final var startMinX = end.getMinX() - displacementX;
+        final var startMaxX = end.getMaxX() - displacementX;
+        final var startMinY = end.getMinY() - displacementY;
+        final var startMaxY = end.getMaxY() - displacementY;
+
+        var entry = 0D;
+        var exit = 1D;
+
+        if (displacementX == 0) {
+            if (startMaxX < target.getMinX() || startMinX > target.getMaxX()) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            final var first = (target.getMinX() - startMaxX) / displacementX;
+            final var second = (target.getMaxX() - startMinX) / displacementX;
+            entry = Math.max(entry, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+
+        if (displacementY == 0) {
+            if (startMaxY < target.getMinY() || startMinY > target.getMaxY()) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            final var first = (target.getMinY() - startMaxY) / displacementY;
+            final var second = (target.getMaxY() - startMinY) / displacementY;
+            entry = Math.max(entry, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+
+        return entry <= exit ? entry : Double.POSITIVE_INFINITY;
+    }
+}
@@ -3,6 +3,7 @@ package com.github.hanyaeger.api.entities;
 import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.api.scenes.YaegerScene;
 import com.github.hanyaeger.core.UpdateDelegator;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.Updater;
 import com.github.hanyaeger.core.entities.motion.*;
 import com.github.hanyaeger.core.entities.EntityCollection;
@@ -65,13 +66,34 @@ public abstract class DynamicCompositeEntity extends CompositeEntity implements
         buffer = Optional.empty();
     }
 
+    /**
+     * Perform the {@link UpdatePhase#DEFAULT} phase of the Game World Update. During a Game World Update this method
+     * is called in that phase, so a subclass that overrides it, should call {@code super.update(timestamp)} to keep
+     * its motion and other updates working. The other phases are delegated to the {@link Updater} directly.
+     *
+     * @param timestamp the timestamp of the update
+     */
     @Override
     public void update(final long timestamp) {
-        collectGarbage();
-        getUpdater().update(timestamp);
+        getUpdater().update(timestamp, UpdatePhase.DEFAULT);
     }
 
-    private void collectGarbage() {
+    @Override
+    public void update(final long timestamp, final UpdatePhase phase) {
+        if (phase == UpdatePhase.DEFAULT) {
+            update(timestamp);
+        } else {
+            getUpdater().update(timestamp, phase);
+        }
+    }
+
+    /**
+     * Remove all child entities that have been removed since the previous Game World Update. This is done once per
+     * Game World Update, by the {@link EntityCollection}, before any of its phases is performed.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     */
+    public void collectGarbage() {
         if (garbage.isEmpty()) {
             return;
         }
@@ -85,6 +107,9 @@ public abstract class DynamicCompositeEntity extends CompositeEntity implements
     @Override
     public void setRotationSpeed(final double rotationAngle) {
         this.rotationAngle = rotationAngle;
+        if (Double.compare(rotationAngle, 0D) != 0) {
+            wakeUp();
+        }
     }
 
     @Override
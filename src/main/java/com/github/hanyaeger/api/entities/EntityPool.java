@@ -0,0 +1,132 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.scenes.YaegerScene;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An {@link EntityPool} can be used to reuse instances of {@link YaegerEntity} that are added to, and removed from,
+ * a {@link YaegerScene} at a high rate, such as bullets or particles. Instead of creating a new instance for each
+ * spawn, use {@link #obtain()} and add the returned {@link YaegerEntity} to the {@link YaegerScene}, for instance
+ * through {@link EntitySpawner#spawn(YaegerEntity)}.
+ * <p>
+ * After a pooled {@link YaegerEntity} has been removed through {@link YaegerEntity#remove()}, it is returned to
+ * this {@link EntityPool} and the reset action is applied to it. When it is added again, it keeps its {@link
+ * javafx.scene.Node}, its injected members and its event handlers. Only its location, visibility and registration with
+ * the {@link YaegerScene} are restored, and the methods annotated with
+ * {@link com.github.hanyaeger.core.annotations.OnActivation} are not called again.
+ * <p>
+ * Note that an {@link EntityPool} should be used within a single {@link YaegerScene}.
+ *
+ * @param <T> the type of {@link YaegerEntity} contained by this {@link EntityPool}
+ */
+public class EntityPool<T extends YaegerEntity> {
+
+    private final Supplier<T> factory;
+    private final Consumer<? super T> reset;
+    private final Deque<T> available = new ArrayDeque<>();
+    private int created;
+
+    /**
+     * Create a new {@link EntityPool} that uses the given factory to create a new {@link YaegerEntity}, when
+     * none is available.
+     *
+     * @param factory the {@link Supplier} that creates a new {@link YaegerEntity}
+     */
+    public EntityPool(final Supplier<T> factory) {
+        this(factory, entity -> {
+        });
+    }
+
+    /**
+     * Create a new {@link EntityPool} that uses the given factory to create a new {@link YaegerEntity}, when
+     * none is available. Each {@link YaegerEntity} that is returned to this {@link EntityPool} is passed to the
+     * given reset action, which should restore its state to that of a new {@link YaegerEntity}.
+     *
+     * @param factory the {@link Supplier} that creates a new {@link YaegerEntity}
+     * @param reset   the {@link Consumer} that resets a returned {@link YaegerEntity}
+     */
+    public EntityPool(final Supplier<T> factory, final Consumer<? super T> reset) {
+        if (factory == null || reset == null) {
+            throw new IllegalArgumentException("Both the factory and the reset action of an EntityPool are required.");
+        }
+        this.factory = factory;
+        this.reset = reset;
+    }
+
+    /**
+     * Return a {@link YaegerEntity} that can be added to the {@link YaegerScene}. A returned {@link YaegerEntity}
+     * is reused when available, otherwise a new one is created.
+     *
+     * @return a {@link YaegerEntity} of type {@code T}
+     */
+    public T obtain() {
+        final var entity = available.pollFirst();
+        if (entity != null) {
+            return entity;
+        }
+
+        final var newEntity = factory.get();
+        newEntity.pool = this;
+        created++;
+        return newEntity;
+    }
+
+    /**
+     * Return the number of instances of {@link YaegerEntity} that are available for reuse.
+     *
+     * @return the number of available instances of {@link YaegerEntity}
+     */
+    public int getAvailable() {
+        return available.size();
+    }
+
+    /**
+     * Return the number of instances of {@link YaegerEntity} that have been created by this {@link EntityPool}.
+     *
+     * @return the number of created instances of {@link YaegerEntity}
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Discard all instances of {@link YaegerEntity} that are available for reuse.
+     */
+    public void clear() {
+        available.clear();
+    }
+
+    /**
+     * Return the given {@link YaegerEntity} to the {@link EntityPool} it was obtained from, after it has been removed
+     * from the {@link YaegerScene}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param entity the {@link YaegerEntity} that has been removed
+     * @return {@code true} if the {@link YaegerEntity} was obtained from an {@link EntityPool}, and has been
+     * returned to it
+     */
+    public static boolean recycle(final YaegerEntity entity) {
+        if (entity.pool == null) {
+            return false;
+        }
+
+        entity.pool.release(entity);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(final YaegerEntity entity) {
+        if (entity.pool != this) {
+            throw new IllegalArgumentException("Only an entity that was obtained from this EntityPool can be released to it.");
+        }
+
+        final var pooledEntity = (T) entity;
+        reset.accept(pooledEntity);
+        available.addLast(pooledEntity);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.scenes.DynamicScene;
+
+/**
+ * An {@link OffscreenPolicy} states how a {@link YaegerEntity} is updated while it is outside the visible area of a
+ * {@link DynamicScene} that uses viewport culling, as enabled through {@link DynamicScene#setViewportCulling(boolean)}.
+ * <p>
+ * Note that any policy other than {@link #FULL_UPDATE} changes the speed at which the {@link YaegerEntity} is
+ * simulated. Motion and any other behaviour that is applied per Game World Update run slower, or not at all, while
+ * the {@link YaegerEntity} is outside the visible area, and its timers are only checked when it is updated. A {@link YaegerEntity} whose behaviour
+ * should not depend on whether it is visible, should therefore keep using {@link #FULL_UPDATE}.
+ */
+public enum OffscreenPolicy {
+
+    /**
+     * The {@link YaegerEntity} receives each Game World Update, as it would when it is visible. This is the default.
+     */
+    FULL_UPDATE,
+
+    /**
+     * The {@link YaegerEntity} receives only one in every
+     * {@link com.github.hanyaeger.core.entities.EntityCollection#REDUCED_UPDATE_INTERVAL} Game World Updates. Which of
+     * these Game World Updates it receives depends on its position among the updated entities, so not all culled
+     * entities are updated during the same Game World Update. Note that because motion is applied per Game World
+     * Update, the {@link YaegerEntity} also moves slower.
+     */
+    REDUCED_UPDATE,
+
+    /**
+     * The {@link YaegerEntity} receives no Game World Update, until it is inside the visible area again.
+     */
+    FROZEN
+}
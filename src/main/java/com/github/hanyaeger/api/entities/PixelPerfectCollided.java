@@ -0,0 +1,67 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.entities.impl.SpriteEntity;
+import com.github.hanyaeger.core.entities.collisions.AlphaMask;
+import com.github.hanyaeger.core.entities.collisions.AlphaMaskProvider;
+import javafx.geometry.Bounds;
+
+/**
+ * A {@link PixelPerfectCollided} is a {@link Collided} that only collides with a {@link Collider} if their opaque
+ * pixels overlap, instead of their bounding boxes. This is most useful for instances of {@link SpriteEntity} with
+ * an irregular shape.
+ *
+ * <p>The pixel-perfect check is only performed after the bounding boxes have been found to intersect. For each
+ * {@link SpriteEntity} the opaque pixels of the current frame are used, which are calculated only once per image
+ * and frame. A {@link Collider} that is not a {@link SpriteEntity} is considered to be opaque within its complete
+ * bounding box. If the pixels of a rotated or scaled {@link SpriteEntity} are needed, the bounding box is used
+ * instead.
+ * </p>
+ */
+public interface PixelPerfectCollided extends Collided {
+
+    /**
+     * Return whether the opaque pixels of this {@link PixelPerfectCollided} overlap with those of the given
+     * {@link Collider}. The pixels are only compared if the bounding boxes intersect.
+     *
+     * @param collider the {@link Collider} to check
+     * @return {@code true} if the opaque pixels overlap
+     */
+    @Override
+    default boolean isCollidingWith(final Collider collider) {
+        if (this.equals(collider)) {
+            return false;
+        }
+
+        final var boundingBox = getBoundingBox();
+        final var colliderBoundingBox = collider.getBoundingBox();
+        return boundingBox.intersects(colliderBoundingBox) && hasOverlappingPixels(boundingBox, collider, colliderBoundingBox);
+    }
+
+    private boolean hasOverlappingPixels(final Bounds boundingBox, final Collider collider, final Bounds colliderBoundingBox) {
+        final var alphaMask = getAlphaMaskOf(this);
+        final var colliderAlphaMask = getAlphaMaskOf(collider);
+
+        final var offsetX = (int) Math.round(colliderBoundingBox.getMinX() - boundingBox.getMinX());
+        final var offsetY = (int) Math.round(colliderBoundingBox.getMinY() - boundingBox.getMinY());
+
+        if (alphaMask != null && colliderAlphaMask != null) {
+            return alphaMask.overlaps(colliderAlphaMask, offsetX, offsetY);
+        } else if (alphaMask != null) {
+            return alphaMask.overlaps(offsetX, offsetY,
+                    offsetX + (int) Math.round(colliderBoundingBox.getWidth()),
+                    offsetY + (int) Math.round(colliderBoundingBox.getHeight()));
+        } else if (colliderAlphaMask != null) {
+            return colliderAlphaMask.overlaps(-offsetX, -offsetY,
+                    -offsetX + (int) Math.round(boundingBox.getWidth()),
+                    -offsetY + (int) Math.round(boundingBox.getHeight()));
+        }
+        return true;
+    }
+
+    private static AlphaMask getAlphaMaskOf(final Object entity) {
+        if (entity instanceof AlphaMaskProvider alphaMaskProvider) {
+            return alphaMaskProvider.getAlphaMask().orElse(null);
+        }
+        return null;
+    }
+}
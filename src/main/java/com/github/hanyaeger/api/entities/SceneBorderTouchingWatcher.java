@@ -3,6 +3,7 @@ package com.github.hanyaeger.api.entities;
 import com.github.hanyaeger.core.entities.Bounded;
 import com.github.hanyaeger.core.entities.SceneChild;
 import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.annotations.UpdatableProvider;
 import com.github.hanyaeger.core.entities.motion.Movable;
 import com.github.hanyaeger.api.scenes.SceneBorder;
@@ -28,7 +29,7 @@ public interface SceneBorderTouchingWatcher extends Movable, Bounded, SceneChild
      *
      * @return an instance of {@link Updatable}
      */
-    @UpdatableProvider
+    @UpdatableProvider(phase = UpdatePhase.COLLISION)
     default Updatable watchForBoundaryTouching() {
         return timestamp -> {
             if (getBoundingBox().getMinX() <= 0) {
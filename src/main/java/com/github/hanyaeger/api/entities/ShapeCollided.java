@@ -0,0 +1,59 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.entities.impl.CircleEntity;
+import com.github.hanyaeger.api.entities.impl.EllipseEntity;
+import com.github.hanyaeger.core.entities.collisions.CollisionShape;
+
+/**
+ * A {@link ShapeCollided} is a {@link Collided} that only collides with a {@link Collider} if their actual shapes
+ * overlap, instead of their bounding boxes. A {@link CircleEntity} is treated as a circle, an {@link EllipseEntity}
+ * as an ellipse and all other entities as a rectangle, all of them including their rotation. This avoids the
+ * collisions that would otherwise be reported near the corners of the bounding box of a round or rotated entity.
+ *
+ * <p>The shapes are only compared after the bounding boxes have been found to intersect. A {@link Collider} that
+ * is not a {@link YaegerEntity} is considered to fill its complete bounding box.
+ * </p>
+ */
+public interface ShapeCollided extends Collided {
+
+    /**
+     * Return whether the shape of this {@link ShapeCollided} overlaps with the shape of the given {@link Collider}.
+     * The shapes are only compared if the bounding boxes intersect.
+     *
+     * @param collider the {@link Collider} to check
+     * @return {@code true} if the shapes overlap
+     */
+    @Override
+    default boolean isCollidingWith(final Collider collider) {
+        if (this.equals(collider)) {
+            return false;
+        }
+
+        final var boundingBox = getBoundingBox();
+        final var colliderBoundingBox = collider.getBoundingBox();
+        if (!boundingBox.intersects(colliderBoundingBox)) {
+            return false;
+        }
+
+        final var shape = getCollisionShapeOf(this);
+        final var colliderShape = getCollisionShapeOf(collider);
+
+        if (shape != null && colliderShape != null) {
+            return shape.overlaps(colliderShape);
+        } else if (shape != null) {
+            return shape.overlaps(colliderBoundingBox.getMinX(), colliderBoundingBox.getMinY(),
+                    colliderBoundingBox.getMaxX(), colliderBoundingBox.getMaxY());
+        } else if (colliderShape != null) {
+            return colliderShape.overlaps(boundingBox.getMinX(), boundingBox.getMinY(),
+                    boundingBox.getMaxX(), boundingBox.getMaxY());
+        }
+        return true;
+    }
+
+    private static CollisionShape getCollisionShapeOf(final Object entity) {
+        if (entity instanceof YaegerEntity yaegerEntity) {
+            return yaegerEntity.getCollisionShape();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.scenes.YaegerScene;
+
+/**
+ * A {@link TrackedCollided} is a {@link Collided} that is not notified every Game World Update during which it
+ * collides with a {@link Collider}, but only when the collision starts, continues or ends. For this, all pairs of
+ * a {@link TrackedCollided} and a {@link Collider} that collide are remembered between Game World Updates, which
+ * removes the need to keep track of them yourself.
+ *
+ * <p>Contrary to a {@link Collided}, all instances of {@link Collider} that collide are reported, instead of only
+ * the first one. All callbacks do nothing by default, so only those that are needed have to be overridden. The
+ * method {@link #onCollision(Collider)} is not called for a {@link TrackedCollided}. Whether it collides with a
+ * {@link Collider} is determined by {@link #isCollidingWith(Collider)}.
+ * </p>
+ */
+public interface TrackedCollided extends Collided {
+
+    /**
+     * This method is called during the first Game World Update in which this {@link TrackedCollided} collides with
+     * the given {@link Collider}.
+     *
+     * @param collidingObject the {@link Collider} you started colliding with
+     */
+    default void onCollisionEnter(final Collider collidingObject) {
+    }
+
+    /**
+     * This method is called during each following Game World Update in which this {@link TrackedCollided} still
+     * collides with the given {@link Collider}.
+     *
+     * @param collidingObject the {@link Collider} you are still colliding with
+     */
+    default void onCollisionStay(final Collider collidingObject) {
+    }
+
+    /**
+     * This method is called during the first Game World Update in which this {@link TrackedCollided} no longer
+     * collides with the given {@link Collider}. This is also the case when the {@link Collider} has been removed
+     * from the {@link YaegerScene}.
+     *
+     * @param collidingObject the {@link Collider} you stopped colliding with
+     */
+    default void onCollisionExit(final Collider collidingObject) {
+    }
+
+    /**
+     * Not called for a {@link TrackedCollided}, use {@link #onCollisionEnter(Collider)},
+     * {@link #onCollisionStay(Collider)} and {@link #onCollisionExit(Collider)} instead.
+     *
+     * @param collidingObject the {@link Collider} you are colliding with
+     */
+    @Override
+    default void onCollision(final Collider collidingObject) {
+    }
+}
@@ -8,15 +8,19 @@ import com.github.hanyaeger.api.scenes.YaegerScene;
 import com.github.hanyaeger.core.Initializable;
 import com.github.hanyaeger.api.Timer;
 import com.github.hanyaeger.core.TimerListProvider;
+import com.github.hanyaeger.core.UpdateDelegator;
 import com.github.hanyaeger.core.entities.*;
+import com.github.hanyaeger.core.entities.collisions.CollisionShape;
 import com.github.hanyaeger.core.entities.events.EventTypes;
 import com.github.hanyaeger.core.entities.motion.InitializationBuffer;
+import com.github.hanyaeger.core.entities.motion.Movable;
 import com.github.hanyaeger.core.repositories.DragNDropRepository;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
@@ -58,6 +62,23 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
     private final ColorAdjust colorAdjust = new ColorAdjust();
     private DragNDropRepository dragNDropRepository;
 
+    CompositeEntity composite;
+    EntityPool<?> pool;
+    private Bounds cachedBoundingBox;
+    private Bounds cachedBoundsInParent;
+    private CollisionShape collisionShape;
+    private OffscreenPolicy offscreenPolicy = OffscreenPolicy.FULL_UPDATE;
+    private long transformationStamp = Transformations.stamp();
+
+    static {
+        Transformations.setAccess(new Transformations() {
+            @Override
+            protected long getTransformationStamp(final YaegerEntity entity) {
+                return entity.transformationStamp;
+            }
+        });
+    }
+
     /**
      * Create a new {@link YaegerEntity} on the given {@link Coordinate2D}.
      *
@@ -100,7 +121,7 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
      */
     public void setVisible(final boolean visible) {
         getNode().ifPresentOrElse(node ->
-                        node.setVisible(visible)
+                        Culling.setVisible(node, visible)
                 , () -> this.visible = visible);
     }
 
@@ -110,7 +131,28 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
      * @return the visibility of this {@link YaegerEntity} as a {@code boolean}
      */
     public boolean isVisible() {
-        return getNode().map(Node::isVisible).orElse(visible);
+        return getNode().map(Culling::isVisible).orElse(visible);
+    }
+
+    /**
+     * Set the {@link OffscreenPolicy} of this {@link YaegerEntity}, which states how it is updated while it is outside
+     * the visible area of a {@link com.github.hanyaeger.api.scenes.DynamicScene} that uses viewport culling. Only
+     * entities that are added to the {@link YaegerScene} directly are culled, so the entities that are part of a
+     * {@link CompositeEntity} are updated as usual. By default this is {@link OffscreenPolicy#FULL_UPDATE}.
+     *
+     * @param offscreenPolicy the {@link OffscreenPolicy} to be used
+     */
+    public void setOffscreenPolicy(final OffscreenPolicy offscreenPolicy) {
+        this.offscreenPolicy = offscreenPolicy;
+    }
+
+    /**
+     * Return the {@link OffscreenPolicy} of this {@link YaegerEntity}.
+     *
+     * @return the {@link OffscreenPolicy}
+     */
+    public OffscreenPolicy getOffscreenPolicy() {
+        return offscreenPolicy;
     }
 
     /**
@@ -253,6 +295,8 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
      * will remain te same.
      */
     public void applyTranslationsForAnchorPoint() {
+        markAsTransformed();
+
         getNode().ifPresent(node -> {
             var localBounds = getNode().get().getBoundsInLocal();
             switch (anchorPoint) {
@@ -320,6 +364,12 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
     @Override
     public void setAnchorLocation(final Coordinate2D anchorLocation) {
         this.anchorLocation = anchorLocation;
+        markAsTransformed();
+
+        // A location that is set directly is not travelled, so it should not be swept by continuous collision detection
+        if (this instanceof Movable movable && movable.getMotionApplier() != null) {
+            movable.getMotionApplier().setPreviousLocation(anchorLocation.getX(), anchorLocation.getY());
+        }
     }
 
     @Override
@@ -337,6 +387,90 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
         setAnchorLocation(new Coordinate2D(getAnchorLocation().getX(), y));
     }
 
+    @Override
+    public void setRotate(final double degrees) {
+        Rotatable.super.setRotate(degrees);
+        markAsTransformed();
+    }
+
+    /**
+     * Return the {@link Bounds} (Bounding Box) within the {@link YaegerScene}. Because calculating these
+     * {@link Bounds} requires all transformations to be applied, they are cached until the location, rotation or
+     * {@link AnchorPoint} of this {@link YaegerEntity} changes, or until the bounds of its {@link Node} within its
+     * parent change in any other way.
+     *
+     * @return the {@link Bounds}
+     */
+    @Override
+    public Bounds getBoundingBox() {
+        final var node = getNode();
+        if (node.isEmpty()) {
+            return new BoundingBox(0, 0, 0, 0);
+        }
+
+        final var boundsInParent = node.get().getBoundsInParent();
+        if (cachedBoundingBox == null || boundsInParent != cachedBoundsInParent) {
+            cachedBoundsInParent = boundsInParent;
+            cachedBoundingBox = node.get().localToScene(node.get().getBoundsInLocal(), true);
+        }
+        return cachedBoundingBox;
+    }
+
+    /**
+     * Invalidate the cached {@link Bounds} of this {@link YaegerEntity}, ensuring they are recalculated the next
+     * time {@link #getBoundingBox()} is called.
+     */
+    void invalidateBoundingBox() {
+        cachedBoundingBox = null;
+    }
+
+    /**
+     * Register that the location, rotation, dimensions or {@link AnchorPoint} of this {@link YaegerEntity} have
+     * changed. This invalidates the cached {@link Bounds}, including those of any {@link CompositeEntity} this
+     * {@link YaegerEntity} is part of, and makes sure collision detection does not reuse earlier results for it.
+     * Subclasses should call this method whenever they change their dimensions.
+     */
+    protected void markAsTransformed() {
+        invalidateBoundingBox();
+        transformationStamp = Transformations.stamp();
+
+        for (YaegerEntity parent = composite; parent != null; parent = parent.composite) {
+            parent.cachedBoundingBox = null;
+            parent.transformationStamp = transformationStamp;
+        }
+    }
+
+    /**
+     * Wake up this {@link YaegerEntity}, if it has been put to sleep. A Dynamic Entity that does not move, rotate
+     * or animate and has no {@link Timer} is put to sleep, meaning it no longer receives a Game World Update, until
+     * its motion, rotation, animation or timers change. Call this method when such a {@link YaegerEntity} should
+     * receive a Game World Update again for any other reason.
+     */
+    public void wakeUp() {
+        if (this instanceof UpdateDelegator updateDelegator && updateDelegator.getUpdater() != null) {
+            updateDelegator.getUpdater().wakeUp();
+        }
+    }
+
+    /**
+     * Return the {@link CollisionShape} that describes the actual shape of this {@link YaegerEntity} within the
+     * {@link YaegerScene}, including its rotation. The same instance is reused, and described again on each call.
+     *
+     * @return the {@link CollisionShape}, or {@code null} if this {@link YaegerEntity} has no {@link Node}
+     */
+    CollisionShape getCollisionShape() {
+        final var node = getNode();
+        if (node.isEmpty()) {
+            return null;
+        }
+
+        if (collisionShape == null) {
+            collisionShape = new CollisionShape();
+        }
+        collisionShape.describe(node.get());
+        return collisionShape;
+    }
+
     @Override
     public void setBrightness(final double brightness) {
         colorAdjust.setBrightness(brightness);
@@ -476,9 +610,7 @@ public abstract class YaegerEntity implements Initializable, TimerListProvider,
      * @return a {@link Coordinate2D} with the absolute coordinates of the {@link YaegerEntity}.
      */
     protected Coordinate2D getLocationInScene() {
-        var boundsInScene = getNode()
-                .map(node -> node.localToScene(node.getBoundsInLocal(), true))
-                .orElse(new BoundingBox(0, 0, 0, 0));
+        final var boundsInScene = getBoundingBox();
 
         return switch (getAnchorPoint()) {
             case TOP_LEFT -> new Coordinate2D(boundsInScene.getMinX(), boundsInScene.getMinY());
@@ -36,6 +36,7 @@ public abstract class CircleEntity extends CenteredShapeEntity<Circle> {
      */
     public void setRadius(final double radius) {
         shape.ifPresentOrElse(circle -> circle.setRadius(radius), () -> this.radius = radius);
+        markAsTransformed();
     }
 
     /**
@@ -63,6 +63,9 @@ public abstract class DynamicCircleEntity extends CircleEntity implements Update
     @Override
     public void setRotationSpeed(final double rotationAngle) {
         this.rotationAngle = rotationAngle;
+        if (Double.compare(rotationAngle, 0D) != 0) {
+            wakeUp();
+        }
     }
 
     @Override
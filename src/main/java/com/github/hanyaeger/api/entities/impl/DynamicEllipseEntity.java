@@ -81,6 +81,9 @@ public abstract class DynamicEllipseEntity extends EllipseEntity implements Upda
     @Override
     public void setRotationSpeed(final double rotationAngle) {
         this.rotationAngle = rotationAngle;
+        if (Double.compare(rotationAngle, 0D) != 0) {
+            wakeUp();
+        }
     }
 
     @Override
@@ -78,6 +78,9 @@ public abstract class DynamicRectangleEntity extends RectangleEntity implements
     @Override
     public void setRotationSpeed(final double rotationAngle) {
         this.rotationAngle = rotationAngle;
+        if (Double.compare(rotationAngle, 0D) != 0) {
+            wakeUp();
+        }
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.github.hanyaeger.api.entities.impl;
 
 import com.github.hanyaeger.core.entities.EntityCollection;
+import com.github.hanyaeger.core.entities.SpriteAnimationDelegate;
 import com.github.hanyaeger.core.entities.motion.*;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -9,6 +10,7 @@ import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.core.Updatable;
 import com.github.hanyaeger.core.UpdateDelegator;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.Updater;
 
 import java.util.Optional;
@@ -101,6 +103,20 @@ public abstract class DynamicSpriteEntity extends SpriteEntity implements Update
             this.autoCycleInterval = interval;
             this.cyclingRow = row;
         });
+        if (interval != 0) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Return whether this {@link DynamicSpriteEntity} automatically cycles through its frames.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @return {@code true} if this {@link DynamicSpriteEntity} automatically cycles through its frames
+     */
+    public boolean isAutoCycling() {
+        return spriteAnimationDelegate.map(SpriteAnimationDelegate::isAutoCycling).orElse(autoCycleInterval != 0);
     }
 
     /**
@@ -128,7 +144,7 @@ public abstract class DynamicSpriteEntity extends SpriteEntity implements Update
         super.init(injector);
 
         spriteAnimationDelegate.ifPresent(delegate -> {
-            updater.addUpdatable(delegate);
+            updater.addUpdatable(delegate, UpdatePhase.ANIMATION);
             if (getFrames() > 1) {
                 delegate.setAutoCycle(autoCycleInterval, cyclingRow);
             }
@@ -159,6 +175,9 @@ public abstract class DynamicSpriteEntity extends SpriteEntity implements Update
     @Override
     public void setRotationSpeed(final double rotationAngle) {
         this.rotationAngle = rotationAngle;
+        if (Double.compare(rotationAngle, 0D) != 0) {
+            wakeUp();
+        }
     }
 
     @Override
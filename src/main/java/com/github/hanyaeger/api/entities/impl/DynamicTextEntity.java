@@ -69,6 +69,9 @@ public abstract class DynamicTextEntity extends TextEntity implements UpdateDele
     @Override
     public void setRotationSpeed(final double rotationAngle) {
         this.rotationAngle = rotationAngle;
+        if (Double.compare(rotationAngle, 0D) != 0) {
+            wakeUp();
+        }
     }
 
     @Override
@@ -55,6 +55,7 @@ public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
      */
     public void setRadiusX(final double radiusX) {
         shape.ifPresentOrElse(ellipse -> ellipse.setRadiusX(radiusX), () -> this.radiusX = radiusX);
+        markAsTransformed();
     }
 
     /**
@@ -64,6 +65,7 @@ public abstract class EllipseEntity extends CenteredShapeEntity<Ellipse> {
      */
     public void setRadiusY(final double radiusY) {
         shape.ifPresentOrElse(ellipse -> ellipse.setRadiusY(radiusY), () -> this.radiusY = radiusY);
+        markAsTransformed();
     }
 
     /**
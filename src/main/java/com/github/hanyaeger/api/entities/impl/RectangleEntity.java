@@ -52,6 +52,7 @@ public abstract class RectangleEntity extends ShapeEntity<Rectangle> {
      */
     public void setHeight(final double height) {
         shape.ifPresentOrElse(shape -> shape.setHeight(height), () -> this.height = height);
+        markAsTransformed();
     }
 
     /**
@@ -61,6 +62,7 @@ public abstract class RectangleEntity extends ShapeEntity<Rectangle> {
      */
     public void setWidth(final double width) {
         shape.ifPresentOrElse(shape -> shape.setWidth(width), () -> this.width = width);
+        markAsTransformed();
     }
 
     /**
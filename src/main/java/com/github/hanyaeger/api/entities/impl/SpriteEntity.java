@@ -1,10 +1,13 @@
 package com.github.hanyaeger.api.entities.impl;
 
 import com.github.hanyaeger.core.entities.SpriteAnimationDelegate;
+import com.github.hanyaeger.core.entities.collisions.AlphaMask;
+import com.github.hanyaeger.core.entities.collisions.AlphaMaskProvider;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import javafx.scene.Node;
 import javafx.scene.image.ImageView;
+import javafx.scene.transform.Transform;
 import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.api.entities.YaegerEntity;
@@ -20,7 +23,7 @@ import java.util.Optional;
  * a {@link SpriteEntity}, the {@link Size} of the image must be passed through the constructor. After
  * construction, this {@link Size} can not be changed.
  */
-public abstract class SpriteEntity extends YaegerEntity implements ResourceConsumer {
+public abstract class SpriteEntity extends YaegerEntity implements ResourceConsumer, AlphaMaskProvider {
 
     private final String resource;
     private Size size;
@@ -144,6 +147,31 @@ public abstract class SpriteEntity extends YaegerEntity implements ResourceConsu
         return rows * columns;
     }
 
+    /**
+     * Return the {@link AlphaMask} of the frame that is currently being shown. It is created by the
+     * {@link ImageRepository} the first time it is needed, and cached alongside the image.
+     * <p>
+     * Since the {@link AlphaMask} can not be mapped onto a rotated or scaled {@link SpriteEntity}, no
+     * {@link AlphaMask} is available in that case. This includes a {@link SpriteEntity} that is part of a rotated or
+     * scaled {@link com.github.hanyaeger.api.entities.CompositeEntity}.
+     *
+     * @return an {@link Optional} containing the {@link AlphaMask} of the current frame
+     */
+    @Override
+    public Optional<AlphaMask> getAlphaMask() {
+        return imageView
+                .filter(iV -> iV.getImage() != null)
+                .filter(iV -> isOnlyTranslated(iV.getLocalToSceneTransform()))
+                .map(iV -> imageRepository.getAlphaMask(iV.getImage(), iV.getViewport()));
+    }
+
+    private static boolean isOnlyTranslated(final Transform transform) {
+        return Double.compare(transform.getMxx(), 1D) == 0
+                && Double.compare(transform.getMyy(), 1D) == 0
+                && Double.compare(transform.getMxy(), 0D) == 0
+                && Double.compare(transform.getMyx(), 0D) == 0;
+    }
+
     private ImageView createImageView(final String resource) {
         var image = imageRepository.get(resource);
         size = new Size(image.getWidth(), image.getHeight());
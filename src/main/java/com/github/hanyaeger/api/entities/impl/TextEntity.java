@@ -52,6 +52,7 @@ public class TextEntity extends ShapeEntity<Text> {
      */
     public void setText(final String displayText) {
         shape.ifPresentOrElse(t -> t.setText(displayText), () -> this.text = displayText);
+        markAsTransformed();
     }
 
     /**
@@ -71,6 +72,7 @@ public class TextEntity extends ShapeEntity<Text> {
     public void setFont(final CustomFont customFont) {
         shape.ifPresentOrElse(t -> t.setFont(customFont.getFont()),
                 () -> this.font = customFont.getFont());
+        markAsTransformed();
     }
 
     /**
@@ -88,6 +90,7 @@ public class TextEntity extends ShapeEntity<Text> {
     public void setFont(final Font font) {
         shape.ifPresentOrElse(t -> t.setFont(font),
                 () -> this.font = font);
+        markAsTransformed();
     }
 
 
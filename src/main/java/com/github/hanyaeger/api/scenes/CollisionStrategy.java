@@ -0,0 +1,36 @@
+package com.github.hanyaeger.api.scenes;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+
+/**
+ * A {@link CollisionStrategy} determines how a {@link DynamicScene} finds the instances of {@link Collider} that
+ * each {@link Collided} should be checked against. The outcome of the collision detection is the same for each
+ * {@link CollisionStrategy}, they only differ in performance.
+ */
+public enum CollisionStrategy {
+    /**
+     * Check each {@link Collided} against all instances of {@link Collider}. This is the default, and works well
+     * for scenes with a limited number of instances of {@link Collider}.
+     */
+    BRUTE_FORCE,
+    /**
+     * Divide the {@link YaegerScene} into square cells of a fixed size, and only check each {@link Collided} against
+     * the instances of {@link Collider} that share a cell with it. This works well for scenes with many entities of
+     * roughly the same size. The cell size can be set through {@link DynamicScene#setCollisionGridCellSize(double)}.
+     */
+    UNIFORM_GRID,
+    /**
+     * Store all instances of {@link Collider} in a tree of bounding boxes, and only check each {@link Collided}
+     * against those instances of {@link Collider} whose branch overlaps with it. This works well for scenes that
+     * mix very large and very small entities.
+     */
+    AABB_TREE,
+    /**
+     * Keep the edges of all bounding boxes sorted along the x-axis, and only check each {@link Collided} against
+     * those instances of {@link Collider} whose horizontal and vertical extents overlap with it. This works well for
+     * scenes in which the entities are spread out horizontally and move only a little per Game World Update, such
+     * as side-scrollers.
+     */
+    SWEEP_AND_PRUNE
+}
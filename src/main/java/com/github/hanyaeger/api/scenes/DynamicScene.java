@@ -1,10 +1,18 @@
 package com.github.hanyaeger.api.scenes;
 
+import com.github.hanyaeger.core.FixedTimestep;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.annotations.UpdatableProvider;
+import com.github.hanyaeger.core.entities.collisions.UniformGridBroadphase;
+import com.github.hanyaeger.core.exceptions.YaegerEngineException;
+import com.github.hanyaeger.core.exceptions.YaegerLifecycleException;
+import com.github.hanyaeger.core.replay.SessionRecorder;
+import com.github.hanyaeger.core.replay.SessionReplayer;
 import com.github.hanyaeger.core.scenes.EntitySpawnerListProvider;
 import com.github.hanyaeger.core.factories.animationtimer.AnimationTimerFactory;
 import com.google.inject.Inject;
 import javafx.animation.AnimationTimer;
+import javafx.scene.input.KeyCode;
 import com.github.hanyaeger.core.TimerListProvider;
 import com.github.hanyaeger.api.Timer;
 import com.github.hanyaeger.api.entities.EntitySpawner;
@@ -13,7 +21,9 @@ import com.github.hanyaeger.core.UpdateDelegator;
 import com.github.hanyaeger.core.Updater;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Instantiate a new  {@code DynamicScene}. A {@code DynamicScene} extends a {@link StaticScene}, but adds its
@@ -27,6 +37,19 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
     private AnimationTimerFactory animationTimerFactory;
     private final List<Timer> timers = new ArrayList<>();
     private final List<EntitySpawner> spawners = new ArrayList<>();
+    private CollisionStrategy collisionStrategy = CollisionStrategy.BRUTE_FORCE;
+    private double collisionGridCellSize = UniformGridBroadphase.DEFAULT_CELL_SIZE;
+    private boolean parallelCollisionDetection;
+    private double stepsPerSecond;
+    private int maxStepsPerPulse = FixedTimestep.DEFAULT_MAX_STEPS_PER_PULSE;
+    private boolean renderInterpolation = true;
+    private FixedTimestep fixedTimestep;
+    private final Set<UpdatePhase> disabledUpdatePhases = EnumSet.noneOf(UpdatePhase.class);
+    private boolean entitySleeping;
+    private boolean viewportCulling;
+    private SessionRecorder recorder;
+    private SessionReplayer replayer;
+    private boolean restoreOnNextPulse;
 
     /**
      * Pause the Game World Update (GWU) of this {@link YaegerScene}. After the GWU has been paused,
@@ -36,7 +59,9 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
      * To resume the Game, call {@link #resume()}.
      */
     public void pause() {
-        animator.stop();
+        if (animator != null) {
+            animator.stop();
+        }
         activeGWU = false;
     }
 
@@ -46,7 +71,12 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
      * again receive a Game World Update.
      */
     public void resume() {
-        animator.start();
+        if (fixedTimestep != null) {
+            fixedTimestep.reset();
+        }
+        if (animator != null) {
+            animator.start();
+        }
         activeGWU = true;
     }
 
@@ -61,16 +91,416 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
         return activeGWU;
     }
 
+    /**
+     * Set the {@link CollisionStrategy} that should be used to find the instances of
+     * {@link com.github.hanyaeger.api.entities.Collider} each {@link com.github.hanyaeger.api.entities.Collided}
+     * should be checked against. By default {@link CollisionStrategy#BRUTE_FORCE} is used, which checks all of them.
+     * For scenes with many instances of {@link com.github.hanyaeger.api.entities.Collider}, one of the other
+     * strategies can greatly reduce the number of checks.
+     *
+     * @param collisionStrategy the {@link CollisionStrategy} to be used
+     */
+    public void setCollisionStrategy(final CollisionStrategy collisionStrategy) {
+        this.collisionStrategy = collisionStrategy;
+        applyCollisionStrategy();
+    }
+
+    /**
+     * Return the {@link CollisionStrategy} that is being used.
+     *
+     * @return the {@link CollisionStrategy} that is being used
+     */
+    public CollisionStrategy getCollisionStrategy() {
+        return collisionStrategy;
+    }
+
+    /**
+     * Use a grid for collision detection. The {@link YaegerScene} will be divided into square cells of the given
+     * size and each {@link com.github.hanyaeger.api.entities.Collided} will only be checked against the instances
+     * of {@link com.github.hanyaeger.api.entities.Collider} that share a cell with it. This greatly reduces the
+     * number of checks for scenes with many instances of {@link com.github.hanyaeger.api.entities.Collider}.
+     * <p>
+     * A good cell size is about the size of the typical {@link com.github.hanyaeger.api.entities.YaegerEntity}
+     * that is part of the collision detection. Calling this method sets the {@link CollisionStrategy} to
+     * {@link CollisionStrategy#UNIFORM_GRID}. Passing {@code 0} restores {@link CollisionStrategy#BRUTE_FORCE}.
+     *
+     * @param cellSize the width and height of a single cell in pixels, or {@code 0} to disable the grid
+     */
+    public void setCollisionGridCellSize(final double cellSize) {
+        if (Double.compare(cellSize, 0D) == 0) {
+            setCollisionStrategy(CollisionStrategy.BRUTE_FORCE);
+        } else {
+            this.collisionGridCellSize = cellSize;
+            setCollisionStrategy(CollisionStrategy.UNIFORM_GRID);
+        }
+    }
+
+    /**
+     * Return the size of the cells of the grid that is used by {@link CollisionStrategy#UNIFORM_GRID}.
+     *
+     * @return the cell size as a {@code double}
+     */
+    public double getCollisionGridCellSize() {
+        return collisionGridCellSize;
+    }
+
+    /**
+     * Spread the collision detection over all available cores. The candidates of each
+     * {@link com.github.hanyaeger.api.entities.Collided} are still chosen using the {@link CollisionStrategy}, but
+     * their bounding boxes are then tested in parallel, while the collisions themselves are still reported on the
+     * JavaFX Application Thread, in the same order. This only pays off for scenes with many instances of
+     * {@link com.github.hanyaeger.api.entities.Collided}.
+     *
+     * @param parallelCollisionDetection whether the collision detection should be spread over all available cores
+     */
+    public void setParallelCollisionDetection(final boolean parallelCollisionDetection) {
+        this.parallelCollisionDetection = parallelCollisionDetection;
+        applyCollisionStrategy();
+    }
+
+    /**
+     * Return whether the collision detection is spread over all available cores.
+     *
+     * @return {@code true} if the collision detection is spread over all available cores
+     */
+    public boolean isParallelCollisionDetection() {
+        return parallelCollisionDetection;
+    }
+
+    /**
+     * Run the Game World Update at a fixed rate, regardless of the refresh rate of the display. Each pulse of the
+     * display then results in as many Game World Updates as fit in the time that passed, and all motion takes place
+     * at the same speed on every display. When a single pulse takes too long, at most
+     * {@link #setMaxStepsPerPulse(int)} Game World Updates are performed and the remaining time is dropped.
+     * <p>
+     * The timestamp passed to each Game World Update is the simulated time, which advances by exactly one step.
+     * By default the Game World Update follows the pulses of the display. Passing {@code 0} restores this.
+     *
+     * @param stepsPerSecond the number of Game World Updates per second, or {@code 0} to follow the display
+     */
+    public void setFixedTimestep(final double stepsPerSecond) {
+        if (stepsPerSecond < 0) {
+            throw new IllegalArgumentException("The number of steps per second should not be negative, but was " + stepsPerSecond);
+        }
+        this.stepsPerSecond = stepsPerSecond;
+        applyFixedTimestep();
+    }
+
+    /**
+     * Return the number of Game World Updates per second, or {@code 0} if the Game World Update follows the pulses
+     * of the display.
+     *
+     * @return the number of Game World Updates per second as a {@code double}
+     */
+    public double getFixedTimestep() {
+        return stepsPerSecond;
+    }
+
+    /**
+     * Set the maximum number of Game World Updates that are performed for a single pulse of the display, when
+     * a fixed timestep is used. By default this is {@link FixedTimestep#DEFAULT_MAX_STEPS_PER_PULSE}.
+     *
+     * @param maxStepsPerPulse the maximum number of Game World Updates per pulse, which should be at least {@code 1}
+     */
+    public void setMaxStepsPerPulse(final int maxStepsPerPulse) {
+        if (maxStepsPerPulse < 1) {
+            throw new IllegalArgumentException("The maximum number of steps per pulse should be at least 1, but was " + maxStepsPerPulse);
+        }
+        this.maxStepsPerPulse = maxStepsPerPulse;
+        applyFixedTimestep();
+    }
+
+    /**
+     * Return the maximum number of Game World Updates that are performed for a single pulse of the display.
+     *
+     * @return the maximum number of Game World Updates per pulse as an {@code int}
+     */
+    public int getMaxStepsPerPulse() {
+        return maxStepsPerPulse;
+    }
+
+    /**
+     * Set whether, when a fixed timestep is used, all Dynamic Entities should be rendered in between their locations
+     * after the last two Game World Updates, based on the time that passed since. This prevents stuttering when the
+     * fixed timestep and the refresh rate of the display differ, at the cost of rendering at most one step behind.
+     * Only the rendering is affected; the location of an entity itself is not. It is enabled by default.
+     *
+     * @param renderInterpolation whether the rendering should be interpolated
+     */
+    public void setRenderInterpolation(final boolean renderInterpolation) {
+        this.renderInterpolation = renderInterpolation;
+        if (!renderInterpolation && entityCollection != null) {
+            entityCollection.clearInterpolation();
+        }
+    }
+
+    /**
+     * Return whether the rendering is interpolated when a fixed timestep is used.
+     *
+     * @return {@code true} if the rendering is interpolated
+     */
+    public boolean isRenderInterpolation() {
+        return renderInterpolation;
+    }
+
+    /**
+     * Set whether the instances of {@link Updatable} of all Dynamic Entities that belong to the given
+     * {@link UpdatePhase} should be called. This can be used to skip a whole phase, for instance all animations.
+     * Disabling {@link UpdatePhase#COLLISION} does not disable the collision detection itself. By default all
+     * phases are enabled.
+     *
+     * @param phase   the {@link UpdatePhase}
+     * @param enabled whether the {@link UpdatePhase} should be performed
+     */
+    public void setUpdatePhaseEnabled(final UpdatePhase phase, final boolean enabled) {
+        if (enabled) {
+            disabledUpdatePhases.remove(phase);
+        } else {
+            disabledUpdatePhases.add(phase);
+        }
+        applyUpdatePhases();
+    }
+
+    /**
+     * Return whether the instances of {@link Updatable} of all Dynamic Entities that belong to the given
+     * {@link UpdatePhase} are called.
+     *
+     * @param phase the {@link UpdatePhase}
+     * @return {@code true} if the {@link UpdatePhase} is performed
+     */
+    public boolean isUpdatePhaseEnabled(final UpdatePhase phase) {
+        return !disabledUpdatePhases.contains(phase);
+    }
+
+    /**
+     * Set whether Dynamic Entities that are idle should be put to sleep. A Dynamic Entity is idle when it does not
+     * move, rotate or automatically cycle through its frames, has no {@link Timer} and is not affected by gravity.
+     * A sleeping entity receives no Game World Update until its motion, rotation, animation or timers change, or
+     * until {@link com.github.hanyaeger.api.entities.YaegerEntity#wakeUp()} is called. It does still collide. A
+     * Dynamic Entity that implements {@link com.github.hanyaeger.api.UpdateExposer}, or that has a method annotated
+     * with {@link com.github.hanyaeger.core.annotations.UpdatableProvider} of its own, is never put to sleep. By
+     * default idle Dynamic Entities are not put to sleep.
+     *
+     * @param entitySleeping whether idle Dynamic Entities should be put to sleep
+     */
+    public void setEntitySleeping(final boolean entitySleeping) {
+        this.entitySleeping = entitySleeping;
+        applyEntitySleeping();
+    }
+
+    /**
+     * Return whether Dynamic Entities that are idle are put to sleep.
+     *
+     * @return {@code true} if idle Dynamic Entities are put to sleep
+     */
+    public boolean isEntitySleeping() {
+        return entitySleeping;
+    }
+
+    /**
+     * Set whether entities that are outside the visible area of this {@link DynamicScene} should be culled. A culled
+     * entity is no longer rendered, and is updated according to its
+     * {@link com.github.hanyaeger.api.entities.OffscreenPolicy}, as set through
+     * {@link com.github.hanyaeger.api.entities.YaegerEntity#setOffscreenPolicy(com.github.hanyaeger.api.entities.OffscreenPolicy)}.
+     * Once it is inside the visible area again, it is rendered and updated as before. By default, entities are not
+     * culled.
+     *
+     * @param viewportCulling whether entities outside the visible area should be culled
+     */
+    public void setViewportCulling(final boolean viewportCulling) {
+        this.viewportCulling = viewportCulling;
+        applyViewportCulling();
+    }
+
+    /**
+     * Return whether entities that are outside the visible area of this {@link DynamicScene} are culled.
+     *
+     * @return {@code true} if entities outside the visible area are culled
+     */
+    public boolean isViewportCulling() {
+        return viewportCulling;
+    }
+
+    /**
+     * Start recording this {@link DynamicScene}, with a keyframe every {@link Recording#DEFAULT_KEYFRAME_INTERVAL}
+     * pulses. See {@link #startRecording(int)}.
+     */
+    public void startRecording() {
+        startRecording(Recording.DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Start recording this {@link DynamicScene}. Each pulse of the Game Loop is recorded, together with all changes
+     * of the pressed keys and all instances of {@link javafx.scene.input.MouseEvent} that are received in between.
+     * Before every given number of pulses, a keyframe of the location, motion and rotation of all entities is
+     * recorded as well. Use {@link #stopRecording()} to obtain the {@link Recording}.
+     * <p>
+     * A session is replayed exactly, as long as the game itself does not depend on anything that is not recorded,
+     * such as the current time or an unseeded {@link java.util.Random}.
+     * <p>
+     * Seeking through a {@link Recording} requires the same top-level entities throughout the session, since a
+     * keyframe can only restore entities that still exist. A {@link DynamicScene} that uses an
+     * {@link com.github.hanyaeger.api.entities.EntitySpawner} can therefore not be recorded. When entities are removed
+     * while recording, the {@link Recording} can still be replayed, but not be used to seek.
+     *
+     * @param keyframeInterval the number of pulses between two keyframes, which should be at least {@code 1}
+     */
+    public void startRecording(final int keyframeInterval) {
+        if (recorder != null || replayer != null) {
+            throw new YaegerLifecycleException("A DynamicScene can not be recorded while it is being recorded or replayed.");
+        }
+        if (!spawners.isEmpty()) {
+            throw new YaegerLifecycleException("A DynamicScene that uses an EntitySpawner can not be recorded, since a Recording requires the same top-level entities throughout.");
+        }
+        recorder = new SessionRecorder(keyframeInterval);
+        recorder.attach(getScene());
+    }
+
+    /**
+     * Stop recording this {@link DynamicScene} and return the {@link Recording}.
+     *
+     * @return the {@link Recording} of everything since {@link #startRecording()} was called
+     */
+    public Recording stopRecording() {
+        if (recorder == null) {
+            throw new YaegerLifecycleException("A DynamicScene can only stop recording after it has been started.");
+        }
+        recorder.detach(getScene());
+        final var recording = recorder.getRecording();
+        recorder = null;
+        return recording;
+    }
+
+    /**
+     * Return whether this {@link DynamicScene} is being recorded.
+     *
+     * @return {@code true} if this {@link DynamicScene} is being recorded
+     */
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * Replay the given {@link Recording} on this {@link DynamicScene}. Instead of its actual timestamp, each pulse of
+     * the Game Loop receives that of the next recorded pulse, preceded by the input that was recorded before it. Any
+     * actual input is ignored. At the first pulse, all entities are restored to the first keyframe, so the
+     * {@link DynamicScene} should contain the same entities as when the recording was started. After the last
+     * recorded pulse, the replay stops and the {@link DynamicScene} is paused.
+     *
+     * @param recording the {@link Recording} to be replayed
+     */
+    public void replay(final Recording recording) {
+        if (recorder != null || replayer != null) {
+            throw new YaegerLifecycleException("A DynamicScene can not be replayed while it is being recorded or replayed.");
+        }
+        replayer = new SessionReplayer(recording);
+        replayer.attach(getScene());
+        restoreOnNextPulse = recording.getKeyframeCount() > 0;
+    }
+
+    /**
+     * Stop replaying a {@link Recording}, after which this {@link DynamicScene} receives actual input again.
+     */
+    public void stopReplay() {
+        if (replayer != null) {
+            replayer.detach(getScene());
+            replayer = null;
+        }
+    }
+
+    /**
+     * Return whether a {@link Recording} is being replayed on this {@link DynamicScene}.
+     *
+     * @return {@code true} if a {@link Recording} is being replayed
+     */
+    public boolean isReplaying() {
+        return replayer != null;
+    }
+
+    /**
+     * Return the index of the pulse of the {@link Recording} that will be replayed next.
+     *
+     * @return the index of the next pulse, or {@code 0} if no {@link Recording} is being replayed
+     */
+    public int getReplayPosition() {
+        return replayer == null ? 0 : replayer.getPosition();
+    }
+
+    /**
+     * Continue the replay at the given pulse of the {@link Recording}. All entities are restored to the last keyframe
+     * before that pulse, after which the pulses in between are replayed at once. When seeking forward and no keyframe
+     * lies in between, the replay simply continues from the current pulse.
+     * <p>
+     * A keyframe only contains the location, motion and rotation of all entities. Other state, such as the fields of
+     * an entity or this {@link DynamicScene}, or the progress of a {@link Timer}, is not restored. Seeking is only
+     * possible if the top-level entities were the same throughout the {@link Recording}, as reported by
+     * {@link Recording#isSeekable()}.
+     *
+     * @param pulse the index of the pulse that should be replayed next
+     */
+    public void seek(final int pulse) {
+        if (replayer == null) {
+            throw new YaegerLifecycleException("A DynamicScene can only seek while a Recording is being replayed.");
+        }
+        final var recording = replayer.getRecording();
+        if (!recording.isSeekable()) {
+            throw new YaegerEngineException("It is not possible to seek through this Recording, since entities were added or removed while recording.");
+        }
+        if (pulse < 0 || pulse > recording.getPulseCount()) {
+            throw new IllegalArgumentException("The pulse should be between 0 and " + recording.getPulseCount() + ", but was " + pulse);
+        }
+
+        final var keyframe = recording.getKeyframeBefore(pulse);
+        final var current = replayer.getPosition();
+        if (pulse < current || (keyframe >= 0 && recording.getPulseOfKeyframe(keyframe) > current)) {
+            if (keyframe < 0) {
+                throw new YaegerEngineException("The Recording contains no keyframe before pulse " + pulse);
+            }
+            restoreKeyframe(keyframe);
+        }
+
+        while (replayer.getPosition() < pulse) {
+            handlePulse(0);
+        }
+    }
+
+    @Override
+    public void onInputChanged(final Set<KeyCode> input) {
+        if (replayer != null) {
+            return;
+        }
+        if (recorder != null) {
+            recorder.recordKeys(input);
+        }
+        super.onInputChanged(input);
+    }
+
     @Override
     public void activate() {
         super.activate();
-        createGameLoop();
+        applyCollisionStrategy();
+        applyUpdatePhases();
+        applyEntitySleeping();
+        applyViewportCulling();
+        if (recorder != null) {
+            recorder.attach(getScene());
+        }
+        if (replayer != null) {
+            replayer.attach(getScene());
+        }
+        if (!isHeadless()) {
+            createGameLoop();
+        }
         startGameLoop();
     }
 
     @Override
     public void destroy() {
         stopGameLoop();
+        if (recorder != null) {
+            recorder.detach(getScene());
+        }
+        stopReplay();
         updater.clear();
         getEntitySupplier().clear();
         entityCollection.clear();
@@ -105,8 +535,108 @@ public abstract class DynamicScene extends StaticScene implements UpdateDelegato
         getUpdater().update(timestamp);
     }
 
+    private void applyCollisionStrategy() {
+        if (entityCollection != null) {
+            entityCollection.setCollisionStrategy(collisionStrategy, collisionGridCellSize);
+            entityCollection.setParallelCollisionDetection(parallelCollisionDetection);
+        }
+    }
+
+    private void applyUpdatePhases() {
+        if (entityCollection != null) {
+            for (final var phase : UpdatePhase.ordered()) {
+                entityCollection.setUpdatePhaseEnabled(phase, !disabledUpdatePhases.contains(phase));
+            }
+        }
+    }
+
+    private void applyEntitySleeping() {
+        if (entityCollection != null) {
+            entityCollection.setSleepingEnabled(entitySleeping);
+        }
+    }
+
+    private void applyViewportCulling() {
+        if (entityCollection != null) {
+            entityCollection.setCullingEnabled(viewportCulling);
+        }
+    }
+
+    private void restoreKeyframe(final int keyframe) {
+        restoreOnNextPulse = false;
+        final var state = replayer.continueFrom(keyframe);
+        entityCollection.clearInterpolation();
+        if (!entityCollection.restoreState(state.entities())) {
+            throw new YaegerEngineException("The entities of this DynamicScene do not match those of the Recording.");
+        }
+        if (fixedTimestep != null) {
+            fixedTimestep.reset();
+        }
+    }
+
+    private void applyFixedTimestep() {
+        fixedTimestep = stepsPerSecond > 0 ? new FixedTimestep(stepsPerSecond, maxStepsPerPulse) : null;
+        if (fixedTimestep == null && entityCollection != null) {
+            entityCollection.clearInterpolation();
+        }
+    }
+
     private void createGameLoop() {
-        animator = this.animationTimerFactory.create(this::update);
+        animator = this.animationTimerFactory.create(this::handlePulse);
+    }
+
+    /**
+     * Handle a single pulse of the Game Loop, as the {@link AnimationTimer} would. This is used to drive a headless
+     * {@link DynamicScene}, which has no {@link AnimationTimer}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param now the timestamp of the pulse in nanoseconds
+     */
+    public void pulse(final long now) {
+        handlePulse(now);
+    }
+
+    /**
+     * Perform the Game World Update for a single pulse of the display, either directly or, if a fixed timestep is
+     * used, as many times as the {@link FixedTimestep} requires.
+     */
+    private void handlePulse(final long pulse) {
+        var now = pulse;
+        if (replayer != null) {
+            if (!replayer.hasNextPulse()) {
+                stopReplay();
+                pause();
+                return;
+            }
+            if (restoreOnNextPulse) {
+                restoreKeyframe(0);
+            }
+            now = replayer.nextPulse(super::onInputChanged, getNode().orElse(null));
+        } else if (recorder != null) {
+            recorder.recordPulse(now, entityCollection);
+        }
+
+        if (fixedTimestep == null) {
+            update(now);
+            return;
+        }
+
+        final var steps = fixedTimestep.advance(now);
+        final var interpolate = renderInterpolation && entityCollection != null;
+
+        if (interpolate && steps > 0) {
+            entityCollection.clearInterpolation();
+        }
+        for (var step = 0; step < steps; step++) {
+            if (interpolate && step == steps - 1) {
+                entityCollection.captureInterpolationState();
+            }
+            update(fixedTimestep.nextStep());
+        }
+        if (interpolate) {
+            entityCollection.interpolate(fixedTimestep.getAlpha());
+        }
     }
 
     @Override
@@ -0,0 +1,375 @@
+package com.github.hanyaeger.api.scenes;
+
+import com.github.hanyaeger.core.replay.EntityState;
+import com.github.hanyaeger.core.replay.RecordedEntry;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Recording} contains all pulses of the Game Loop of a {@link DynamicScene}, together with all key and mouse
+ * input that was received in between, as recorded through {@link DynamicScene#startRecording()}. It also contains
+ * a keyframe of the state of all entities at a fixed interval, which is used when seeking through the
+ * {@link Recording}. Passing it to {@link DynamicScene#replay(Recording)} replays the session.
+ * <p>
+ * A keyframe only stores the state of the top-level entities that exist at that moment, not how they were created.
+ * Seeking therefore requires the same top-level entities throughout the {@link Recording}, as reported by
+ * {@link #isSeekable()}. A session in which entities are added or removed can still be replayed from the start.
+ * <p>
+ * A {@link Recording} can be stored in a compact binary format through {@link #write(OutputStream)} and loaded
+ * again through {@link #read(InputStream)}.
+ */
+public class Recording {
+
+    /**
+     * The number of pulses between two keyframes, when none is provided.
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 300;
+
+    private static final int MAGIC = 0x5950524C;
+    private static final int VERSION = 2;
+
+    private static final int PULSE = 0;
+    private static final int KEYS_CHANGED = 1;
+    private static final int MOUSE_INPUT = 2;
+    private static final int KEYFRAME = 3;
+    private static final int END = 0xFF;
+
+    private final List<RecordedEntry> entries = new ArrayList<>();
+    private final List<Integer> pulseEntries = new ArrayList<>();
+    private final List<Integer> keyframeEntries = new ArrayList<>();
+    private final List<Integer> keyframePulses = new ArrayList<>();
+    private boolean seekable = true;
+
+    /**
+     * Return the number of pulses of the Game Loop that have been recorded.
+     *
+     * @return the number of pulses
+     */
+    public int getPulseCount() {
+        return pulseEntries.size();
+    }
+
+    /**
+     * Return the number of keyframes that have been recorded.
+     *
+     * @return the number of keyframes
+     */
+    public int getKeyframeCount() {
+        return keyframeEntries.size();
+    }
+
+    /**
+     * Return whether it is possible to seek through this {@link Recording}, which is only the case if all keyframes
+     * contain the same top-level entities, of the same type and in the same order. This is not the case if entities
+     * were added or removed while recording.
+     *
+     * @return {@code true} if it is possible to seek through this {@link Recording}
+     */
+    public boolean isSeekable() {
+        return seekable;
+    }
+
+    /**
+     * Add a {@link RecordedEntry} to the end of this {@link Recording}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param entry the {@link RecordedEntry}
+     */
+    public void add(final RecordedEntry entry) {
+        if (entry instanceof RecordedEntry.Pulse) {
+            pulseEntries.add(entries.size());
+        } else if (entry instanceof RecordedEntry.Keyframe keyframe) {
+            seekable = seekable && (keyframeEntries.isEmpty() || hasSameEntities(keyframe, (RecordedEntry.Keyframe) entries.get(keyframeEntries.get(0))));
+            keyframeEntries.add(entries.size());
+            keyframePulses.add(pulseEntries.size());
+        }
+        entries.add(entry);
+    }
+
+    /**
+     * Return all instances of {@link RecordedEntry}, in the order in which they were recorded.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @return an unmodifiable {@link List} of {@link RecordedEntry}
+     */
+    public List<RecordedEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Return the index of the last keyframe that was recorded before the given pulse, or {@code -1} if there is none.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param pulse the index of the pulse
+     * @return the index of the keyframe
+     */
+    public int getKeyframeBefore(final int pulse) {
+        final var index = Collections.binarySearch(keyframePulses, pulse);
+        if (index >= 0) {
+            // Multiple keyframes can never precede the same pulse
+            return index;
+        }
+        return -index - 2;
+    }
+
+    /**
+     * Return the index of the pulse that follows the keyframe with the given index.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param keyframe the index of the keyframe
+     * @return the index of the pulse
+     */
+    public int getPulseOfKeyframe(final int keyframe) {
+        return keyframePulses.get(keyframe);
+    }
+
+    /**
+     * Return the index within {@link #getEntries()} of the keyframe with the given index.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param keyframe the index of the keyframe
+     * @return the index of the entry
+     */
+    public int getEntryOfKeyframe(final int keyframe) {
+        return keyframeEntries.get(keyframe);
+    }
+
+    /**
+     * Write this {@link Recording} to the given {@link OutputStream}. Since pulses arrive at a nearly constant rate,
+     * each timestamp is stored as the change of the interval since the previous one, and most values are stored as
+     * variable-length integers, so a typical pulse takes only a few bytes. Keys, mouse buttons and types of entity are
+     * stored by name the first time they occur, and by index afterwards, so a {@link Recording} remains readable when
+     * new constants are added to {@link KeyCode} or {@link MouseButton}. The {@link OutputStream} is flushed, but not
+     * closed.
+     *
+     * @param outputStream the {@link OutputStream}
+     * @throws IOException if writing fails
+     */
+    public void write(final OutputStream outputStream) throws IOException {
+        final var out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+
+        final Map<String, Integer> types = new HashMap<>();
+        final Map<String, Integer> keys = new HashMap<>();
+        final Map<String, Integer> buttons = new HashMap<>();
+        var previousTimestamp = 0L;
+        var previousInterval = 0L;
+        for (final var entry : entries) {
+            if (entry instanceof RecordedEntry.Pulse pulse) {
+                final var interval = pulse.timestamp() - previousTimestamp;
+                out.writeByte(PULSE);
+                writeVarLong(out, zigzag(interval - previousInterval));
+                previousTimestamp = pulse.timestamp();
+                previousInterval = interval;
+            } else if (entry instanceof RecordedEntry.KeysChanged keysChanged) {
+                out.writeByte(KEYS_CHANGED);
+                writeVarLong(out, keysChanged.keys().size());
+                for (final var key : keysChanged.keys()) {
+                    writeName(out, key.getName(), keys);
+                }
+            } else if (entry instanceof RecordedEntry.MouseInput mouseInput) {
+                out.writeByte(MOUSE_INPUT);
+                out.writeByte(mouseInput.type());
+                out.writeDouble(mouseInput.x());
+                out.writeDouble(mouseInput.y());
+                writeName(out, mouseInput.button().name(), buttons);
+                writeVarLong(out, mouseInput.clickCount());
+                out.writeByte(mouseInput.modifiers());
+            } else if (entry instanceof RecordedEntry.Keyframe keyframe) {
+                out.writeByte(KEYFRAME);
+                writeVarLong(out, keyframe.entities().size());
+                for (final var state : keyframe.entities()) {
+                    writeName(out, state.type(), types);
+                    out.writeDouble(state.x());
+                    out.writeDouble(state.y());
+                    out.writeDouble(state.speed());
+                    out.writeDouble(state.direction());
+                    out.writeDouble(state.rotation());
+                }
+            }
+        }
+
+        out.writeByte(END);
+        out.flush();
+    }
+
+    /**
+     * Read a {@link Recording} from the given {@link InputStream}, as written by {@link #write(OutputStream)}. The
+     * {@link InputStream} is not closed.
+     *
+     * @param inputStream the {@link InputStream}
+     * @return the {@link Recording}
+     * @throws IOException if reading fails, or the {@link InputStream} does not contain a valid {@link Recording}
+     */
+    public static Recording read(final InputStream inputStream) throws IOException {
+        final var in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("The input does not contain a Recording.");
+        }
+        final var version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Version " + version + " of a Recording is not supported.");
+        }
+
+        final var recording = new Recording();
+        final List<String> types = new ArrayList<>();
+        final List<String> keyNames = new ArrayList<>();
+        final List<String> buttonNames = new ArrayList<>();
+        var previousTimestamp = 0L;
+        var previousInterval = 0L;
+        while (true) {
+            final var tag = in.readUnsignedByte();
+            switch (tag) {
+                case PULSE -> {
+                    previousInterval += unzigzag(readVarLong(in));
+                    previousTimestamp += previousInterval;
+                    recording.add(new RecordedEntry.Pulse(previousTimestamp));
+                }
+                case KEYS_CHANGED -> {
+                    final var size = readCount(in);
+                    final var keys = EnumSet.noneOf(KeyCode.class);
+                    for (var i = 0; i < size; i++) {
+                        final var name = readName(in, keyNames);
+                        final var key = KeyCode.getKeyCode(name);
+                        if (key == null) {
+                            throw new IOException("Unknown key in Recording: " + name);
+                        }
+                        keys.add(key);
+                    }
+                    recording.add(new RecordedEntry.KeysChanged(keys));
+                }
+                case MOUSE_INPUT -> {
+                    final var type = in.readUnsignedByte();
+                    if (type >= RecordedEntry.MouseInput.TYPES.size()) {
+                        throw new IOException("Unknown type of mouse input: " + type);
+                    }
+                    final var x = in.readDouble();
+                    final var y = in.readDouble();
+                    final var button = readMouseButton(in, buttonNames);
+                    final var clickCount = readCount(in);
+                    final var modifiers = in.readUnsignedByte();
+                    recording.add(new RecordedEntry.MouseInput(type, x, y, button, clickCount, modifiers));
+                }
+                case KEYFRAME -> {
+                    final var size = readCount(in);
+                    final List<EntityState> entities = new ArrayList<>(size);
+                    for (var i = 0; i < size; i++) {
+                        entities.add(new EntityState(readName(in, types), in.readDouble(), in.readDouble(),
+                                in.readDouble(), in.readDouble(), in.readDouble()));
+                    }
+                    recording.add(new RecordedEntry.Keyframe(entities));
+                }
+                case END -> {
+                    return recording;
+                }
+                default -> throw new IOException("Unknown entry in Recording: " + tag);
+            }
+        }
+    }
+
+    private static boolean hasSameEntities(final RecordedEntry.Keyframe keyframe, final RecordedEntry.Keyframe first) {
+        if (keyframe.entities().size() != first.entities().size()) {
+            return false;
+        }
+        for (var i = 0; i < keyframe.entities().size(); i++) {
+            if (!keyframe.entities().get(i).type().equals(first.entities().get(i).type())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write the index of the given name, preceded by the name itself if it has not been written before.
+     */
+    private static void writeName(final DataOutputStream out, final String name, final Map<String, Integer> names) throws IOException {
+        final var index = names.get(name);
+        if (index == null) {
+            writeVarLong(out, names.size());
+            out.writeUTF(name);
+            names.put(name, names.size());
+        } else {
+            writeVarLong(out, index);
+        }
+    }
+
+    private static String readName(final DataInputStream in, final List<String> names) throws IOException {
+        final var index = readIndex(in, names.size() + 1);
+        if (index == names.size()) {
+            names.add(in.readUTF());
+        }
+        return names.get(index);
+    }
+
+    private static MouseButton readMouseButton(final DataInputStream in, final List<String> names) throws IOException {
+        final var name = readName(in, names);
+        try {
+            return MouseButton.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown mouse button in Recording: " + name, e);
+        }
+    }
+
+    private static int readCount(final DataInputStream in) throws IOException {
+        final var count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Invalid count in Recording: " + count);
+        }
+        return (int) count;
+    }
+
+    private static int readIndex(final DataInputStream in, final int size) throws IOException {
+        final var index = readVarLong(in);
+        if (index < 0 || index >= size) {
+            throw new IOException("Invalid index in Recording: " + index);
+        }
+        return (int) index;
+    }
+
+    private static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(final DataOutputStream out, final long value) throws IOException {
+        var remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(final DataInputStream in) throws IOException {
+        var value = 0L;
+        for (var shift = 0; shift < 64; shift += 7) {
+            final var b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid variable-length integer in Recording.");
+    }
+}
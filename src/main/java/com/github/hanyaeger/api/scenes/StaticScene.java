@@ -1,5 +1,7 @@
 package com.github.hanyaeger.api.scenes;
 
+import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.core.DependencyInjector;
 import com.github.hanyaeger.core.YaegerConfig;
 import com.github.hanyaeger.core.entities.Debugger;
@@ -12,6 +14,7 @@ import com.github.hanyaeger.core.factories.SceneFactory;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.github.hanyaeger.api.entities.EntitySpawner;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.effect.ColorAdjust;
@@ -59,6 +62,7 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     private DragNDropRepository dragNDropRepository;
 
     private boolean activationComplete;
+    private Size headlessSize;
 
     @Override
     public void init(final Injector injector) {
@@ -69,19 +73,25 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     public void activate() {
         pane.setEffect(colorAdjust);
 
-        scene = sceneFactory.create(pane);
+        if (isHeadless()) {
+            pane.resize(headlessSize.width(), headlessSize.height());
+        } else {
+            scene = sceneFactory.create(pane);
+        }
 
         entityCollection = entityCollectionFactory.create(pane, config);
         injector.injectMembers(entityCollection);
         entityCollection.init(injector);
 
 
-        if (config.showDebug()) {
+        if (config.showDebug() && !isHeadless()) {
             entityCollection.addStatisticsObserver(debugger);
             debugger.setup(pane);
         }
 
-        keyListenerDelegate.setup(scene, this::onInputChanged);
+        if (!isHeadless()) {
+            keyListenerDelegate.setup(scene, this::onInputChanged);
+        }
 
         if (this instanceof KeyListener keyListener) {
             entityCollection.registerKeyListener(keyListener);
@@ -96,6 +106,10 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
     public void postActivate() {
         entityCollection.registerSupplier(entitySupplier);
         entityCollection.initialUpdate();
+        if (isHeadless()) {
+            activationComplete = true;
+            return;
+        }
         // Fixes #208
         stage.hide();
         stage.show();
@@ -119,6 +133,63 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         entitySupplier.add(yaegerEntity);
     }
 
+    /**
+     * Add all instances of {@link YaegerEntity} of the given type of which the bounding box intersects with the given
+     * region to the given {@link List}. The {@link List} is not cleared first, so it can be reused between calls.
+     *
+     * @param region the region as {@link Bounds}
+     * @param type   the {@link Class} the entities should be an instance of, for instance
+     *               {@code YaegerEntity.class} to find all of them
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryRegion(final Bounds region, final Class<T> type, final List<? super T> result) {
+        entityCollection.queryRegion(region, type, result);
+    }
+
+    /**
+     * Add all instances of {@link YaegerEntity} of the given type of which the bounding box lies, at least partly,
+     * within the given radius of the given point to the given {@link List}.
+     *
+     * @param center the point as a {@link Coordinate2D}
+     * @param radius the radius
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryRadius(final Coordinate2D center, final double radius, final Class<T> type, final List<? super T> result) {
+        entityCollection.queryRadius(center, radius, type, result);
+    }
+
+    /**
+     * Add at most {@code k} instances of {@link YaegerEntity} of the given type that are nearest to the given point to
+     * the given {@link List}, ordered from near to far.
+     *
+     * @param point  the point as a {@link Coordinate2D}
+     * @param k      the maximum number of entities to be added
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryNearest(final Coordinate2D point, final int k, final Class<T> type, final List<? super T> result) {
+        entityCollection.queryNearest(point, k, type, result);
+    }
+
+    /**
+     * Add the first instance of {@link YaegerEntity} of the given type that lies on the line segment between the two
+     * given points to the given {@link List}.
+     *
+     * @param from   the start of the line segment as a {@link Coordinate2D}
+     * @param to     the end of the line segment as a {@link Coordinate2D}
+     * @param type   the {@link Class} the entity should be an instance of
+     * @param result the {@link List} to which the entity is added
+     * @param <T>    the type of the entity
+     * @return {@code true} if an entity has been hit
+     */
+    public <T> boolean raycast(final Coordinate2D from, final Coordinate2D to, final Class<T> type, final List<? super T> result) {
+        return entityCollection.raycast(from, to, type, result);
+    }
+
     @Override
     public EntityCollection getEntityCollection() {
         return entityCollection;
@@ -166,12 +237,16 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
     @Override
     public void setBackgroundImage(final String url, final boolean fullscreen) {
-        backgroundDelegate.setBackgroundImage(url, fullscreen);
+        if (!isHeadless()) {
+            backgroundDelegate.setBackgroundImage(url, fullscreen);
+        }
     }
 
     @Override
     public void setBackgroundAudio(final String url) {
-        backgroundDelegate.setBackgroundAudio(url);
+        if (!isHeadless()) {
+            backgroundDelegate.setBackgroundAudio(url);
+        }
     }
 
     @Override
@@ -234,9 +309,21 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         return this.scene;
     }
 
+    @Override
+    public double getWidth() {
+        return isHeadless() ? headlessSize.width() : YaegerScene.super.getWidth();
+    }
+
+    @Override
+    public double getHeight() {
+        return isHeadless() ? headlessSize.height() : YaegerScene.super.getHeight();
+    }
+
     @Override
     public void destroy() {
-        keyListenerDelegate.tearDown(scene);
+        if (!isHeadless()) {
+            keyListenerDelegate.tearDown(scene);
+        }
         backgroundDelegate.destroy();
         clear();
     }
@@ -255,7 +342,7 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
 
     @Override
     public Optional<? extends Node> getNode() {
-        return Optional.of(getScene().getRoot());
+        return isHeadless() ? Optional.ofNullable(pane) : Optional.of(getScene().getRoot());
     }
 
     @Override
@@ -263,6 +350,28 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         return activationComplete;
     }
 
+    /**
+     * Run this {@link YaegerScene} without a {@link Stage} and {@link Scene}, with the given {@link Size}. The
+     * {@link Pane} is then not rendered and receives no user input, and neither background images nor background
+     * audio are loaded.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param size the {@link Size} of this {@link YaegerScene}
+     */
+    public void setHeadless(final Size size) {
+        this.headlessSize = size;
+    }
+
+    /**
+     * Return whether this {@link YaegerScene} runs without a {@link Stage} and {@link Scene}.
+     *
+     * @return {@code true} if this {@link YaegerScene} is headless
+     */
+    public boolean isHeadless() {
+        return headlessSize != null;
+    }
+
     /**
      * Set the {@link Pane} to be used. The {@link Pane} will be the root node of the graph that
      * will be constructed for this {@link Scene}.
@@ -356,7 +465,14 @@ public abstract class StaticScene implements YaegerScene, SupplierProvider, Tile
         this.dragNDropRepository = dragNDropRepository;
     }
 
-    private void onInputChanged(final Set<KeyCode> input) {
+    /**
+     * Notify all instances of {@link KeyListener} that the pressed keys have changed.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param input a {@link Set} containing all pressed keys
+     */
+    public void onInputChanged(final Set<KeyCode> input) {
         entityCollection.notifyGameObjectsOfPressedKeys(input);
     }
 
@@ -0,0 +1,116 @@
+package com.github.hanyaeger.core;
+
+/**
+ * A {@link FixedTimestep} converts the pulses of a {@link javafx.animation.AnimationTimer}, which arrive at the
+ * refresh rate of the display, into a fixed number of Game World Updates per second.
+ * <p>
+ * The time that passed since the previous pulse is added to an accumulator, from which whole steps are taken. The
+ * remainder is kept for the next pulse, and its fraction of a step is available as {@link #getAlpha()}, to
+ * interpolate between the last two steps. To prevent a slow pulse from causing ever more steps, and thus ever slower
+ * pulses, the number of steps per pulse is capped. Time beyond that cap is dropped, meaning the game slows down
+ * instead.
+ */
+public class FixedTimestep {
+
+    /**
+     * The maximum number of steps per pulse, when none is provided.
+     */
+    public static final int DEFAULT_MAX_STEPS_PER_PULSE = 5;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long stepDuration;
+    private final int maxStepsPerPulse;
+
+    private long previousPulse = -1;
+    private long accumulator;
+    private long simulationTime;
+
+    /**
+     * Create a new {@link FixedTimestep} with {@link #DEFAULT_MAX_STEPS_PER_PULSE}.
+     *
+     * @param stepsPerSecond the number of steps per second, which should be larger than {@code 0}
+     */
+    public FixedTimestep(final double stepsPerSecond) {
+        this(stepsPerSecond, DEFAULT_MAX_STEPS_PER_PULSE);
+    }
+
+    /**
+     * Create a new {@link FixedTimestep}.
+     *
+     * @param stepsPerSecond   the number of steps per second, which should be larger than {@code 0}
+     * @param maxStepsPerPulse the maximum number of steps per pulse, which should be at least {@code 1}
+     */
+    public FixedTimestep(final double stepsPerSecond, final int maxStepsPerPulse) {
+        if (stepsPerSecond <= 0) {
+            throw new IllegalArgumentException("The number of steps per second should be larger than 0, but was " + stepsPerSecond);
+        }
+        if (maxStepsPerPulse < 1) {
+            throw new IllegalArgumentException("The maximum number of steps per pulse should be at least 1, but was " + maxStepsPerPulse);
+        }
+        this.stepDuration = Math.max(1L, Math.round(NANOS_PER_SECOND / stepsPerSecond));
+        this.maxStepsPerPulse = maxStepsPerPulse;
+    }
+
+    /**
+     * Add the time that passed since the previous pulse and return the number of steps that should be taken. The
+     * first pulse always results in a single step.
+     *
+     * @param now the timestamp of the pulse in nanoseconds
+     * @return the number of steps, between {@code 0} and the maximum number of steps per pulse
+     */
+    public int advance(final long now) {
+        if (previousPulse < 0) {
+            previousPulse = now;
+            simulationTime = now - stepDuration;
+            accumulator = stepDuration;
+        } else {
+            accumulator += Math.max(0, now - previousPulse);
+            previousPulse = now;
+        }
+
+        var steps = (int) Math.min(maxStepsPerPulse, accumulator / stepDuration);
+        accumulator -= steps * stepDuration;
+
+        if (steps == maxStepsPerPulse && accumulator >= stepDuration) {
+            accumulator %= stepDuration;
+        }
+        return steps;
+    }
+
+    /**
+     * Return the timestamp of the next step, which advances the simulated time by a single step.
+     *
+     * @return the timestamp of the next step in nanoseconds
+     */
+    public long nextStep() {
+        simulationTime += stepDuration;
+        return simulationTime;
+    }
+
+    /**
+     * Return the fraction of a step that remains in the accumulator.
+     *
+     * @return the fraction of a step, from {@code 0} up to {@code 1}
+     */
+    public double getAlpha() {
+        return (double) accumulator / stepDuration;
+    }
+
+    /**
+     * Forget the previous pulse, so the time during which no pulses arrive, such as while paused, is not simulated.
+     */
+    public void reset() {
+        previousPulse = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Return the duration of a single step.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getStepDuration() {
+        return stepDuration;
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.hanyaeger.core;
 
+import com.github.hanyaeger.api.UpdatePhase;
+
 /**
  * An {@link Updatable} that delegates the {@link Updatable#update(long)} to an {@link Updater}.
  */
@@ -11,4 +13,16 @@ public interface UpdateDelegator extends Updatable {
      * @return an instance of {@link Updater}
      */
     Updater getUpdater();
+
+    /**
+     * Perform the given {@link UpdatePhase} of the Game World Update, by delegating it to the {@link Updater}.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param timestamp the timestamp of the update
+     * @param phase     the {@link UpdatePhase} that is performed
+     */
+    default void update(final long timestamp, final UpdatePhase phase) {
+        getUpdater().update(timestamp, phase);
+    }
 }
@@ -1,16 +1,41 @@
 package com.github.hanyaeger.core;
 
+import com.github.hanyaeger.api.UpdatePhase;
+
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * An {@link Updater} contains a {@link List} of {@link Updatable} to which the {@code update} method
  * will be delegated.
+ * <p>
+ * Each {@link Updatable} belongs to an {@link UpdatePhase}. The instances of {@link Updatable} of each
+ * {@link UpdatePhase} are stored in an array that is only rebuilt at the start of that phase, after instances of
+ * {@link Updatable} have been added.
+ * <p>
+ * An {@link Updater} can be put to sleep, see {@link #setWakeUpHandler(Runnable)}, in which case the
+ * {@link UpdateDelegator} it belongs to no longer receives a Game World Update until {@link #wakeUp()} is called.
  */
 public class Updater implements Updatable, Clearable {
 
-    private final List<Updatable> updatables = new ArrayList<>();
+    private static final Updatable[] EMPTY = new Updatable[0];
+
+    private final List<List<Updatable>> updatables = new ArrayList<>();
+    private final Updatable[][] phases = new Updatable[UpdatePhase.ordered().length][];
+    private final boolean[] outdated = new boolean[UpdatePhase.ordered().length];
     private boolean clearUpdatables = false;
+    private boolean customUpdatables;
+    private Runnable wakeUpHandler;
+
+    /**
+     * Create a new {@link Updater} that contains no instances of {@link Updatable}.
+     */
+    public Updater() {
+        for (final var phase : UpdatePhase.ordered()) {
+            updatables.add(new ArrayList<>());
+            phases[phase.ordinal()] = EMPTY;
+        }
+    }
 
     /**
      * Add an {@link Updatable} to this {@link Updater}. The {@link Updatable} will
@@ -31,19 +56,128 @@ public class Updater implements Updatable, Clearable {
      *                  be execute first during an {@code update}
      */
     public void addUpdatable(final Updatable updatable, boolean asFirst) {
+        addUpdatable(updatable, UpdatePhase.DEFAULT, asFirst);
+    }
+
+    /**
+     * Add an {@link Updatable} to the given {@link UpdatePhase} of this {@link Updater}.
+     *
+     * @param updatable the {@link Updatable} to be added
+     * @param phase     the {@link UpdatePhase} during which the {@link Updatable} should be called
+     */
+    public void addUpdatable(final Updatable updatable, final UpdatePhase phase) {
+        addUpdatable(updatable, phase, false);
+    }
+
+    /**
+     * Add an {@link Updatable} to the given {@link UpdatePhase} of this {@link Updater}.
+     *
+     * @param updatable the {@link Updatable} to be added
+     * @param phase     the {@link UpdatePhase} during which the {@link Updatable} should be called
+     * @param asFirst   add an {@link Updatable} as the first element of its {@link UpdatePhase} and thus
+     *                  be execute first during that phase
+     */
+    public void addUpdatable(final Updatable updatable, final UpdatePhase phase, final boolean asFirst) {
+        final var phaseUpdatables = updatables.get(phase.ordinal());
         if (asFirst) {
-            updatables.add(0, updatable);
+            phaseUpdatables.add(0, updatable);
         } else {
-            updatables.add(updatable);
+            phaseUpdatables.add(updatable);
+        }
+        outdated[phase.ordinal()] = true;
+    }
+
+    /**
+     * Return whether this {@link Updater} contains an {@link Updatable} for the given {@link UpdatePhase}.
+     *
+     * @param phase the {@link UpdatePhase}
+     * @return {@code true} if an {@link Updatable} has been added for the given {@link UpdatePhase}
+     */
+    public boolean hasUpdatables(final UpdatePhase phase) {
+        return !updatables.get(phase.ordinal()).isEmpty();
+    }
+
+    /**
+     * Set whether this {@link Updater} contains an {@link Updatable} that is not provided by Yaeger itself, but by the
+     * game. Since it is unknown what such an {@link Updatable} does, its {@link UpdateDelegator} is never put to
+     * sleep.
+     *
+     * @param customUpdatables whether an {@link Updatable} has been added that is not provided by Yaeger
+     */
+    public void setCustomUpdatables(final boolean customUpdatables) {
+        this.customUpdatables = customUpdatables;
+    }
+
+    /**
+     * Return whether this {@link Updater} contains an {@link Updatable} that is not provided by Yaeger itself.
+     *
+     * @return {@code true} if an {@link Updatable} has been added that is not provided by Yaeger
+     */
+    public boolean hasCustomUpdatables() {
+        return customUpdatables;
+    }
+
+    /**
+     * Put this {@link Updater} to sleep. The given {@link Runnable} is called once, when {@link #wakeUp()} is
+     * called. Passing {@code null} discards the current one, without calling it.
+     *
+     * @param wakeUpHandler the {@link Runnable} to be called on {@link #wakeUp()}, or {@code null}
+     */
+    public void setWakeUpHandler(final Runnable wakeUpHandler) {
+        this.wakeUpHandler = wakeUpHandler;
+    }
+
+    /**
+     * Return whether this {@link Updater} has been put to sleep.
+     *
+     * @return {@code true} if this {@link Updater} is asleep
+     */
+    public boolean isAsleep() {
+        return wakeUpHandler != null;
+    }
+
+    /**
+     * Wake up this {@link Updater}, if it has been put to sleep, by calling its wake up handler.
+     */
+    public void wakeUp() {
+        if (wakeUpHandler != null) {
+            final var handler = wakeUpHandler;
+            wakeUpHandler = null;
+            handler.run();
         }
     }
 
     @Override
     public void update(final long timestamp) {
-        if (!clearUpdatables) {
-            updatables.forEach(updatable -> updatable.update(timestamp));
-        } else {
-            updatables.clear();
+        for (final var phase : UpdatePhase.ordered()) {
+            update(timestamp, phase);
+        }
+    }
+
+    /**
+     * Call all instances of {@link Updatable} that belong to the given {@link UpdatePhase}.
+     *
+     * @param timestamp the timestamp of the update
+     * @param phase     the {@link UpdatePhase} that is performed
+     */
+    public void update(final long timestamp, final UpdatePhase phase) {
+        if (clearUpdatables) {
+            updatables.forEach(List::clear);
+            for (final var each : UpdatePhase.ordered()) {
+                phases[each.ordinal()] = EMPTY;
+                outdated[each.ordinal()] = false;
+            }
+            return;
+        }
+
+        final var index = phase.ordinal();
+        if (outdated[index]) {
+            phases[index] = updatables.get(index).toArray(EMPTY);
+            outdated[index] = false;
+        }
+
+        for (final var updatable : phases[index]) {
+            updatable.update(timestamp);
         }
     }
 
@@ -3,6 +3,22 @@ package com.github.hanyaeger.core;
 /**
  * An encapsulation of the various configuration settings that can be applied to a Yaeger game
  * at start-up.
+ *
+ * @param showSplash      whether the Splash screen should be shown during start up
+ * @param showBoundingBox whether the BoundingBox of all Colliders and Collided Entities should be shown
+ * @param showDebug       whether a debug window with information about the Scene should be shown
+ * @param profile         whether the duration of each part of the Game World Update should be measured
  */
-public record YaegerConfig(boolean showSplash, boolean showBoundingBox, boolean showDebug) {
+public record YaegerConfig(boolean showSplash, boolean showBoundingBox, boolean showDebug, boolean profile) {
+
+    /**
+     * Create a new {@link YaegerConfig} for which profiling is disabled.
+     *
+     * @param showSplash      whether the Splash screen should be shown during start up
+     * @param showBoundingBox whether the BoundingBox of all Colliders and Collided Entities should be shown
+     * @param showDebug       whether a debug window with information about the Scene should be shown
+     */
+    public YaegerConfig(final boolean showSplash, final boolean showBoundingBox, final boolean showDebug) {
+        this(showSplash, showBoundingBox, showDebug, false);
+    }
 }
@@ -4,6 +4,7 @@ import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.api.YaegerGame;
 import com.github.hanyaeger.core.factories.SceneCollectionFactory;
 import com.github.hanyaeger.core.factories.SceneFactory;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import javafx.scene.Scene;
@@ -25,6 +26,7 @@ public class YaegerStage implements Initializable {
     private SceneFactory sceneFactory;
     private SceneCollectionFactory sceneCollectionFactory;
     private SceneCollection sceneCollection;
+    private UpdateProfiler profiler;
 
     /**
      * Create a new {@code YaegerStage} with the given parameters. A {@code YaegerStage} encapsulates a {@link Stage},
@@ -54,6 +56,11 @@ public class YaegerStage implements Initializable {
     @Override
     public void init(final Injector injector) {
         stage.setResizable(false);
+        if (yaegerConfig.profile()) {
+            profiler.setEnabled(true);
+            stage.setOnHidden(event -> System.out.println(profiler.report(UpdateProfiler.DEFAULT_REPORT_SIZE)));
+        }
+
         sceneCollection = sceneCollectionFactory.create(stage, yaegerConfig);
         injector.injectMembers(sceneCollection);
         sceneCollection.init(injector);
@@ -118,6 +125,17 @@ public class YaegerStage implements Initializable {
         this.sceneCollectionFactory = sceneCollectionFactory;
     }
 
+    /**
+     * Set the {@link UpdateProfiler}, which is enabled when the {@link YaegerConfig} states that the Game should be
+     * profiled.
+     *
+     * @param profiler the {@link UpdateProfiler}
+     */
+    @Inject
+    public void setProfiler(final UpdateProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     /**
      * Set the {@link SceneFactory} to be used whenever a {@link Scene} has to be created.
      *
@@ -1,11 +1,15 @@
 package com.github.hanyaeger.core.annotations;
 
+import com.github.hanyaeger.api.scenes.DynamicScene;
 import com.github.hanyaeger.core.Updatable;
 import com.github.hanyaeger.core.UpdateDelegator;
 import com.github.hanyaeger.core.exceptions.YaegerEngineException;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
+import com.google.inject.Inject;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 
 /**
  * The {@link AnnotationProcessor} is responsible for processing Yaeger specific annotations. Currently
@@ -19,6 +23,11 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class AnnotationProcessor {
 
+    private static final String YAEGER_PACKAGE = "com.github.hanyaeger.";
+    private static final String ENTITY_COLLECTION_UPDATABLE = "entityCollectionUpdatable";
+
+    private UpdateProfiler profiler;
+
     /**
      * Invoke all methods annotated with the annotation {@link OnActivation} on the given {@link Object}.
      *
@@ -52,6 +61,13 @@ public class AnnotationProcessor {
     /**
      * When calling this method, the {@link Object} provided als its parameter will be scanned for
      * the annotation {@link UpdatableProvider}, if the {@link Object} is an {@link UpdateDelegator}.
+     * <p>
+     * If profiling is enabled, each provided {@link Updatable} is wrapped by the {@link UpdateProfiler}, using the
+     * name of the class of the {@link Object} and of the annotated method as its label. The {@link Updatable} provided
+     * by {@link DynamicScene#entityCollectionUpdatable()} is never wrapped, since the
+     * {@link com.github.hanyaeger.core.entities.EntityCollection} already measures its own parts and wrapping it would
+     * count all of them twice. An annotated method that is not declared by Yaeger itself marks the {@link com.github.hanyaeger.core.Updater} as containing custom
+     * instances of {@link Updatable}.
      *
      * @param gameObject the object that will be scanned for the {@link UpdatableProvider} annotation
      */
@@ -63,7 +79,13 @@ public class AnnotationProcessor {
                     try {
                         final var providedUpdatable = method.invoke(updateDelegator);
                         if (providedUpdatable instanceof Updatable delegatedUpdatable) {
-                            updateDelegator.getUpdater().addUpdatable(delegatedUpdatable, annotation.asFirst());
+                            final var updatable = isProfiled(method)
+                                    ? profiler.wrap(gameObject.getClass().getName() + "#" + method.getName(), delegatedUpdatable)
+                                    : delegatedUpdatable;
+                            updateDelegator.getUpdater().addUpdatable(updatable, annotation.phase(), annotation.asFirst());
+                            if (!method.getDeclaringClass().getName().startsWith(YAEGER_PACKAGE)) {
+                                updateDelegator.getUpdater().setCustomUpdatables(true);
+                            }
                         }
                     } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
                         throw new YaegerEngineException(e);
@@ -72,4 +94,19 @@ public class AnnotationProcessor {
             }
         }
     }
+
+    private boolean isProfiled(final Method method) {
+        return profiler != null && profiler.isEnabled()
+                && !(method.getDeclaringClass() == DynamicScene.class && method.getName().equals(ENTITY_COLLECTION_UPDATABLE));
+    }
+
+    /**
+     * Set the {@link UpdateProfiler} that is used to measure each provided {@link Updatable}, when profiling is enabled.
+     *
+     * @param profiler the {@link UpdateProfiler}
+     */
+    @Inject
+    public void setProfiler(final UpdateProfiler profiler) {
+        this.profiler = profiler;
+    }
 }
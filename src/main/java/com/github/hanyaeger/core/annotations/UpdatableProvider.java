@@ -1,6 +1,7 @@
 package com.github.hanyaeger.core.annotations;
 
 import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.api.entities.YaegerEntity;
 import com.github.hanyaeger.api.scenes.YaegerScene;
 
@@ -20,10 +21,18 @@ import java.lang.annotation.Target;
 public @interface UpdatableProvider {
     /**
      * State whether the {@link Updatable} returned by the method annotated with this annotation should be added
-     * to the front of the list of instances of {@link Updatable}. By default it is placed at the end of the list,
-     * which also means it is called last.
+     * to the front of the list of instances of {@link Updatable} of its {@link UpdatePhase}. By default it is placed
+     * at the end of the list, which also means it is called last within that phase.
      *
      * @return a {@code boolean} that states whether the {@link Updatable} should be added at the front of the list
      */
     boolean asFirst() default false;
+
+    /**
+     * State the {@link UpdatePhase} during which the {@link Updatable} returned by the method annotated with this
+     * annotation should be called. By default this is {@link UpdatePhase#MOTION}.
+     *
+     * @return the {@link UpdatePhase} of the {@link Updatable}
+     */
+    UpdatePhase phase() default UpdatePhase.MOTION;
 }
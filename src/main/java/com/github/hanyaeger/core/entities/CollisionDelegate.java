@@ -1,26 +1,189 @@
 package com.github.hanyaeger.core.entities;
 
+import com.github.hanyaeger.api.entities.BatchCollided;
 import com.github.hanyaeger.api.entities.Collided;
 import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.CompositeEntity;
+import com.github.hanyaeger.api.entities.ContinuousCollided;
+import com.github.hanyaeger.api.entities.PixelPerfectCollided;
+import com.github.hanyaeger.api.entities.ShapeCollided;
+import com.github.hanyaeger.api.entities.TrackedCollided;
 import com.github.hanyaeger.api.entities.YaegerEntity;
+import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.core.entities.collisions.Broadphase;
+import com.github.hanyaeger.core.entities.collisions.BruteForceBroadphase;
+import com.github.hanyaeger.core.entities.collisions.ColliderGroup;
+import com.github.hanyaeger.core.entities.collisions.CollisionCache;
+import com.github.hanyaeger.core.entities.collisions.CollisionPairBuffer;
+import com.github.hanyaeger.core.entities.collisions.CollisionPairTracker;
+import com.github.hanyaeger.core.entities.collisions.ParallelNarrowphase;
+import com.github.hanyaeger.core.entities.collisions.StaticColliderIndex;
+import com.github.hanyaeger.core.entities.motion.Movable;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * A {@link CollisionDelegate} handles all behavior related to Object collisions.
+ * <p>
+ * All instances of {@link Collider} are grouped by their collision layer, and each layer uses its own
+ * {@link Broadphase} to determine which instances of {@link Collider} each {@link Collided} is checked against.
+ * Layers that are ignored by a {@link Collided} are skipped entirely. By default a {@link BruteForceBroadphase} is
+ * used, meaning each {@link Collided} is checked against all instances of {@link Collider} in the layers it does
+ * not ignore.
+ * <p>
+ * Instances of {@link Collider} that never move, such as the tiles of a {@link com.github.hanyaeger.api.scenes.TileMap},
+ * are not part of any {@link Broadphase}. Instead, they are stored in a {@link StaticColliderIndex} that is only
+ * rebuilt when one of them is added or removed. A {@link Collided} that never moves itself is not checked against
+ * this index, so pairs of entities that never move are never evaluated.
+ * <p>
+ * Instances of {@link Collider} that are part of a {@link CompositeEntity} are not part of any {@link Broadphase}
+ * either. Per collision layer they are represented by a single {@link ColliderGroup}, which uses the bounding box of
+ * the {@link CompositeEntity}. They only become candidates of a {@link Collided} that hits that bounding box.
+ * <p>
+ * Each {@link TrackedCollided} is not asked to check for collisions itself. Instead, the colliding pairs are recorded
+ * by a {@link CollisionPairTracker}, which dispatches the enter, stay and exit callbacks once all instances of
+ * {@link Collided} have been checked.
+ * <p>
+ * Each {@link BatchCollided} receives all instances of {@link Collider} it collides with at once, in a {@link List}
+ * that is reused for all of them.
+ * <p>
+ * For scenes with many instances of {@link Collided}, the bounding boxes can be tested in parallel by a
+ * {@link ParallelNarrowphase}, see {@link #setParallel(boolean)}.
+ * <p>
+ * Collision detection and reporting are two separate phases. All colliding pairs are first stored in a
+ * {@link CollisionPairBuffer}, and only once all of them have been found are the callbacks called. A callback that
+ * removes, adds or moves an entity can therefore not influence which other pairs collide during the same Game World
+ * Update. Pairs of which one of the entities has been removed, see {@link #markAsRemoved(Removable)}, are not
+ * reported.
+ * <p>
+ * A {@link CollisionCache} keeps the result of the previous collision detection. A pair of which neither
+ * {@link YaegerEntity} has been transformed since then, according to its stamp in {@link Transformations}, is not
+ * checked again, but reuses that result. This is only done for a {@link Collided} that uses the implementation of
+ * {@link Collided#isCollidingWith(Collider)} provided by Yaeger, since an implementation of its own may depend on
+ * more than the location, rotation and dimensions of both entities. With most entities standing still, the cost of
+ * collision detection thus depends mostly on the number of entities that move.
  */
 public class CollisionDelegate {
 
-    private final List<Collided> collideds;
-    private final List<Collider> colliders;
+    /**
+     * Whether a class of {@link Collided} provides its own implementation of
+     * {@link Collided#checkForCollisions(List)}, instead of the default one, which would only repeat the detection.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_CHECK_FOR_COLLISIONS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                return type.getMethod("checkForCollisions", List.class).getDeclaringClass() != Collided.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Whether a class of {@link Collided} uses an implementation of {@link Collided#isCollidingWith(Collider)} that
+     * only depends on the location, rotation and dimensions of both entities, so an earlier result can be reused.
+     */
+    private static final ClassValue<Boolean> REUSES_EARLIER_RESULTS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                final var declaringClass = type.getMethod("isCollidingWith", Collider.class).getDeclaringClass();
+                return declaringClass == Collided.class || declaringClass == ShapeCollided.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final Map<Collided, Integer> collideds;
+    private final Map<Collider, Integer> colliders;
+    private final Broadphase[] layers = new Broadphase[Collider.COLLISION_LAYERS];
+    private final List<Collider> candidates = new ArrayList<>();
+    private final List<Collider> hits = new ArrayList<>();
+    private final List<Collider> groupedCandidates = new ArrayList<>();
+    private final Map<CompositeEntity, ColliderGroup[]> colliderGroups = new LinkedHashMap<>();
+    private final Map<Collider, ColliderGroup> groupedColliders = new HashMap<>();
+    private final CollisionPairBuffer pairs = new CollisionPairBuffer();
+    private final CollisionCache collisionCache = new CollisionCache();
+    private final Set<Removable> removed = new HashSet<>();
+    private final CollisionPairTracker pairTracker = new CollisionPairTracker();
+    private final StaticColliderIndex staticColliders = new StaticColliderIndex();
+    private final Map<YaegerEntity, Bounds> staticEntities = new LinkedHashMap<>();
+    private final List<YaegerEntity> movedStaticEntities = new ArrayList<>();
+    private long previousDetection = -1;
+    private Supplier<Broadphase> broadphaseSupplier;
+    private ParallelNarrowphase parallelNarrowphase;
+    private int usedLayers;
 
     /**
      * Create a new {@link CollisionDelegate}.
      */
     public CollisionDelegate() {
-        collideds = new ArrayList<>();
-        colliders = new ArrayList<>();
+        collideds = new LinkedHashMap<>();
+        colliders = new LinkedHashMap<>();
+        broadphaseSupplier = BruteForceBroadphase::new;
+    }
+
+    /**
+     * Set the {@link Supplier} of the {@link Broadphase} that should be used for each collision layer. All instances
+     * of {@link Collider} and {@link Collided} that are already registered are transferred to the new instances of
+     * {@link Broadphase}.
+     *
+     * @param broadphaseSupplier the {@link Supplier} that creates a {@link Broadphase} for a collision layer
+     */
+    public void setBroadphaseSupplier(final Supplier<Broadphase> broadphaseSupplier) {
+        this.broadphaseSupplier = broadphaseSupplier;
+
+        Arrays.fill(layers, null);
+        usedLayers = 0;
+
+        colliders.forEach((collider, layer) -> {
+            if (!staticEntities.containsKey(collider) && !groupedColliders.containsKey(collider)) {
+                getOrCreateLayer(layer).register(collider);
+            }
+        });
+        colliderGroups.values().forEach(groups -> {
+            for (final var group : groups) {
+                if (group != null) {
+                    getOrCreateLayer(group.getCollisionLayer()).register(group);
+                }
+            }
+        });
+    }
+
+    /**
+     * Set whether the bounding boxes should be tested in parallel, using the common {@link ForkJoinPool}.
+     * <p>
+     * In that case the candidates of each {@link Collided} are still gathered by the {@link Broadphase} and the
+     * {@link StaticColliderIndex}, on the calling thread, since their queries can not be shared between threads.
+     * Only testing the bounding boxes of those candidates is spread over all available cores, using a snapshot of
+     * them. Just as without parallel testing, a {@link Collided} that never moves is not tested against instances of
+     * {@link Collider} that never move, and the instances of {@link Collider} that are part of a
+     * {@link CompositeEntity} are only tested if the bounding box of their {@link ColliderGroup} is hit. Only the
+     * instances of {@link Collider} that intersect are then passed on, on the calling thread, in the same order in
+     * which they would otherwise have been found.
+     *
+     * @param parallel whether the bounding boxes should be tested in parallel
+     */
+    public void setParallel(final boolean parallel) {
+        if (!parallel) {
+            parallelNarrowphase = null;
+        } else if (parallelNarrowphase == null) {
+            parallelNarrowphase = new ParallelNarrowphase(ForkJoinPool.commonPool());
+        }
     }
 
     /**
@@ -31,18 +194,68 @@ public class CollisionDelegate {
      * @return a {@code boolean} stated whether this {@link YaegerEntity} is either a {@link Collider} or a {@link Collided}
      */
     public boolean register(final YaegerEntity entity) {
-        var registered = false;
+        return register(entity, false);
+    }
+
+    /**
+     * Register an {@link YaegerEntity} to be evaluated for collision detection. The {@link YaegerEntity} will only be added
+     * if is an {@link Collider} or {@link Collided}.
+     * <p>
+     * A {@link YaegerEntity} that has been added directly to the {@link com.github.hanyaeger.api.scenes.YaegerScene},
+     * instead of to a {@link com.github.hanyaeger.api.entities.CompositeEntity}, and that is neither {@link Movable}
+     * nor {@link Updatable}, is considered to never move. Should it be moved anyway, it will be treated as any other
+     * {@link YaegerEntity} from the next Game World Update on.
+     *
+     * @param entity   the {@link YaegerEntity} that should be registered
+     * @param topLevel whether the {@link YaegerEntity} has been added directly to the
+     *                 {@link com.github.hanyaeger.api.scenes.YaegerScene}
+     * @return a {@code boolean} stated whether this {@link YaegerEntity} is either a {@link Collider} or a {@link Collided}
+     */
+    public boolean register(final YaegerEntity entity, final boolean topLevel) {
+        if (!(entity instanceof Collider) && !(entity instanceof Collided)) {
+            return false;
+        }
+
+        final var isStatic = topLevel && !(entity instanceof Movable) && !(entity instanceof Updatable);
+        if (isStatic) {
+            staticEntities.putIfAbsent(entity, getBoundsInParent(entity));
+        }
 
         if (entity instanceof Collider collider) {
-            register(collider);
-            registered = true;
+            register(collider, isStatic, null);
         }
         if (entity instanceof Collided collided) {
             register(collided);
-            registered = true;
         }
 
-        return registered;
+        return true;
+    }
+
+    /**
+     * Register an {@link YaegerEntity} that is part of a {@link CompositeEntity} to be evaluated for collision
+     * detection. The {@link YaegerEntity} will only be added if is an {@link Collider} or {@link Collided}.
+     * <p>
+     * If the {@link YaegerEntity} is a {@link Collider}, it is only checked by those instances of {@link Collided}
+     * that collide with the bounding box of the {@link CompositeEntity}.
+     *
+     * @param entity    the {@link YaegerEntity} that should be registered
+     * @param composite the {@link CompositeEntity}, that has been added directly to the
+     *                  {@link com.github.hanyaeger.api.scenes.YaegerScene}, of which the {@link YaegerEntity} is part
+     * @return a {@code boolean} stated whether this {@link YaegerEntity} is either a {@link Collider} or a {@link Collided}
+     */
+    public boolean register(final YaegerEntity entity, final CompositeEntity composite) {
+        if (!(entity instanceof Collider) && !(entity instanceof Collided)) {
+            return false;
+        }
+
+        if (entity instanceof Collider collider) {
+            register(collider, false, composite);
+        }
+        if (entity instanceof Collided collided) {
+            register(collided);
+        }
+
+        return true;
     }
 
     /**
@@ -51,7 +264,29 @@ public class CollisionDelegate {
      * @param collider the {@link Collider} that should be registered
      */
     public void register(final Collider collider) {
-        colliders.add(collider);
+        register(collider, false, null);
+    }
+
+    private void register(final Collider collider, final boolean isStatic, final CompositeEntity composite) {
+        if (colliders.containsKey(collider)) {
+            return;
+        }
+
+        final var layer = collider.getCollisionLayer();
+        if (layer < 0 || layer >= Collider.COLLISION_LAYERS) {
+            throw new IllegalArgumentException("The collision layer of a Collider should be between 0 and "
+                    + (Collider.COLLISION_LAYERS - 1) + ", but was " + layer);
+        }
+
+        colliders.put(collider, layer);
+        if (isStatic) {
+            staticColliders.register(collider, layer);
+        } else if (composite != null) {
+            addToColliderGroup(collider, layer, composite);
+        } else {
+            getOrCreateLayer(layer).register(collider);
+        }
+        pairTracker.register(collider);
     }
 
     /**
@@ -60,15 +295,29 @@ public class CollisionDelegate {
      * @param collided the {@link Collided} that should be registered
      */
     public void register(final Collided collided) {
-        collideds.add(collided);
+        if (collideds.containsKey(collided)) {
+            return;
+        }
+
+        final var ignoredLayers = collided.getIgnoredCollisionLayers();
+        collideds.put(collided, ignoredLayers);
+        forEachLayer(usedLayers & ~ignoredLayers, broadphase -> broadphase.register(collided));
+
+        if (collided instanceof TrackedCollided trackedCollided) {
+            pairTracker.register(trackedCollided);
+        }
     }
 
     /**
-     * Remove the {@link Removable} from the list of Objects that are taken into account
+     * Remove the {@link Removable} from the list of Objects that are taken into account. This does not depend on
+     * the number of registered Objects, apart from the work the {@link Broadphase} needs to perform.
      *
      * @param removable The {@link Removable} that should be removed.
      */
     public void remove(final Removable removable) {
+        removed.remove(removable);
+        staticEntities.remove(removable);
+
         if (removable instanceof Collider collider) {
             removeCollider(collider);
         }
@@ -78,17 +327,298 @@ public class CollisionDelegate {
     }
 
     /**
-     * Check for collisions. Each {@link Collided} is asked to check for collisions.
+     * Mark a {@link Removable} as removed. Until it is actually removed through {@link #remove(Removable)}, it is
+     * skipped during collision detection, and pairs it is part of are no longer reported, even if they were found
+     * earlier during the same Game World Update.
+     *
+     * @param removable the {@link Removable} that has been removed
+     */
+    public void markAsRemoved(final Removable removable) {
+        if (removable instanceof Collider || removable instanceof Collided) {
+            removed.add(removable);
+        }
+    }
+
+    /**
+     * Check for collisions. First, each {@link Collided} is checked against the candidates provided by the
+     * {@link Broadphase} of each collision layer it does not ignore, using {@link Collided#isCollidingWith(Collider)}.
+     * When multiple layers are involved, their candidates are ordered by layer. Instances of {@link Collider} that
+     * never move are added after those provided by the {@link Broadphase}, unless the {@link Collided} never moves
+     * itself.
+     * <p>
+     * Once all colliding pairs have been found, each {@link Collided} is notified, in the order in which they were
+     * registered. The detected pairs are reported as they are, so {@link Collided#isCollidingWith(Collider)} is not
+     * called again: {@link Collided#onCollision(Collider)} is called with the first {@link Collider} that was hit.
+     * Only a {@link Collided} that overrides {@link Collided#checkForCollisions(List)}, such as a
+     * {@link ContinuousCollided}, is passed all instances of {@link Collider} it collides with, to that method. The
+     * callbacks of all instances of {@link TrackedCollided} are dispatched last.
      */
     public void checkCollisions() {
-        collideds.forEach(collided -> collided.checkForCollisions(colliders));
+        releaseMovedStaticEntities();
+
+        final var detection = Transformations.now();
+        collisionCache.nextDetection();
+        pairs.clear();
+        if (parallelNarrowphase != null) {
+            detectCollisionsInParallel();
+        } else {
+            forEachLayer(usedLayers, Broadphase::update);
+            collideds.forEach((collided, ignoredLayers) -> {
+                if (!removed.contains(collided)) {
+                    detectCollisions(collided, getAllCandidates(collided, ignoredLayers));
+                }
+            });
+        }
+
+        previousDetection = detection;
+        dispatchCollisions();
+        pairTracker.dispatch();
+    }
+
+    /**
+     * Return whether the result of an earlier collision detection still holds for the given entity. This is only
+     * the case for an {@link YaegerEntity} that has not been transformed since the previous collision detection, and
+     * that does not depend on anything else than its location, rotation and dimensions.
+     */
+    private boolean isUnchanged(final Object entity) {
+        return entity instanceof YaegerEntity yaegerEntity
+                && !(entity instanceof ContinuousCollided)
+                && !(entity instanceof PixelPerfectCollided)
+                && Transformations.getStamp(yaegerEntity) <= previousDetection;
+    }
+
+    private List<Collider> getAllCandidates(final Collided collided, final int ignoredLayers) {
+        return expandColliderGroups(collided, getUngroupedCandidates(collided, ignoredLayers));
+    }
+
+    /**
+     * Replace each {@link ColliderGroup} among the candidates by the instances of {@link Collider} it contains, if
+     * the {@link Collided} hits the bounding box of its {@link CompositeEntity}.
+     */
+    private List<Collider> expandColliderGroups(final Collided collided, final List<Collider> ungroupedCandidates) {
+        if (colliderGroups.isEmpty()) {
+            return ungroupedCandidates;
+        }
+
+        groupedCandidates.clear();
+        Bounds queryBounds = null;
+        for (final var candidate : ungroupedCandidates) {
+            if (candidate instanceof ColliderGroup group) {
+                if (queryBounds == null) {
+                    queryBounds = Broadphase.getQueryBounds(collided);
+                }
+                group.collect(queryBounds, groupedCandidates);
+            } else {
+                groupedCandidates.add(candidate);
+            }
+        }
+        return groupedCandidates;
+    }
+
+    private List<Collider> getUngroupedCandidates(final Collided collided, final int ignoredLayers) {
+        final var dynamicCandidates = getCandidates(collided, usedLayers & ~ignoredLayers);
+        if (staticColliders.isEmpty() || staticEntities.containsKey(collided)) {
+            return dynamicCandidates;
+        }
+
+        if (dynamicCandidates != candidates) {
+            candidates.clear();
+            candidates.addAll(dynamicCandidates);
+        }
+        staticColliders.query(Broadphase.getQueryBounds(collided), ~ignoredLayers, candidates);
+        return candidates;
+    }
+
+    /**
+     * A {@link YaegerEntity} that was considered to never move, but has been moved anyway, is moved from the
+     * {@link StaticColliderIndex} to the {@link Broadphase} of its layer. Since the bounds of a {@link Node} within its
+     * parent are only recalculated after it has been transformed, comparing their instance suffices to notice this,
+     * without calculating any bounding box.
+     */
+    private void releaseMovedStaticEntities() {
+        staticEntities.forEach((entity, boundsInParent) -> {
+            if (getBoundsInParent(entity) != boundsInParent) {
+                movedStaticEntities.add(entity);
+            }
+        });
+
+        if (movedStaticEntities.isEmpty()) {
+            return;
+        }
+
+        for (final var entity : movedStaticEntities) {
+            staticEntities.remove(entity);
+            if (entity instanceof Collider collider && staticColliders.remove(collider)) {
+                getOrCreateLayer(colliders.get(collider)).register(collider);
+            }
+        }
+        movedStaticEntities.clear();
+    }
+
+    private static Bounds getBoundsInParent(final YaegerEntity entity) {
+        return entity.getNode().map(Node::getBoundsInParent).orElse(null);
+    }
+
+    /**
+     * The candidates are gathered on this thread, by the {@link Broadphase} and {@link StaticColliderIndex}, exactly
+     * as without parallel testing. Only testing their bounding boxes is spread over the {@link ForkJoinPool}.
+     */
+    private void detectCollisionsInParallel() {
+        parallelNarrowphase.clear();
+        forEachLayer(usedLayers, Broadphase::update);
+        collideds.forEach((collided, ignoredLayers) -> {
+            if (!removed.contains(collided)) {
+                parallelNarrowphase.addCollided(collided, getUngroupedCandidates(collided, ignoredLayers));
+            }
+        });
+
+        parallelNarrowphase.run();
+
+        for (var i = 0; i < parallelNarrowphase.getCollidedCount(); i++) {
+            final var collided = parallelNarrowphase.getCollided(i);
+            detectCollisions(collided, expandColliderGroups(collided, parallelNarrowphase.getHits(i)));
+        }
+        parallelNarrowphase.clear();
+    }
+
+    private void detectCollisions(final Collided collided, final List<Collider> collidedCandidates) {
+        final var reusable = collisionCache.begin(collided,
+                REUSES_EARLIER_RESULTS.get(collided.getClass()) && isUnchanged(collided));
+        pairs.begin(collided);
+        for (final var candidate : collidedCandidates) {
+            if (!removed.isEmpty() && removed.contains(candidate)) {
+                continue;
+            }
+
+            final var colliding = reusable && isUnchanged(candidate)
+                    ? collisionCache.wasColliding(candidate)
+                    : collided.isCollidingWith(candidate);
+            if (colliding) {
+                pairs.add(candidate);
+                collisionCache.add(candidate);
+            }
+        }
+        pairs.end();
+        collisionCache.end();
+    }
+
+    /**
+     * Report all pairs in the {@link CollisionPairBuffer}. Since the callbacks may remove entities, each pair is
+     * checked again for removed entities right before it is reported.
+     */
+    private void dispatchCollisions() {
+        for (var i = 0; i < pairs.getCollidedCount(); i++) {
+            final var collided = pairs.getCollided(i);
+            if (!removed.isEmpty() && removed.contains(collided)) {
+                continue;
+            }
+
+            hits.clear();
+            for (var pair = pairs.getStart(i); pair < pairs.getEnd(i); pair++) {
+                final var collider = pairs.getCollider(pair);
+                if (removed.isEmpty() || !removed.contains(collider)) {
+                    hits.add(collider);
+                }
+            }
+
+            if (!hits.isEmpty()) {
+                dispatchCollisions(collided, hits);
+            }
+        }
+        pairs.clear();
+    }
+
+    private void dispatchCollisions(final Collided collided, final List<Collider> collidedHits) {
+        if (collided instanceof TrackedCollided trackedCollided) {
+            pairTracker.record(trackedCollided, collidedHits);
+        } else if (collided instanceof BatchCollided batchCollided) {
+            batchCollided.onCollisions(collidedHits);
+        } else if (OVERRIDES_CHECK_FOR_COLLISIONS.get(collided.getClass())) {
+            collided.checkForCollisions(collidedHits);
+        } else {
+            collided.onCollision(collidedHits.get(0));
+        }
+    }
+
+    private List<Collider> getCandidates(final Collided collided, final int matchingLayers) {
+        if (Integer.bitCount(matchingLayers) == 1) {
+            return layers[Integer.numberOfTrailingZeros(matchingLayers)].getCandidates(collided);
+        }
+
+        candidates.clear();
+        forEachLayer(matchingLayers, broadphase -> candidates.addAll(broadphase.getCandidates(collided)));
+        return candidates;
+    }
+
+    private Broadphase getOrCreateLayer(final int layer) {
+        if (layers[layer] == null) {
+            final var broadphase = broadphaseSupplier.get();
+            layers[layer] = broadphase;
+            usedLayers |= 1 << layer;
+
+            collideds.forEach((collided, ignoredLayers) -> {
+                if ((ignoredLayers & (1 << layer)) == 0) {
+                    broadphase.register(collided);
+                }
+            });
+        }
+        return layers[layer];
+    }
+
+    private void forEachLayer(final int layerMask, final Consumer<Broadphase> action) {
+        var remaining = layerMask;
+        while (remaining != 0) {
+            final var layer = Integer.numberOfTrailingZeros(remaining);
+            action.accept(layers[layer]);
+            remaining &= remaining - 1;
+        }
+    }
+
+    private void addToColliderGroup(final Collider collider, final int layer, final CompositeEntity composite) {
+        final var groups = colliderGroups.computeIfAbsent(composite, key -> new ColliderGroup[Collider.COLLISION_LAYERS]);
+        if (groups[layer] == null) {
+            groups[layer] = new ColliderGroup(composite, layer);
+            getOrCreateLayer(layer).register(groups[layer]);
+        }
+        groups[layer].add(collider);
+        groupedColliders.put(collider, groups[layer]);
     }
 
     private void removeCollider(final Collider collider) {
-        colliders.remove(collider);
+        final var layer = colliders.remove(collider);
+        if (layer != null) {
+            final var group = groupedColliders.remove(collider);
+            if (group != null) {
+                removeFromColliderGroup(collider, group);
+            } else if (!staticColliders.remove(collider)) {
+                layers[layer].remove(collider);
+            }
+            pairTracker.remove(collider);
+        }
+    }
+
+    private void removeFromColliderGroup(final Collider collider, final ColliderGroup group) {
+        group.remove(collider);
+        if (!group.isEmpty()) {
+            return;
+        }
+
+        layers[group.getCollisionLayer()].remove(group);
+        final var groups = colliderGroups.get(group.getComposite());
+        groups[group.getCollisionLayer()] = null;
+        if (Arrays.stream(groups).allMatch(remaining -> remaining == null)) {
+            colliderGroups.remove(group.getComposite());
+        }
     }
 
     private void removeCollided(final Collided collided) {
-        collideds.remove(collided);
+        final var ignoredLayers = collideds.remove(collided);
+        if (ignoredLayers != null) {
+            forEachLayer(usedLayers & ~ignoredLayers, broadphase -> broadphase.remove(collided));
+        }
+        if (collided instanceof TrackedCollided trackedCollided) {
+            pairTracker.remove(trackedCollided);
+        }
+        collisionCache.remove(collided);
     }
 }
@@ -0,0 +1,87 @@
+package com.github.hanyaeger.core.entities;
+
+import javafx.scene.Node;
+
+/**
+ * {@link Culling} hides and restores the {@link Node} of an entity that is outside the visible area of the
+ * {@link javafx.scene.layout.Pane}. A culled {@link Node} is made invisible and unmanaged, so JavaFX no longer renders
+ * or picks it. The visibility it would have otherwise is kept in the properties of the {@link Node}, so it can be
+ * changed and read while the {@link Node} is culled.
+ */
+public class Culling {
+
+    private static final String VISIBLE = "yaeger.culling.visible";
+
+    private Culling() {
+    }
+
+    /**
+     * Cull the given {@link Node}, by making it invisible and unmanaged.
+     *
+     * @param node the {@link Node} to be culled
+     */
+    public static void cull(final Node node) {
+        if (isCulled(node)) {
+            return;
+        }
+
+        node.getProperties().put(VISIBLE, node.isVisible());
+        node.setVisible(false);
+        node.setManaged(false);
+    }
+
+    /**
+     * Restore the given {@link Node}, if it has been culled, by making it managed and giving it back the visibility it
+     * would have had otherwise.
+     *
+     * @param node the {@link Node} to be restored
+     */
+    public static void uncull(final Node node) {
+        if (!isCulled(node)) {
+            return;
+        }
+
+        final var visible = (Boolean) node.getProperties().remove(VISIBLE);
+        node.setManaged(true);
+        node.setVisible(visible);
+    }
+
+    /**
+     * Return whether the given {@link Node} has been culled.
+     *
+     * @param node the {@link Node}
+     * @return {@code true} if the {@link Node} has been culled
+     */
+    public static boolean isCulled(final Node node) {
+        return node.hasProperties() && node.getProperties().containsKey(VISIBLE);
+    }
+
+    /**
+     * Set the visibility of the given {@link Node}. If the {@link Node} has been culled, the visibility is applied
+     * when it is restored.
+     *
+     * @param node    the {@link Node}
+     * @param visible whether the {@link Node} should be visible
+     */
+    public static void setVisible(final Node node, final boolean visible) {
+        if (isCulled(node)) {
+            node.getProperties().put(VISIBLE, visible);
+        } else {
+            node.setVisible(visible);
+        }
+    }
+
+    /**
+     * Return the visibility of the given {@link Node}, which is the visibility it would have if it had not been culled.
+     *
+     * @param node the {@link Node}
+     * @return {@code true} if the {@link Node} is visible
+     */
+    public static boolean isVisible(final Node node) {
+        if (isCulled(node)) {
+            return (Boolean) node.getProperties().get(VISIBLE);
+        }
+
+        return node.isVisible();
+    }
+}
@@ -25,6 +25,7 @@ public class Debugger implements StatisticsObserver {
     private static final String SUPPLIERS = "Suppliers:";
     private static final String GARBAGE = "Garbage:";
     private static final String KEY_LISTENERS = "Key listening Entities:";
+    private static final String SLOWEST_UPDATE = "Slowest update:";
     private static final String AUDIO_FILES = "Audio files";
     private static final String IMAGE_FILES = "Image files";
 
@@ -42,6 +43,7 @@ public class Debugger implements StatisticsObserver {
     private Label entitySpawners;
     private Label keyListeningEntities;
     private Label garbageEntities;
+    private Label slowestUpdate;
     private Label usedMemory;
     private Label allocatedMemory;
 
@@ -89,6 +91,7 @@ public class Debugger implements StatisticsObserver {
         keyListeningEntities.setText(String.valueOf(entityCollectionStatistics.getKeyListeners()));
         entitySpawners.setText(String.valueOf(entityCollectionStatistics.getSuppliers()));
         garbageEntities.setText(String.valueOf(entityCollectionStatistics.getGarbage()));
+        slowestUpdate.setText(getSlowestUpdate(entityCollectionStatistics));
 
         allocatedMemory.setText(getTotalMemory());
         usedMemory.setText(getUsedMemory());
@@ -128,6 +131,7 @@ public class Debugger implements StatisticsObserver {
         entitySpawners = addDebugLine(SUPPLIERS);
         garbageEntities = addDebugLine(GARBAGE);
         keyListeningEntities = addDebugLine(KEY_LISTENERS);
+        slowestUpdate = addDebugLine(SLOWEST_UPDATE);
     }
 
     private void addResourcesStatistics() {
@@ -148,6 +152,17 @@ public class Debugger implements StatisticsObserver {
         return debugValue;
     }
 
+    private String getSlowestUpdate(final EntityCollectionStatistics entityCollectionStatistics) {
+        final var profiles = entityCollectionStatistics.getSlowest();
+        if (profiles.isEmpty()) {
+            return "";
+        }
+
+        final var slowest = profiles.get(0);
+        final var label = slowest.label().substring(slowest.label().lastIndexOf('.') + 1);
+        return String.format("%s (%.1f us)", label, slowest.mean() / 1_000D);
+    }
+
     private String getTotalMemory() {
         return String.valueOf(Runtime.getRuntime().totalMemory());
     }
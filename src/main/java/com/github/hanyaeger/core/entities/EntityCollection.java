@@ -1,24 +1,51 @@
 package com.github.hanyaeger.core.entities;
 
+import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.UpdateExposer;
 import com.github.hanyaeger.core.Initializable;
 import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.core.UpdateDelegator;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.YaegerConfig;
 import com.github.hanyaeger.core.annotations.AnnotationProcessor;
 import com.github.hanyaeger.api.entities.Collided;
 import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.CompositeEntity;
+import com.github.hanyaeger.api.entities.ContinuousRotatable;
+import com.github.hanyaeger.api.entities.DynamicCompositeEntity;
+import com.github.hanyaeger.api.entities.EntityPool;
+import com.github.hanyaeger.api.entities.Newtonian;
+import com.github.hanyaeger.api.entities.OffscreenPolicy;
+import com.github.hanyaeger.api.entities.SceneBorderCrossingWatcher;
+import com.github.hanyaeger.api.entities.SceneBorderTouchingWatcher;
+import com.github.hanyaeger.api.entities.impl.DynamicSpriteEntity;
 import com.github.hanyaeger.api.userinput.KeyListener;
 import com.github.hanyaeger.core.exceptions.YaegerEngineException;
+import com.github.hanyaeger.api.scenes.CollisionStrategy;
 import com.github.hanyaeger.api.scenes.YaegerScene;
+import com.github.hanyaeger.core.entities.collisions.SpatialIndex;
+import com.github.hanyaeger.core.entities.motion.Movable;
+import com.github.hanyaeger.core.factories.BroadphaseFactory;
+import com.github.hanyaeger.core.profiling.DurationHistogram;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
+import com.github.hanyaeger.core.replay.EntityState;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.github.hanyaeger.api.entities.YaegerEntity;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import com.github.hanyaeger.core.entities.events.EventTypes;
 import javafx.scene.layout.Pane;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -27,15 +54,68 @@ import java.util.Set;
  */
 public class EntityCollection implements Initializable {
 
+    /**
+     * The number of Game World Updates of which a culled entity with {@link OffscreenPolicy#REDUCED_UPDATE}
+     * receives only one.
+     */
+    public static final int REDUCED_UPDATE_INTERVAL = 4;
+
+    /**
+     * The distance outside the visible area within which an entity is not yet culled.
+     */
+    public static final double CULLING_MARGIN = 64;
+
+    /**
+     * The label of the {@link UpdateProfiler} for collecting garbage and adding awakened entities.
+     */
+    public static final String PROFILE_GARBAGE = "EntityCollection: garbage collection";
+
+    /**
+     * The label of the {@link UpdateProfiler} for calling all instances of {@link Updatable}.
+     */
+    public static final String PROFILE_UPDATABLES = "EntityCollection: updatables";
+
+    /**
+     * The label of the {@link UpdateProfiler} for checking for collisions.
+     */
+    public static final String PROFILE_COLLISIONS = "EntityCollection: collisions";
+
+    /**
+     * The label of the {@link UpdateProfiler} for adding supplied entities.
+     */
+    public static final String PROFILE_SUPPLIERS = "EntityCollection: suppliers";
+
     private static final String NO_SHOW_BB_ERROR = "A BoundingBoxVisualizer can only be added when the Game is run with the commandline argument -showBB.";
+
+    /**
+     * Per interpolated {@link YaegerEntity}, the captured location, the offset that has been applied to its
+     * {@link Node} and the translation of its {@link Node} that resulted from it, each as an {@code x} and {@code y}.
+     */
+    private static final int INTERPOLATION_STATE_SIZE = 6;
+
     private final EntityCollectionStatistics statistics;
     private Injector injector;
     private final Pane pane;
     private final List<EntitySupplier> suppliers = new ArrayList<>();
     private final List<YaegerEntity> statics = new ArrayList<>();
+    private final List<YaegerEntity> topLevelEntities = new ArrayList<>();
     private final List<Updatable> updatables = new ArrayList<>();
+    private final List<Updatable> sleeping = new ArrayList<>();
+    private final List<Updatable> awakened = new ArrayList<>();
+    private final List<Updatable> merged = new ArrayList<>();
+    private final List<DynamicCompositeEntity> dynamicComposites = new ArrayList<>();
+    private final Map<Updatable, Long> sequenceNumbers = new IdentityHashMap<>();
+    private long nextSequenceNumber;
+    private boolean sleepingEnabled;
+    private boolean cullingEnabled;
+    private long updateCount;
     private final List<KeyListener> keyListeners = new ArrayList<>();
     private final List<YaegerEntity> garbage = new ArrayList<>();
+    private final Set<Object> garbageLookup = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<YaegerEntity> recycled = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<YaegerEntity> culled = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Node> nodesToAdd = new ArrayList<>();
+    private final List<YaegerEntity> entitiesToActivate = new ArrayList<>();
 
     private EntitySupplier boundingBoxVisualizerSupplier;
     private List<Updatable> boundingBoxVisualizers;
@@ -43,7 +123,21 @@ public class EntityCollection implements Initializable {
     private final List<StatisticsObserver> statisticsObservers = new ArrayList<>();
 
     private final CollisionDelegate collisionDelegate;
+    private final BroadphaseFactory broadphaseFactory = new BroadphaseFactory();
+    private final SpatialIndex spatialIndex = new SpatialIndex();
+    private boolean spatialIndexOutdated = true;
+    private boolean spatialIndexUsed;
+    private YaegerEntity[] interpolated = new YaegerEntity[0];
+    private double[] interpolationStates = new double[0];
+    private int interpolatedCount;
+    private boolean reactivating;
+    private final boolean[] disabledPhases = new boolean[UpdatePhase.ordered().length];
     private AnnotationProcessor annotationProcessor;
+    private UpdateProfiler profiler;
+    private DurationHistogram garbageHistogram;
+    private DurationHistogram updatablesHistogram;
+    private DurationHistogram collisionsHistogram;
+    private DurationHistogram suppliersHistogram;
     private final YaegerConfig config;
 
     /**
@@ -72,6 +166,25 @@ public class EntityCollection implements Initializable {
         statisticsObservers.add(observer);
     }
 
+    /**
+     * Set the {@link CollisionStrategy} that should be used for collision detection.
+     *
+     * @param strategy the {@link CollisionStrategy} to be used
+     * @param cellSize the cell size to be used in case of {@link CollisionStrategy#UNIFORM_GRID}
+     */
+    public void setCollisionStrategy(final CollisionStrategy strategy, final double cellSize) {
+        collisionDelegate.setBroadphaseSupplier(() -> broadphaseFactory.create(strategy, cellSize));
+    }
+
+    /**
+     * Set whether the bounding boxes should be tested in parallel during collision detection.
+     *
+     * @param parallel whether the bounding boxes should be tested in parallel
+     */
+    public void setParallelCollisionDetection(final boolean parallel) {
+        collisionDelegate.setParallel(parallel);
+    }
+
     /**
      * Register an {@link EntitySupplier}.
      *
@@ -108,6 +221,7 @@ public class EntityCollection implements Initializable {
      */
     private void markAsGarbage(final YaegerEntity entity) {
         this.garbage.add(entity);
+        this.collisionDelegate.markAsRemoved(entity);
     }
 
     /**
@@ -137,7 +251,9 @@ public class EntityCollection implements Initializable {
      *
      * <li>
      * <b>Notify Entities</b> On all Entities that implement the interface {@link Updatable}, update()
-     * will be called.
+     * will be called. This is done per {@link UpdatePhase}, so all entities complete a phase before the next one
+     * starts. An {@link Updatable} that is not an {@link UpdateDelegator} is called during
+     * {@link UpdatePhase#DEFAULT}.
      * </li>
      * <li><b>Add supplied entities</b> Entities that should be added are so-called supplied. This means that
      * an {@link EntitySupplier} is registered with this {@link EntityCollection}. Each cycle of the Game Loop all
@@ -148,7 +264,7 @@ public class EntityCollection implements Initializable {
      * <b>Check for collisions</b> Check if collisions have occurred between instances of
      * {@link Collided} and
      * {@link Collider}. In such a case, the {@link Collided}
-     * will be notified.
+     * will be notified. This is done at the end of {@link UpdatePhase#COLLISION}.
      * </li>
      * <li>
      * <b>Update Statics</b> Update the {@link EntityCollectionStatistics}.
@@ -157,30 +273,426 @@ public class EntityCollection implements Initializable {
      * <b>Notify Statistics Observer</b> Notify all registered {@link StatisticsObserver}.
      * </li>
      * </ul>
+     * <p>
+     * If profiling is enabled, the duration of collecting garbage, calling all instances of {@link Updatable},
+     * checking for collisions and adding supplied entities is recorded by the {@link UpdateProfiler}.
      *
      * @param timestamp the timestamp of the update
      */
     public void update(final long timestamp) {
+        final var profiling = profiler != null && profiler.isEnabled();
+        var start = profiling ? System.nanoTime() : 0L;
+
         collectGarbage();
+        dynamicComposites.forEach(DynamicCompositeEntity::collectGarbage);
+        addAwakenedEntities();
+        updateCount++;
+        if (cullingEnabled) {
+            cull();
+        }
+
+        if (profiling) {
+            start = record(garbageHistogram, start);
+        }
+
+        var updatablesDuration = 0L;
+        for (final var phase : UpdatePhase.ordered()) {
+            if (!disabledPhases[phase.ordinal()]) {
+                updatePhase(timestamp, phase);
+            }
 
-        updatables.forEach(updatable -> updatable.update(timestamp));
-        collisionDelegate.checkCollisions();
+            if (phase == UpdatePhase.COLLISION) {
+                final var collisionStart = profiling ? System.nanoTime() : 0L;
+                updatablesDuration += collisionStart - start;
+                collisionDelegate.checkCollisions();
+                if (profiling) {
+                    start = record(collisionsHistogram, collisionStart);
+                }
+                updateSpatialIndex();
+            }
+        }
+
+        if (sleepingEnabled) {
+            updatables.removeIf(this::putToSleepIfIdle);
+        }
 
         if (config.showBoundingBox()) {
             boundingBoxVisualizers.forEach(updatable -> updatable.update(timestamp));
         }
 
+        if (profiling) {
+            updatablesDuration += System.nanoTime() - start;
+            updatablesHistogram.record(updatablesDuration);
+            start = System.nanoTime();
+        }
+
         addSuppliedEntities();
+
+        if (profiling) {
+            record(suppliersHistogram, start);
+        }
+
         updateStatistics();
         notifyStatisticsObservers();
     }
 
+    private long record(final DurationHistogram histogram, final long start) {
+        final var end = System.nanoTime();
+        histogram.record(end - start);
+        return end;
+    }
+
+    /**
+     * Set whether the instances of {@link Updatable} that belong to the given {@link UpdatePhase} should be called.
+     * Disabling {@link UpdatePhase#COLLISION} does not disable the collision detection itself.
+     *
+     * @param phase   the {@link UpdatePhase}
+     * @param enabled whether the {@link UpdatePhase} should be performed
+     */
+    public void setUpdatePhaseEnabled(final UpdatePhase phase, final boolean enabled) {
+        disabledPhases[phase.ordinal()] = !enabled;
+    }
+
+    /**
+     * Return whether the instances of {@link Updatable} that belong to the given {@link UpdatePhase} are called.
+     *
+     * @param phase the {@link UpdatePhase}
+     * @return {@code true} if the {@link UpdatePhase} is performed
+     */
+    public boolean isUpdatePhaseEnabled(final UpdatePhase phase) {
+        return !disabledPhases[phase.ordinal()];
+    }
+
+    /**
+     * Set whether Dynamic Entities that are idle should be put to sleep. A Dynamic Entity is idle when it does not
+     * move, rotate or automatically cycle through its frames, has no {@link com.github.hanyaeger.api.Timer}, is not
+     * affected by gravity, does not implement {@link UpdateExposer}, {@link SceneBorderTouchingWatcher} or
+     * {@link SceneBorderCrossingWatcher}, and has no {@link Updatable} that is provided by the game itself, see
+     * {@link com.github.hanyaeger.core.Updater#hasCustomUpdatables()}. A sleeping entity receives no update until it
+     * is woken up, which happens automatically when any of the above changes, or through
+     * {@link YaegerEntity#wakeUp()}. It then receives its updates at its original position among the other Dynamic
+     * Entities again. It remains part of the collision detection and the spatial queries. By default, sleeping is
+     * disabled.
+     *
+     * @param sleepingEnabled whether idle Dynamic Entities should be put to sleep
+     */
+    public void setSleepingEnabled(final boolean sleepingEnabled) {
+        this.sleepingEnabled = sleepingEnabled;
+
+        if (!sleepingEnabled) {
+            for (final var updatable : sleeping) {
+                ((UpdateDelegator) updatable).getUpdater().wakeUp();
+            }
+        }
+    }
+
+    /**
+     * Set whether entities that are outside the visible area of the {@link Pane} should be culled. The {@link Node} of
+     * a culled entity is made invisible and unmanaged, so JavaFX no longer renders or picks it, and it is updated
+     * according to its {@link OffscreenPolicy}. Whether an entity is outside the visible area is based on its cached
+     * bounding box, with a margin of {@link #CULLING_MARGIN}, at the start of each Game World Update. By default,
+     * culling is disabled.
+     *
+     * @param cullingEnabled whether entities outside the visible area should be culled
+     */
+    public void setCullingEnabled(final boolean cullingEnabled) {
+        this.cullingEnabled = cullingEnabled;
+
+        if (!cullingEnabled) {
+            topLevelEntities.forEach(this::uncull);
+        }
+    }
+
+    /**
+     * Return whether entities that are outside the visible area of the {@link Pane} are culled.
+     *
+     * @return {@code true} if entities outside the visible area are culled
+     */
+    public boolean isCullingEnabled() {
+        return cullingEnabled;
+    }
+
+    /**
+     * Return whether Dynamic Entities that are idle are put to sleep.
+     *
+     * @return {@code true} if idle Dynamic Entities are put to sleep
+     */
+    public boolean isSleepingEnabled() {
+        return sleepingEnabled;
+    }
+
     /**
      * Perform the initial update, to ensure all available entities are transferred fron their {@link EntitySupplier}
      * to the actual collections to become part of the {@link EntityCollection}.
      */
     public void initialUpdate() {
         addSuppliedEntities();
+        spatialIndexOutdated = true;
+    }
+
+    /**
+     * Add all instances of {@link YaegerEntity} of the given type of which the bounding box intersects with the given
+     * region to the given {@link List}.
+     * <p>
+     * The spatial queries of an {@link EntityCollection} use a {@link SpatialIndex}. Once a spatial query has been
+     * performed, this {@link SpatialIndex} is built once per cycle of the Game Loop, right after collision detection,
+     * and kept until the collision detection of the next cycle. All queries therefore use the bounding boxes as they
+     * were right after the most recent collision detection, regardless of the {@link UpdatePhase} in which they are
+     * performed. Entities that have been added or removed since then are not yet taken into account. Only the very
+     * first query, and the first query after {@link #clear()} or {@link #restoreState(List)}, builds the {@link SpatialIndex}
+     * from the bounding boxes at that moment.
+     * </p>
+     *
+     * @param region the region as {@link Bounds}
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryRegion(final Bounds region, final Class<T> type, final List<? super T> result) {
+        ensureSpatialIndex().queryRect(region.getMinX(), region.getMinY(), region.getMaxX(), region.getMaxY(), type, result);
+    }
+
+    /**
+     * Add all instances of {@link YaegerEntity} of the given type of which the bounding box lies, at least partly,
+     * within the given radius of the given point to the given {@link List}.
+     *
+     * @param center the point as a {@link Coordinate2D}
+     * @param radius the radius
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryRadius(final Coordinate2D center, final double radius, final Class<T> type, final List<? super T> result) {
+        ensureSpatialIndex().queryRadius(center.getX(), center.getY(), radius, type, result);
+    }
+
+    /**
+     * Add at most {@code k} instances of {@link YaegerEntity} of the given type that are nearest to the given point to
+     * the given {@link List}, ordered from near to far. The distance is measured to the centre of the bounding box.
+     *
+     * @param point  the point as a {@link Coordinate2D}
+     * @param k      the maximum number of entities to be added
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryNearest(final Coordinate2D point, final int k, final Class<T> type, final List<? super T> result) {
+        ensureSpatialIndex().nearest(point.getX(), point.getY(), k, type, result);
+    }
+
+    /**
+     * Add the first instance of {@link YaegerEntity} of the given type of which the bounding box is hit by the line
+     * segment between the two given points to the given {@link List}.
+     *
+     * @param from   the start of the line segment as a {@link Coordinate2D}
+     * @param to     the end of the line segment as a {@link Coordinate2D}
+     * @param type   the {@link Class} the entity should be an instance of
+     * @param result the {@link List} to which the entity is added
+     * @param <T>    the type of the entity
+     * @return {@code true} if an entity has been hit
+     */
+    public <T> boolean raycast(final Coordinate2D from, final Coordinate2D to, final Class<T> type, final List<? super T> result) {
+        return ensureSpatialIndex().raycast(from.getX(), from.getY(), to.getX(), to.getY(), type, result);
+    }
+
+    private void updateSpatialIndex() {
+        if (spatialIndexUsed) {
+            buildSpatialIndex();
+        } else {
+            spatialIndexOutdated = true;
+        }
+    }
+
+    private SpatialIndex ensureSpatialIndex() {
+        spatialIndexUsed = true;
+        if (spatialIndexOutdated) {
+            buildSpatialIndex();
+        }
+        return spatialIndex;
+    }
+
+    private void buildSpatialIndex() {
+        spatialIndex.clear();
+        statics.forEach(spatialIndex::add);
+        updatables.forEach(updatable -> {
+            if (updatable instanceof YaegerEntity yaegerEntity) {
+                spatialIndex.add(yaegerEntity);
+            }
+        });
+        sleeping.forEach(updatable -> spatialIndex.add((YaegerEntity) updatable));
+        spatialIndex.build();
+        spatialIndexOutdated = false;
+    }
+
+    /**
+     * Return the location, motion and rotation of all top-level entities, in the order in which they were added.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @return a {@link List} containing an {@link EntityState} for each top-level entity
+     */
+    public List<EntityState> captureState() {
+        final List<EntityState> states = new ArrayList<>(topLevelEntities.size());
+        for (final var entity : topLevelEntities) {
+            final var location = entity.getAnchorLocation();
+            var speed = 0D;
+            var direction = 0D;
+            if (entity instanceof Movable movable) {
+                speed = movable.getMotionApplier().getSpeed();
+                direction = movable.getMotionApplier().getDirection();
+            }
+            // The rotation of the Node is the inverse of the one that is set on the entity
+            final var rotation = entity.getNode().map(node -> 0D - node.getRotate()).orElse(0D);
+            states.add(new EntityState(entity.getClass().getName(), location.getX(), location.getY(), speed, direction, rotation));
+        }
+        return states;
+    }
+
+    /**
+     * Restore the location, motion and rotation of all top-level entities to the given state, as returned by
+     * {@link #captureState()}. Nothing is restored if the given state does not contain exactly one
+     * {@link EntityState} for each top-level entity, of the same type and in the same order.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param states a {@link List} containing an {@link EntityState} for each top-level entity
+     * @return {@code true} if the state has been restored
+     */
+    public boolean restoreState(final List<EntityState> states) {
+        if (states.size() != topLevelEntities.size()) {
+            return false;
+        }
+        for (var i = 0; i < states.size(); i++) {
+            if (!states.get(i).type().equals(topLevelEntities.get(i).getClass().getName())) {
+                return false;
+            }
+        }
+
+        for (var i = 0; i < states.size(); i++) {
+            final var state = states.get(i);
+            final var entity = topLevelEntities.get(i);
+            final var location = new Coordinate2D(state.x(), state.y());
+            entity.setAnchorLocation(location);
+            entity.setRotate(state.rotation());
+            if (entity instanceof Movable movable) {
+                movable.getMotionApplier().setMotion(state.speed(), state.direction());
+            }
+            entity.transferCoordinatesToNode();
+        }
+        spatialIndexOutdated = true;
+        return true;
+    }
+
+    /**
+     * Remember the {@code anchorLocation} of all Dynamic Entities, so {@link #interpolate(double)} can render them in
+     * between this location and the one after the next Game World Update. Any current interpolation offset should be
+     * removed first, using {@link #clearInterpolation()}.
+     */
+    public void captureInterpolationState() {
+        interpolatedCount = 0;
+
+        for (final var updatable : updatables) {
+            if (updatable instanceof YaegerEntity yaegerEntity) {
+                if (interpolatedCount == interpolated.length) {
+                    final var capacity = Math.max(16, interpolatedCount * 2);
+                    interpolated = Arrays.copyOf(interpolated, capacity);
+                    interpolationStates = Arrays.copyOf(interpolationStates, capacity * INTERPOLATION_STATE_SIZE);
+                }
+
+                final var location = yaegerEntity.getAnchorLocation();
+                final var state = interpolatedCount * INTERPOLATION_STATE_SIZE;
+                interpolated[interpolatedCount] = yaegerEntity;
+                interpolationStates[state] = location.getX();
+                interpolationStates[state + 1] = location.getY();
+                interpolationStates[state + 2] = 0;
+                interpolationStates[state + 3] = 0;
+                interpolationStates[state + 4] = Double.NaN;
+                interpolationStates[state + 5] = Double.NaN;
+                interpolatedCount++;
+            }
+        }
+    }
+
+    /**
+     * Render all Dynamic Entities of which the state has been captured by {@link #captureInterpolationState()} in
+     * between that state and their current {@code anchorLocation}. Their {@code anchorLocation} itself is not
+     * changed. A {@link Movable} of which the {@code anchorLocation} has been set directly since the state was
+     * captured, for instance to respawn it, is rendered at its current {@code anchorLocation}, so it does not slide
+     * across the {@link YaegerScene}.
+     *
+     * @param alpha the fraction between {@code 0}, the captured state, and {@code 1}, the current state
+     */
+    public void interpolate(final double alpha) {
+        final var remaining = 1 - Math.min(1, Math.max(0, alpha));
+
+        for (var i = 0; i < interpolatedCount; i++) {
+            final var location = interpolated[i].getAnchorLocation();
+            final var state = i * INTERPOLATION_STATE_SIZE;
+            if (wasPlacedSinceCapture(interpolated[i], state)) {
+                interpolationStates[state] = location.getX();
+                interpolationStates[state + 1] = location.getY();
+            }
+            setInterpolationOffset(i,
+                    (interpolationStates[state] - location.getX()) * remaining,
+                    (interpolationStates[state + 1] - location.getY()) * remaining);
+        }
+    }
+
+    /**
+     * Remove the offsets applied by {@link #interpolate(double)}, so all Dynamic Entities are rendered at their
+     * {@code anchorLocation} again.
+     */
+    public void clearInterpolation() {
+        for (var i = 0; i < interpolatedCount; i++) {
+            setInterpolationOffset(i, 0, 0);
+        }
+    }
+
+    /**
+     * Setting the {@code anchorLocation} of a {@link Movable} directly also sets the previous location of its
+     * {@link com.github.hanyaeger.core.entities.motion.MotionApplier}, while moving it sets that previous location to
+     * the location from before the Game World Update. If that previous location is no longer the captured location,
+     * the {@link Movable} has been placed instead of moved.
+     */
+    private boolean wasPlacedSinceCapture(final YaegerEntity entity, final int state) {
+        if (!(entity instanceof Movable movable) || movable.getMotionApplier() == null) {
+            return false;
+        }
+
+        final var motionApplier = movable.getMotionApplier();
+        return motionApplier.hasPreviousLocation()
+                && (motionApplier.getPreviousX() != interpolationStates[state]
+                || motionApplier.getPreviousY() != interpolationStates[state + 1]);
+    }
+
+    /**
+     * Shift the {@link Node} of an interpolated {@link YaegerEntity} by the given offset, replacing the offset that
+     * was applied earlier. Should the translation of the {@link Node} have been changed since, for instance because
+     * its {@link com.github.hanyaeger.api.AnchorPoint} has been applied again, that earlier offset is already gone.
+     */
+    private void setInterpolationOffset(final int index, final double x, final double y) {
+        final var state = index * INTERPOLATION_STATE_SIZE;
+        if (x == interpolationStates[state + 2] && y == interpolationStates[state + 3]) {
+            return;
+        }
+
+        interpolated[index].getNode().ifPresent(node -> {
+            var translateX = node.getTranslateX();
+            if (translateX == interpolationStates[state + 4]) {
+                translateX -= interpolationStates[state + 2];
+            }
+            var translateY = node.getTranslateY();
+            if (translateY == interpolationStates[state + 5]) {
+                translateY -= interpolationStates[state + 3];
+            }
+
+            node.setTranslateX(translateX + x);
+            node.setTranslateY(translateY + y);
+            interpolationStates[state + 2] = x;
+            interpolationStates[state + 3] = y;
+            interpolationStates[state + 4] = translateX + x;
+            interpolationStates[state + 5] = translateY + y;
+        });
     }
 
     /**
@@ -189,9 +701,21 @@ public class EntityCollection implements Initializable {
     public void clear() {
         clearSuppliers();
         statics.clear();
+        topLevelEntities.clear();
         updatables.clear();
+        sleeping.clear();
+        awakened.clear();
+        sequenceNumbers.clear();
         garbage.clear();
+        recycled.clear();
+        culled.clear();
+        dynamicComposites.clear();
         keyListeners.clear();
+        spatialIndex.clear();
+        spatialIndexOutdated = true;
+        spatialIndexUsed = false;
+        Arrays.fill(interpolated, 0, interpolatedCount, null);
+        interpolatedCount = 0;
 
         if (config.showBoundingBox()) {
             boundingBoxVisualizers.clear();
@@ -200,14 +724,21 @@ public class EntityCollection implements Initializable {
 
     /**
      * Add a Dynamic Entity to this {@link EntityCollection}. By definition, a Dynamic Entity
-     * will implement the {@link Updatable} interface.
+     * will implement the {@link Updatable} interface. The update delegators of a Dynamic Entity that is reused from
+     * a {@link EntityPool} have already been configured.
      *
      * @param dynamicEntity a Dynamic Entity, being an Entity that implements the interface
      *                      {@link Updatable}
      */
     public void addDynamicEntity(final Updatable dynamicEntity) {
-        annotationProcessor.configureUpdateDelegators(dynamicEntity);
+        if (!reactivating) {
+            annotationProcessor.configureUpdateDelegators(dynamicEntity);
+        }
         updatables.add(dynamicEntity);
+        sequenceNumbers.put(dynamicEntity, nextSequenceNumber++);
+        if (dynamicEntity instanceof DynamicCompositeEntity dynamicComposite) {
+            dynamicComposites.add(dynamicComposite);
+        }
     }
 
     /**
@@ -242,6 +773,151 @@ public class EntityCollection implements Initializable {
         }
     }
 
+    private void updatePhase(final long timestamp, final UpdatePhase phase) {
+        final var cullingActive = !culled.isEmpty();
+        for (var i = 0; i < updatables.size(); i++) {
+            final var updatable = updatables.get(i);
+            if (cullingActive && culled.contains(updatable) && !isUpdatedWhileCulled((YaegerEntity) updatable, i)) {
+                continue;
+            }
+
+            if (updatable instanceof UpdateDelegator updateDelegator) {
+                updateDelegator.update(timestamp, phase);
+            } else if (phase == UpdatePhase.DEFAULT) {
+                updatable.update(timestamp);
+            }
+        }
+    }
+
+    /**
+     * The index of the entity is added to the update count, so the culled entities with
+     * {@link OffscreenPolicy#REDUCED_UPDATE} are spread over the Game World Updates, instead of all being updated
+     * during the same Game World Update.
+     */
+    private boolean isUpdatedWhileCulled(final YaegerEntity entity, final int index) {
+        return switch (entity.getOffscreenPolicy()) {
+            case FULL_UPDATE -> true;
+            case REDUCED_UPDATE -> (updateCount + index) % REDUCED_UPDATE_INTERVAL == 0;
+            case FROZEN -> false;
+        };
+    }
+
+    private void cull() {
+        final var maxX = pane.getWidth() + CULLING_MARGIN;
+        final var maxY = pane.getHeight() + CULLING_MARGIN;
+        if (pane.getWidth() <= 0 || pane.getHeight() <= 0) {
+            return;
+        }
+
+        for (final var entity : topLevelEntities) {
+            final var bounds = entity.getBoundingBox();
+            final var outside = bounds.getMaxX() < -CULLING_MARGIN || bounds.getMaxY() < -CULLING_MARGIN
+                    || bounds.getMinX() > maxX || bounds.getMinY() > maxY;
+            if (outside) {
+                cull(entity);
+            } else {
+                uncull(entity);
+            }
+        }
+    }
+
+    private void cull(final YaegerEntity entity) {
+        if (culled.add(entity)) {
+            entity.getNode().ifPresent(Culling::cull);
+        }
+    }
+
+    private void uncull(final YaegerEntity entity) {
+        if (culled.remove(entity)) {
+            entity.getNode().ifPresent(Culling::uncull);
+        }
+    }
+
+    /**
+     * Return whether the given {@link YaegerEntity} has been culled, because it is outside the visible area of the
+     * {@link Pane}.
+     *
+     * @param entity the {@link YaegerEntity}
+     * @return {@code true} if the {@link YaegerEntity} has been culled
+     */
+    boolean isCulled(final YaegerEntity entity) {
+        return culled.contains(entity);
+    }
+
+    private boolean putToSleepIfIdle(final Updatable updatable) {
+        if (!isIdle(updatable)) {
+            return false;
+        }
+
+        final var entity = (YaegerEntity) updatable;
+        if (entity instanceof Movable movable) {
+            // The location is no longer updated, so the previous location should be the current one
+            movable.getMotionApplier().setPreviousLocation(entity.getAnchorLocation().getX(), entity.getAnchorLocation().getY());
+            movable.getMotionApplier().setWakeUpHandler(entity::wakeUp);
+        }
+        ((UpdateDelegator) updatable).getUpdater().setWakeUpHandler(() -> awakened.add(updatable));
+        sleeping.add(updatable);
+        return true;
+    }
+
+    private static boolean isIdle(final Updatable updatable) {
+        if (!(updatable instanceof YaegerEntity yaegerEntity) || !(updatable instanceof UpdateDelegator updateDelegator)
+                || updatable instanceof DynamicCompositeEntity || updatable instanceof UpdateExposer
+                || updatable instanceof SceneBorderTouchingWatcher || updatable instanceof SceneBorderCrossingWatcher) {
+            return false;
+        }
+        if (updateDelegator.getUpdater() == null || updateDelegator.getUpdater().hasCustomUpdatables()) {
+            return false;
+        }
+        if (updatable instanceof Movable movable
+                && (movable.getMotionApplier() == null || Double.compare(movable.getSpeed(), 0D) != 0)) {
+            return false;
+        }
+        if (updatable instanceof Newtonian newtonian && Double.compare(newtonian.getGravityConstant(), 0D) != 0) {
+            return false;
+        }
+        if (updatable instanceof ContinuousRotatable rotatable && Double.compare(rotatable.getRotationSpeed(), 0D) != 0) {
+            return false;
+        }
+        if (updatable instanceof DynamicSpriteEntity sprite && sprite.isAutoCycling()) {
+            return false;
+        }
+        for (final var timer : yaegerEntity.getTimers()) {
+            if (!timer.isGarbage()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The awakened entities are merged into the Dynamic Entities by the order in which they were added, so they are
+     * updated at the same position as before they were put to sleep.
+     */
+    private void addAwakenedEntities() {
+        if (awakened.isEmpty()) {
+            return;
+        }
+
+        sleeping.removeIf(updatable -> !((UpdateDelegator) updatable).getUpdater().isAsleep());
+        awakened.sort(Comparator.comparing(sequenceNumbers::get));
+
+        var next = 0;
+        for (final var updatable : updatables) {
+            final var sequenceNumber = sequenceNumbers.get(updatable);
+            while (next < awakened.size() && sequenceNumbers.get(awakened.get(next)) < sequenceNumber) {
+                merged.add(awakened.get(next++));
+            }
+            merged.add(updatable);
+        }
+        merged.addAll(awakened.subList(next, awakened.size()));
+
+        updatables.clear();
+        updatables.addAll(merged);
+        merged.clear();
+        awakened.clear();
+    }
+
     private void notifyStatisticsObservers() {
         statisticsObservers.forEach(statisticsObserver -> statisticsObserver.update(statistics));
     }
@@ -251,18 +927,45 @@ public class EntityCollection implements Initializable {
             return;
         }
 
-        garbage.forEach(this::removeGameObject);
-        statics.removeAll(garbage);
-        updatables.removeAll(garbage);
+        // The lookup is based on identity and contains both the entities and their nodes, so each collection can be
+        // compacted in a single pass, while retaining the order of the remaining elements
+        for (final var entity : garbage) {
+            if (garbageLookup.add(entity)) {
+                uncull(entity);
+                entity.getNode().ifPresent(garbageLookup::add);
+                entity.applyEntityProcessor(this::removeFromCollections);
+            }
+        }
+
+        pane.getChildren().removeAll(garbageLookup);
+        statics.removeIf(garbageLookup::contains);
+        topLevelEntities.removeIf(garbageLookup::contains);
+        updatables.removeIf(garbageLookup::contains);
+        dynamicComposites.removeIf(garbageLookup::contains);
+        sleeping.removeIf(garbageLookup::contains);
+        awakened.removeIf(garbageLookup::contains);
+        keyListeners.removeIf(garbageLookup::contains);
         if (config.showBoundingBox()) {
-            boundingBoxVisualizers.removeAll(garbage);
+            boundingBoxVisualizers.removeIf(garbageLookup::contains);
+        }
+
+        for (final var entity : garbage) {
+            if (!recycled.contains(entity) && EntityPool.recycle(entity)) {
+                recycled.add(entity);
+            }
         }
+
+        garbageLookup.clear();
         garbage.clear();
     }
 
-    private void removeGameObject(final Removable entity) {
-        entity.getNode().ifPresent(node -> this.pane.getChildren().remove(node));
-        this.collisionDelegate.remove(entity);
+    private void removeFromCollections(final YaegerEntity entity) {
+        garbageLookup.add(entity);
+        if (entity instanceof UpdateDelegator updateDelegator && updateDelegator.getUpdater() != null) {
+            updateDelegator.getUpdater().setWakeUpHandler(null);
+        }
+        sequenceNumbers.remove(entity);
+        collisionDelegate.remove(entity);
     }
 
     private void addSuppliedEntities() {
@@ -273,9 +976,24 @@ public class EntityCollection implements Initializable {
         if (config.showBoundingBox() && !boundingBoxVisualizerSupplier.isEmpty()) {
             boundingBoxVisualizerSupplier.get().forEach(this::initialize);
         }
+
+        if (!nodesToAdd.isEmpty()) {
+            pane.getChildren().addAll(nodesToAdd);
+            nodesToAdd.clear();
+        }
+
+        if (!entitiesToActivate.isEmpty()) {
+            entitiesToActivate.forEach(entity -> entity.applyEntityProcessor(yaegerEntity -> annotationProcessor.invokeActivators(yaegerEntity)));
+            entitiesToActivate.clear();
+        }
     }
 
     private void initialize(final YaegerEntity entity) {
+        if (recycled.remove(entity)) {
+            reactivate(entity);
+            return;
+        }
+
         entity.beforeInitialize();
 
         entity.applyEntityProcessor(yaegerEntity -> injector.injectMembers(yaegerEntity));
@@ -287,14 +1005,41 @@ public class EntityCollection implements Initializable {
         entity.applyTranslationsForAnchorPoint();
 
         entity.applyEntityProcessor(this::registerIfKeyListener);
-        entity.applyEntityProcessor(this::registerIfCollider);
+        entity.applyEntityProcessor(yaegerEntity -> registerIfCollider(yaegerEntity, entity));
         entity.addToParent(this::addToParentNode);
+        topLevelEntities.add(entity);
+
+        // The activators are invoked after all supplied entities have been added to the Pane
+        entitiesToActivate.add(entity);
+    }
+
+    /**
+     * A {@link YaegerEntity} that was returned to its {@link EntityPool} still has
+     * its {@link Node}, injected members and event listeners, so it only needs to be registered and placed again.
+     * Since {@link YaegerEntity#remove()} has hidden its {@link Node}, it is also made visible again.
+     */
+    private void reactivate(final YaegerEntity entity) {
+        reactivating = true;
+        entity.applyEntityProcessor(yaegerEntity -> yaegerEntity.addToEntityCollection(this));
+        reactivating = false;
+
+        topLevelEntities.add(entity);
+        entity.setVisible(true);
+        entity.transferCoordinatesToNode();
+        entity.applyTranslationsForAnchorPoint();
 
-        entity.applyEntityProcessor(yaegerEntity -> annotationProcessor.invokeActivators(yaegerEntity));
+        entity.applyEntityProcessor(this::registerIfKeyListener);
+        entity.applyEntityProcessor(yaegerEntity -> registerIfCollider(yaegerEntity, entity));
+        addToParentNode(entity);
     }
 
-    private void registerIfCollider(final YaegerEntity yaegerEntity) {
-        final var collider = collisionDelegate.register(yaegerEntity);
+    private void registerIfCollider(final YaegerEntity yaegerEntity, final YaegerEntity topLevelEntity) {
+        final boolean collider;
+        if (yaegerEntity != topLevelEntity && topLevelEntity instanceof CompositeEntity composite) {
+            collider = collisionDelegate.register(yaegerEntity, composite);
+        } else {
+            collider = collisionDelegate.register(yaegerEntity, yaegerEntity == topLevelEntity);
+        }
 
         if (collider && config.showBoundingBox()) {
             boundingBoxVisualizerSupplier.add(new BoundingBoxVisualizer(yaegerEntity));
@@ -308,11 +1053,12 @@ public class EntityCollection implements Initializable {
     }
 
     private void addToParentNode(final YaegerEntity entity) {
-        entity.getNode().ifPresent(node -> this.pane.getChildren().add(node));
+        entity.getNode().ifPresent(nodesToAdd::add);
     }
 
     private void updateStatistics() {
-        statistics.setUpdatables(updatables.size());
+        statistics.setUpdatables(updatables.size() + sleeping.size());
+        statistics.setSleeping(sleeping.size());
         statistics.setStatics(statics.size());
         statistics.setGarbage(garbage.size());
         statistics.setKeyListeners(keyListeners.size());
@@ -334,6 +1080,22 @@ public class EntityCollection implements Initializable {
         this.annotationProcessor = annotationProcessor;
     }
 
+    /**
+     * Set the {@link UpdateProfiler} that is used to measure the parts of the Game World Update, when profiling is
+     * enabled.
+     *
+     * @param profiler the {@link UpdateProfiler} to be used
+     */
+    @Inject
+    public void setProfiler(final UpdateProfiler profiler) {
+        this.profiler = profiler;
+        this.statistics.setProfiler(profiler);
+        this.garbageHistogram = profiler.getHistogram(PROFILE_GARBAGE);
+        this.updatablesHistogram = profiler.getHistogram(PROFILE_UPDATABLES);
+        this.collisionsHistogram = profiler.getHistogram(PROFILE_COLLISIONS);
+        this.suppliersHistogram = profiler.getHistogram(PROFILE_SUPPLIERS);
+    }
+
     /**
      * Set the {@link EntitySupplier} that should be used for the bounding-box visualizers.
      *
@@ -1,5 +1,10 @@
 package com.github.hanyaeger.core.entities;
 
+import com.github.hanyaeger.core.profiling.UpdateProfile;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
+
+import java.util.List;
+
 /**
  * An {@code EntityCollectionStatistics} is a DTO (Data Transfer Object) that contains
  * all current values from an {@link EntityCollection}.
@@ -8,9 +13,11 @@ class EntityCollectionStatistics {
 
     private int spawners;
     private int updatables;
+    private int sleeping;
     private int keyListeners;
     private int garbage;
     private int statics;
+    private UpdateProfiler profiler;
 
     void setSuppliers(final int spawners) {
         this.spawners = spawners;
@@ -24,6 +31,10 @@ class EntityCollectionStatistics {
         this.updatables = updatables;
     }
 
+    void setSleeping(final int sleeping) {
+        this.sleeping = sleeping;
+    }
+
     void setKeyListeners(final int keyListeners) {
         this.keyListeners = keyListeners;
     }
@@ -32,6 +43,10 @@ class EntityCollectionStatistics {
         this.garbage = garbage;
     }
 
+    void setProfiler(final UpdateProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     int getSuppliers() {
         return spawners;
     }
@@ -44,6 +59,10 @@ class EntityCollectionStatistics {
         return updatables;
     }
 
+    int getSleeping() {
+        return sleeping;
+    }
+
     int getKeyListeners() {
         return keyListeners;
     }
@@ -51,4 +70,18 @@ class EntityCollectionStatistics {
     int getGarbage() {
         return garbage;
     }
+
+    /**
+     * Return the slowest parts of the Game World Update, as measured by the {@link UpdateProfiler}. These are only
+     * computed when this method is called, so sorting the measurements does not add to each Game World Update.
+     *
+     * @return the slowest instances of {@link UpdateProfile}, or an empty {@link List} if profiling is disabled
+     */
+    List<UpdateProfile> getSlowest() {
+        if (profiler == null || !profiler.isEnabled()) {
+            return List.of();
+        }
+
+        return profiler.getSlowest(UpdateProfiler.DEFAULT_REPORT_SIZE);
+    }
 }
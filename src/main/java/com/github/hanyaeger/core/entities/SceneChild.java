@@ -1,6 +1,8 @@
 package com.github.hanyaeger.core.entities;
 
 import com.github.hanyaeger.api.scenes.YaegerScene;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
 
 /**
  * A {@link SceneChild} is part of a {@link YaegerScene}
@@ -11,21 +13,31 @@ public interface SceneChild extends GameNode {
 
     /**
      * Return the width of the {@link javafx.scene.Scene} that this {@code Entity}
-     * is part of.
+     * is part of. For a headless {@link YaegerScene}, which has no {@link javafx.scene.Scene}, the width of its root
+     * is returned.
      *
      * @return the width of this {@link YaegerScene} as a {@code double}
      */
     default double getSceneWidth() {
-        return getNode().map(node -> node.getScene().getWidth()).orElse(0D);
+        return getNode().map(node -> node.getScene() != null ? node.getScene().getWidth() : getRootBounds(node).getWidth()).orElse(0D);
     }
 
     /**
      * Return the height of the {@link javafx.scene.Scene} that this {@code Entity}
-     * is part of.
+     * is part of. For a headless {@link YaegerScene}, which has no {@link javafx.scene.Scene}, the height of its root
+     * is returned.
      *
      * @return the height of this {@link YaegerScene} as a {@code double}
      */
     default double getSceneHeight() {
-        return getNode().map(node -> node.getScene().getHeight()).orElse(0D);
+        return getNode().map(node -> node.getScene() != null ? node.getScene().getHeight() : getRootBounds(node).getHeight()).orElse(0D);
+    }
+
+    private static Bounds getRootBounds(final Node node) {
+        var root = node;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        return root.getLayoutBounds();
     }
 }
@@ -63,6 +63,7 @@ public abstract class ShapeEntity<T extends Shape> extends YaegerEntity {
      */
     public void setStrokeWidth(final double strokeWidth) {
         shape.ifPresentOrElse(s -> s.setStrokeWidth(strokeWidth), () -> this.strokeWidth = Optional.of(strokeWidth));
+        markAsTransformed();
     }
 
     /**
@@ -105,6 +105,15 @@ public class SpriteAnimationDelegate implements Updatable {
         applyNewCurrentIndex(row);
     }
 
+    /**
+     * Return whether this {@link SpriteAnimationDelegate} automatically cycles through its frames.
+     *
+     * @return {@code true} if an auto-cycle interval has been set
+     */
+    public boolean isAutoCycling() {
+        return autoCycleInterval != 0;
+    }
+
     private void applyNewCurrentIndex(final int row) {
         if (row != -1) {
             currentIndex = cyclingRow * columns;
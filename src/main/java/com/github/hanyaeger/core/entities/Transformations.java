@@ -0,0 +1,69 @@
+package com.github.hanyaeger.core.entities;
+
+import com.github.hanyaeger.api.entities.YaegerEntity;
+
+/**
+ * {@link Transformations} keeps track of when a {@link YaegerEntity} has been transformed for the last time, meaning
+ * that its location, rotation, dimensions or {@link com.github.hanyaeger.api.AnchorPoint} changed. Each
+ * transformation is stamped with the next value of a single clock, so a {@link YaegerEntity} has not been transformed
+ * since a given moment if its stamp is not later than the value the clock had at that moment.
+ * <p>
+ * The stamp itself is kept by the {@link YaegerEntity}, which registers the instance of {@link Transformations}
+ * through which it can be read. This keeps it out of the public API of {@link YaegerEntity}.
+ */
+public abstract class Transformations {
+
+    private static long clock;
+    private static Transformations access;
+
+    /**
+     * Return a new stamp, which is later than all stamps that have been returned before.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a
+     * {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @return the new stamp
+     */
+    public static long stamp() {
+        return ++clock;
+    }
+
+    /**
+     * Set the instance of {@link Transformations} through which the stamp of a {@link YaegerEntity} is read.
+     * <p>
+     * <b>Note that this method is for internal use only and should not be used when creating a
+     * {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param transformations the instance of {@link Transformations}
+     */
+    public static void setAccess(final Transformations transformations) {
+        access = transformations;
+    }
+
+    /**
+     * Return the current value of the clock, being the latest stamp that has been returned.
+     *
+     * @return the current value of the clock
+     */
+    static long now() {
+        return clock;
+    }
+
+    /**
+     * Return the stamp of the last transformation of the given {@link YaegerEntity}.
+     *
+     * @param entity the {@link YaegerEntity}
+     * @return the stamp of its last transformation
+     */
+    static long getStamp(final YaegerEntity entity) {
+        return access.getTransformationStamp(entity);
+    }
+
+    /**
+     * Return the stamp of the last transformation of the given {@link YaegerEntity}.
+     *
+     * @param entity the {@link YaegerEntity}
+     * @return the stamp of its last transformation
+     */
+    protected abstract long getTransformationStamp(final YaegerEntity entity);
+}
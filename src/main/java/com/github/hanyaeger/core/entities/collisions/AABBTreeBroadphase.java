@@ -0,0 +1,471 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.Bounds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link AABBTreeBroadphase} stores all instances of {@link Collider} in a dynamic bounding volume hierarchy: a
+ * balanced binary tree of which each leaf contains the bounding box of a single {@link Collider} and each internal
+ * node contains the union of the bounding boxes of its children. Finding the candidates for a {@link Collided} only
+ * visits those branches that overlap with it, which works well for scenes that mix very large and very small
+ * entities.
+ * <p>
+ * The bounding box stored in a leaf is fattened by a margin. As long as the actual bounding box of a {@link Collider}
+ * stays within its fattened bounding box, the tree does not need to be changed. Only entities that moved beyond that
+ * margin are reinserted during {@link #update()}. Registering and removing a {@link Collider} take logarithmic time.
+ */
+public class AABBTreeBroadphase implements Broadphase {
+
+    /**
+     * The margin in pixels with which the bounding boxes are fattened when none is provided.
+     */
+    public static final double DEFAULT_MARGIN = 8D;
+
+    private static final int NULL_NODE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long MAX_SEQUENCE = 0xFFFFFFFFL;
+    private static final long NODE_MASK = 0x7FFFFFFFL;
+
+    private final double margin;
+
+    private int root = NULL_NODE;
+    private int freeList = NULL_NODE;
+
+    private double[] minX = new double[0];
+    private double[] minY = new double[0];
+    private double[] maxX = new double[0];
+    private double[] maxY = new double[0];
+    private int[] parent = new int[0];
+    private int[] child1 = new int[0];
+    private int[] child2 = new int[0];
+    private int[] height = new int[0];
+    private Collider[] colliders = new Collider[0];
+    private long[] sequences = new long[0];
+    private int[] leafSlots = new int[0];
+
+    private final Map<Collider, Integer> leafOfCollider = new HashMap<>();
+    private int[] leaves = new int[INITIAL_CAPACITY];
+    private int leafCount;
+    private long nextSequence;
+
+    private int[] stack = new int[INITIAL_CAPACITY];
+    private long[] found = new long[INITIAL_CAPACITY];
+    private final List<Collider> candidates = new ArrayList<>();
+
+    /**
+     * Create a new {@link AABBTreeBroadphase} that uses the {@link #DEFAULT_MARGIN}.
+     */
+    public AABBTreeBroadphase() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Create a new {@link AABBTreeBroadphase} that fattens all bounding boxes with the given margin.
+     *
+     * @param margin the margin in pixels, which should not be negative
+     */
+    public AABBTreeBroadphase(final double margin) {
+        if (margin < 0 || Double.isNaN(margin)) {
+            throw new IllegalArgumentException("The margin of an AABB tree should not be negative, but was " + margin);
+        }
+        this.margin = margin;
+        growNodes(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void register(final Collider collider) {
+        if (leafOfCollider.containsKey(collider)) {
+            return;
+        }
+
+        if (nextSequence > MAX_SEQUENCE) {
+            renumberSequences();
+        }
+
+        final var leaf = allocateNode();
+        colliders[leaf] = collider;
+        sequences[leaf] = nextSequence++;
+        setFattenedBounds(leaf, collider.getBoundingBox());
+        insertLeaf(leaf);
+
+        if (leafCount == leaves.length) {
+            leaves = Arrays.copyOf(leaves, leafCount * 2);
+        }
+        leafSlots[leaf] = leafCount;
+        leaves[leafCount++] = leaf;
+        leafOfCollider.put(collider, leaf);
+    }
+
+    @Override
+    public void remove(final Collider collider) {
+        final var leaf = leafOfCollider.remove(collider);
+        if (leaf == null) {
+            return;
+        }
+
+        removeLeaf(leaf);
+
+        final var slot = leafSlots[leaf];
+        final var lastLeaf = leaves[--leafCount];
+        leaves[slot] = lastLeaf;
+        leafSlots[lastLeaf] = slot;
+
+        freeNode(leaf);
+    }
+
+    /**
+     * Reinsert all instances of {@link Collider} that have moved beyond their fattened bounding box.
+     */
+    @Override
+    public void update() {
+        for (var i = 0; i < leafCount; i++) {
+            final var leaf = leaves[i];
+            final var bounds = colliders[leaf].getBoundingBox();
+
+            if (bounds == null || contains(leaf, bounds)) {
+                continue;
+            }
+
+            removeLeaf(leaf);
+            setFattenedBounds(leaf, bounds);
+            insertLeaf(leaf);
+        }
+    }
+
+    @Override
+    public List<Collider> getCandidates(final Collided collided) {
+        candidates.clear();
+
+        final var bounds = Broadphase.getQueryBounds(collided);
+        if (bounds == null || root == NULL_NODE) {
+            return candidates;
+        }
+
+        final var foundCount = query(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+
+        // Each found leaf is packed together with its sequence, so sorting restores the registration order
+        Arrays.sort(found, 0, foundCount);
+        for (var i = 0; i < foundCount; i++) {
+            candidates.add(colliders[(int) (found[i] & NODE_MASK)]);
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Return the height of the tree, which is {@code 0} for an empty tree or a tree containing a single leaf.
+     *
+     * @return the height of the tree as an {@code int}
+     */
+    int getHeight() {
+        return root == NULL_NODE ? 0 : height[root];
+    }
+
+    private int query(final double queryMinX, final double queryMinY, final double queryMaxX, final double queryMaxY) {
+        var foundCount = 0;
+        var stackSize = 0;
+        stack[stackSize++] = root;
+
+        while (stackSize > 0) {
+            final var node = stack[--stackSize];
+
+            if (minX[node] > queryMaxX || maxX[node] < queryMinX || minY[node] > queryMaxY || maxY[node] < queryMinY) {
+                continue;
+            }
+
+            if (isLeaf(node)) {
+                if (foundCount == found.length) {
+                    found = Arrays.copyOf(found, foundCount * 2);
+                }
+                found[foundCount++] = (sequences[node] << 31) | node;
+            } else {
+                if (stackSize + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[stackSize++] = child1[node];
+                stack[stackSize++] = child2[node];
+            }
+        }
+        return foundCount;
+    }
+
+    private void insertLeaf(final int leaf) {
+        if (root == NULL_NODE) {
+            root = leaf;
+            parent[root] = NULL_NODE;
+            return;
+        }
+
+        final var sibling = findBestSibling(leaf);
+
+        final var oldParent = parent[sibling];
+        final var newParent = allocateNode();
+        parent[newParent] = oldParent;
+        setUnion(newParent, leaf, sibling);
+        height[newParent] = height[sibling] + 1;
+
+        if (oldParent == NULL_NODE) {
+            root = newParent;
+        } else if (child1[oldParent] == sibling) {
+            child1[oldParent] = newParent;
+        } else {
+            child2[oldParent] = newParent;
+        }
+
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+
+        refit(parent[leaf]);
+    }
+
+    /**
+     * Descend the tree to find the sibling for which adding the given leaf increases the total perimeter of all
+     * internal nodes the least.
+     */
+    private int findBestSibling(final int leaf) {
+        var index = root;
+
+        while (!isLeaf(index)) {
+            final var perimeter = perimeter(index);
+            final var combinedPerimeter = unionPerimeter(index, leaf);
+
+            final var cost = 2 * combinedPerimeter;
+            final var inheritanceCost = 2 * (combinedPerimeter - perimeter);
+
+            final var cost1 = descendCost(child1[index], leaf) + inheritanceCost;
+            final var cost2 = descendCost(child2[index], leaf) + inheritanceCost;
+
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+
+            index = cost1 < cost2 ? child1[index] : child2[index];
+        }
+        return index;
+    }
+
+    private double descendCost(final int child, final int leaf) {
+        if (isLeaf(child)) {
+            return unionPerimeter(child, leaf);
+        }
+        return unionPerimeter(child, leaf) - perimeter(child);
+    }
+
+    private void removeLeaf(final int leaf) {
+        if (leaf == root) {
+            root = NULL_NODE;
+            return;
+        }
+
+        final var oldParent = parent[leaf];
+        final var grandParent = parent[oldParent];
+        final var sibling = child1[oldParent] == leaf ? child2[oldParent] : child1[oldParent];
+
+        if (grandParent == NULL_NODE) {
+            root = sibling;
+            parent[sibling] = NULL_NODE;
+        } else {
+            if (child1[grandParent] == oldParent) {
+                child1[grandParent] = sibling;
+            } else {
+                child2[grandParent] = sibling;
+            }
+            parent[sibling] = grandParent;
+            refit(grandParent);
+        }
+
+        freeNode(oldParent);
+    }
+
+    /**
+     * Walk up the tree from the given node, rebalancing and recomputing the bounding boxes and heights.
+     */
+    private void refit(final int node) {
+        var index = node;
+
+        while (index != NULL_NODE) {
+            index = balance(index);
+
+            final var left = child1[index];
+            final var right = child2[index];
+
+            height[index] = 1 + Math.max(height[left], height[right]);
+            setUnion(index, left, right);
+
+            index = parent[index];
+        }
+    }
+
+    /**
+     * Perform a left or right rotation if the subtree rooted at the given node is imbalanced.
+     *
+     * @return the index of the root of the (possibly rotated) subtree
+     */
+    private int balance(final int a) {
+        if (isLeaf(a) || height[a] < 2) {
+            return a;
+        }
+
+        final var b = child1[a];
+        final var c = child2[a];
+        final var balance = height[c] - height[b];
+
+        if (balance > 1) {
+            rotateUp(a, c, b, false);
+            return c;
+        }
+
+        if (balance < -1) {
+            rotateUp(a, b, c, true);
+            return b;
+        }
+
+        return a;
+    }
+
+    /**
+     * Rotate the given child up, so it replaces its parent {@code a}. The highest grandchild of {@code a} stays
+     * with the promoted child, while the other grandchild moves to {@code a}.
+     */
+    private void rotateUp(final int a, final int promoted, final int other, final boolean promotedIsLeft) {
+        final var f = child1[promoted];
+        final var g = child2[promoted];
+
+        child1[promoted] = a;
+        parent[promoted] = parent[a];
+        parent[a] = promoted;
+
+        if (parent[promoted] == NULL_NODE) {
+            root = promoted;
+        } else if (child1[parent[promoted]] == a) {
+            child1[parent[promoted]] = promoted;
+        } else {
+            child2[parent[promoted]] = promoted;
+        }
+
+        final var kept = height[f] > height[g] ? f : g;
+        final var moved = kept == f ? g : f;
+
+        child2[promoted] = kept;
+        if (promotedIsLeft) {
+            child1[a] = moved;
+        } else {
+            child2[a] = moved;
+        }
+        parent[moved] = a;
+
+        setUnion(a, other, moved);
+        height[a] = 1 + Math.max(height[other], height[moved]);
+
+        setUnion(promoted, a, kept);
+        height[promoted] = 1 + Math.max(height[a], height[kept]);
+    }
+
+    private boolean contains(final int node, final Bounds bounds) {
+        return minX[node] <= bounds.getMinX() && minY[node] <= bounds.getMinY()
+                && maxX[node] >= bounds.getMaxX() && maxY[node] >= bounds.getMaxY();
+    }
+
+    private void setFattenedBounds(final int node, final Bounds bounds) {
+        if (bounds == null) {
+            minX[node] = 0;
+            minY[node] = 0;
+            maxX[node] = 0;
+            maxY[node] = 0;
+        } else {
+            minX[node] = bounds.getMinX() - margin;
+            minY[node] = bounds.getMinY() - margin;
+            maxX[node] = bounds.getMaxX() + margin;
+            maxY[node] = bounds.getMaxY() + margin;
+        }
+    }
+
+    private void setUnion(final int target, final int a, final int b) {
+        minX[target] = Math.min(minX[a], minX[b]);
+        minY[target] = Math.min(minY[a], minY[b]);
+        maxX[target] = Math.max(maxX[a], maxX[b]);
+        maxY[target] = Math.max(maxY[a], maxY[b]);
+    }
+
+    private double perimeter(final int node) {
+        return 2 * ((maxX[node] - minX[node]) + (maxY[node] - minY[node]));
+    }
+
+    private double unionPerimeter(final int a, final int b) {
+        final var width = Math.max(maxX[a], maxX[b]) - Math.min(minX[a], minX[b]);
+        final var heightOfUnion = Math.max(maxY[a], maxY[b]) - Math.min(minY[a], minY[b]);
+        return 2 * (width + heightOfUnion);
+    }
+
+    private boolean isLeaf(final int node) {
+        return child1[node] == NULL_NODE;
+    }
+
+    private int allocateNode() {
+        if (freeList == NULL_NODE) {
+            growNodes(parent.length * 2);
+        }
+
+        final var node = freeList;
+        freeList = parent[node];
+
+        parent[node] = NULL_NODE;
+        child1[node] = NULL_NODE;
+        child2[node] = NULL_NODE;
+        height[node] = 0;
+        return node;
+    }
+
+    private void freeNode(final int node) {
+        colliders[node] = null;
+        parent[node] = freeList;
+        freeList = node;
+    }
+
+    private void growNodes(final int capacity) {
+        final var oldCapacity = parent.length;
+
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        child1 = Arrays.copyOf(child1, capacity);
+        child2 = Arrays.copyOf(child2, capacity);
+        height = Arrays.copyOf(height, capacity);
+        colliders = Arrays.copyOf(colliders, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        leafSlots = Arrays.copyOf(leafSlots, capacity);
+
+        for (var node = capacity - 1; node >= oldCapacity; node--) {
+            parent[node] = freeList;
+            freeList = node;
+        }
+    }
+
+    /**
+     * Sequences are packed in 32 bits when sorting the candidates. When they run out, all leaves are renumbered
+     * while preserving their order.
+     */
+    private void renumberSequences() {
+        final var packed = new long[leafCount];
+        for (var i = 0; i < leafCount; i++) {
+            packed[i] = (sequences[leaves[i]] << 31) | leaves[i];
+        }
+        Arrays.sort(packed);
+
+        for (var i = 0; i < leafCount; i++) {
+            sequences[(int) (packed[i] & NODE_MASK)] = i;
+        }
+        nextSequence = leafCount;
+    }
+}
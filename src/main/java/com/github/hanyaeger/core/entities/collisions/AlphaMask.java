@@ -0,0 +1,179 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.PixelReader;
+
+/**
+ * An {@link AlphaMask} contains, for each pixel of an image or a region of an image, whether that pixel is opaque.
+ * The pixels are packed into {@code long} values, 64 per value, so two instances of {@link AlphaMask} can be
+ * tested for overlap using bitwise AND operations on a complete row at once.
+ * <p>
+ * A pixel is considered opaque when its alpha value exceeds {@link #ALPHA_THRESHOLD}.
+ */
+public class AlphaMask {
+
+    /**
+     * The alpha value, between {@code 0} and {@code 255}, above which a pixel is considered to be opaque.
+     */
+    public static final int ALPHA_THRESHOLD = 127;
+
+    private static final int WORD_SIZE = Long.SIZE;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    /**
+     * Create a new {@link AlphaMask} for the given region of the pixels provided by the {@link PixelReader}.
+     *
+     * @param pixelReader the {@link PixelReader} that provides the pixels
+     * @param region      the region, as a {@link Rectangle2D}, of which the {@link AlphaMask} should be created
+     */
+    public AlphaMask(final PixelReader pixelReader, final Rectangle2D region) {
+        this.width = (int) region.getWidth();
+        this.height = (int) region.getHeight();
+        this.wordsPerRow = (width + WORD_SIZE - 1) / WORD_SIZE;
+        this.bits = new long[wordsPerRow * height];
+
+        final var offsetX = (int) region.getMinX();
+        final var offsetY = (int) region.getMinY();
+
+        for (var y = 0; y < height; y++) {
+            for (var x = 0; x < width; x++) {
+                final var alpha = pixelReader.getArgb(offsetX + x, offsetY + y) >>> 24;
+                if (alpha > ALPHA_THRESHOLD) {
+                    bits[y * wordsPerRow + x / WORD_SIZE] |= 1L << (x % WORD_SIZE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the width of this {@link AlphaMask} in pixels.
+     *
+     * @return the width as an {@code int}
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Return the height of this {@link AlphaMask} in pixels.
+     *
+     * @return the height as an {@code int}
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Return whether the pixel at the given location is opaque.
+     *
+     * @param x the x-coordinate of the pixel
+     * @param y the y-coordinate of the pixel
+     * @return {@code true} if the pixel is opaque, {@code false} if it is transparent or outside this {@link AlphaMask}
+     */
+    public boolean isOpaque(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + x / WORD_SIZE] & (1L << (x % WORD_SIZE))) != 0;
+    }
+
+    /**
+     * Return whether any opaque pixel of this {@link AlphaMask} overlaps with an opaque pixel of the other
+     * {@link AlphaMask}, when the top-left corner of the other {@link AlphaMask} is placed at the given offset.
+     *
+     * @param other   the other {@link AlphaMask}
+     * @param offsetX the horizontal offset of the other {@link AlphaMask}, relative to this {@link AlphaMask}
+     * @param offsetY the vertical offset of the other {@link AlphaMask}, relative to this {@link AlphaMask}
+     * @return {@code true} if at least one pair of opaque pixels overlaps
+     */
+    public boolean overlaps(final AlphaMask other, final int offsetX, final int offsetY) {
+        final var minX = Math.max(0, offsetX);
+        final var maxX = Math.min(width, offsetX + other.width);
+        final var minY = Math.max(0, offsetY);
+        final var maxY = Math.min(height, offsetY + other.height);
+
+        if (minX >= maxX || minY >= maxY) {
+            return false;
+        }
+
+        final var firstWord = minX / WORD_SIZE;
+        final var lastWord = (maxX - 1) / WORD_SIZE;
+
+        for (var y = minY; y < maxY; y++) {
+            final var row = y * wordsPerRow;
+            final var otherY = y - offsetY;
+
+            for (var word = firstWord; word <= lastWord; word++) {
+                final var thisBits = bits[row + word];
+                if (thisBits != 0 && (thisBits & other.extractWord(otherY, word * WORD_SIZE - offsetX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return whether any opaque pixel of this {@link AlphaMask} lies within the given rectangle. The rectangle is
+     * relative to this {@link AlphaMask}, and includes its minimum and excludes its maximum coordinates.
+     *
+     * @param rectangleMinX the minimal x-coordinate of the rectangle
+     * @param rectangleMinY the minimal y-coordinate of the rectangle
+     * @param rectangleMaxX the maximal x-coordinate of the rectangle
+     * @param rectangleMaxY the maximal y-coordinate of the rectangle
+     * @return {@code true} if at least one opaque pixel lies within the rectangle
+     */
+    public boolean overlaps(final int rectangleMinX, final int rectangleMinY, final int rectangleMaxX, final int rectangleMaxY) {
+        final var minX = Math.max(0, rectangleMinX);
+        final var maxX = Math.min(width, rectangleMaxX);
+        final var minY = Math.max(0, rectangleMinY);
+        final var maxY = Math.min(height, rectangleMaxY);
+
+        if (minX >= maxX || minY >= maxY) {
+            return false;
+        }
+
+        final var firstWord = minX / WORD_SIZE;
+        final var lastWord = (maxX - 1) / WORD_SIZE;
+
+        for (var y = minY; y < maxY; y++) {
+            final var row = y * wordsPerRow;
+
+            for (var word = firstWord; word <= lastWord; word++) {
+                final var wordStart = word * WORD_SIZE;
+                final var from = Math.max(minX, wordStart) - wordStart;
+                final var to = Math.min(maxX, wordStart + WORD_SIZE) - wordStart;
+                final var range = (to == WORD_SIZE ? -1L : (1L << to) - 1) & (-1L << from);
+
+                if ((bits[row + word] & range) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the 64 pixels of the given row, starting at the given x-coordinate, packed into a single {@code long}.
+     * Pixels outside this {@link AlphaMask} are considered to be transparent.
+     */
+    private long extractWord(final int y, final int startX) {
+        final var word = Math.floorDiv(startX, WORD_SIZE);
+        final var shift = Math.floorMod(startX, WORD_SIZE);
+
+        final var low = getWord(y, word) >>> shift;
+        final var high = shift == 0 ? 0 : getWord(y, word + 1) << (WORD_SIZE - shift);
+        return low | high;
+    }
+
+    private long getWord(final int y, final int word) {
+        if (word < 0 || word >= wordsPerRow) {
+            return 0;
+        }
+        return bits[y * wordsPerRow + word];
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import java.util.Optional;
+
+/**
+ * An {@link AlphaMaskProvider} is able to provide the {@link AlphaMask} of the image it is currently showing. This
+ * is used for pixel-perfect collision detection.
+ */
+public interface AlphaMaskProvider {
+
+    /**
+     * Return the {@link AlphaMask} of the image that is currently being shown. Its top-left corner corresponds with
+     * the top-left corner of the bounding box.
+     *
+     * @return an {@link Optional} containing the {@link AlphaMask}, which is empty if no {@link AlphaMask} is
+     * available or if it can not be mapped onto the bounding box, for instance because of a rotation
+     */
+    Optional<AlphaMask> getAlphaMask();
+}
@@ -0,0 +1,83 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.ContinuousCollided;
+import javafx.geometry.Bounds;
+
+import java.util.List;
+
+/**
+ * A {@link Broadphase} is the strategy that is used to find, for a given {@link Collided}, those instances of
+ * {@link Collider} that might collide with it. Only these candidates are passed to
+ * {@link Collided#checkForCollisions(List)}, which performs the actual collision detection.
+ * <p>
+ * Implementations should return their candidates in the order in which they were registered, to ensure the first
+ * collision that is reported does not depend on the {@link Broadphase} being used.
+ */
+public interface Broadphase {
+
+    /**
+     * Register a {@link Collider} with this {@link Broadphase}.
+     *
+     * @param collider the {@link Collider} to be registered
+     */
+    void register(final Collider collider);
+
+    /**
+     * Remove a {@link Collider} from this {@link Broadphase}.
+     *
+     * @param collider the {@link Collider} to be removed
+     */
+    void remove(final Collider collider);
+
+    /**
+     * Register a {@link Collided} with this {@link Broadphase}. Most implementations only need to know about the
+     * instances of {@link Collider}, so by default this method does nothing.
+     *
+     * @param collided the {@link Collided} to be registered
+     */
+    default void register(final Collided collided) {
+        // Not required by default
+    }
+
+    /**
+     * Remove a {@link Collided} from this {@link Broadphase}. By default this method does nothing.
+     *
+     * @param collided the {@link Collided} to be removed
+     */
+    default void remove(final Collided collided) {
+        // Not required by default
+    }
+
+    /**
+     * Update the internal state of this {@link Broadphase}. This method is called once per Game World Update,
+     * after all motion has been applied and before {@link #getCandidates(Collided)} is called.
+     */
+    void update();
+
+    /**
+     * Return all instances of {@link Collider} that might collide with the given {@link Collided}, in the order in
+     * which they were registered. The returned {@link List} may be reused by the {@link Broadphase}, so it is only
+     * valid until the next call of this method or {@link #update()}.
+     *
+     * @param collided the {@link Collided} for which the candidates should be gathered
+     * @return a {@link List} of all instances of {@link Collider} that might collide with the given {@link Collided}
+     */
+    List<Collider> getCandidates(final Collided collided);
+
+    /**
+     * Return the {@link Bounds} that should be used to find the candidates for the given {@link Collided}. For a
+     * {@link ContinuousCollided} these are the {@link Bounds} of the complete path it travelled during the last Game
+     * World Update, for any other {@link Collided} its bounding box.
+     *
+     * @param collided the {@link Collided} for which the candidates should be gathered
+     * @return the {@link Bounds} to be used
+     */
+    static Bounds getQueryBounds(final Collided collided) {
+        if (collided instanceof ContinuousCollided continuousCollided) {
+            return continuousCollided.getSweptBoundingBox();
+        }
+        return collided.getBoundingBox();
+    }
+}
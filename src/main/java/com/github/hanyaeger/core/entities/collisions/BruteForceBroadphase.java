@@ -0,0 +1,36 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+
+import java.util.List;
+
+/**
+ * The {@link BruteForceBroadphase} does not try to reduce the number of candidates at all. Each {@link Collided}
+ * is checked against all instances of {@link Collider}, which is the default behaviour of Yaeger and works
+ * well for scenes with only a limited number of instances of {@link Collider}.
+ */
+public class BruteForceBroadphase implements Broadphase {
+
+    private final ColliderRegistry colliders = new ColliderRegistry();
+
+    @Override
+    public void register(final Collider collider) {
+        colliders.add(collider);
+    }
+
+    @Override
+    public void remove(final Collider collider) {
+        colliders.remove(collider);
+    }
+
+    @Override
+    public void update() {
+        colliders.asList();
+    }
+
+    @Override
+    public List<Collider> getCandidates(final Collided collided) {
+        return colliders.asList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.CompositeEntity;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link ColliderGroup} represents all instances of {@link Collider} within the same collision layer that are part
+ * of a {@link CompositeEntity}. It takes their place within a {@link Broadphase}, using the bounding box of the
+ * {@link CompositeEntity}, which encloses all of them. Only when that bounding box is hit are the instances of
+ * {@link Collider} themselves checked, so their own bounding boxes are not even calculated for instances of
+ * {@link com.github.hanyaeger.api.entities.Collided} that are nowhere near the {@link CompositeEntity}.
+ */
+public class ColliderGroup implements Collider {
+
+    private final CompositeEntity composite;
+    private final int collisionLayer;
+    private final List<Collider> colliders = new ArrayList<>();
+
+    /**
+     * Create a new {@link ColliderGroup} for the given {@link CompositeEntity} and collision layer.
+     *
+     * @param composite      the {@link CompositeEntity} of which the instances of {@link Collider} are part
+     * @param collisionLayer the collision layer of the instances of {@link Collider}
+     */
+    public ColliderGroup(final CompositeEntity composite, final int collisionLayer) {
+        this.composite = composite;
+        this.collisionLayer = collisionLayer;
+    }
+
+    /**
+     * Add a {@link Collider} to this {@link ColliderGroup}.
+     *
+     * @param collider the {@link Collider} to be added
+     */
+    public void add(final Collider collider) {
+        colliders.add(collider);
+    }
+
+    /**
+     * Remove a {@link Collider} from this {@link ColliderGroup}.
+     *
+     * @param collider the {@link Collider} to be removed
+     */
+    public void remove(final Collider collider) {
+        colliders.remove(collider);
+    }
+
+    /**
+     * Return whether this {@link ColliderGroup} contains no instances of {@link Collider}.
+     *
+     * @return {@code true} if this {@link ColliderGroup} is empty
+     */
+    public boolean isEmpty() {
+        return colliders.isEmpty();
+    }
+
+    /**
+     * Return the {@link CompositeEntity} of which the instances of {@link Collider} are part.
+     *
+     * @return the {@link CompositeEntity}
+     */
+    public CompositeEntity getComposite() {
+        return composite;
+    }
+
+    /**
+     * Add all instances of {@link Collider} of this {@link ColliderGroup} to the given {@link List}, if the bounding
+     * box of the {@link CompositeEntity} intersects with the given {@link Bounds}.
+     *
+     * @param queryBounds the {@link Bounds} that should be intersected
+     * @param result      the {@link List} to which the instances of {@link Collider} are added
+     */
+    public void collect(final Bounds queryBounds, final List<Collider> result) {
+        if (queryBounds.intersects(getBoundingBox())) {
+            result.addAll(colliders);
+        }
+    }
+
+    @Override
+    public Bounds getBoundingBox() {
+        return composite.getBoundingBox();
+    }
+
+    @Override
+    public int getCollisionLayer() {
+        return collisionLayer;
+    }
+
+    @Override
+    public Optional<? extends Node> getNode() {
+        return composite.getNode();
+    }
+}
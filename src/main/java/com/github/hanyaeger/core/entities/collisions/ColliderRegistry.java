@@ -0,0 +1,55 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link ColliderRegistry} contains all instances of {@link Collider} in the order in which they were registered.
+ * Both registering and removing a {@link Collider} take constant time. The {@link List} view returned by
+ * {@link #asList()} is only rebuilt when its content has changed.
+ */
+class ColliderRegistry {
+
+    private final Set<Collider> colliders = new LinkedHashSet<>();
+    private final List<Collider> snapshot = new ArrayList<>();
+    private final List<Collider> view = Collections.unmodifiableList(snapshot);
+    private boolean dirty;
+
+    /**
+     * Add the given {@link Collider}.
+     *
+     * @param collider the {@link Collider} to be added
+     */
+    void add(final Collider collider) {
+        dirty |= colliders.add(collider);
+    }
+
+    /**
+     * Remove the given {@link Collider}.
+     *
+     * @param collider the {@link Collider} to be removed
+     */
+    void remove(final Collider collider) {
+        dirty |= colliders.remove(collider);
+    }
+
+    /**
+     * Return an unmodifiable {@link List} containing all instances of {@link Collider} in the order in
+     * which they were registered.
+     *
+     * @return an unmodifiable {@link List} of all instances of {@link Collider}
+     */
+    List<Collider> asList() {
+        if (dirty) {
+            snapshot.clear();
+            snapshot.addAll(colliders);
+            dirty = false;
+        }
+        return view;
+    }
+}
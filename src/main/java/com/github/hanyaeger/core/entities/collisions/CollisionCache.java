@@ -0,0 +1,122 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link CollisionCache} remembers, for each {@link Collided}, which instances of {@link Collider} it collided with
+ * during the previous collision detection. When neither the {@link Collided} nor a {@link Collider} has been moved
+ * since then, the previous result still holds and the {@link Collided} does not have to be checked against that
+ * {@link Collider} again.
+ * <p>
+ * The instances of {@link Collider} are stored per {@link Collided} in two arrays that are swapped after each
+ * collision detection, so the previous result can still be read while the new one is written.
+ */
+public class CollisionCache {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final Map<Collided, Entry> entries = new HashMap<>();
+    private Entry current;
+    private boolean reusable;
+    private long detection;
+
+    /**
+     * Start a new collision detection. The result of a {@link Collided} that is not recorded during this collision
+     * detection can not be reused during the next one.
+     */
+    public void nextDetection() {
+        detection++;
+    }
+
+    /**
+     * Start recording the collisions of the given {@link Collided}.
+     *
+     * @param collided  the {@link Collided} of which the collisions follow
+     * @param unchanged whether the {@link Collided} has not been moved since the previous collision detection
+     * @return {@code true} if the result of the {@link Collided} has been recorded during the previous collision
+     * detection, and can be reused for instances of {@link Collider} that have not been moved either
+     */
+    public boolean begin(final Collided collided, final boolean unchanged) {
+        current = entries.get(collided);
+        if (current == null) {
+            current = new Entry();
+            entries.put(collided, current);
+        }
+        current.nextCount = 0;
+        reusable = unchanged && current.valid && current.detection + 1 >= detection;
+        return reusable;
+    }
+
+    /**
+     * Return whether the {@link Collided} passed to {@link #begin(Collided, boolean)} collided with the given
+     * {@link Collider} during the previous collision detection.
+     *
+     * @param collider the {@link Collider}
+     * @return {@code true} if they collided
+     */
+    public boolean wasColliding(final Collider collider) {
+        if (!reusable) {
+            return false;
+        }
+        for (var i = 0; i < current.count; i++) {
+            if (current.colliders[i] == collider) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record that the {@link Collided} passed to {@link #begin(Collided, boolean)} collides with the given
+     * {@link Collider}.
+     *
+     * @param collider the {@link Collider}
+     */
+    public void add(final Collider collider) {
+        if (current.nextCount == current.next.length) {
+            current.next = Arrays.copyOf(current.next, current.nextCount * 2);
+        }
+        current.next[current.nextCount++] = collider;
+    }
+
+    /**
+     * Finish recording the collisions of the {@link Collided} passed to {@link #begin(Collided, boolean)}, which
+     * become its previous result.
+     */
+    public void end() {
+        Arrays.fill(current.colliders, 0, current.count, null);
+
+        final var previous = current.colliders;
+        current.colliders = current.next;
+        current.count = current.nextCount;
+        current.next = previous;
+        current.nextCount = 0;
+        current.valid = true;
+        current.detection = detection;
+        current = null;
+        reusable = false;
+    }
+
+    /**
+     * Remove the previous result of a {@link Collided}.
+     *
+     * @param collided the {@link Collided}
+     */
+    public void remove(final Collided collided) {
+        entries.remove(collided);
+    }
+
+    private static class Entry {
+        private Collider[] colliders = new Collider[INITIAL_CAPACITY];
+        private int count;
+        private Collider[] next = new Collider[INITIAL_CAPACITY];
+        private int nextCount;
+        private boolean valid;
+        private long detection;
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+
+import java.util.Arrays;
+
+/**
+ * A {@link CollisionPairBuffer} stores all colliding pairs of a {@link Collided} and a {@link Collider} that were
+ * found during a Game World Update, so they can be reported once all collision detection has finished.
+ * <p>
+ * The pairs are grouped per {@link Collided}, in the order in which they were added. Each group only stores the
+ * {@code int} offset of its last pair, and the instances of {@link Collider} of all groups share a single array.
+ * All arrays are reused, so filling the {@link CollisionPairBuffer} does not allocate once they are large enough.
+ */
+public class CollisionPairBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Collided[] collideds = new Collided[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int collidedCount;
+
+    private Collider[] colliders = new Collider[INITIAL_CAPACITY];
+    private int pairCount;
+
+    private int groupStart = -1;
+
+    /**
+     * Remove all pairs.
+     */
+    public void clear() {
+        Arrays.fill(collideds, 0, collidedCount, null);
+        Arrays.fill(colliders, 0, pairCount, null);
+        collidedCount = 0;
+        pairCount = 0;
+        groupStart = -1;
+    }
+
+    /**
+     * Start the group of pairs of the given {@link Collided}. All instances of {@link Collider} added until
+     * {@link #end()} is called form a pair with this {@link Collided}.
+     *
+     * @param collided the {@link Collided} of which the pairs follow
+     */
+    public void begin(final Collided collided) {
+        if (collidedCount == collideds.length) {
+            collideds = Arrays.copyOf(collideds, collidedCount * 2);
+            ends = Arrays.copyOf(ends, collidedCount * 2);
+        }
+        collideds[collidedCount] = collided;
+        groupStart = pairCount;
+    }
+
+    /**
+     * Add a {@link Collider} that collides with the {@link Collided} passed to {@link #begin(Collided)}.
+     *
+     * @param collider the {@link Collider}
+     */
+    public void add(final Collider collider) {
+        if (groupStart < 0) {
+            throw new IllegalStateException("A Collider can only be added after begin() has been called.");
+        }
+        if (pairCount == colliders.length) {
+            colliders = Arrays.copyOf(colliders, pairCount * 2);
+        }
+        colliders[pairCount++] = collider;
+    }
+
+    /**
+     * End the group of pairs started by {@link #begin(Collided)}. A {@link Collided} to which no {@link Collider}
+     * has been added is not stored.
+     */
+    public void end() {
+        if (groupStart < 0) {
+            return;
+        }
+        if (pairCount > groupStart) {
+            ends[collidedCount++] = pairCount;
+        } else {
+            collideds[collidedCount] = null;
+        }
+        groupStart = -1;
+    }
+
+    /**
+     * Return the number of instances of {@link Collided} that collide with at least one {@link Collider}.
+     *
+     * @return the number of instances of {@link Collided}
+     */
+    public int getCollidedCount() {
+        return collidedCount;
+    }
+
+    /**
+     * Return the number of pairs.
+     *
+     * @return the number of pairs
+     */
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Return the {@link Collided} at the given index.
+     *
+     * @param index the index, between {@code 0} and {@link #getCollidedCount()}
+     * @return the {@link Collided}
+     */
+    public Collided getCollided(final int index) {
+        return collideds[index];
+    }
+
+    /**
+     * Return the index of the first pair of the {@link Collided} at the given index.
+     *
+     * @param index the index of the {@link Collided}
+     * @return the index of its first pair
+     */
+    public int getStart(final int index) {
+        return index == 0 ? 0 : ends[index - 1];
+    }
+
+    /**
+     * Return the index after the last pair of the {@link Collided} at the given index.
+     *
+     * @param index the index of the {@link Collided}
+     * @return the index after its last pair
+     */
+    public int getEnd(final int index) {
+        return ends[index];
+    }
+
+    /**
+     * Return the {@link Collider} of the pair at the given index.
+     *
+     * @param pair the index of the pair, between {@code 0} and {@link #getPairCount()}
+     * @return the {@link Collider}
+     */
+    public Collider getCollider(final int pair) {
+        return colliders[pair];
+    }
+}
@@ -0,0 +1,268 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.TrackedCollided;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link CollisionPairTracker} remembers which pairs of a {@link TrackedCollided} and a {@link Collider} collide,
+ * and compares them to those of the previous Game World Update to dispatch the enter, stay and exit callbacks.
+ * <p>
+ * Each entity is given an {@code int} id when registered, and each pair is stored as a single {@code long} that
+ * combines both ids. The pairs of the current and previous Game World Update are kept in two sorted arrays that are
+ * reused, so tracking pairs does not allocate once these arrays are large enough.
+ */
+public class CollisionPairTracker {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long ID_MASK = 0xFFFFFFFFL;
+
+    private final Map<Collider, Integer> colliderIds = new HashMap<>();
+    private final Map<TrackedCollided, Integer> collidedIds = new HashMap<>();
+    private final IdPool colliderIdPool = new IdPool();
+    private final IdPool collidedIdPool = new IdPool();
+
+    private Collider[] colliders = new Collider[INITIAL_CAPACITY];
+    private TrackedCollided[] collideds = new TrackedCollided[INITIAL_CAPACITY];
+
+    private long[] currentPairs = new long[INITIAL_CAPACITY];
+    private int currentPairCount;
+    private long[] previousPairs = new long[INITIAL_CAPACITY];
+    private int previousPairCount;
+
+    /**
+     * Register a {@link Collider}, so it can become part of a pair.
+     *
+     * @param collider the {@link Collider} that should be registered
+     */
+    public void register(final Collider collider) {
+        if (!colliderIds.containsKey(collider)) {
+            final var id = colliderIdPool.acquire();
+            if (id == colliders.length) {
+                colliders = Arrays.copyOf(colliders, id * 2);
+            }
+            colliders[id] = collider;
+            colliderIds.put(collider, id);
+        }
+    }
+
+    /**
+     * Register a {@link TrackedCollided}, so it can become part of a pair.
+     *
+     * @param collided the {@link TrackedCollided} that should be registered
+     */
+    public void register(final TrackedCollided collided) {
+        if (!collidedIds.containsKey(collided)) {
+            final var id = collidedIdPool.acquire();
+            if (id == collideds.length) {
+                collideds = Arrays.copyOf(collideds, id * 2);
+            }
+            collideds[id] = collided;
+            collidedIds.put(collided, id);
+        }
+    }
+
+    /**
+     * Remove a {@link Collider}. All instances of {@link TrackedCollided} that collided with it receive an exit
+     * callback during the next {@link #dispatch()}, after which its id is reused.
+     *
+     * @param collider the {@link Collider} that should be removed
+     */
+    public void remove(final Collider collider) {
+        final var id = colliderIds.remove(collider);
+        if (id != null) {
+            colliderIdPool.release(id);
+        }
+    }
+
+    /**
+     * Remove a {@link TrackedCollided}. It will receive no further callbacks.
+     *
+     * @param collided the {@link TrackedCollided} that should be removed
+     */
+    public void remove(final TrackedCollided collided) {
+        final var id = collidedIds.remove(collided);
+        if (id != null) {
+            collidedIdPool.release(id);
+        }
+    }
+
+    /**
+     * Record all pairs of the {@link TrackedCollided} with instances of {@link Collider} that are already known to
+     * collide with it.
+     *
+     * @param collided  the {@link TrackedCollided} of which the pairs should be recorded
+     * @param colliders the instances of {@link Collider} that collide with the {@link TrackedCollided}
+     */
+    public void record(final TrackedCollided collided, final List<Collider> colliders) {
+        final var collidedId = collidedIds.get(collided);
+        if (collidedId == null || colliders == null) {
+            return;
+        }
+
+        for (final var collider : colliders) {
+            final var colliderId = colliderIds.get(collider);
+            if (colliderId != null) {
+                addPair(((long) collidedId << 32) | colliderId);
+            }
+        }
+    }
+
+    /**
+     * Compare the pairs recorded since the last call to those recorded before, and call the enter, stay and exit
+     * callbacks accordingly. Callbacks are dispatched ordered by the ids of the entities involved, so their order
+     * does not depend on the order of the candidates.
+     */
+    public void dispatch() {
+        Arrays.sort(currentPairs, 0, currentPairCount);
+        currentPairCount = removeDuplicates(currentPairs, currentPairCount);
+
+        var previous = 0;
+        var current = 0;
+
+        while (previous < previousPairCount && current < currentPairCount) {
+            final var previousPair = previousPairs[previous];
+            final var currentPair = currentPairs[current];
+
+            if (previousPair < currentPair) {
+                exit(previousPair);
+                previous++;
+            } else if (currentPair < previousPair) {
+                enter(currentPair);
+                current++;
+            } else {
+                stay(currentPair);
+                previous++;
+                current++;
+            }
+        }
+        while (previous < previousPairCount) {
+            exit(previousPairs[previous++]);
+        }
+        while (current < currentPairCount) {
+            enter(currentPairs[current++]);
+        }
+
+        colliderIdPool.flush(colliders);
+        collidedIdPool.flush(collideds);
+
+        final var pairs = previousPairs;
+        previousPairs = currentPairs;
+        previousPairCount = currentPairCount;
+        currentPairs = pairs;
+        currentPairCount = 0;
+    }
+
+    /**
+     * Return the number of pairs that collided during the last {@link #dispatch()}.
+     *
+     * @return the number of active pairs as an {@code int}
+     */
+    public int getActivePairCount() {
+        return previousPairCount;
+    }
+
+    private void enter(final long pair) {
+        final var collided = getCollided(pair);
+        if (collided != null) {
+            collided.onCollisionEnter(colliders[(int) (pair & ID_MASK)]);
+        }
+    }
+
+    private void stay(final long pair) {
+        final var collided = getCollided(pair);
+        if (collided != null) {
+            collided.onCollisionStay(colliders[(int) (pair & ID_MASK)]);
+        }
+    }
+
+    private void exit(final long pair) {
+        final var collided = getCollided(pair);
+        if (collided != null) {
+            collided.onCollisionExit(colliders[(int) (pair & ID_MASK)]);
+        }
+    }
+
+    /**
+     * Return the {@link TrackedCollided} of the pair, or {@code null} if it has been removed and should receive no
+     * further callbacks.
+     */
+    private TrackedCollided getCollided(final long pair) {
+        final var id = (int) (pair >>> 32);
+        return collidedIdPool.isReleased(id) ? null : collideds[id];
+    }
+
+    private void addPair(final long pair) {
+        if (currentPairCount == currentPairs.length) {
+            currentPairs = Arrays.copyOf(currentPairs, currentPairCount * 2);
+        }
+        currentPairs[currentPairCount++] = pair;
+    }
+
+    private static int removeDuplicates(final long[] pairs, final int count) {
+        if (count == 0) {
+            return 0;
+        }
+
+        var kept = 1;
+        for (var i = 1; i < count; i++) {
+            if (pairs[i] != pairs[kept - 1]) {
+                pairs[kept++] = pairs[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Hands out ids, starting at {@code 0}. Released ids remain reserved until the next {@link #flush(Object[])},
+     * so the pairs they are part of can still be dispatched.
+     */
+    private static class IdPool {
+
+        private int[] free = new int[INITIAL_CAPACITY];
+        private int freeCount;
+        private int[] pending = new int[INITIAL_CAPACITY];
+        private int pendingCount;
+        private boolean[] released = new boolean[INITIAL_CAPACITY];
+        private int nextId;
+
+        int acquire() {
+            if (freeCount > 0) {
+                return free[--freeCount];
+            }
+            if (nextId == released.length) {
+                released = Arrays.copyOf(released, nextId * 2);
+            }
+            return nextId++;
+        }
+
+        void release(final int id) {
+            if (pendingCount == pending.length) {
+                pending = Arrays.copyOf(pending, pendingCount * 2);
+            }
+            pending[pendingCount++] = id;
+            released[id] = true;
+        }
+
+        boolean isReleased(final int id) {
+            return released[id];
+        }
+
+        void flush(final Object[] entities) {
+            if (freeCount + pendingCount > free.length) {
+                free = Arrays.copyOf(free, Math.max(free.length * 2, freeCount + pendingCount));
+            }
+            for (var i = 0; i < pendingCount; i++) {
+                final var id = pending[i];
+                entities[id] = null;
+                released[id] = false;
+                free[freeCount++] = id;
+            }
+            pendingCount = 0;
+        }
+    }
+}
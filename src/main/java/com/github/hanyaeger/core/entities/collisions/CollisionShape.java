@@ -0,0 +1,292 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import javafx.scene.Node;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
+
+/**
+ * A {@link CollisionShape} describes the actual shape of an entity within the scene, being either a circle or a
+ * convex polygon. Rectangles, including rotated ones, are described by their four corners and ellipses by a polygon
+ * that encloses them. Two instances of {@link CollisionShape} can be tested for overlap using the Separating Axis
+ * Theorem, which, contrary to {@link javafx.scene.shape.Shape#intersect(javafx.scene.shape.Shape, javafx.scene.shape.Shape)},
+ * does not create any new objects.
+ * <p>
+ * A {@link CollisionShape} is mutable, so each entity can reuse a single instance by describing its shape again
+ * whenever it is needed.
+ */
+public class CollisionShape {
+
+    /**
+     * The number of vertices of the polygon that is used to describe an ellipse.
+     */
+    public static final int ELLIPSE_SEGMENTS = 16;
+
+    private static final double EPSILON = 1e-9;
+    private static final double ELLIPSE_SCALE = 1 / Math.cos(Math.PI / ELLIPSE_SEGMENTS);
+
+    private boolean circle;
+    private double centerX;
+    private double centerY;
+    private double radius;
+
+    private final double[] xs = new double[ELLIPSE_SEGMENTS];
+    private final double[] ys = new double[ELLIPSE_SEGMENTS];
+    private int vertexCount;
+
+    /**
+     * Describe a circle, given in the local coordinates of the {@link Transform}.
+     *
+     * @param transform the {@link Transform} from local to scene coordinates
+     * @param centerX   the x-coordinate of the centre
+     * @param centerY   the y-coordinate of the centre
+     * @param radius    the radius
+     */
+    public void setCircle(final Transform transform, final double centerX, final double centerY, final double radius) {
+        final var mxx = transform.getMxx();
+        final var mxy = transform.getMxy();
+        final var myx = transform.getMyx();
+        final var myy = transform.getMyy();
+
+        if (Math.abs(mxx - myy) > EPSILON || Math.abs(mxy + myx) > EPSILON) {
+            setEllipse(transform, centerX, centerY, radius, radius);
+            return;
+        }
+
+        this.circle = true;
+        this.centerX = mxx * centerX + mxy * centerY + transform.getTx();
+        this.centerY = myx * centerX + myy * centerY + transform.getTy();
+        this.radius = radius * Math.sqrt(Math.abs(mxx * myy - mxy * myx));
+        this.vertexCount = 0;
+    }
+
+    /**
+     * Describe an ellipse, given in the local coordinates of the {@link Transform}. If both radii are equal and the
+     * {@link Transform} keeps it round, a circle is described instead.
+     *
+     * @param transform the {@link Transform} from local to scene coordinates
+     * @param centerX   the x-coordinate of the centre
+     * @param centerY   the y-coordinate of the centre
+     * @param radiusX   the horizontal radius
+     * @param radiusY   the vertical radius
+     */
+    public void setEllipse(final Transform transform, final double centerX, final double centerY, final double radiusX, final double radiusY) {
+        if (Double.compare(radiusX, radiusY) == 0
+                && Math.abs(transform.getMxx() - transform.getMyy()) <= EPSILON
+                && Math.abs(transform.getMxy() + transform.getMyx()) <= EPSILON) {
+            setCircle(transform, centerX, centerY, radiusX);
+            return;
+        }
+
+        circle = false;
+        vertexCount = ELLIPSE_SEGMENTS;
+        for (var i = 0; i < ELLIPSE_SEGMENTS; i++) {
+            final var angle = 2 * Math.PI * i / ELLIPSE_SEGMENTS;
+            setVertex(transform, i,
+                    centerX + Math.cos(angle) * radiusX * ELLIPSE_SCALE,
+                    centerY + Math.sin(angle) * radiusY * ELLIPSE_SCALE);
+        }
+    }
+
+    /**
+     * Describe a rectangle, given in the local coordinates of the {@link Transform}.
+     *
+     * @param transform the {@link Transform} from local to scene coordinates
+     * @param x         the x-coordinate of the top-left corner
+     * @param y         the y-coordinate of the top-left corner
+     * @param width     the width
+     * @param height    the height
+     */
+    public void setRectangle(final Transform transform, final double x, final double y, final double width, final double height) {
+        circle = false;
+        vertexCount = 4;
+        setVertex(transform, 0, x, y);
+        setVertex(transform, 1, x + width, y);
+        setVertex(transform, 2, x + width, y + height);
+        setVertex(transform, 3, x, y + height);
+    }
+
+    /**
+     * Describe the actual shape of the given {@link Node}, transformed to the scene. A {@link Circle},
+     * {@link Ellipse} or {@link Rectangle} is described by its geometry, any other {@link Node} by the rectangle of
+     * its local bounds.
+     *
+     * @param node the {@link Node} to be described
+     */
+    public void describe(final Node node) {
+        final var transform = node.getLocalToSceneTransform();
+        if (node instanceof Circle c) {
+            setCircle(transform, c.getCenterX(), c.getCenterY(), c.getRadius());
+        } else if (node instanceof Ellipse ellipse) {
+            setEllipse(transform, ellipse.getCenterX(), ellipse.getCenterY(), ellipse.getRadiusX(), ellipse.getRadiusY());
+        } else if (node instanceof Rectangle rectangle) {
+            setRectangle(transform, rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        } else {
+            final var localBounds = node.getBoundsInLocal();
+            setRectangle(transform,
+                    localBounds.getMinX(), localBounds.getMinY(), localBounds.getWidth(), localBounds.getHeight());
+        }
+    }
+
+    /**
+     * Return whether this {@link CollisionShape} describes a circle.
+     *
+     * @return {@code true} if this {@link CollisionShape} is a circle, {@code false} if it is a polygon
+     */
+    public boolean isCircle() {
+        return circle;
+    }
+
+    /**
+     * Return the number of vertices of the polygon, which is {@code 0} for a circle.
+     *
+     * @return the number of vertices as an {@code int}
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Return whether this {@link CollisionShape} overlaps with the other {@link CollisionShape}. Shapes that only
+     * touch are considered to overlap.
+     *
+     * @param other the other {@link CollisionShape}
+     * @return {@code true} if both shapes overlap
+     */
+    public boolean overlaps(final CollisionShape other) {
+        if (circle && other.circle) {
+            final var dx = other.centerX - centerX;
+            final var dy = other.centerY - centerY;
+            final var radii = radius + other.radius;
+            return dx * dx + dy * dy <= radii * radii;
+        } else if (circle) {
+            return other.overlapsCircle(centerX, centerY, radius);
+        } else if (other.circle) {
+            return overlapsCircle(other.centerX, other.centerY, other.radius);
+        }
+
+        return !hasSeparatingEdge(this, other) && !hasSeparatingEdge(other, this);
+    }
+
+    /**
+     * Return whether this {@link CollisionShape} overlaps with the given axis-aligned rectangle, in scene
+     * coordinates.
+     *
+     * @param minX the minimal x-coordinate of the rectangle
+     * @param minY the minimal y-coordinate of the rectangle
+     * @param maxX the maximal x-coordinate of the rectangle
+     * @param maxY the maximal y-coordinate of the rectangle
+     * @return {@code true} if this {@link CollisionShape} overlaps with the rectangle
+     */
+    public boolean overlaps(final double minX, final double minY, final double maxX, final double maxY) {
+        if (circle) {
+            final var dx = centerX - Math.max(minX, Math.min(centerX, maxX));
+            final var dy = centerY - Math.max(minY, Math.min(centerY, maxY));
+            return dx * dx + dy * dy <= radius * radius;
+        }
+
+        var polygonMinX = Double.POSITIVE_INFINITY;
+        var polygonMinY = Double.POSITIVE_INFINITY;
+        var polygonMaxX = Double.NEGATIVE_INFINITY;
+        var polygonMaxY = Double.NEGATIVE_INFINITY;
+        for (var i = 0; i < vertexCount; i++) {
+            polygonMinX = Math.min(polygonMinX, xs[i]);
+            polygonMinY = Math.min(polygonMinY, ys[i]);
+            polygonMaxX = Math.max(polygonMaxX, xs[i]);
+            polygonMaxY = Math.max(polygonMaxY, ys[i]);
+        }
+        if (polygonMaxX < minX || polygonMinX > maxX || polygonMaxY < minY || polygonMinY > maxY) {
+            return false;
+        }
+
+        for (var i = 0; i < vertexCount; i++) {
+            final var next = (i + 1) % vertexCount;
+            final var normalX = ys[next] - ys[i];
+            final var normalY = xs[i] - xs[next];
+
+            final var polygonMin = projectMin(this, normalX, normalY);
+            final var polygonMax = projectMax(this, normalX, normalY);
+
+            final var a = normalX * minX + normalY * minY;
+            final var b = normalX * maxX + normalY * minY;
+            final var c = normalX * maxX + normalY * maxY;
+            final var d = normalX * minX + normalY * maxY;
+            final var rectangleMin = Math.min(Math.min(a, b), Math.min(c, d));
+            final var rectangleMax = Math.max(Math.max(a, b), Math.max(c, d));
+
+            if (polygonMax < rectangleMin || rectangleMax < polygonMin) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean overlapsCircle(final double circleX, final double circleY, final double circleRadius) {
+        var closest = 0;
+        var closestDistance = Double.POSITIVE_INFINITY;
+
+        for (var i = 0; i < vertexCount; i++) {
+            final var next = (i + 1) % vertexCount;
+            if (isSeparatedFromCircle(ys[next] - ys[i], xs[i] - xs[next], circleX, circleY, circleRadius)) {
+                return false;
+            }
+
+            final var dx = xs[i] - circleX;
+            final var dy = ys[i] - circleY;
+            final var distance = dx * dx + dy * dy;
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = i;
+            }
+        }
+
+        return !isSeparatedFromCircle(xs[closest] - circleX, ys[closest] - circleY, circleX, circleY, circleRadius);
+    }
+
+    private boolean isSeparatedFromCircle(final double axisX, final double axisY, final double circleX, final double circleY, final double circleRadius) {
+        final var length = Math.sqrt(axisX * axisX + axisY * axisY);
+        if (length < EPSILON) {
+            return false;
+        }
+
+        final var centre = axisX * circleX + axisY * circleY;
+        final var extent = circleRadius * length;
+        return projectMax(this, axisX, axisY) < centre - extent || centre + extent < projectMin(this, axisX, axisY);
+    }
+
+    private static boolean hasSeparatingEdge(final CollisionShape shape, final CollisionShape other) {
+        for (var i = 0; i < shape.vertexCount; i++) {
+            final var next = (i + 1) % shape.vertexCount;
+            final var normalX = shape.ys[next] - shape.ys[i];
+            final var normalY = shape.xs[i] - shape.xs[next];
+
+            if (projectMax(shape, normalX, normalY) < projectMin(other, normalX, normalY)
+                    || projectMax(other, normalX, normalY) < projectMin(shape, normalX, normalY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double projectMin(final CollisionShape shape, final double axisX, final double axisY) {
+        var min = Double.POSITIVE_INFINITY;
+        for (var i = 0; i < shape.vertexCount; i++) {
+            min = Math.min(min, axisX * shape.xs[i] + axisY * shape.ys[i]);
+        }
+        return min;
+    }
+
+    private static double projectMax(final CollisionShape shape, final double axisX, final double axisY) {
+        var max = Double.NEGATIVE_INFINITY;
+        for (var i = 0; i < shape.vertexCount; i++) {
+            max = Math.max(max, axisX * shape.xs[i] + axisY * shape.ys[i]);
+        }
+        return max;
+    }
+
+    private void setVertex(final Transform transform, final int index, final double x, final double y) {
+        xs[index] = transform.getMxx() * x + transform.getMxy() * y + transform.getTx();
+        ys[index] = transform.getMyx() * x + transform.getMyy() * y + transform.getTy();
+    }
+}
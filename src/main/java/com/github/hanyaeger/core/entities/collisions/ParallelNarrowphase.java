@@ -0,0 +1,217 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.Bounds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link ParallelNarrowphase} tests the bounding boxes of many instances of {@link Collided} against those of their
+ * candidates, spread over the worker threads of a {@link ForkJoinPool}.
+ * <p>
+ * The candidates are not chosen by the {@link ParallelNarrowphase} itself. They are gathered on the JavaFX Application
+ * Thread, by the same {@link Broadphase} and {@link StaticColliderIndex} that are used without parallel testing, and
+ * passed to {@link #addCollided(Collided, List)}. Because the bounding boxes of entities may only be calculated on
+ * the JavaFX Application Thread, they are copied into a snapshot of primitive arrays at the same time. The workers
+ * only read this snapshot, and each of them writes the results of its own range of instances of {@link Collided}.
+ * After {@link #run()} the hits can be read back in the order in which the instances of {@link Collided} were added,
+ * so the collisions can be dispatched on the JavaFX Application Thread in a deterministic order.
+ */
+public class ParallelNarrowphase {
+
+    /**
+     * The number of instances of {@link Collided} that are handled by a single task, below which no further tasks
+     * are forked.
+     */
+    public static final int BATCH_SIZE = 64;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ForkJoinPool pool;
+
+    private Collider[] candidates = new Collider[INITIAL_CAPACITY];
+    private double[] candidateBounds = new double[INITIAL_CAPACITY * 4];
+    private boolean[] candidateHit = new boolean[INITIAL_CAPACITY];
+    private int candidateCount;
+
+    private Collided[] collideds = new Collided[INITIAL_CAPACITY];
+    private double[] collidedBounds = new double[INITIAL_CAPACITY * 4];
+    private int[] candidatesEnd = new int[INITIAL_CAPACITY];
+    private int collidedCount;
+
+    private final List<Collider> hitList = new ArrayList<>();
+
+    /**
+     * Create a new {@link ParallelNarrowphase}.
+     *
+     * @param pool the {@link ForkJoinPool} on which the bounding boxes are tested
+     */
+    public ParallelNarrowphase(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Clear the snapshot, so it can be filled for the next Game World Update.
+     */
+    public void clear() {
+        Arrays.fill(candidates, 0, candidateCount, null);
+        Arrays.fill(collideds, 0, collidedCount, null);
+        candidateCount = 0;
+        collidedCount = 0;
+    }
+
+    /**
+     * Add a {@link Collided} and its candidates to the snapshot. This method should be called on the JavaFX
+     * Application Thread. The {@link List} of candidates is copied, so it can be reused afterwards.
+     *
+     * @param collided           the {@link Collided} to be added
+     * @param collidedCandidates the instances of {@link Collider} the {@link Collided} should be tested against, in
+     *                           the order in which their hits should be reported
+     */
+    public void addCollided(final Collided collided, final List<Collider> collidedCandidates) {
+        if (collidedCount == collideds.length) {
+            final var capacity = collidedCount * 2;
+            collideds = Arrays.copyOf(collideds, capacity);
+            collidedBounds = Arrays.copyOf(collidedBounds, capacity * 4);
+            candidatesEnd = Arrays.copyOf(candidatesEnd, capacity);
+        }
+
+        collideds[collidedCount] = collided;
+        copyBounds(Broadphase.getQueryBounds(collided), collidedBounds, collidedCount);
+        for (final var candidate : collidedCandidates) {
+            addCandidate(candidate);
+        }
+        candidatesEnd[collidedCount] = candidateCount;
+        collidedCount++;
+    }
+
+    private void addCandidate(final Collider candidate) {
+        if (candidateCount == candidates.length) {
+            final var capacity = candidateCount * 2;
+            candidates = Arrays.copyOf(candidates, capacity);
+            candidateBounds = Arrays.copyOf(candidateBounds, capacity * 4);
+            candidateHit = Arrays.copyOf(candidateHit, capacity);
+        }
+
+        candidates[candidateCount] = candidate;
+        copyBounds(candidate.getBoundingBox(), candidateBounds, candidateCount);
+        candidateCount++;
+    }
+
+    /**
+     * Test all instances of {@link Collided} against their candidates in the snapshot, and wait until this is done.
+     * Small snapshots are handled on the calling thread.
+     */
+    public void run() {
+        final var task = new NarrowphaseTask(0, collidedCount);
+        if (collidedCount <= BATCH_SIZE) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Return the number of instances of {@link Collided} in the snapshot.
+     *
+     * @return the number of instances of {@link Collided} as an {@code int}
+     */
+    public int getCollidedCount() {
+        return collidedCount;
+    }
+
+    /**
+     * Return the {@link Collided} at the given index, in the order in which they were added.
+     *
+     * @param index the index of the {@link Collided}
+     * @return the {@link Collided} at the given index
+     */
+    public Collided getCollided(final int index) {
+        return collideds[index];
+    }
+
+    /**
+     * Return all candidates of which the bounding box intersects with that of the {@link Collided} at the given
+     * index, in the order in which they were passed to {@link #addCollided(Collided, List)}. The returned
+     * {@link List} is reused on each call.
+     *
+     * @param index the index of the {@link Collided}
+     * @return a {@link List} of all instances of {@link Collider} that were hit
+     */
+    public List<Collider> getHits(final int index) {
+        hitList.clear();
+
+        for (var candidate = getCandidatesStart(index); candidate < candidatesEnd[index]; candidate++) {
+            if (candidateHit[candidate]) {
+                hitList.add(candidates[candidate]);
+            }
+        }
+        return hitList;
+    }
+
+    private int getCandidatesStart(final int collided) {
+        return collided == 0 ? 0 : candidatesEnd[collided - 1];
+    }
+
+    private void test(final int collided) {
+        final var offset = collided * 4;
+        final var minX = collidedBounds[offset];
+        final var minY = collidedBounds[offset + 1];
+        final var maxX = collidedBounds[offset + 2];
+        final var maxY = collidedBounds[offset + 3];
+        final var self = collideds[collided];
+
+        for (var candidate = getCandidatesStart(collided); candidate < candidatesEnd[collided]; candidate++) {
+            final var candidateOffset = candidate * 4;
+
+            candidateHit[candidate] = candidateBounds[candidateOffset + 2] >= minX
+                    && candidateBounds[candidateOffset + 3] >= minY
+                    && candidateBounds[candidateOffset] <= maxX
+                    && candidateBounds[candidateOffset + 1] <= maxY
+                    && candidates[candidate] != self;
+        }
+    }
+
+    /**
+     * Empty bounds are stored as {@link Double#NaN}, for which all comparisons fail, so they never intersect.
+     */
+    private static void copyBounds(final Bounds bounds, final double[] target, final int index) {
+        final var offset = index * 4;
+        if (bounds == null || bounds.isEmpty()) {
+            Arrays.fill(target, offset, offset + 4, Double.NaN);
+        } else {
+            target[offset] = bounds.getMinX();
+            target[offset + 1] = bounds.getMinY();
+            target[offset + 2] = bounds.getMaxX();
+            target[offset + 3] = bounds.getMaxY();
+        }
+    }
+
+    private class NarrowphaseTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        NarrowphaseTask(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (var collided = from; collided < to; collided++) {
+                    test(collided);
+                }
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new NarrowphaseTask(from, middle), new NarrowphaseTask(middle, to));
+            }
+        }
+    }
+}
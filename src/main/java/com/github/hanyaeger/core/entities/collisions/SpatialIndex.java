@@ -0,0 +1,554 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.YaegerEntity;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link SpatialIndex} stores the bounding boxes of instances of {@link YaegerEntity} in a hashed grid of square
+ * cells, so they can be found by location without checking each of them. It supports finding all entities within a
+ * rectangle or radius, the nearest entities to a point and the first entity along a line segment.
+ * <p>
+ * The bounding boxes are copied into primitive arrays when the {@link SpatialIndex} is built, after which all
+ * queries only read these arrays and add their results to a {@link List} provided by the caller. Apart from growing
+ * its internal buffers, a query therefore does not allocate. Entities that cover more than {@link #MAX_CELLS} cells
+ * are not stored in the grid, but checked by every query.
+ * <p>
+ * Results are ordered by the order in which the entities were added, except for {@link #nearest(double, double, int, Class, List)},
+ * which orders them by distance.
+ */
+public class SpatialIndex {
+
+    /**
+     * The width and height of a cell in pixels, when none is provided.
+     */
+    public static final double DEFAULT_CELL_SIZE = 64D;
+
+    /**
+     * The maximum number of cells an entity may cover to be stored in the grid.
+     */
+    public static final int MAX_CELLS = 64;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final double cellSize;
+
+    private YaegerEntity[] entities = new YaegerEntity[INITIAL_CAPACITY];
+    private double[] bounds = new double[INITIAL_CAPACITY * 4];
+    private int[] stamps = new int[INITIAL_CAPACITY];
+    private int count;
+    private int stamp;
+
+    private int[] large = new int[INITIAL_CAPACITY];
+    private int largeCount;
+
+    private int mask;
+    private int[] bucketStarts = new int[INITIAL_CAPACITY + 1];
+    private int[] bucketCursors = new int[INITIAL_CAPACITY];
+    private int[] bucketItems = new int[INITIAL_CAPACITY];
+
+    private int minCellX;
+    private int minCellY;
+    private int maxCellX;
+    private int maxCellY;
+
+    private int[] found = new int[INITIAL_CAPACITY];
+    private int foundCount;
+    private double[] foundDistances = new double[INITIAL_CAPACITY];
+
+    /**
+     * Create a new {@link SpatialIndex} with cells of {@link #DEFAULT_CELL_SIZE}.
+     */
+    public SpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Create a new {@link SpatialIndex} with cells of the given size.
+     *
+     * @param cellSize the width and height of a cell in pixels, which should be larger than {@code 0}
+     */
+    public SpatialIndex(final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cell size of a SpatialIndex should be larger than 0, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Remove all entities, so new ones can be added.
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, count, null);
+        count = 0;
+        largeCount = 0;
+        mask = 0;
+    }
+
+    /**
+     * Add a {@link YaegerEntity}, using its current bounding box. Entities without a {@link javafx.scene.Node} are
+     * ignored. After all entities have been added, {@link #build()} should be called.
+     *
+     * @param entity the {@link YaegerEntity} to be added
+     */
+    public void add(final YaegerEntity entity) {
+        if (entity.getNode().isEmpty()) {
+            return;
+        }
+
+        final var boundingBox = entity.getBoundingBox();
+        if (boundingBox.isEmpty()) {
+            return;
+        }
+
+        if (count == entities.length) {
+            final var capacity = count * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            bounds = Arrays.copyOf(bounds, capacity * 4);
+            stamps = Arrays.copyOf(stamps, capacity);
+        }
+
+        entities[count] = entity;
+        bounds[count * 4] = boundingBox.getMinX();
+        bounds[count * 4 + 1] = boundingBox.getMinY();
+        bounds[count * 4 + 2] = boundingBox.getMaxX();
+        bounds[count * 4 + 3] = boundingBox.getMaxY();
+        stamps[count] = 0;
+        count++;
+    }
+
+    /**
+     * Build the grid for all entities that have been added.
+     */
+    public void build() {
+        largeCount = 0;
+        minCellX = Integer.MAX_VALUE;
+        minCellY = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        maxCellY = Integer.MIN_VALUE;
+
+        final var tableSize = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, count)) * 4);
+        mask = tableSize - 1;
+        if (bucketStarts.length < tableSize + 1) {
+            bucketStarts = new int[tableSize + 1];
+            bucketCursors = new int[tableSize];
+        } else {
+            Arrays.fill(bucketStarts, 0, tableSize + 1, 0);
+        }
+
+        var insertions = 0;
+        for (var i = 0; i < count; i++) {
+            final var fromX = cell(bounds[i * 4]);
+            final var fromY = cell(bounds[i * 4 + 1]);
+            final var toX = cell(bounds[i * 4 + 2]);
+            final var toY = cell(bounds[i * 4 + 3]);
+
+            if ((long) (toX - fromX + 1) * (toY - fromY + 1) > MAX_CELLS) {
+                if (largeCount == large.length) {
+                    large = Arrays.copyOf(large, largeCount * 2);
+                }
+                large[largeCount++] = i;
+                continue;
+            }
+
+            minCellX = Math.min(minCellX, fromX);
+            minCellY = Math.min(minCellY, fromY);
+            maxCellX = Math.max(maxCellX, toX);
+            maxCellY = Math.max(maxCellY, toY);
+
+            for (var x = fromX; x <= toX; x++) {
+                for (var y = fromY; y <= toY; y++) {
+                    bucketStarts[bucket(x, y) + 1]++;
+                    insertions++;
+                }
+            }
+        }
+
+        for (var b = 0; b < tableSize; b++) {
+            bucketStarts[b + 1] += bucketStarts[b];
+            bucketCursors[b] = bucketStarts[b];
+        }
+        if (bucketItems.length < insertions) {
+            bucketItems = new int[Math.max(insertions, bucketItems.length * 2)];
+        }
+
+        for (var i = 0; i < count; i++) {
+            final var fromX = cell(bounds[i * 4]);
+            final var fromY = cell(bounds[i * 4 + 1]);
+            final var toX = cell(bounds[i * 4 + 2]);
+            final var toY = cell(bounds[i * 4 + 3]);
+
+            if ((long) (toX - fromX + 1) * (toY - fromY + 1) > MAX_CELLS) {
+                continue;
+            }
+
+            for (var x = fromX; x <= toX; x++) {
+                for (var y = fromY; y <= toY; y++) {
+                    bucketItems[bucketCursors[bucket(x, y)]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Add all entities of the given type of which the bounding box intersects with the given rectangle.
+     *
+     * @param minX   the minimal x-coordinate of the rectangle
+     * @param minY   the minimal y-coordinate of the rectangle
+     * @param maxX   the maximal x-coordinate of the rectangle
+     * @param maxY   the maximal y-coordinate of the rectangle
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryRect(final double minX, final double minY, final double maxX, final double maxY,
+                              final Class<T> type, final List<? super T> result) {
+        collectRect(minX, minY, maxX, maxY, type);
+        addFound(type, result);
+    }
+
+    /**
+     * Add all entities of the given type of which the bounding box lies, at least partly, within the given radius
+     * of the given point.
+     *
+     * @param x      the x-coordinate of the point
+     * @param y      the y-coordinate of the point
+     * @param radius the radius
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void queryRadius(final double x, final double y, final double radius,
+                                final Class<T> type, final List<? super T> result) {
+        collectRect(x - radius, y - radius, x + radius, y + radius, type);
+
+        var kept = 0;
+        for (var i = 0; i < foundCount; i++) {
+            final var entity = found[i];
+            final var dx = Math.max(0, Math.max(bounds[entity * 4] - x, x - bounds[entity * 4 + 2]));
+            final var dy = Math.max(0, Math.max(bounds[entity * 4 + 1] - y, y - bounds[entity * 4 + 3]));
+            if (dx * dx + dy * dy <= radius * radius) {
+                found[kept++] = entity;
+            }
+        }
+        foundCount = kept;
+        addFound(type, result);
+    }
+
+    /**
+     * Add at most {@code k} entities of the given type of which the centre of the bounding box is nearest to the
+     * given point, ordered from near to far.
+     *
+     * @param x      the x-coordinate of the point
+     * @param y      the y-coordinate of the point
+     * @param k      the maximum number of entities to be added
+     * @param type   the {@link Class} the entities should be an instance of
+     * @param result the {@link List} to which the entities are added
+     * @param <T>    the type of the entities
+     */
+    public <T> void nearest(final double x, final double y, final int k, final Class<T> type, final List<? super T> result) {
+        foundCount = 0;
+        if (k <= 0 || count == 0) {
+            return;
+        }
+        if (found.length < k + 1) {
+            found = Arrays.copyOf(found, k + 1);
+            foundDistances = Arrays.copyOf(foundDistances, k + 1);
+        }
+
+        nextStamp();
+        for (var i = 0; i < largeCount; i++) {
+            considerNearest(large[i], x, y, k, type);
+        }
+
+        if (mask != 0 && minCellX <= maxCellX) {
+            final var centreX = cell(x);
+            final var centreY = cell(y);
+            final var minRing = Math.max(0, Math.max(Math.max(minCellX - centreX, centreX - maxCellX),
+                    Math.max(minCellY - centreY, centreY - maxCellY)));
+            final var maxRing = Math.max(Math.max(centreX - minCellX, maxCellX - centreX),
+                    Math.max(centreY - minCellY, maxCellY - centreY));
+
+            // Only the part of each ring that lies within the populated cells is visited, and the rings that do not
+            // reach these cells at all are skipped
+            for (var ring = minRing; ring <= maxRing; ring++) {
+                final var fromX = Math.max(minCellX, centreX - ring);
+                final var toX = Math.min(maxCellX, centreX + ring);
+                final var fromY = Math.max(minCellY, centreY - ring + 1);
+                final var toY = Math.min(maxCellY, centreY + ring - 1);
+
+                for (var cellX = fromX; cellX <= toX; cellX++) {
+                    if (centreY - ring >= minCellY) {
+                        considerNearestInCell(cellX, centreY - ring, x, y, k, type);
+                    }
+                    if (ring > 0 && centreY + ring <= maxCellY) {
+                        considerNearestInCell(cellX, centreY + ring, x, y, k, type);
+                    }
+                }
+                for (var cellY = fromY; cellY <= toY; cellY++) {
+                    if (centreX - ring >= minCellX) {
+                        considerNearestInCell(centreX - ring, cellY, x, y, k, type);
+                    }
+                    if (ring > 0 && centreX + ring <= maxCellX) {
+                        considerNearestInCell(centreX + ring, cellY, x, y, k, type);
+                    }
+                }
+
+                final var reached = ring * cellSize;
+                if (foundCount == k && foundDistances[k - 1] < reached * reached) {
+                    break;
+                }
+            }
+        }
+
+        for (var i = 0; i < foundCount; i++) {
+            result.add(type.cast(entities[found[i]]));
+        }
+    }
+
+    /**
+     * Add the first entity of the given type of which the bounding box is hit by the line segment between the two
+     * given points.
+     *
+     * @param fromX  the x-coordinate of the start of the line segment
+     * @param fromY  the y-coordinate of the start of the line segment
+     * @param toX    the x-coordinate of the end of the line segment
+     * @param toY    the y-coordinate of the end of the line segment
+     * @param type   the {@link Class} the entity should be an instance of
+     * @param result the {@link List} to which the entity is added
+     * @param <T>    the type of the entity
+     * @return {@code true} if an entity has been hit
+     */
+    public <T> boolean raycast(final double fromX, final double fromY, final double toX, final double toY,
+                               final Class<T> type, final List<? super T> result) {
+        if (count == 0) {
+            return false;
+        }
+
+        nextStamp();
+        final var dx = toX - fromX;
+        final var dy = toY - fromY;
+        var best = -1;
+        var bestTime = Double.POSITIVE_INFINITY;
+
+        for (var i = 0; i < largeCount; i++) {
+            final var time = timeOfHit(large[i], fromX, fromY, dx, dy, type);
+            if (time < bestTime || (time == bestTime && large[i] < best)) {
+                best = large[i];
+                bestTime = time;
+            }
+        }
+
+        if (mask != 0 && minCellX <= maxCellX) {
+            var cellX = cell(fromX);
+            var cellY = cell(fromY);
+            final var stepX = dx > 0 ? 1 : -1;
+            final var stepY = dy > 0 ? 1 : -1;
+            final var deltaX = dx == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(dx);
+            final var deltaY = dy == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(dy);
+            var maxX = dx == 0 ? Double.POSITIVE_INFINITY : ((dx > 0 ? cellX + 1 : cellX) * cellSize - fromX) / dx;
+            var maxY = dy == 0 ? Double.POSITIVE_INFINITY : ((dy > 0 ? cellY + 1 : cellY) * cellSize - fromY) / dy;
+            final var lastX = cell(toX);
+            final var lastY = cell(toY);
+
+            while (true) {
+                if (cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY) {
+                    final var b = bucket(cellX, cellY);
+                    for (var i = bucketStarts[b]; i < bucketStarts[b + 1]; i++) {
+                        final var entity = bucketItems[i];
+                        if (stamps[entity] != stamp) {
+                            stamps[entity] = stamp;
+                            final var time = timeOfHit(entity, fromX, fromY, dx, dy, type);
+                            if (time < bestTime || (time == bestTime && entity < best)) {
+                                best = entity;
+                                bestTime = time;
+                            }
+                        }
+                    }
+                }
+
+                final var exitTime = Math.min(maxX, maxY);
+                if (bestTime <= exitTime || (cellX == lastX && cellY == lastY) || exitTime > 1) {
+                    break;
+                }
+
+                if (maxX < maxY) {
+                    maxX += deltaX;
+                    cellX += stepX;
+                } else {
+                    maxY += deltaY;
+                    cellY += stepY;
+                }
+            }
+        }
+
+        if (best < 0) {
+            return false;
+        }
+        result.add(type.cast(entities[best]));
+        return true;
+    }
+
+    private void collectRect(final double minX, final double minY, final double maxX, final double maxY, final Class<?> type) {
+        foundCount = 0;
+        if (count == 0) {
+            return;
+        }
+
+        nextStamp();
+        for (var i = 0; i < largeCount; i++) {
+            collectIfIntersecting(large[i], minX, minY, maxX, maxY, type);
+        }
+
+        if (mask == 0 || minCellX > maxCellX) {
+            return;
+        }
+
+        final var fromX = Math.max(minCellX, cell(minX));
+        final var fromY = Math.max(minCellY, cell(minY));
+        final var toX = Math.min(maxCellX, cell(maxX));
+        final var toY = Math.min(maxCellY, cell(maxY));
+
+        if ((long) (toX - fromX + 1) * (toY - fromY + 1) > count) {
+            for (var i = 0; i < count; i++) {
+                collectIfIntersecting(i, minX, minY, maxX, maxY, type);
+            }
+        } else {
+            for (var x = fromX; x <= toX; x++) {
+                for (var y = fromY; y <= toY; y++) {
+                    final var b = bucket(x, y);
+                    for (var i = bucketStarts[b]; i < bucketStarts[b + 1]; i++) {
+                        collectIfIntersecting(bucketItems[i], minX, minY, maxX, maxY, type);
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(found, 0, foundCount);
+    }
+
+    private void collectIfIntersecting(final int entity, final double minX, final double minY, final double maxX,
+                                       final double maxY, final Class<?> type) {
+        if (stamps[entity] == stamp) {
+            return;
+        }
+        stamps[entity] = stamp;
+
+        final var offset = entity * 4;
+        if (bounds[offset] <= maxX && bounds[offset + 1] <= maxY && bounds[offset + 2] >= minX && bounds[offset + 3] >= minY
+                && type.isInstance(entities[entity])) {
+            if (foundCount == found.length) {
+                found = Arrays.copyOf(found, foundCount * 2);
+                foundDistances = Arrays.copyOf(foundDistances, foundCount * 2);
+            }
+            found[foundCount++] = entity;
+        }
+    }
+
+    private <T> void addFound(final Class<T> type, final List<? super T> result) {
+        for (var i = 0; i < foundCount; i++) {
+            result.add(type.cast(entities[found[i]]));
+        }
+    }
+
+    private void considerNearestInCell(final int cellX, final int cellY, final double x, final double y, final int k, final Class<?> type) {
+        if (cellX < minCellX || cellX > maxCellX || cellY < minCellY || cellY > maxCellY) {
+            return;
+        }
+
+        final var b = bucket(cellX, cellY);
+        for (var i = bucketStarts[b]; i < bucketStarts[b + 1]; i++) {
+            considerNearest(bucketItems[i], x, y, k, type);
+        }
+    }
+
+    /**
+     * Insert the entity into the sorted list of the {@code k} nearest entities found so far, if it is near enough.
+     */
+    private void considerNearest(final int entity, final double x, final double y, final int k, final Class<?> type) {
+        if (stamps[entity] == stamp) {
+            return;
+        }
+        stamps[entity] = stamp;
+
+        if (!type.isInstance(entities[entity])) {
+            return;
+        }
+
+        final var offset = entity * 4;
+        final var dx = (bounds[offset] + bounds[offset + 2]) / 2 - x;
+        final var dy = (bounds[offset + 1] + bounds[offset + 3]) / 2 - y;
+        final var distance = dx * dx + dy * dy;
+
+        var position = foundCount;
+        while (position > 0 && (foundDistances[position - 1] > distance
+                || (foundDistances[position - 1] == distance && found[position - 1] > entity))) {
+            position--;
+        }
+        if (position >= k) {
+            return;
+        }
+
+        final var last = Math.min(foundCount, k - 1);
+        System.arraycopy(found, position, found, position + 1, last - position);
+        System.arraycopy(foundDistances, position, foundDistances, position + 1, last - position);
+        found[position] = entity;
+        foundDistances[position] = distance;
+        foundCount = Math.min(foundCount + 1, k);
+    }
+
+    /**
+     * Return the time, between {@code 0} and {@code 1}, at which the line segment first hits the bounding box of
+     * the entity, using the slab method.
+     */
+    private double timeOfHit(final int entity, final double fromX, final double fromY, final double dx, final double dy,
+                             final Class<?> type) {
+        if (!type.isInstance(entities[entity])) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final var offset = entity * 4;
+        var entry = 0D;
+        var exit = 1D;
+
+        if (dx == 0) {
+            if (fromX < bounds[offset] || fromX > bounds[offset + 2]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            final var first = (bounds[offset] - fromX) / dx;
+            final var second = (bounds[offset + 2] - fromX) / dx;
+            entry = Math.max(entry, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+
+        if (dy == 0) {
+            if (fromY < bounds[offset + 1] || fromY > bounds[offset + 3]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            final var first = (bounds[offset + 1] - fromY) / dy;
+            final var second = (bounds[offset + 3] - fromY) / dy;
+            entry = Math.max(entry, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+
+        return entry <= exit ? entry : Double.POSITIVE_INFINITY;
+    }
+
+    private void nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    private int cell(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int bucket(final int cellX, final int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & mask;
+    }
+}
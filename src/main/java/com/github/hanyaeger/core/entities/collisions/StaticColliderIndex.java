@@ -0,0 +1,266 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link StaticColliderIndex} contains all instances of {@link Collider} that never move, such as the tiles of a
+ * {@link com.github.hanyaeger.api.scenes.TileMap}. Because they never move, their bounding boxes are read only
+ * once, after which they are stored in a bounding volume hierarchy that is built bottom-up by repeatedly splitting
+ * them at the median. Querying this hierarchy takes logarithmic time.
+ * <p>
+ * The hierarchy is immutable. It is only rebuilt, on the next query, after a {@link Collider} has been registered or
+ * removed. Found instances of {@link Collider} are ordered by their collision layer, and within a layer by the order
+ * in which they were registered.
+ */
+public class StaticColliderIndex {
+
+    private static final int LEAF_SIZE = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Collider, Integer> entries = new LinkedHashMap<>();
+    private boolean dirty;
+    private int usedLayers;
+
+    private Collider[] colliders = new Collider[0];
+    private int[] layerBits = new int[0];
+    private double[] bounds = new double[0];
+    private int[] items = new int[0];
+    private int itemCount;
+
+    private double[] nodeBounds = new double[0];
+    private int[] nodeStart = new int[0];
+    private int[] nodeCount = new int[0];
+    private int[] nodeRight = new int[0];
+    private int nodeTotal;
+
+    private int[] stack = new int[INITIAL_CAPACITY];
+    private int[] found = new int[INITIAL_CAPACITY];
+
+    /**
+     * Register a {@link Collider} that never moves.
+     *
+     * @param collider the {@link Collider} to be registered
+     * @param layer    the collision layer of the {@link Collider}
+     */
+    public void register(final Collider collider, final int layer) {
+        if (entries.putIfAbsent(collider, layer) == null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Remove a {@link Collider}.
+     *
+     * @param collider the {@link Collider} to be removed
+     * @return {@code true} if the {@link Collider} was part of this {@link StaticColliderIndex}
+     */
+    public boolean remove(final Collider collider) {
+        if (entries.remove(collider) != null) {
+            dirty = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Return whether this {@link StaticColliderIndex} contains any {@link Collider}.
+     *
+     * @return {@code true} if no {@link Collider} has been registered
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Add all instances of {@link Collider} of which the bounding box intersects with the given {@link Bounds} to the
+     * given {@link List}.
+     *
+     * @param queryBounds the {@link Bounds} to look for
+     * @param layerMask   a bitmask of the collision layers that should be included
+     * @param result      the {@link List} to which the found instances of {@link Collider} are added
+     */
+    public void query(final Bounds queryBounds, final int layerMask, final List<Collider> result) {
+        if (dirty) {
+            build();
+        }
+        if (nodeTotal == 0 || (usedLayers & layerMask) == 0 || queryBounds == null || queryBounds.isEmpty()) {
+            return;
+        }
+
+        final var minX = queryBounds.getMinX();
+        final var minY = queryBounds.getMinY();
+        final var maxX = queryBounds.getMaxX();
+        final var maxY = queryBounds.getMaxY();
+
+        var foundCount = 0;
+        var stackSize = 0;
+        stack[stackSize++] = 0;
+
+        while (stackSize > 0) {
+            final var node = stack[--stackSize];
+            if (!intersects(nodeBounds, node, minX, minY, maxX, maxY)) {
+                continue;
+            }
+
+            if (nodeCount[node] > 0) {
+                for (var i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++) {
+                    final var item = items[i];
+                    if ((layerBits[item] & layerMask) != 0 && intersects(bounds, item, minX, minY, maxX, maxY)) {
+                        if (foundCount == found.length) {
+                            found = Arrays.copyOf(found, foundCount * 2);
+                        }
+                        found[foundCount++] = item;
+                    }
+                }
+            } else {
+                if (stackSize + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[stackSize++] = nodeRight[node];
+                stack[stackSize++] = node + 1;
+            }
+        }
+
+        Arrays.sort(found, 0, foundCount);
+        for (var i = 0; i < foundCount; i++) {
+            result.add(colliders[found[i]]);
+        }
+    }
+
+    /**
+     * Read the bounding boxes of all instances of {@link Collider}, ordered by layer, and build the hierarchy.
+     */
+    private void build() {
+        dirty = false;
+
+        final var count = entries.size();
+        colliders = new Collider[count];
+        layerBits = new int[count];
+        bounds = new double[count * 4];
+        items = new int[count];
+        nodeBounds = new double[count * 8];
+        nodeStart = new int[count * 2];
+        nodeCount = new int[count * 2];
+        nodeRight = new int[count * 2];
+        nodeTotal = 0;
+        itemCount = 0;
+        usedLayers = 0;
+
+        for (var layer = 0; layer < Collider.COLLISION_LAYERS; layer++) {
+            final var currentLayer = layer;
+            entries.forEach((collider, colliderLayer) -> {
+                if (colliderLayer == currentLayer) {
+                    addItem(collider, currentLayer);
+                }
+            });
+        }
+
+        if (itemCount > 0) {
+            buildNode(0, itemCount);
+        }
+    }
+
+    private void addItem(final Collider collider, final int layer) {
+        final var boundingBox = collider.getBoundingBox();
+        if (boundingBox == null || boundingBox.isEmpty()) {
+            return;
+        }
+
+        final var index = itemCount;
+        colliders[index] = collider;
+        layerBits[index] = 1 << layer;
+        bounds[index * 4] = boundingBox.getMinX();
+        bounds[index * 4 + 1] = boundingBox.getMinY();
+        bounds[index * 4 + 2] = boundingBox.getMaxX();
+        bounds[index * 4 + 3] = boundingBox.getMaxY();
+        items[index] = index;
+        usedLayers |= 1 << layer;
+        itemCount++;
+    }
+
+    /**
+     * Build the node for the items within the given range. The left child of a node directly follows it, so only the
+     * index of the right child has to be stored.
+     */
+    private int buildNode(final int start, final int end) {
+        final var node = nodeTotal++;
+        final var offset = node * 4;
+
+        nodeBounds[offset] = Double.POSITIVE_INFINITY;
+        nodeBounds[offset + 1] = Double.POSITIVE_INFINITY;
+        nodeBounds[offset + 2] = Double.NEGATIVE_INFINITY;
+        nodeBounds[offset + 3] = Double.NEGATIVE_INFINITY;
+        for (var i = start; i < end; i++) {
+            final var item = items[i] * 4;
+            nodeBounds[offset] = Math.min(nodeBounds[offset], bounds[item]);
+            nodeBounds[offset + 1] = Math.min(nodeBounds[offset + 1], bounds[item + 1]);
+            nodeBounds[offset + 2] = Math.max(nodeBounds[offset + 2], bounds[item + 2]);
+            nodeBounds[offset + 3] = Math.max(nodeBounds[offset + 3], bounds[item + 3]);
+        }
+
+        if (end - start <= LEAF_SIZE) {
+            nodeStart[node] = start;
+            nodeCount[node] = end - start;
+            return node;
+        }
+
+        final var axis = nodeBounds[offset + 2] - nodeBounds[offset] >= nodeBounds[offset + 3] - nodeBounds[offset + 1] ? 0 : 1;
+        final var middle = (start + end) >>> 1;
+        select(start, end - 1, middle, axis);
+
+        nodeCount[node] = 0;
+        buildNode(start, middle);
+        nodeRight[node] = buildNode(middle, end);
+        return node;
+    }
+
+    /**
+     * Partially sort the items within the given range by the centre of their bounding box along the given axis,
+     * such that the item at index {@code k} is in its sorted position.
+     */
+    private void select(int left, int right, final int k, final int axis) {
+        while (left < right) {
+            final var pivot = centre(items[(left + right) >>> 1], axis);
+            var i = left;
+            var j = right;
+
+            while (i <= j) {
+                while (centre(items[i], axis) < pivot) {
+                    i++;
+                }
+                while (centre(items[j], axis) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    final var item = items[i];
+                    items[i++] = items[j];
+                    items[j--] = item;
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private double centre(final int item, final int axis) {
+        return bounds[item * 4 + axis] + bounds[item * 4 + axis + 2];
+    }
+
+    private static boolean intersects(final double[] boxes, final int index, final double minX, final double minY,
+                                      final double maxX, final double maxY) {
+        final var offset = index * 4;
+        return boxes[offset] <= maxX && boxes[offset + 1] <= maxY && boxes[offset + 2] >= minX && boxes[offset + 3] >= minY;
+    }
+}
@@ -0,0 +1,343 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.core.entities.Bounded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link SweepAndPruneBroadphase} keeps the left and right edges of the bounding boxes of all instances of
+ * {@link Collider} and {@link Collided} in a single array, sorted along the x-axis. During {@link #update()} this
+ * array is swept from left to right, and only those entities whose horizontal extents overlap are tested further on
+ * the y-axis. Only the resulting overlapping pairs are passed on as candidates.
+ * <p>
+ * Because entities usually move only a little between two Game World Updates, the array is already nearly sorted at
+ * the start of each {@link #update()}. It is therefore re-sorted using insertion sort, which takes close to linear
+ * time in that case. This works well for scenes in which the entities are spread out horizontally, such as
+ * side-scrollers.
+ */
+public class SweepAndPruneBroadphase implements Broadphase {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long MAX_SEQUENCE = 0xFFFFFFFFL;
+    private static final long PROXY_MASK = 0x7FFFFFFFL;
+
+    private final Map<Bounded, Integer> proxyOfEntity = new HashMap<>();
+
+    private Collider[] colliders = new Collider[INITIAL_CAPACITY];
+    private Collided[] collideds = new Collided[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private boolean[] hasBounds = new boolean[INITIAL_CAPACITY];
+    private boolean[] released = new boolean[INITIAL_CAPACITY];
+    private long[] sequences = new long[INITIAL_CAPACITY];
+    private int proxyCount;
+    private long nextSequence;
+
+    private int[] freeProxies = new int[INITIAL_CAPACITY];
+    private int freeProxyCount;
+    private boolean hasReleasedProxies;
+
+    private int[] endpoints = new int[INITIAL_CAPACITY * 2];
+    private int endpointCount;
+
+    private int[] active = new int[INITIAL_CAPACITY];
+    private int[] activeSlots = new int[INITIAL_CAPACITY];
+    private int activeCount;
+
+    private long[][] pairs = new long[INITIAL_CAPACITY][];
+    private int[] pairCounts = new int[INITIAL_CAPACITY];
+
+    private final List<Collider> candidates = new ArrayList<>();
+
+    @Override
+    public void register(final Collider collider) {
+        final var proxy = acquireProxy(collider);
+        if (colliders[proxy] != null) {
+            return;
+        }
+
+        if (nextSequence > MAX_SEQUENCE) {
+            renumberSequences();
+        }
+        colliders[proxy] = collider;
+        sequences[proxy] = nextSequence++;
+    }
+
+    @Override
+    public void register(final Collided collided) {
+        collideds[acquireProxy(collided)] = collided;
+    }
+
+    @Override
+    public void remove(final Collider collider) {
+        final var proxy = proxyOfEntity.get(collider);
+        if (proxy != null) {
+            colliders[proxy] = null;
+            releaseIfUnused(collider, proxy);
+        }
+    }
+
+    @Override
+    public void remove(final Collided collided) {
+        final var proxy = proxyOfEntity.get(collided);
+        if (proxy != null) {
+            collideds[proxy] = null;
+            releaseIfUnused(collided, proxy);
+        }
+    }
+
+    /**
+     * Re-sort the edges of all bounding boxes and sweep over them to find all overlapping pairs.
+     */
+    @Override
+    public void update() {
+        if (hasReleasedProxies) {
+            compactEndpoints();
+        }
+
+        for (var proxy = 0; proxy < proxyCount; proxy++) {
+            pairCounts[proxy] = 0;
+            if (!released[proxy]) {
+                readBounds(proxy);
+            }
+        }
+
+        insertionSort();
+        sweep();
+    }
+
+    /**
+     * Return all instances of {@link Collider} of which the bounding box overlapped with that of the given
+     * {@link Collided} during the last {@link #update()}.
+     *
+     * @param collided the {@link Collided} for which the candidates should be gathered
+     * @return a {@link List} of all instances of {@link Collider} that overlap with the given {@link Collided}
+     */
+    @Override
+    public List<Collider> getCandidates(final Collided collided) {
+        candidates.clear();
+
+        final var proxy = proxyOfEntity.get(collided);
+        if (proxy == null || pairCounts[proxy] == 0) {
+            return candidates;
+        }
+
+        final var proxyPairs = pairs[proxy];
+        final var pairCount = pairCounts[proxy];
+        Arrays.sort(proxyPairs, 0, pairCount);
+
+        for (var i = 0; i < pairCount; i++) {
+            final var collider = colliders[(int) (proxyPairs[i] & PROXY_MASK)];
+            if (collider != null) {
+                candidates.add(collider);
+            }
+        }
+
+        return candidates;
+    }
+
+    private int acquireProxy(final Bounded entity) {
+        final var existing = proxyOfEntity.get(entity);
+        if (existing != null) {
+            return existing;
+        }
+
+        final int proxy;
+        if (freeProxyCount > 0) {
+            proxy = freeProxies[--freeProxyCount];
+        } else {
+            if (proxyCount == colliders.length) {
+                growProxies(proxyCount * 2);
+            }
+            proxy = proxyCount++;
+        }
+
+        released[proxy] = false;
+        hasBounds[proxy] = false;
+        minX[proxy] = Double.POSITIVE_INFINITY;
+        maxX[proxy] = Double.POSITIVE_INFINITY;
+
+        if (endpointCount + 2 > endpoints.length) {
+            endpoints = Arrays.copyOf(endpoints, endpoints.length * 2);
+        }
+        endpoints[endpointCount++] = proxy << 1;
+        endpoints[endpointCount++] = (proxy << 1) | 1;
+
+        proxyOfEntity.put(entity, proxy);
+        return proxy;
+    }
+
+    /**
+     * A proxy is only released once both its {@link Collider} and {@link Collided} role have been removed. Its
+     * endpoints are removed in bulk during the next {@link #update()}, after which it can be reused.
+     */
+    private void releaseIfUnused(final Bounded entity, final int proxy) {
+        if (colliders[proxy] == null && collideds[proxy] == null) {
+            proxyOfEntity.remove(entity);
+            released[proxy] = true;
+            hasBounds[proxy] = false;
+            pairCounts[proxy] = 0;
+            hasReleasedProxies = true;
+        }
+    }
+
+    private void compactEndpoints() {
+        var kept = 0;
+        for (var i = 0; i < endpointCount; i++) {
+            final var endpoint = endpoints[i];
+            if (!released[endpoint >> 1]) {
+                endpoints[kept++] = endpoint;
+            } else if ((endpoint & 1) == 0) {
+                freeProxies[freeProxyCount++] = endpoint >> 1;
+            }
+        }
+        endpointCount = kept;
+        hasReleasedProxies = false;
+    }
+
+    private void readBounds(final int proxy) {
+        final var bounds = collideds[proxy] != null
+                ? Broadphase.getQueryBounds(collideds[proxy])
+                : colliders[proxy].getBoundingBox();
+
+        if (bounds == null || bounds.isEmpty()) {
+            hasBounds[proxy] = false;
+            minX[proxy] = Double.POSITIVE_INFINITY;
+            maxX[proxy] = Double.POSITIVE_INFINITY;
+        } else {
+            hasBounds[proxy] = true;
+            minX[proxy] = bounds.getMinX();
+            maxX[proxy] = bounds.getMaxX();
+            minY[proxy] = bounds.getMinY();
+            maxY[proxy] = bounds.getMaxY();
+        }
+    }
+
+    private void insertionSort() {
+        for (var i = 1; i < endpointCount; i++) {
+            final var endpoint = endpoints[i];
+            final var value = valueOf(endpoint);
+
+            var j = i - 1;
+            while (j >= 0 && isAfter(endpoints[j], value, endpoint)) {
+                endpoints[j + 1] = endpoints[j];
+                j--;
+            }
+            endpoints[j + 1] = endpoint;
+        }
+    }
+
+    /**
+     * Whether the first endpoint should be placed after the second one. On equal values a left edge is placed
+     * before a right edge, so bounding boxes that only touch are still considered to overlap.
+     */
+    private boolean isAfter(final int endpoint, final double value, final int other) {
+        final var endpointValue = valueOf(endpoint);
+        return endpointValue > value || (endpointValue == value && (endpoint & 1) > (other & 1));
+    }
+
+    private void sweep() {
+        activeCount = 0;
+
+        for (var i = 0; i < endpointCount; i++) {
+            final var endpoint = endpoints[i];
+            final var proxy = endpoint >> 1;
+
+            if (!hasBounds[proxy]) {
+                continue;
+            }
+
+            if ((endpoint & 1) == 0) {
+                for (var j = 0; j < activeCount; j++) {
+                    addPairsWhenOverlapping(proxy, active[j]);
+                }
+                activeSlots[proxy] = activeCount;
+                active[activeCount++] = proxy;
+            } else {
+                final var slot = activeSlots[proxy];
+                final var last = active[--activeCount];
+                active[slot] = last;
+                activeSlots[last] = slot;
+            }
+        }
+    }
+
+    private void addPairsWhenOverlapping(final int a, final int b) {
+        if (minY[a] > maxY[b] || minY[b] > maxY[a]) {
+            return;
+        }
+
+        if (collideds[a] != null && colliders[b] != null) {
+            addPair(a, b);
+        }
+        if (collideds[b] != null && colliders[a] != null) {
+            addPair(b, a);
+        }
+    }
+
+    private void addPair(final int collidedProxy, final int colliderProxy) {
+        var proxyPairs = pairs[collidedProxy];
+        final var pairCount = pairCounts[collidedProxy];
+
+        if (proxyPairs == null) {
+            proxyPairs = new long[INITIAL_CAPACITY];
+            pairs[collidedProxy] = proxyPairs;
+        } else if (pairCount == proxyPairs.length) {
+            proxyPairs = Arrays.copyOf(proxyPairs, pairCount * 2);
+            pairs[collidedProxy] = proxyPairs;
+        }
+
+        proxyPairs[pairCount] = (sequences[colliderProxy] << 31) | colliderProxy;
+        pairCounts[collidedProxy] = pairCount + 1;
+    }
+
+    private double valueOf(final int endpoint) {
+        final var proxy = endpoint >> 1;
+        return (endpoint & 1) == 0 ? minX[proxy] : maxX[proxy];
+    }
+
+    private void growProxies(final int capacity) {
+        colliders = Arrays.copyOf(colliders, capacity);
+        collideds = Arrays.copyOf(collideds, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        hasBounds = Arrays.copyOf(hasBounds, capacity);
+        released = Arrays.copyOf(released, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        freeProxies = Arrays.copyOf(freeProxies, capacity);
+        active = Arrays.copyOf(active, capacity);
+        activeSlots = Arrays.copyOf(activeSlots, capacity);
+        pairs = Arrays.copyOf(pairs, capacity);
+        pairCounts = Arrays.copyOf(pairCounts, capacity);
+    }
+
+    /**
+     * Sequences are packed in 32 bits when sorting the candidates. When they run out, all instances of
+     * {@link Collider} are renumbered while preserving their order.
+     */
+    private void renumberSequences() {
+        final var packed = new long[proxyCount];
+        var count = 0;
+        for (var proxy = 0; proxy < proxyCount; proxy++) {
+            if (colliders[proxy] != null) {
+                packed[count++] = (sequences[proxy] << 31) | proxy;
+            }
+        }
+        Arrays.sort(packed, 0, count);
+
+        for (var i = 0; i < count; i++) {
+            sequences[(int) (packed[i] & PROXY_MASK)] = i;
+        }
+        nextSequence = count;
+    }
+}
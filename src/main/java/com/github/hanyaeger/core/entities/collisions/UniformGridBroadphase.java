@@ -0,0 +1,246 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.scenes.YaegerScene;
+import javafx.geometry.Bounds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link UniformGridBroadphase} divides the {@link YaegerScene} into square cells of a fixed size and buckets
+ * each {@link Collider} into all cells its bounding box covers. A {@link Collided} then only needs to be checked
+ * against those instances of {@link Collider} that share at least one cell with it, instead of against all of them.
+ * <p>
+ * The cells are stored in a spatial hash, so the grid is unbounded and only occupied cells use memory. All internal
+ * buffers are reused between Game World Updates, meaning that, once warmed up, no allocations take place.
+ */
+public class UniformGridBroadphase implements Broadphase {
+
+    /**
+     * The cell size that is used when none is provided.
+     */
+    public static final double DEFAULT_CELL_SIZE = 64D;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NONE = -1;
+
+    private final double cellSize;
+    private final ColliderRegistry registry = new ColliderRegistry();
+    private List<Collider> colliders = List.of();
+
+    private long[] cellKeys = new long[INITIAL_CAPACITY];
+    private int[] cellHeads = new int[INITIAL_CAPACITY];
+    private int[] usedSlots = new int[INITIAL_CAPACITY];
+    private int usedSlotCount;
+
+    private int[] entryColliders = new int[INITIAL_CAPACITY];
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    private int[] visited = new int[INITIAL_CAPACITY];
+    private int[] found = new int[INITIAL_CAPACITY];
+    private int queryStamp;
+
+    private final List<Collider> candidates = new ArrayList<>();
+
+    /**
+     * Create a new {@link UniformGridBroadphase} with the given cell size.
+     *
+     * @param cellSize the width and height of a single cell in pixels, which should be larger than {@code 0}
+     */
+    public UniformGridBroadphase(final double cellSize) {
+        if (cellSize <= 0 || Double.isNaN(cellSize) || Double.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("The cell size of a collision grid should be a positive number, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+        Arrays.fill(cellHeads, NONE);
+    }
+
+    /**
+     * Return the width and height of a single cell.
+     *
+     * @return the cell size as a {@code double}
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public void register(final Collider collider) {
+        registry.add(collider);
+    }
+
+    @Override
+    public void remove(final Collider collider) {
+        registry.remove(collider);
+    }
+
+    /**
+     * Bucket all instances of {@link Collider} into the cells covered by their bounding box.
+     */
+    @Override
+    public void update() {
+        colliders = registry.asList();
+        clearCells();
+
+        final var size = colliders.size();
+        if (visited.length < size) {
+            visited = new int[Math.max(size, visited.length * 2)];
+            found = new int[visited.length];
+            queryStamp = 0;
+        }
+
+        for (var i = 0; i < size; i++) {
+            final var bounds = colliders.get(i).getBoundingBox();
+            if (bounds == null || bounds.isEmpty()) {
+                continue;
+            }
+
+            final var minCellX = toCell(bounds.getMinX());
+            final var maxCellX = toCell(bounds.getMaxX());
+            final var minCellY = toCell(bounds.getMinY());
+            final var maxCellY = toCell(bounds.getMaxY());
+
+            for (var cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (var cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    insert(key(cellX, cellY), i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return all instances of {@link Collider} that share at least one cell with the given {@link Collided}.
+     *
+     * @param collided the {@link Collided} for which the candidates should be gathered
+     * @return a {@link List} of all instances of {@link Collider} that are near the given {@link Collided}
+     */
+    @Override
+    public List<Collider> getCandidates(final Collided collided) {
+        candidates.clear();
+
+        final var bounds = Broadphase.getQueryBounds(collided);
+        if (bounds == null || bounds.isEmpty() || entryCount == 0) {
+            return candidates;
+        }
+
+        final var foundCount = gatherCandidates(bounds);
+        Arrays.sort(found, 0, foundCount);
+
+        for (var i = 0; i < foundCount; i++) {
+            candidates.add(colliders.get(found[i]));
+        }
+
+        return candidates;
+    }
+
+    private int gatherCandidates(final Bounds bounds) {
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            queryStamp = 1;
+        }
+
+        final var minCellX = toCell(bounds.getMinX());
+        final var maxCellX = toCell(bounds.getMaxX());
+        final var minCellY = toCell(bounds.getMinY());
+        final var maxCellY = toCell(bounds.getMaxY());
+
+        var foundCount = 0;
+        for (var cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (var cellY = minCellY; cellY <= maxCellY; cellY++) {
+                final var slot = findSlot(key(cellX, cellY));
+
+                if (cellHeads[slot] == NONE) {
+                    continue;
+                }
+
+                for (var entry = cellHeads[slot]; entry != NONE; entry = entryNext[entry]) {
+                    final var colliderIndex = entryColliders[entry];
+                    if (visited[colliderIndex] != queryStamp) {
+                        visited[colliderIndex] = queryStamp;
+                        found[foundCount++] = colliderIndex;
+                    }
+                }
+            }
+        }
+        return foundCount;
+    }
+
+    private void insert(final long key, final int colliderIndex) {
+        if ((usedSlotCount + 1) * 2 > cellKeys.length) {
+            growCells();
+        }
+        if (entryCount == entryColliders.length) {
+            entryColliders = Arrays.copyOf(entryColliders, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+
+        final var slot = findSlot(key);
+        if (cellHeads[slot] == NONE) {
+            cellKeys[slot] = key;
+            usedSlots[usedSlotCount++] = slot;
+        }
+
+        entryColliders[entryCount] = colliderIndex;
+        entryNext[entryCount] = cellHeads[slot];
+        cellHeads[slot] = entryCount++;
+    }
+
+    /**
+     * Return the slot that contains the given key, or the empty slot in which it should be stored.
+     */
+    private int findSlot(final long key) {
+        final var mask = cellKeys.length - 1;
+        var slot = hash(key) & mask;
+
+        while (cellHeads[slot] != NONE && cellKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void growCells() {
+        final var oldKeys = cellKeys;
+        final var oldHeads = cellHeads;
+        final var oldUsedSlots = usedSlots;
+        final var oldUsedSlotCount = usedSlotCount;
+
+        cellKeys = new long[oldKeys.length * 2];
+        cellHeads = new int[oldKeys.length * 2];
+        usedSlots = new int[oldKeys.length * 2];
+        usedSlotCount = 0;
+        Arrays.fill(cellHeads, NONE);
+
+        for (var i = 0; i < oldUsedSlotCount; i++) {
+            final var oldSlot = oldUsedSlots[i];
+            final var slot = findSlot(oldKeys[oldSlot]);
+            cellKeys[slot] = oldKeys[oldSlot];
+            cellHeads[slot] = oldHeads[oldSlot];
+            usedSlots[usedSlotCount++] = slot;
+        }
+    }
+
+    private void clearCells() {
+        for (var i = 0; i < usedSlotCount; i++) {
+            cellHeads[usedSlots[i]] = NONE;
+        }
+        usedSlotCount = 0;
+        entryCount = 0;
+    }
+
+    private int toCell(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(final int cellX, final int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private static int hash(final long key) {
+        final var h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
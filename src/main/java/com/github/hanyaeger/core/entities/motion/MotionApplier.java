@@ -16,6 +16,8 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
     private static final Point2D IDENTITY_MOTION = new Point2D(0, 1);
     private static final Point2D NON_MOTION = new Point2D(0, 0);
     private Optional<Double> direction = Optional.empty();
+    private double previousX = Double.NaN;
+    private double previousY = Double.NaN;
     private Coordinate2D motion;
 
     /**
@@ -37,6 +39,7 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
     private double frictionConstant = DEFAULT_FRICTION_CONSTANT;
     private double gravityConstant = DEFAULT_GRAVITATIONAL_CONSTANT;
     private double gravityDirection = DEFAULT_GRAVITATIONAL_DIRECTION;
+    private Runnable wakeUpHandler;
 
     /**
      * Create a new instance of {@link MotionApplier}.
@@ -154,6 +157,7 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
     @Override
     public void addToMotion(final double speed, final double direction) {
         motion = motion.add(createVector(speed, direction));
+        wakeUpIfMoving();
     }
 
 
@@ -174,6 +178,7 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
         }
 
         this.direction.ifPresent(this::setDirection);
+        wakeUpIfMoving();
     }
 
     @Override
@@ -204,6 +209,9 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
     @Override
     public void setGravityConstant(final double gravityConstant) {
         this.gravityConstant = gravityConstant;
+        if (Double.compare(gravityConstant, 0D) != 0 && wakeUpHandler != null) {
+            wakeUpHandler.run();
+        }
     }
 
     @Override
@@ -221,6 +229,24 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
         return gravityDirection;
     }
 
+    /**
+     * Set the {@link Runnable} that should be called when the motion changes in a way that makes the entity move
+     * again. This is used to wake up an entity that has been put to sleep, because it was no longer moving.
+     *
+     * <b>Note that this method is for internal use only and should not be used when creating a {@link com.github.hanyaeger.api.YaegerGame}</b>
+     *
+     * @param wakeUpHandler the {@link Runnable} to be called, or {@code null}
+     */
+    public void setWakeUpHandler(final Runnable wakeUpHandler) {
+        this.wakeUpHandler = wakeUpHandler;
+    }
+
+    private void wakeUpIfMoving() {
+        if (wakeUpHandler != null && Double.compare(motion.magnitude(), 0D) != 0) {
+            wakeUpHandler.run();
+        }
+    }
+
     @Override
     public double getSpeed() {
         return motion.magnitude();
@@ -267,6 +293,49 @@ public class MotionApplier implements MotionModifier, NewtonianModifier, Locatio
         return motion;
     }
 
+    /**
+     * Set the location at which the {@link YaegerEntity} was placed at the start of the current Game World Update,
+     * before its motion was applied. The coordinates are stored as they are, so no object is created on each Game
+     * World Update.
+     *
+     * @param x the x-coordinate of the previous location
+     * @param y the y-coordinate of the previous location
+     */
+    public void setPreviousLocation(final double x, final double y) {
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    /**
+     * Return whether a previous location has been set, which is not the case if no Game World Update has taken place
+     * yet.
+     *
+     * @return {@code true} if a previous location has been set
+     */
+    public boolean hasPreviousLocation() {
+        return !Double.isNaN(previousX);
+    }
+
+    /**
+     * Return the x-coordinate of the location at which the {@link YaegerEntity} was placed at the start of the
+     * current Game World Update. Only valid if {@link #hasPreviousLocation()} returns {@code true}.
+     *
+     * @return the x-coordinate of the previous location
+     */
+    public double getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * Return the y-coordinate of the location at which the {@link YaegerEntity} was placed at the start of the
+     * current Game World Update. Only valid if {@link #hasPreviousLocation()} returns {@code true}.
+     *
+     * @return the y-coordinate of the previous location
+     */
+    public double getPreviousY() {
+        return previousY;
+    }
+
     @Override
     public Coordinate2D updateLocation(final Point2D currentLocation) {
         return new Coordinate2D(currentLocation.add(motion));
@@ -131,19 +131,22 @@ public interface Movable extends Placeable, MotionModifier {
     }
 
     /**
-     * Return the {@link Updatable} to be called on each Game World Update.
+     * Return the {@link Updatable} to be called on each Game World Update. The location from before the update is
+     * stored as the previous location on the {@link MotionApplier}.
      *
      * @return an {@link Updatable} to be called
      */
     @UpdatableProvider(asFirst = true)
     default Updatable updateLocation() {
         return timestamp -> {
-            if (Double.compare(getSpeed(), 0D) == 0) {
-                return;
+            final var location = getAnchorLocation();
+
+            if (Double.compare(getSpeed(), 0D) != 0) {
+                setAnchorLocation(getMotionApplier().updateLocation(location));
             }
 
-            final var loc = getMotionApplier().updateLocation(getAnchorLocation());
-            setAnchorLocation(loc);
+            // Setting the anchor location resets the previous location, so it is stored afterwards
+            getMotionApplier().setPreviousLocation(location.getX(), location.getY());
         };
     }
 }
@@ -0,0 +1,31 @@
+package com.github.hanyaeger.core.factories;
+
+import com.github.hanyaeger.api.scenes.CollisionStrategy;
+import com.github.hanyaeger.core.entities.collisions.AABBTreeBroadphase;
+import com.github.hanyaeger.core.entities.collisions.Broadphase;
+import com.github.hanyaeger.core.entities.collisions.BruteForceBroadphase;
+import com.github.hanyaeger.core.entities.collisions.SweepAndPruneBroadphase;
+import com.github.hanyaeger.core.entities.collisions.UniformGridBroadphase;
+
+/**
+ * A {@link BroadphaseFactory} should be used to create the {@link Broadphase} that belongs to a
+ * {@link CollisionStrategy}.
+ */
+public class BroadphaseFactory {
+
+    /**
+     * Create a {@link Broadphase} for the given {@link CollisionStrategy}.
+     *
+     * @param strategy the {@link CollisionStrategy} for which a {@link Broadphase} should be created
+     * @param cellSize the cell size to be used by a {@link UniformGridBroadphase}
+     * @return an instance of {@link Broadphase}
+     */
+    public Broadphase create(final CollisionStrategy strategy, final double cellSize) {
+        return switch (strategy) {
+            case BRUTE_FORCE -> new BruteForceBroadphase();
+            case UNIFORM_GRID -> new UniformGridBroadphase(cellSize);
+            case AABB_TREE -> new AABBTreeBroadphase();
+            case SWEEP_AND_PRUNE -> new SweepAndPruneBroadphase();
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.hanyaeger.core.profiling;
+
+import java.util.Arrays;
+
+/**
+ * A {@link DurationHistogram} aggregates measured durations in nanoseconds. Each duration is counted in the bucket of
+ * its power of two, so recording a duration neither allocates nor depends on the number of earlier recordings.
+ * Because of this, percentiles are an upper bound that is at most twice the actual value.
+ */
+public class DurationHistogram {
+
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final long[] buckets = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Record the given duration.
+     *
+     * @param nanos the duration in nanoseconds, of which a negative value is recorded as {@code 0}
+     */
+    public void record(final long nanos) {
+        final var duration = Math.max(0, nanos);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(duration)]++;
+        count++;
+        total += duration;
+        if (duration > max) {
+            max = duration;
+        }
+    }
+
+    /**
+     * Return the number of recorded durations.
+     *
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Return the sum of all recorded durations.
+     *
+     * @return the total duration in nanoseconds
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Return the longest recorded duration.
+     *
+     * @return the longest duration in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Return the mean of all recorded durations.
+     *
+     * @return the mean duration in nanoseconds, or {@code 0} if no duration has been recorded
+     */
+    public long getMean() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Return the duration below which the given fraction of all recorded durations lies.
+     *
+     * @param fraction the fraction, between {@code 0} and {@code 1}
+     * @return the upper bound of the bucket that contains the percentile, in nanoseconds, but never more than
+     * {@link #getMax()}
+     */
+    public long getPercentile(final double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("The fraction of a percentile should be between 0 and 1.");
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        final var rank = Math.max(1, (long) Math.ceil(fraction * count));
+        var cumulative = 0L;
+        for (var bucket = 0; bucket < BUCKETS; bucket++) {
+            cumulative += buckets[bucket];
+            if (cumulative >= rank) {
+                return Math.min(max, upperBound(bucket));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Discard all recorded durations.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    private static long upperBound(final int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
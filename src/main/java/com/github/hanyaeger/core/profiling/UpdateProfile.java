@@ -0,0 +1,26 @@
+package com.github.hanyaeger.core.profiling;
+
+/**
+ * A snapshot of the {@link DurationHistogram} of a single label of the {@link UpdateProfiler}.
+ *
+ * @param label  the label of the measured {@link com.github.hanyaeger.core.Updatable} or part of the Game World Update
+ * @param count  the number of measured calls
+ * @param total  the sum of all measured durations in nanoseconds
+ * @param mean   the mean duration in nanoseconds
+ * @param max    the longest duration in nanoseconds
+ * @param p95    the upper bound of the 95th percentile in nanoseconds
+ */
+public record UpdateProfile(String label, long count, long total, long mean, long max, long p95) {
+
+    /**
+     * Create an {@link UpdateProfile} from the current content of the given {@link DurationHistogram}.
+     *
+     * @param label     the label of the {@link DurationHistogram}
+     * @param histogram the {@link DurationHistogram}
+     * @return a new {@link UpdateProfile}
+     */
+    static UpdateProfile of(final String label, final DurationHistogram histogram) {
+        return new UpdateProfile(label, histogram.getCount(), histogram.getTotal(), histogram.getMean(),
+                histogram.getMax(), histogram.getPercentile(0.95));
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.hanyaeger.core.profiling;
+
+import com.github.hanyaeger.core.Updatable;
+import com.google.inject.Singleton;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link UpdateProfiler} measures the duration of each {@link Updatable} and of each part of the Game World Update,
+ * using {@link System#nanoTime()}. All durations are aggregated per label into a {@link DurationHistogram}.
+ * <p>
+ * Profiling is opt-in. When it is not enabled, no {@link Updatable} is wrapped and no duration is measured, so
+ * an {@link UpdateProfiler} that is disabled adds no overhead to the Game World Update. Because an {@link Updatable}
+ * is only wrapped while it is being registered, profiling should be enabled before the
+ * {@link com.github.hanyaeger.api.scenes.YaegerScene} is activated.
+ */
+@Singleton
+public class UpdateProfiler {
+
+    /**
+     * The number of labels that is shown by default, when reporting the slowest labels.
+     */
+    public static final int DEFAULT_REPORT_SIZE = 10;
+
+    private static final String REPORT_HEADER = String.format("%-60s%10s%12s%12s%12s%12s",
+            "Label", "Calls", "Total (ms)", "Mean (us)", "P95 (us)", "Max (us)");
+    private static final String REPORT_LINE = "%-60s%10d%12.1f%12.1f%12.1f%12.1f";
+    private static final double NANOS_PER_MICRO = 1_000D;
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private final Map<String, DurationHistogram> histograms = new HashMap<>();
+    private boolean enabled;
+
+    /**
+     * Return whether profiling is enabled.
+     *
+     * @return {@code true} if profiling is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set whether profiling is enabled.
+     *
+     * @param enabled whether profiling should be enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Return the {@link DurationHistogram} of the given label, which is created if it does not yet exist.
+     *
+     * @param label the label
+     * @return the {@link DurationHistogram} of the label
+     */
+    public DurationHistogram getHistogram(final String label) {
+        return histograms.computeIfAbsent(label, key -> new DurationHistogram());
+    }
+
+    /**
+     * Wrap the given {@link Updatable} in an {@link Updatable} that records the duration of each call to its
+     * {@code update} method in the {@link DurationHistogram} of the given label.
+     *
+     * @param label     the label
+     * @param updatable the {@link Updatable} to be measured
+     * @return an {@link Updatable} that delegates to the given {@link Updatable}
+     */
+    public Updatable wrap(final String label, final Updatable updatable) {
+        final var histogram = getHistogram(label);
+
+        return timestamp -> {
+            final var start = System.nanoTime();
+            updatable.update(timestamp);
+            histogram.record(System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * Return the labels with the highest total duration, ordered from the highest to the lowest.
+     *
+     * @param size the maximum number of labels
+     * @return a {@link List} of {@link UpdateProfile}
+     */
+    public List<UpdateProfile> getSlowest(final int size) {
+        return histograms.entrySet().stream()
+                .filter(entry -> entry.getValue().getCount() > 0)
+                .map(entry -> UpdateProfile.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(UpdateProfile::total).reversed()
+                        .thenComparing(UpdateProfile::label))
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * Create a report that contains the labels with the highest total duration, as a table with one line per label.
+     *
+     * @param size the maximum number of labels
+     * @return the report as a {@link String}
+     */
+    public String report(final int size) {
+        final var report = new StringBuilder(REPORT_HEADER);
+        for (final var profile : getSlowest(size)) {
+            report.append(System.lineSeparator()).append(String.format(REPORT_LINE,
+                    profile.label(),
+                    profile.count(),
+                    profile.total() / NANOS_PER_MILLI,
+                    profile.mean() / NANOS_PER_MICRO,
+                    profile.p95() / NANOS_PER_MICRO,
+                    profile.max() / NANOS_PER_MICRO));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Discard all recorded durations. Wrapped instances of {@link Updatable} keep recording their durations.
+     */
+    public void reset() {
+        histograms.values().forEach(DurationHistogram::reset);
+    }
+}
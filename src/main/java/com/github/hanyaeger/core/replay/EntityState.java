@@ -0,0 +1,15 @@
+package com.github.hanyaeger.core.replay;
+
+/**
+ * The state of a single {@link com.github.hanyaeger.api.entities.YaegerEntity}, as stored in a keyframe of a
+ * {@link com.github.hanyaeger.api.scenes.Recording}.
+ *
+ * @param type      the fully qualified name of the class of the entity
+ * @param x         the x-coordinate of its anchor location
+ * @param y         the y-coordinate of its anchor location
+ * @param speed     its speed, or {@code 0} if it can not move
+ * @param direction its direction, or {@code 0} if it can not move
+ * @param rotation  its rotation in degrees
+ */
+public record EntityState(String type, double x, double y, double speed, double direction, double rotation) {
+}
@@ -0,0 +1,118 @@
+package com.github.hanyaeger.core.replay;
+
+import javafx.event.EventType;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link RecordedEntry} is a single entry of a {@link com.github.hanyaeger.api.scenes.Recording}. All input is
+ * recorded before the {@link Pulse} during which it was received.
+ */
+public interface RecordedEntry {
+
+    /**
+     * A pulse of the Game Loop.
+     *
+     * @param timestamp the timestamp of the pulse in nanoseconds
+     */
+    record Pulse(long timestamp) implements RecordedEntry {
+    }
+
+    /**
+     * A change of the keys that are pressed.
+     *
+     * @param keys all keys that are pressed after the change
+     */
+    record KeysChanged(Set<KeyCode> keys) implements RecordedEntry {
+    }
+
+    /**
+     * The state of all entities before the next {@link Pulse}.
+     *
+     * @param entities the {@link EntityState} of each entity
+     */
+    record Keyframe(List<EntityState> entities) implements RecordedEntry {
+    }
+
+    /**
+     * A {@link MouseEvent} that was received by the {@link javafx.scene.Scene}.
+     *
+     * @param type       the index of the {@link EventType} in {@link #TYPES}
+     * @param x          the x-coordinate within the {@link javafx.scene.Scene}
+     * @param y          the y-coordinate within the {@link javafx.scene.Scene}
+     * @param button     the {@link MouseButton}
+     * @param clickCount the number of clicks
+     * @param modifiers  the pressed modifier keys and mouse buttons, as bits
+     */
+    record MouseInput(int type, double x, double y, MouseButton button, int clickCount, int modifiers) implements RecordedEntry {
+
+        /**
+         * The types of {@link MouseEvent} that are recorded.
+         */
+        public static final List<EventType<MouseEvent>> TYPES = List.of(MouseEvent.MOUSE_PRESSED,
+                MouseEvent.MOUSE_RELEASED, MouseEvent.MOUSE_CLICKED, MouseEvent.MOUSE_MOVED, MouseEvent.MOUSE_DRAGGED);
+
+        private static final int SHIFT = 1;
+        private static final int CONTROL = 1 << 1;
+        private static final int ALT = 1 << 2;
+        private static final int META = 1 << 3;
+        private static final int PRIMARY = 1 << 4;
+        private static final int MIDDLE = 1 << 5;
+        private static final int SECONDARY = 1 << 6;
+        private static final int STILL_SINCE_PRESS = 1 << 7;
+
+        /**
+         * Create a {@link MouseInput} for the given {@link MouseEvent}.
+         *
+         * @param event the {@link MouseEvent}, of which the type should be one of {@link #TYPES}
+         * @return a new {@link MouseInput}
+         */
+        public static MouseInput of(final MouseEvent event) {
+            var modifiers = 0;
+            modifiers |= event.isShiftDown() ? SHIFT : 0;
+            modifiers |= event.isControlDown() ? CONTROL : 0;
+            modifiers |= event.isAltDown() ? ALT : 0;
+            modifiers |= event.isMetaDown() ? META : 0;
+            modifiers |= event.isPrimaryButtonDown() ? PRIMARY : 0;
+            modifiers |= event.isMiddleButtonDown() ? MIDDLE : 0;
+            modifiers |= event.isSecondaryButtonDown() ? SECONDARY : 0;
+            modifiers |= event.isStillSincePress() ? STILL_SINCE_PRESS : 0;
+
+            return new MouseInput(TYPES.indexOf(event.getEventType()), event.getSceneX(), event.getSceneY(),
+                    event.getButton(), event.getClickCount(), modifiers);
+        }
+
+        /**
+         * Return whether a {@link MouseEvent} of the given {@link EventType} is recorded.
+         *
+         * @param type the {@link EventType}
+         * @return {@code true} if it is one of {@link #TYPES}
+         */
+        public static boolean isRecorded(final EventType<? extends MouseEvent> type) {
+            return TYPES.contains(type);
+        }
+
+        /**
+         * Create a new {@link MouseEvent} that equals the recorded one. Its coordinates are those within the
+         * {@link javafx.scene.Scene}.
+         *
+         * @param pickResult the {@link PickResult} of the new {@link MouseEvent}
+         * @return a new {@link MouseEvent}
+         */
+        public MouseEvent toMouseEvent(final PickResult pickResult) {
+            return new MouseEvent(TYPES.get(type), x, y, x, y, button, clickCount,
+                    isSet(SHIFT), isSet(CONTROL), isSet(ALT), isSet(META),
+                    isSet(PRIMARY), isSet(MIDDLE), isSet(SECONDARY),
+                    false, false, isSet(STILL_SINCE_PRESS), pickResult);
+        }
+
+        private boolean isSet(final int modifier) {
+            return (modifiers & modifier) != 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.hanyaeger.core.replay;
+
+import com.github.hanyaeger.api.scenes.Recording;
+import com.github.hanyaeger.core.entities.EntityCollection;
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A {@link SessionRecorder} records the pulses of the Game Loop of a
+ * {@link com.github.hanyaeger.api.scenes.DynamicScene} and all input in between into a {@link Recording}.
+ */
+public class SessionRecorder {
+
+    private final Recording recording = new Recording();
+    private final int keyframeInterval;
+    private final EventHandler<MouseEvent> mouseFilter = this::recordMouseEvent;
+
+    /**
+     * Create a new {@link SessionRecorder}.
+     *
+     * @param keyframeInterval the number of pulses between two keyframes, which should be at least {@code 1}
+     */
+    public SessionRecorder(final int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("The keyframe interval should be at least 1, but was " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Start recording the instances of {@link MouseEvent} that are received by the given {@link Scene}.
+     *
+     * @param scene the {@link Scene}, which can be {@code null} if there is none
+     */
+    public void attach(final Scene scene) {
+        if (scene != null) {
+            scene.addEventFilter(MouseEvent.ANY, mouseFilter);
+        }
+    }
+
+    /**
+     * Stop recording the instances of {@link MouseEvent} that are received by the given {@link Scene}.
+     *
+     * @param scene the {@link Scene}, which can be {@code null} if there is none
+     */
+    public void detach(final Scene scene) {
+        if (scene != null) {
+            scene.removeEventFilter(MouseEvent.ANY, mouseFilter);
+        }
+    }
+
+    /**
+     * Record a change of the pressed keys.
+     *
+     * @param keys all keys that are pressed after the change
+     */
+    public void recordKeys(final Set<KeyCode> keys) {
+        recording.add(new RecordedEntry.KeysChanged(keys.isEmpty() ? EnumSet.noneOf(KeyCode.class) : EnumSet.copyOf(keys)));
+    }
+
+    /**
+     * Record a pulse of the Game Loop, preceded by a keyframe of the given {@link EntityCollection} if the keyframe
+     * interval has passed.
+     *
+     * @param timestamp        the timestamp of the pulse
+     * @param entityCollection the {@link EntityCollection} of which a keyframe should be recorded
+     */
+    public void recordPulse(final long timestamp, final EntityCollection entityCollection) {
+        if (recording.getPulseCount() % keyframeInterval == 0) {
+            recording.add(new RecordedEntry.Keyframe(entityCollection.captureState()));
+        }
+        recording.add(new RecordedEntry.Pulse(timestamp));
+    }
+
+    /**
+     * Return the {@link Recording} that contains everything that has been recorded.
+     *
+     * @return the {@link Recording}
+     */
+    public Recording getRecording() {
+        return recording;
+    }
+
+    private void recordMouseEvent(final MouseEvent event) {
+        if (RecordedEntry.MouseInput.isRecorded(event.getEventType())) {
+            recording.add(RecordedEntry.MouseInput.of(event));
+        }
+    }
+}
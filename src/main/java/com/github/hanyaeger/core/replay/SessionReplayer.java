@@ -0,0 +1,168 @@
+package com.github.hanyaeger.core.replay;
+
+import com.github.hanyaeger.api.scenes.Recording;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@link SessionReplayer} feeds the pulses and input of a {@link Recording} back to a
+ * {@link com.github.hanyaeger.api.scenes.DynamicScene}. While replaying, the {@link MouseEvent} instances that are
+ * received by the {@link Scene} are ignored.
+ */
+public class SessionReplayer {
+
+    private final Recording recording;
+    private final EventHandler<MouseEvent> mouseFilter = this::ignoreMouseEvent;
+
+    private int entry;
+    private int pulse;
+    private boolean dispatching;
+
+    /**
+     * Create a new {@link SessionReplayer} for the given {@link Recording}.
+     *
+     * @param recording the {@link Recording} to be replayed
+     */
+    public SessionReplayer(final Recording recording) {
+        if (recording == null) {
+            throw new IllegalArgumentException("A Recording is required to replay a session.");
+        }
+        this.recording = recording;
+    }
+
+    /**
+     * Start ignoring the instances of {@link MouseEvent} that are received by the given {@link Scene}.
+     *
+     * @param scene the {@link Scene}, which can be {@code null} if there is none
+     */
+    public void attach(final Scene scene) {
+        if (scene != null) {
+            scene.addEventFilter(MouseEvent.ANY, mouseFilter);
+        }
+    }
+
+    /**
+     * Stop ignoring the instances of {@link MouseEvent} that are received by the given {@link Scene}.
+     *
+     * @param scene the {@link Scene}, which can be {@code null} if there is none
+     */
+    public void detach(final Scene scene) {
+        if (scene != null) {
+            scene.removeEventFilter(MouseEvent.ANY, mouseFilter);
+        }
+    }
+
+    /**
+     * Return whether the {@link Recording} contains another pulse.
+     *
+     * @return {@code true} if there is another pulse
+     */
+    public boolean hasNextPulse() {
+        return pulse < recording.getPulseCount();
+    }
+
+    /**
+     * Dispatch all input that was recorded before the next pulse and return the timestamp of that pulse. Changes of
+     * the pressed keys are passed to the given {@link Consumer}, while each {@link MouseEvent} is fired at the
+     * top-most {@link Node} at its location, starting from the given root.
+     *
+     * @param keyHandler the {@link Consumer} that handles a change of the pressed keys
+     * @param root       the root {@link Node} of the {@link com.github.hanyaeger.api.scenes.DynamicScene}
+     * @return the timestamp of the next pulse
+     */
+    public long nextPulse(final Consumer<Set<KeyCode>> keyHandler, final Node root) {
+        final List<RecordedEntry> entries = recording.getEntries();
+        while (entry < entries.size()) {
+            final var next = entries.get(entry++);
+            if (next instanceof RecordedEntry.Pulse recordedPulse) {
+                pulse++;
+                return recordedPulse.timestamp();
+            } else if (next instanceof RecordedEntry.KeysChanged keysChanged) {
+                keyHandler.accept(keysChanged.keys().isEmpty() ? EnumSet.noneOf(KeyCode.class) : EnumSet.copyOf(keysChanged.keys()));
+            } else if (next instanceof RecordedEntry.MouseInput mouseInput && root != null) {
+                dispatch(mouseInput, root);
+            }
+        }
+        throw new IllegalStateException("The Recording contains no further pulses.");
+    }
+
+    /**
+     * Continue from the given keyframe, so the next pulse is the one that follows it.
+     *
+     * @param keyframe the index of the keyframe
+     * @return the {@link RecordedEntry.Keyframe}, of which the state should be restored
+     */
+    public RecordedEntry.Keyframe continueFrom(final int keyframe) {
+        entry = recording.getEntryOfKeyframe(keyframe) + 1;
+        pulse = recording.getPulseOfKeyframe(keyframe);
+        return (RecordedEntry.Keyframe) recording.getEntries().get(entry - 1);
+    }
+
+    /**
+     * Return the index of the next pulse that will be replayed.
+     *
+     * @return the index of the next pulse
+     */
+    public int getPosition() {
+        return pulse;
+    }
+
+    /**
+     * Return the {@link Recording} that is being replayed.
+     *
+     * @return the {@link Recording}
+     */
+    public Recording getRecording() {
+        return recording;
+    }
+
+    private void dispatch(final RecordedEntry.MouseInput mouseInput, final Node root) {
+        final var target = pick(root, mouseInput.x(), mouseInput.y());
+        dispatching = true;
+        try {
+            Event.fireEvent(target, mouseInput.toMouseEvent(new PickResult(target, mouseInput.x(), mouseInput.y())));
+        } finally {
+            dispatching = false;
+        }
+    }
+
+    private void ignoreMouseEvent(final MouseEvent event) {
+        if (!dispatching) {
+            event.consume();
+        }
+    }
+
+    /**
+     * Pick the {@link Node} at the given location the same way JavaFX does: the child with the lowest view order is
+     * in front, and of children with the same view order the last one is in front.
+     */
+    private static Node pick(final Node node, final double x, final double y) {
+        if (node instanceof Parent parent) {
+            final var children = parent.getChildrenUnmodifiable();
+            Node front = null;
+            for (var i = children.size() - 1; i >= 0; i--) {
+                final var child = children.get(i);
+                if ((front == null || child.getViewOrder() < front.getViewOrder())
+                        && child.isVisible() && !child.isMouseTransparent()
+                        && child.contains(child.sceneToLocal(x, y))) {
+                    front = child;
+                }
+            }
+            if (front != null) {
+                return pick(front, x, y);
+            }
+        }
+        return node;
+    }
+}
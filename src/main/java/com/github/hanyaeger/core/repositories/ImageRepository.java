@@ -2,11 +2,14 @@ package com.github.hanyaeger.core.repositories;
 
 import com.github.hanyaeger.core.Destroyable;
 import com.github.hanyaeger.core.ResourceConsumer;
+import com.github.hanyaeger.core.entities.collisions.AlphaMask;
 import com.github.hanyaeger.core.factories.image.ImageFactory;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
 
@@ -17,6 +20,7 @@ import java.util.WeakHashMap;
 public class ImageRepository implements ResourceConsumer, Destroyable {
 
     private final Map<String, Image> imageMap = new WeakHashMap<>();
+    private final Map<Image, Map<Rectangle2D, AlphaMask>> alphaMaskMap = new WeakHashMap<>();
     private ImageFactory factory;
 
     /**
@@ -63,6 +67,23 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
         }
     }
 
+    /**
+     * Return the {@link AlphaMask} of the given region of an {@link Image}. The {@link AlphaMask} is only created
+     * the first time it is requested, after which it is cached alongside the {@link Image}.
+     *
+     * @param image    the {@link Image} of which the {@link AlphaMask} should be returned
+     * @param viewport the region of the {@link Image}, for instance a single frame of a sprite sheet, or {@code null}
+     *                 for the complete {@link Image}
+     * @return the {@link AlphaMask} of the given region
+     */
+    public AlphaMask getAlphaMask(final Image image, final Rectangle2D viewport) {
+        final var region = viewport != null ? viewport : new Rectangle2D(0, 0, image.getWidth(), image.getHeight());
+
+        return alphaMaskMap
+                .computeIfAbsent(image, key -> new HashMap<>())
+                .computeIfAbsent(region, key -> new AlphaMask(image.getPixelReader(), key));
+    }
+
     /**
      * Returns the number of key-value mappings in this map.  If the
      * map contains more than {@link Integer#MAX_VALUE} elements, returns
@@ -77,6 +98,7 @@ public class ImageRepository implements ResourceConsumer, Destroyable {
     @Override
     public void destroy() {
         imageMap.clear();
+        alphaMaskMap.clear();
     }
 
     private String constructKey(final String url, final double requestedWidth, final double requestedHeight, final boolean preserveRatio) {
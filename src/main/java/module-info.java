@@ -34,6 +34,7 @@ module hanyaeger {
     exports com.github.hanyaeger.core.entities to com.google.guice;
     exports com.github.hanyaeger.core.entities.motion to com.google.guice;
     exports com.github.hanyaeger.core.media to com.google.guice;
+    exports com.github.hanyaeger.core.profiling to com.google.guice;
 
     opens yaegerimages;
     exports com.github.hanyaeger.api.entities.impl;
@@ -0,0 +1,272 @@
+package com.github.hanyaeger.api;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.Direction;
+import com.github.hanyaeger.api.entities.impl.DynamicRectangleEntity;
+import com.github.hanyaeger.api.scenes.DynamicScene;
+import com.github.hanyaeger.api.userinput.KeyListener;
+import com.github.hanyaeger.core.entities.EntityCollection;
+import com.github.hanyaeger.core.exceptions.YaegerLifecycleException;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+
+    private static final Size SIZE = new Size(320, 240);
+
+    private List<Long> timestamps;
+    private SimulationScene scene;
+    private HeadlessRunner sut;
+
+    @BeforeEach
+    void setup() {
+        timestamps = new ArrayList<>();
+        scene = new SimulationScene();
+        sut = new HeadlessRunner(scene, SIZE, () -> {
+            final var timestamp = (timestamps.size() + 1) * 10L;
+            timestamps.add(timestamp);
+            return timestamp;
+        });
+    }
+
+    @Test
+    void constructorWithoutSceneThrowsException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(null));
+    }
+
+    @Test
+    void stepBeforeStartThrowsException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.step());
+    }
+
+    @Test
+    void startTwiceThrowsException() {
+        // Arrange
+        sut.start();
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.start());
+    }
+
+    @Test
+    void startSetsUpSceneWithGivenSize() {
+        // Arrange
+        // Act
+        sut.start();
+
+        // Assert
+        assertTrue(scene.isHeadless());
+        assertEquals(SIZE.width(), scene.getWidth());
+        assertEquals(SIZE.height(), scene.getHeight());
+    }
+
+    @Test
+    void runPerformsGameWorldUpdatesWithTimestampsOfClock() {
+        // Arrange
+        sut.start();
+
+        // Act
+        var performed = sut.run(3);
+
+        // Assert
+        assertEquals(3, performed);
+        assertEquals(3, sut.getSteps());
+        assertEquals(List.of(10L, 20L, 30L), timestamps);
+    }
+
+    @Test
+    void runMovesEntities() {
+        // Arrange
+        sut.start();
+
+        // Act
+        sut.run(10);
+
+        // Assert
+        assertEquals(20, scene.mover.getAnchorLocation().getX(), 0.0001);
+        assertEquals(20, scene.mover.getBoundingBox().getMinX(), 0.0001);
+    }
+
+    @Test
+    void runUntilStopsWhenConditionIsMet() {
+        // Arrange
+        sut.start();
+
+        // Act
+        var performed = sut.runUntil(() -> scene.mover.collisions > 0, 1000);
+
+        // Assert
+        assertTrue(performed < 1000);
+        assertEquals(1, scene.mover.collisions);
+    }
+
+    @Test
+    void pausedSceneIsNotUpdated() {
+        // Arrange
+        sut.start();
+        scene.pause();
+
+        // Act
+        var performed = sut.run(5);
+
+        // Assert
+        assertEquals(0, performed);
+        assertTrue(timestamps.isEmpty());
+    }
+
+    @Test
+    void stepAfterStopThrowsException() {
+        // Arrange
+        sut.start();
+        sut.stop();
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.step());
+    }
+
+    @Test
+    void setProfilingAfterStartThrowsException() {
+        // Arrange
+        sut.start();
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.setProfiling(true));
+    }
+
+    @Test
+    void profileReportContainsUpdatablesOfEntitiesAndPartsOfGameWorldUpdate() {
+        // Arrange
+        sut.setProfiling(true);
+        sut.start();
+
+        // Act
+        sut.run(10);
+        var report = sut.getProfileReport(20);
+
+        // Assert
+        assertTrue(report.contains(MovingRectangle.class.getName() + "#"));
+        assertTrue(report.contains(EntityCollection.PROFILE_UPDATABLES));
+        assertTrue(report.contains(EntityCollection.PROFILE_COLLISIONS));
+    }
+
+    @Test
+    void profileReportIsEmptyWhenProfilingIsDisabled() {
+        // Arrange
+        sut.start();
+
+        // Act
+        sut.run(10);
+        var report = sut.getProfileReport(20);
+
+        // Assert
+        assertFalse(report.contains(EntityCollection.PROFILE_UPDATABLES));
+        assertFalse(report.contains(MovingRectangle.class.getName()));
+    }
+
+    @Test
+    void recordedSessionIsReplayedExactly() {
+        // Arrange
+        sut.start();
+        scene.startRecording(2);
+        sut.run(3);
+        sut.setPressedKeys(Set.of(KeyCode.DOWN));
+        sut.run(4);
+        sut.setPressedKeys(Set.of());
+        sut.run(3);
+        var recording = scene.stopRecording();
+        var expected = scene.mover.getAnchorLocation();
+
+        var replayScene = new SimulationScene();
+        var replayRunner = new HeadlessRunner(replayScene, SIZE, () -> 0L);
+        replayRunner.start();
+
+        // Act
+        replayScene.replay(recording);
+        replayRunner.run(100);
+
+        // Assert
+        assertEquals(expected, replayScene.mover.getAnchorLocation());
+        assertFalse(replayScene.isReplaying());
+    }
+
+    @Test
+    void seekRestoresStateOfRecordedSession() {
+        // Arrange
+        sut.start();
+        scene.startRecording(2);
+        sut.setPressedKeys(Set.of(KeyCode.DOWN));
+        sut.run(4);
+        var expected = scene.mover.getAnchorLocation();
+        sut.setPressedKeys(Set.of());
+        sut.run(6);
+        var recording = scene.stopRecording();
+
+        var replayScene = new SimulationScene();
+        var replayRunner = new HeadlessRunner(replayScene, SIZE, () -> 0L);
+        replayRunner.start();
+        replayScene.replay(recording);
+        replayRunner.run(10);
+
+        // Act
+        replayScene.seek(4);
+
+        // Assert
+        assertEquals(4, replayScene.getReplayPosition());
+        assertEquals(expected, replayScene.mover.getAnchorLocation());
+    }
+
+    private static class SimulationScene extends DynamicScene {
+
+        private MovingRectangle mover;
+
+        @Override
+        public void setupScene() {
+        }
+
+        @Override
+        public void setupEntities() {
+            mover = new MovingRectangle();
+            addEntity(mover);
+            addEntity(new Obstacle());
+        }
+    }
+
+    private static class MovingRectangle extends DynamicRectangleEntity implements Collided, KeyListener {
+
+        private int collisions;
+
+        MovingRectangle() {
+            super(new Coordinate2D(0, 0), new Size(10, 10));
+            setMotion(2, Direction.RIGHT);
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            collisions++;
+        }
+
+        @Override
+        public void onPressedKeysChange(final Set<KeyCode> pressedKeys) {
+            setMotion(2, pressedKeys.contains(KeyCode.DOWN) ? Direction.DOWN : Direction.RIGHT);
+        }
+    }
+
+    private static class Obstacle extends DynamicRectangleEntity implements Collider {
+
+        Obstacle() {
+            super(new Coordinate2D(100, 0), new Size(10, 10));
+        }
+    }
+}
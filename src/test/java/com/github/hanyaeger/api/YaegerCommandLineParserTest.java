@@ -65,6 +65,19 @@ class YaegerCommandLineParserTest {
         assertTrue(actual.showDebug());
     }
 
+    @Test
+    void profileReturnsCorrectConfig() {
+        // Arrange
+        var sut = new YaegerCommandLineParser();
+        var profileArgs = Collections.singletonList("--profile");
+
+        // Act
+        var actual = sut.parseToConfig(profileArgs);
+
+        // Assert
+        assertTrue(actual.profile());
+    }
+
     @Test
     void helpPrintsHelpScreen() {
         // Arrange
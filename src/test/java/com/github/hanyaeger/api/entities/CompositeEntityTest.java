@@ -5,6 +5,7 @@ import com.github.hanyaeger.core.entities.events.EventTypes;
 import com.github.hanyaeger.core.entities.EntityProcessor;
 import com.google.inject.Injector;
 import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Group;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -65,6 +66,27 @@ class CompositeEntityTest {
         verify(group).setLayoutY(LOCATION.getY());
     }
 
+    @Test
+    void transformedChildInvalidatesBoundingBox() {
+        // Arrange
+        var boundingBox = new BoundingBox(0, 0, 1, 1);
+        when(group.getBoundsInLocal()).thenReturn(boundingBox);
+        when(group.localToScene(boundingBox, true)).thenReturn(boundingBox);
+
+        var child = new CompositeEntityImpl(DEFAULT_LOCATION);
+        child.setGroup(mock(Group.class));
+        sut.addEntityToAdd(child);
+        sut.beforeInitialize();
+        sut.getBoundingBox();
+
+        // Act
+        child.setAnchorLocation(LOCATION);
+        sut.getBoundingBox();
+
+        // Assert
+        verify(group, times(2)).localToScene(boundingBox, true);
+    }
+
     @Test
     void getNodeReturnsGroupIfSet() {
         // Arrange
@@ -141,6 +163,32 @@ class CompositeEntityTest {
             verify(entity3).applyTranslationsForAnchorPoint();
         }
 
+        @Test
+        void invalidateBoundingBoxDelegatesToChildren() {
+            // Arrange
+
+            // Act
+            sut.invalidateBoundingBox();
+
+            // Assert
+            verify(entity1).invalidateBoundingBox();
+            verify(entity2).invalidateBoundingBox();
+            verify(entity3).invalidateBoundingBox();
+        }
+
+        @Test
+        void setAnchorLocationMarksChildrenAsTransformed() {
+            // Arrange
+
+            // Act
+            sut.setAnchorLocation(new Coordinate2D(10, 10));
+
+            // Assert
+            verify(entity1).markAsTransformed();
+            verify(entity2).markAsTransformed();
+            verify(entity3).markAsTransformed();
+        }
+
         @Test
         void applyEntityProcessorDelegatesToChildren() {
             // Arrange
@@ -0,0 +1,259 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.AnchorPoint;
+import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.core.entities.motion.MotionApplier;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContinuousCollidedTest {
+
+    private static final double DELTA = 0.00001d;
+
+    private TestContinuousCollided sut;
+    private MotionApplier motionApplier;
+
+    @BeforeEach
+    void setup() {
+        motionApplier = new MotionApplier();
+        sut = new TestContinuousCollided();
+        sut.setMotionApplier(motionApplier);
+    }
+
+    @Test
+    void fastMovementThroughThinColliderIsDetected() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(50, -20, 2, 50));
+
+        // Act
+        sut.checkForCollisions(List.of(wall));
+
+        // Assert
+        assertEquals(wall, sut.getLastCollider());
+        assertEquals(0.4, sut.getLastTimeOfImpact(), DELTA);
+    }
+
+    @Test
+    void colliderBesideThePathIsNotDetected() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(50, 100, 2, 50));
+
+        // Act
+        sut.checkForCollisions(List.of(wall));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void colliderOnThePathIsColliding() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(50, -20, 2, 50));
+
+        // Act & Assert
+        assertTrue(sut.isCollidingWith(wall));
+    }
+
+    @Test
+    void colliderBesideThePathIsNotColliding() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(50, 100, 2, 50));
+
+        // Act & Assert
+        assertFalse(sut.isCollidingWith(wall));
+    }
+
+    @Test
+    void colliderBehindThePathIsNotDetected() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(150, -20, 2, 50));
+
+        // Act
+        sut.checkForCollisions(List.of(wall));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void firstColliderAlongThePathIsReported() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var farWall = new TestCollider(new BoundingBox(80, -20, 2, 50));
+        var nearWall = new TestCollider(new BoundingBox(30, -20, 2, 50));
+
+        // Act
+        sut.checkForCollisions(List.of(farWall, nearWall));
+
+        // Assert
+        assertEquals(nearWall, sut.getLastCollider());
+        assertEquals(0.2, sut.getLastTimeOfImpact(), DELTA);
+    }
+
+    @Test
+    void overlapAtPreviousLocationHasTimeOfImpactZero() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(0, 0, 5, 5));
+
+        // Act
+        sut.checkForCollisions(List.of(wall));
+
+        // Assert
+        assertEquals(wall, sut.getLastCollider());
+        assertEquals(0, sut.getLastTimeOfImpact(), DELTA);
+    }
+
+    @Test
+    void withoutPreviousLocationOnlyTheCurrentLocationIsChecked() {
+        // Arrange
+        sut.setAnchorLocation(new Coordinate2D(100, 0));
+        var wall = new TestCollider(new BoundingBox(50, -20, 2, 50));
+
+        // Act
+        sut.checkForCollisions(List.of(wall));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void sweptBoundingBoxCoversThePathTravelled() {
+        // Arrange
+        moveBullet(new Coordinate2D(100, 50), new Coordinate2D(0, 0));
+
+        // Act
+        var swept = sut.getSweptBoundingBox();
+
+        // Assert
+        assertEquals(new BoundingBox(0, 0, 110, 60), swept);
+    }
+
+    @Test
+    void collisionWithSelfIsNotReported() {
+        // Arrange
+        moveBullet(new Coordinate2D(0, 0), new Coordinate2D(100, 0));
+
+        // Act
+        sut.checkForCollisions(List.of(sut));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    private void moveBullet(final Coordinate2D from, final Coordinate2D to) {
+        sut.setAnchorLocation(to);
+        motionApplier.setPreviousLocation(from.getX(), from.getY());
+    }
+
+    private static class TestCollider implements Collider {
+
+        private final Bounds bounds;
+
+        TestCollider(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class TestContinuousCollided implements ContinuousCollided, Collider {
+
+        private static final double SIZE = 10;
+
+        private MotionApplier motionApplier;
+        private Coordinate2D anchorLocation = new Coordinate2D();
+        private Collider lastCollider;
+        private double lastTimeOfImpact = Double.NaN;
+
+        @Override
+        public void onCollision(final Collider collidingObject, final double timeOfImpact) {
+            lastCollider = collidingObject;
+            lastTimeOfImpact = timeOfImpact;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return new BoundingBox(anchorLocation.getX(), anchorLocation.getY(), SIZE, SIZE);
+        }
+
+        @Override
+        public void setMotionApplier(final MotionApplier motionApplier) {
+            this.motionApplier = motionApplier;
+        }
+
+        @Override
+        public MotionApplier getMotionApplier() {
+            return motionApplier;
+        }
+
+        @Override
+        public void setAnchorLocation(final Coordinate2D anchorLocation) {
+            this.anchorLocation = anchorLocation;
+        }
+
+        @Override
+        public Coordinate2D getAnchorLocation() {
+            return anchorLocation;
+        }
+
+        @Override
+        public void setAnchorLocationX(final double x) {
+            // Not required here
+        }
+
+        @Override
+        public void setAnchorLocationY(final double y) {
+            // Not required here
+        }
+
+        @Override
+        public void setAnchorPoint(final AnchorPoint anchorPoint) {
+            // Not required here
+        }
+
+        @Override
+        public AnchorPoint getAnchorPoint() {
+            return AnchorPoint.TOP_LEFT;
+        }
+
+        @Override
+        public void transferCoordinatesToNode() {
+            // Not required here
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+
+        public Collider getLastCollider() {
+            return lastCollider;
+        }
+
+        public double getLastTimeOfImpact() {
+            return lastTimeOfImpact;
+        }
+    }
+}
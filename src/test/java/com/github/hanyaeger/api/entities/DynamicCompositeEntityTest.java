@@ -1,6 +1,7 @@
 package com.github.hanyaeger.api.entities;
 
 import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.Updater;
 import com.github.hanyaeger.core.entities.motion.EntityMotionInitBuffer;
 import com.github.hanyaeger.core.entities.motion.MotionApplier;
@@ -118,7 +119,7 @@ class DynamicCompositeEntityTest {
         }
 
         @Test
-        void clearsGarbageOnUpdate() {
+        void collectGarbageClearsGarbage() {
             // Arrange
             sut.setMotionApplier(motionApplier);
 
@@ -135,7 +136,7 @@ class DynamicCompositeEntityTest {
             sut.addToGarbage(entityToAdd);
 
             // Act
-            sut.update(TIMESTAMP);
+            sut.collectGarbage();
 
             // Assert
             assertTrue(sut.getGarbage().isEmpty());
@@ -239,18 +240,57 @@ class DynamicCompositeEntityTest {
         sut.update(TIMESTAMP);
 
         // Assert
-        verify(updater).update(TIMESTAMP);
+        verify(updater).update(TIMESTAMP, UpdatePhase.DEFAULT);
+    }
+
+    @Test
+    void defaultPhaseCallsUpdate() {
+        // Arrange
+        var updater = mock(Updater.class);
+        sut.setUpdater(updater);
+
+        // Act
+        sut.update(TIMESTAMP, UpdatePhase.DEFAULT);
+
+        // Assert
+        assertEquals(1, sut.getUpdates());
+        verify(updater).update(TIMESTAMP, UpdatePhase.DEFAULT);
+    }
+
+    @Test
+    void otherPhaseGetsDelegatedWithoutCallingUpdate() {
+        // Arrange
+        var updater = mock(Updater.class);
+        sut.setUpdater(updater);
+
+        // Act
+        sut.update(TIMESTAMP, UpdatePhase.ANIMATION);
+
+        // Assert
+        assertEquals(0, sut.getUpdates());
+        verify(updater).update(TIMESTAMP, UpdatePhase.ANIMATION);
     }
 
 
     private static class DynamicCompositeEntityImpl extends DynamicCompositeEntity {
 
         private final List<YaegerEntity> entitiesToAdd = new ArrayList<>();
+        private int updates;
 
         public DynamicCompositeEntityImpl(final Coordinate2D initialLocation) {
             super(initialLocation);
         }
 
+        @Override
+        public void update(final long timestamp) {
+            super.update(timestamp);
+            updates++;
+        }
+
+        int getUpdates() {
+            return updates;
+        }
+
         @Override
         protected void setupEntities() {
             entitiesToAdd.forEach(this::addEntity);
@@ -0,0 +1,142 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.Coordinate2D;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityPoolTest {
+
+    private List<PooledEntity> resetEntities;
+    private EntityPool<PooledEntity> sut;
+
+    @BeforeEach
+    void setup() {
+        resetEntities = new ArrayList<>();
+        sut = new EntityPool<>(PooledEntity::new, resetEntities::add);
+    }
+
+    @Test
+    void constructorWithoutFactoryThrowsException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new EntityPool<PooledEntity>(null));
+    }
+
+    @Test
+    void obtainCreatesNewEntityWhenNoneIsAvailable() {
+        // Arrange
+        // Act
+        var entity = sut.obtain();
+
+        // Assert
+        assertNotNull(entity);
+        assertEquals(1, sut.getCreated());
+        assertEquals(0, sut.getAvailable());
+    }
+
+    @Test
+    void obtainSetsPoolOnCreatedEntity() {
+        // Arrange
+        // Act
+        var entity = sut.obtain();
+
+        // Assert
+        assertSame(sut, entity.pool);
+    }
+
+    @Test
+    void recycleReleasesEntityToItsPool() {
+        // Arrange
+        var entity = sut.obtain();
+
+        // Act
+        var recycled = EntityPool.recycle(entity);
+
+        // Assert
+        assertTrue(recycled);
+        assertEquals(List.of(entity), resetEntities);
+        assertEquals(1, sut.getAvailable());
+    }
+
+    @Test
+    void recycleOfEntityWithoutPoolReturnsFalse() {
+        // Arrange
+        var entity = new PooledEntity();
+
+        // Act
+        var recycled = EntityPool.recycle(entity);
+
+        // Assert
+        assertFalse(recycled);
+        assertTrue(resetEntities.isEmpty());
+    }
+
+    @Test
+    void releaseResetsEntityAndMakesItAvailable() {
+        // Arrange
+        var entity = sut.obtain();
+
+        // Act
+        sut.release(entity);
+
+        // Assert
+        assertEquals(List.of(entity), resetEntities);
+        assertEquals(1, sut.getAvailable());
+    }
+
+    @Test
+    void obtainReusesReleasedEntity() {
+        // Arrange
+        var entity = sut.obtain();
+        sut.release(entity);
+
+        // Act
+        var reused = sut.obtain();
+
+        // Assert
+        assertSame(entity, reused);
+        assertEquals(1, sut.getCreated());
+        assertEquals(0, sut.getAvailable());
+    }
+
+    @Test
+    void releaseOfEntityFromOtherPoolThrowsException() {
+        // Arrange
+        var otherPool = new EntityPool<>(PooledEntity::new);
+        var entity = otherPool.obtain();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sut.release(entity));
+    }
+
+    @Test
+    void clearDiscardsAvailableEntities() {
+        // Arrange
+        sut.release(sut.obtain());
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.getAvailable());
+    }
+
+    private static class PooledEntity extends YaegerEntity {
+
+        PooledEntity() {
+            super(new Coordinate2D(0, 0));
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.core.entities.collisions.AlphaMask;
+import com.github.hanyaeger.core.entities.collisions.AlphaMaskProvider;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.image.PixelReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class PixelPerfectCollidedTest {
+
+    private static final int OPAQUE = 0xFF000000;
+
+    @Test
+    void transparentCornersDoNotCollide() {
+        // Arrange
+        var sut = new TestPixelPerfectCollided(new BoundingBox(0, 0, 2, 2), createMask("#.", ".."));
+        var collider = new TestCollider(new BoundingBox(1, 1, 2, 2), createMask("#.", ".."));
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void overlappingOpaquePixelsCollide() {
+        // Arrange
+        var sut = new TestPixelPerfectCollided(new BoundingBox(0, 0, 2, 2), createMask("##", "##"));
+        var collider = new TestCollider(new BoundingBox(1, 1, 2, 2), createMask("#.", ".."));
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
+    @Test
+    void colliderWithoutMaskIsOpaqueWithinItsBoundingBox() {
+        // Arrange
+        var sut = new TestPixelPerfectCollided(new BoundingBox(0, 0, 2, 2), createMask("..", ".#"));
+        var collider = new TestCollider(new BoundingBox(1, 1, 5, 5), null);
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
+    @Test
+    void withoutMasksBoundingBoxesAreUsed() {
+        // Arrange
+        var sut = new TestPixelPerfectCollided(new BoundingBox(0, 0, 2, 2), null);
+        var collider = new TestCollider(new BoundingBox(1, 1, 2, 2), null);
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
+    @Test
+    void masksAreNotRequestedWhenBoundingBoxesDoNotIntersect() {
+        // Arrange
+        var sut = new TestPixelPerfectCollided(new BoundingBox(0, 0, 2, 2), null);
+        var collider = mock(MaskedCollider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 2, 2));
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        verify(collider, never()).getAlphaMask();
+        assertNull(sut.getLastCollider());
+    }
+
+    private AlphaMask createMask(final String... rows) {
+        var pixelReader = mock(PixelReader.class);
+        when(pixelReader.getArgb(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int x = invocation.getArgument(0);
+            int y = invocation.getArgument(1);
+            return rows[y].charAt(x) == '#' ? OPAQUE : 0;
+        });
+        return new AlphaMask(pixelReader, new Rectangle2D(0, 0, rows[0].length(), rows.length));
+    }
+
+    private interface MaskedCollider extends Collider, AlphaMaskProvider {
+    }
+
+    private static class TestCollider implements MaskedCollider {
+
+        private final Bounds bounds;
+        private final AlphaMask alphaMask;
+
+        TestCollider(final Bounds bounds, final AlphaMask alphaMask) {
+            this.bounds = bounds;
+            this.alphaMask = alphaMask;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<AlphaMask> getAlphaMask() {
+            return Optional.ofNullable(alphaMask);
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+
+    private static class TestPixelPerfectCollided implements PixelPerfectCollided, AlphaMaskProvider {
+
+        private final Bounds bounds;
+        private final AlphaMask alphaMask;
+        private Collider lastCollider;
+
+        TestPixelPerfectCollided(final Bounds bounds, final AlphaMask alphaMask) {
+            this.bounds = bounds;
+            this.alphaMask = alphaMask;
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            lastCollider = collidingObject;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<AlphaMask> getAlphaMask() {
+            return Optional.ofNullable(alphaMask);
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+
+        public Collider getLastCollider() {
+            return lastCollider;
+        }
+    }
+}
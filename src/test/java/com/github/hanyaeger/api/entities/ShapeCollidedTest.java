@@ -0,0 +1,96 @@
+package com.github.hanyaeger.api.entities;
+
+import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.entities.impl.CircleEntity;
+import javafx.geometry.BoundingBox;
+import javafx.scene.shape.Circle;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShapeCollidedTest {
+
+    private static final double RADIUS = 10;
+
+    @Test
+    void circlesWithIntersectingBoundingBoxesDoNotCollideDiagonally() {
+        // Arrange
+        var sut = new CollidedCircle(new Coordinate2D(0, 0));
+        var collider = new ColliderCircle(new Coordinate2D(16, 16));
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        assertNull(sut.getLastCollider());
+    }
+
+    @Test
+    void overlappingCirclesCollide() {
+        // Arrange
+        var sut = new CollidedCircle(new Coordinate2D(0, 0));
+        var collider = new ColliderCircle(new Coordinate2D(15, 0));
+
+        // Act
+        sut.checkForCollisions(List.of(collider));
+
+        // Assert
+        assertEquals(collider, sut.getLastCollider());
+    }
+
+    @Test
+    void colliderThatIsNotAnEntityFillsItsBoundingBox() {
+        // Arrange
+        var sut = new CollidedCircle(new Coordinate2D(0, 0));
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(8, 8, 10, 10));
+
+        // Act & Assert
+        assertFalse(sut.isCollidingWith(collider));
+    }
+
+    @Test
+    void separateBoundingBoxesDoNotCollide() {
+        // Arrange
+        var sut = new CollidedCircle(new Coordinate2D(0, 0));
+        var collider = new ColliderCircle(new Coordinate2D(100, 0));
+
+        // Act & Assert
+        assertFalse(sut.isCollidingWith(collider));
+    }
+
+    private static class ColliderCircle extends CircleEntity implements Collider {
+
+        ColliderCircle(final Coordinate2D location) {
+            super(location);
+            setShape(new Circle());
+            setRadius(RADIUS);
+            setAnchorLocation(location);
+        }
+    }
+
+    private static class CollidedCircle extends CircleEntity implements ShapeCollided {
+
+        private Collider lastCollider;
+
+        CollidedCircle(final Coordinate2D location) {
+            super(location);
+            setShape(new Circle());
+            setRadius(RADIUS);
+            setAnchorLocation(location);
+        }
+
+        @Override
+        public void onCollision(final Collider collidingObject) {
+            lastCollider = collidingObject;
+        }
+
+        Collider getLastCollider() {
+            return lastCollider;
+        }
+    }
+}
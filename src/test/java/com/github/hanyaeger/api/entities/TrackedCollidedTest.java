@@ -0,0 +1,57 @@
+package com.github.hanyaeger.api.entities;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrackedCollidedTest {
+
+    @Test
+    void intersectingBoundingBoxesAreColliding() {
+        // Arrange
+        var sut = new TrackedCollidedImpl(new BoundingBox(0, 0, 10, 10));
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        // Act & Assert
+        assertTrue(sut.isCollidingWith(collider));
+    }
+
+    @Test
+    void separateBoundingBoxesAreNotColliding() {
+        // Arrange
+        var sut = new TrackedCollidedImpl(new BoundingBox(0, 0, 10, 10));
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(20, 20, 10, 10));
+
+        // Act & Assert
+        assertFalse(sut.isCollidingWith(collider));
+    }
+
+    private static class TrackedCollidedImpl implements TrackedCollided {
+
+        private final Bounds bounds;
+
+        TrackedCollidedImpl(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.empty();
+        }
+    }
+}
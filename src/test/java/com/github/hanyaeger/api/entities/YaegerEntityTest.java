@@ -3,9 +3,11 @@ package com.github.hanyaeger.api.entities;
 import com.github.hanyaeger.api.AnchorPoint;
 import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.api.Timer;
+import com.github.hanyaeger.core.entities.Culling;
 import com.github.hanyaeger.core.entities.EntityCollection;
 import com.github.hanyaeger.core.entities.EntityProcessor;
 import com.google.inject.Injector;
+import javafx.collections.FXCollections;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.geometry.BoundingBox;
@@ -22,6 +24,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -774,6 +777,112 @@ class YaegerEntityTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void getBoundingBoxIsOnlyCalculatedOnce() {
+        // Arrange
+
+        // Act
+        sut.getBoundingBox();
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(1)).localToScene(any(javafx.geometry.Bounds.class), eq(true));
+    }
+
+    @Test
+    void setAnchorLocationInvalidatesBoundingBox() {
+        // Arrange
+        sut.getBoundingBox();
+
+        // Act
+        sut.setAnchorLocation(new Coordinate2D(1, 2));
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(any(javafx.geometry.Bounds.class), eq(true));
+    }
+
+    @Test
+    void setRotateInvalidatesBoundingBox() {
+        // Arrange
+        sut.getBoundingBox();
+
+        // Act
+        sut.setRotate(37);
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(any(javafx.geometry.Bounds.class), eq(true));
+    }
+
+    @Test
+    void changedBoundsInParentInvalidatesBoundingBox() {
+        // Arrange
+        when(node.getBoundsInParent()).thenReturn(new BoundingBox(0, 0, 1, 1), new BoundingBox(1, 0, 1, 1));
+        sut.getBoundingBox();
+
+        // Act
+        sut.getBoundingBox();
+
+        // Assert
+        verify(node, times(2)).localToScene(any(javafx.geometry.Bounds.class), eq(true));
+    }
+
+    @Test
+    void invalidateBoundingBoxRecalculatesBoundingBox() {
+        // Arrange
+        var expected = new BoundingBox(1, 2, 3, 4);
+        sut.getBoundingBox();
+        when(node.localToScene(any(javafx.geometry.Bounds.class), eq(true))).thenReturn(expected);
+
+        // Act
+        sut.invalidateBoundingBox();
+        var actual = sut.getBoundingBox();
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void isVisibleOfCulledNodeReturnsVisibilityBeforeCulling() {
+        // Arrange
+        when(node.isVisible()).thenReturn(true);
+        when(node.hasProperties()).thenReturn(true);
+        when(node.getProperties()).thenReturn(FXCollections.observableHashMap());
+
+        // Act
+        Culling.cull(node);
+
+        // Assert
+        verify(node).setVisible(false);
+        assertTrue(sut.isVisible());
+    }
+
+    @Test
+    void setVisibleOfCulledNodeIsAppliedWhenNoLongerCulled() {
+        // Arrange
+        when(node.isVisible()).thenReturn(true);
+        when(node.hasProperties()).thenReturn(true);
+        when(node.getProperties()).thenReturn(FXCollections.observableHashMap());
+        Culling.cull(node);
+
+        // Act
+        sut.setVisible(false);
+        Culling.uncull(node);
+
+        // Assert
+        verify(node, times(2)).setVisible(false);
+        verify(node).setManaged(true);
+    }
+
+    @Test
+    void newEntityHasFullUpdateOffscreenPolicy() {
+        // Arrange
+
+        // Act & Assert
+        assertEquals(OffscreenPolicy.FULL_UPDATE, sut.getOffscreenPolicy());
+    }
+
     @Test
     void applyEntityProcessorCallsProcessOnProcessor() {
         // Arrange
@@ -69,6 +69,18 @@ class DynamicRectangleEntityTest {
                 motionApplier = mock(MotionApplier.class);
             }
 
+            @Test
+            void setAnchorLocationResetsPreviousLocation() {
+                // Arrange
+                sut.setMotionApplier(motionApplier);
+
+                // Act
+                sut.setAnchorLocation(new Coordinate2D(37, 42));
+
+                // Assert
+                verify(motionApplier).setPreviousLocation(37, 42);
+            }
+
             @Test
             void bufferIsEmptiedAfterInitIsCalled() {
                 // Arrange
@@ -3,6 +3,7 @@ package com.github.hanyaeger.api.entities.impl;
 import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.api.Coordinate2D;
 import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
 import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -74,6 +75,23 @@ class RectangleEntityTest {
             assertEquals(WIDTH, actual);
         }
 
+        @Test
+        void setWidthInvalidatesBoundingBox() {
+            // Arrange
+            var boundingBox = new BoundingBox(0, 0, WIDTH, HEIGHT);
+            when(rectangle.getBoundsInLocal()).thenReturn(boundingBox);
+            when(rectangle.localToScene(boundingBox, true)).thenReturn(boundingBox);
+            sut.setShape(rectangle);
+            sut.getBoundingBox();
+
+            // Act
+            sut.setWidth(WIDTH);
+            sut.getBoundingBox();
+
+            // Assert
+            verify(rectangle, times(2)).localToScene(boundingBox, true);
+        }
+
         @Test
         void getWidthAfterNodeIsSetDelegatesTheWidth() {
             // Arrange
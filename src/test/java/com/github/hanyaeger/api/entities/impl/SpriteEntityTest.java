@@ -4,12 +4,18 @@ import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.core.entities.events.RemoveEntityEvent;
 import com.github.hanyaeger.core.entities.SpriteAnimationDelegate;
+import com.github.hanyaeger.core.entities.collisions.AlphaMask;
 import com.github.hanyaeger.core.repositories.ImageRepository;
 import com.github.hanyaeger.core.factories.image.SpriteAnimationDelegateFactory;
 import com.github.hanyaeger.core.factories.image.ImageViewFactory;
 import com.google.inject.Injector;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
+import javafx.scene.Group;
 import javafx.scene.image.ImageView;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Translate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -184,6 +190,73 @@ class SpriteEntityTest {
             verify(imageView).setVisible(false);
             verify(imageView).fireEvent(any(RemoveEntityEvent.class));
         }
+
+        @Test
+        void getAlphaMaskDelegatesCurrentViewportToTheImageRepository() {
+            // Arrange
+            var image = mock(Image.class);
+            var viewport = new Rectangle2D(0, 0, WIDTH, HEIGHT);
+            var expected = mock(AlphaMask.class);
+            when(imageView.getImage()).thenReturn(image);
+            when(imageView.getViewport()).thenReturn(viewport);
+            when(imageView.getLocalToSceneTransform()).thenReturn(new Translate(37, 42));
+            when(imageRepository.getAlphaMask(image, viewport)).thenReturn(expected);
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getAlphaMask();
+
+            // Assert
+            assertEquals(expected, actual.orElseThrow());
+        }
+
+        @Test
+        void getAlphaMaskIsEmptyWhenRotated() {
+            // Arrange
+            when(imageView.getImage()).thenReturn(mock(Image.class));
+            when(imageView.getLocalToSceneTransform()).thenReturn(new Rotate(45));
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getAlphaMask();
+
+            // Assert
+            assertTrue(actual.isEmpty());
+        }
+
+        @Test
+        void getAlphaMaskIsEmptyWhenParentIsRotated() {
+            // Arrange
+            var child = new Rectangle(10, 10);
+            var parent = new Group(child);
+            parent.setRotate(45);
+            when(imageView.getImage()).thenReturn(mock(Image.class));
+            when(imageView.getLocalToSceneTransform()).thenReturn(child.getLocalToSceneTransform());
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getAlphaMask();
+
+            // Assert
+            assertTrue(actual.isEmpty());
+        }
+
+        @Test
+        void getAlphaMaskIsEmptyWhenParentIsScaled() {
+            // Arrange
+            var child = new Rectangle(10, 10);
+            var parent = new Group(child);
+            parent.setScaleX(2);
+            when(imageView.getImage()).thenReturn(mock(Image.class));
+            when(imageView.getLocalToSceneTransform()).thenReturn(child.getLocalToSceneTransform());
+            sut.init(injector);
+
+            // Act
+            var actual = sut.getAlphaMask();
+
+            // Assert
+            assertTrue(actual.isEmpty());
+        }
     }
 
     @Nested
@@ -1,7 +1,10 @@
 package com.github.hanyaeger.api.scenes;
 
+import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.api.Timer;
+import com.github.hanyaeger.api.entities.EntitySpawner;
 import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.Updater;
 import com.github.hanyaeger.core.YaegerConfig;
 import com.github.hanyaeger.core.entities.Debugger;
@@ -12,16 +15,25 @@ import com.github.hanyaeger.core.scenes.delegates.KeyListenerDelegate;
 import com.github.hanyaeger.core.factories.EntityCollectionFactory;
 import com.github.hanyaeger.core.factories.SceneFactory;
 import com.github.hanyaeger.core.factories.animationtimer.AnimationTimerFactory;
+import com.github.hanyaeger.core.factories.animationtimer.AnimationTimerHandler;
+import com.github.hanyaeger.core.exceptions.YaegerEngineException;
+import com.github.hanyaeger.core.exceptions.YaegerLifecycleException;
+import com.github.hanyaeger.core.replay.EntityState;
+import com.github.hanyaeger.core.replay.RecordedEntry;
 import com.google.inject.Injector;
 import javafx.animation.AnimationTimer;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -98,6 +110,145 @@ class DynamicSceneTest {
         assertTrue(timers.isEmpty());
     }
 
+    @Test
+    void activateAppliesBruteForceCollisionStrategyByDefault() {
+        // Arrange
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setCollisionStrategy(eq(CollisionStrategy.BRUTE_FORCE), anyDouble());
+    }
+
+    @Test
+    void activateAppliesCollisionStrategy() {
+        // Arrange
+        sut.setCollisionStrategy(CollisionStrategy.AABB_TREE);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setCollisionStrategy(eq(CollisionStrategy.AABB_TREE), anyDouble());
+        assertEquals(CollisionStrategy.AABB_TREE, sut.getCollisionStrategy());
+    }
+
+    @Test
+    void activateAppliesParallelCollisionDetection() {
+        // Arrange
+        sut.setParallelCollisionDetection(true);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setParallelCollisionDetection(true);
+        assertTrue(sut.isParallelCollisionDetection());
+    }
+
+    @Test
+    void activateAppliesDisabledUpdatePhase() {
+        // Arrange
+        sut.setUpdatePhaseEnabled(UpdatePhase.ANIMATION, false);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setUpdatePhaseEnabled(UpdatePhase.ANIMATION, false);
+        verify(entityCollection).setUpdatePhaseEnabled(UpdatePhase.MOTION, true);
+        assertFalse(sut.isUpdatePhaseEnabled(UpdatePhase.ANIMATION));
+    }
+
+    @Test
+    void activateWhenHeadlessDoesNotCreateGameLoop() {
+        // Arrange
+        sut.setHeadless(new Size(37, 42));
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(animationTimerFactory, never()).create(any());
+        assertTrue(sut.isActiveGWU());
+    }
+
+    @Test
+    void activateAppliesViewportCulling() {
+        // Arrange
+        sut.setViewportCulling(true);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setCullingEnabled(true);
+        assertTrue(sut.isViewportCulling());
+    }
+
+    @Test
+    void newDynamicSceneDoesNotPutEntitiesToSleep() {
+        // Arrange
+
+        // Act & Assert
+        assertFalse(sut.isEntitySleeping());
+    }
+
+    @Test
+    void activateAppliesEntitySleeping() {
+        // Arrange
+        sut.setEntitySleeping(true);
+
+        // Act
+        sut.activate();
+
+        // Assert
+        verify(entityCollection).setSleepingEnabled(true);
+        assertTrue(sut.isEntitySleeping());
+    }
+
+    @Test
+    void setUpdatePhaseEnabledAfterActivationIsApplied() {
+        // Arrange
+        sut.setUpdatePhaseEnabled(UpdatePhase.ANIMATION, false);
+        sut.activate();
+
+        // Act
+        sut.setUpdatePhaseEnabled(UpdatePhase.ANIMATION, true);
+
+        // Assert
+        verify(entityCollection, atLeastOnce()).setUpdatePhaseEnabled(UpdatePhase.ANIMATION, true);
+        assertTrue(sut.isUpdatePhaseEnabled(UpdatePhase.ANIMATION));
+    }
+
+    @Test
+    void setCollisionGridCellSizeAfterActivationSelectsUniformGrid() {
+        // Arrange
+        var cellSize = 37D;
+        sut.activate();
+
+        // Act
+        sut.setCollisionGridCellSize(cellSize);
+
+        // Assert
+        verify(entityCollection).setCollisionStrategy(CollisionStrategy.UNIFORM_GRID, cellSize);
+        assertEquals(cellSize, sut.getCollisionGridCellSize());
+        assertEquals(CollisionStrategy.UNIFORM_GRID, sut.getCollisionStrategy());
+    }
+
+    @Test
+    void setCollisionGridCellSizeToZeroSelectsBruteForce() {
+        // Arrange
+        sut.setCollisionGridCellSize(37D);
+
+        // Act
+        sut.setCollisionGridCellSize(0);
+
+        // Assert
+        assertEquals(CollisionStrategy.BRUTE_FORCE, sut.getCollisionStrategy());
+    }
+
     @Test
     void destroyClearsEntityCollection() {
         // Arrange
@@ -203,6 +354,298 @@ class DynamicSceneTest {
         verify(animationTimer, times(2)).start();
     }
 
+    @Test
+    void pulseWithoutFixedTimestepPerformsSingleUpdate() {
+        // Arrange
+        var handler = activateAndCaptureHandler();
+
+        // Act
+        handler.handle(TIMESTAMP);
+
+        // Assert
+        verify(updater).update(TIMESTAMP);
+        verify(entityCollection, never()).interpolate(anyDouble());
+    }
+
+    @Test
+    void pulseWithFixedTimestepPerformsUpdatePerElapsedStep() {
+        // Arrange
+        sut.setFixedTimestep(100);
+        var handler = activateAndCaptureHandler();
+        handler.handle(0L);
+
+        // Act
+        handler.handle(25_000_000L);
+
+        // Assert
+        verify(updater).update(0L);
+        verify(updater).update(10_000_000L);
+        verify(updater).update(20_000_000L);
+        verify(updater, times(3)).update(anyLong());
+        verify(entityCollection).interpolate(0.5D);
+    }
+
+    @Test
+    void stateIsCapturedBeforeLastStepOfPulse() {
+        // Arrange
+        sut.setFixedTimestep(100);
+        var handler = activateAndCaptureHandler();
+        handler.handle(0L);
+        InOrder inOrder = inOrder(entityCollection, updater);
+
+        // Act
+        handler.handle(20_000_000L);
+
+        // Assert
+        inOrder.verify(entityCollection).clearInterpolation();
+        inOrder.verify(updater).update(10_000_000L);
+        inOrder.verify(entityCollection).captureInterpolationState();
+        inOrder.verify(updater).update(20_000_000L);
+        inOrder.verify(entityCollection).interpolate(0D);
+    }
+
+    @Test
+    void slowPulseIsCappedAtMaxStepsPerPulse() {
+        // Arrange
+        sut.setFixedTimestep(100);
+        sut.setMaxStepsPerPulse(2);
+        var handler = activateAndCaptureHandler();
+        handler.handle(0L);
+
+        // Act
+        handler.handle(1_000_000_000L);
+
+        // Assert
+        verify(updater, times(3)).update(anyLong());
+    }
+
+    @Test
+    void disablingRenderInterpolationSkipsInterpolation() {
+        // Arrange
+        sut.setFixedTimestep(100);
+        sut.setRenderInterpolation(false);
+        var handler = activateAndCaptureHandler();
+
+        // Act
+        handler.handle(0L);
+
+        // Assert
+        assertFalse(sut.isRenderInterpolation());
+        verify(updater).update(0L);
+        verify(entityCollection, never()).captureInterpolationState();
+        verify(entityCollection, never()).interpolate(anyDouble());
+    }
+
+    @Test
+    void negativeFixedTimestepThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sut.setFixedTimestep(-1));
+    }
+
+    @Test
+    void maxStepsPerPulseBelowOneThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sut.setMaxStepsPerPulse(0));
+    }
+
+    @Test
+    void fixedTimestepIsDisabledByDefault() {
+        // Arrange
+
+        // Act & Assert
+        assertEquals(0D, sut.getFixedTimestep());
+        assertTrue(sut.isRenderInterpolation());
+    }
+
+    @Test
+    void pulseIsRecordedWhileRecording() {
+        // Arrange
+        sut.startRecording();
+        var handler = activateAndCaptureHandler();
+
+        // Act
+        handler.handle(37L);
+        handler.handle(42L);
+        var recording = sut.stopRecording();
+
+        // Assert
+        assertEquals(2, recording.getPulseCount());
+        assertEquals(1, recording.getKeyframeCount());
+        assertFalse(sut.isRecording());
+        verify(updater).update(37L);
+    }
+
+    @Test
+    void inputIsRecordedWhileRecording() {
+        // Arrange
+        sut.activate();
+        sut.startRecording();
+
+        // Act
+        sut.onInputChanged(Set.of(KeyCode.A));
+
+        // Assert
+        verify(entityCollection).notifyGameObjectsOfPressedKeys(Set.of(KeyCode.A));
+        assertEquals(1, sut.stopRecording().getEntries().size());
+    }
+
+    @Test
+    void stopRecordingWithoutRecordingThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.stopRecording());
+    }
+
+    @Test
+    void startRecordingWhileReplayingThrowsException() {
+        // Arrange
+        sut.replay(new Recording());
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.startRecording());
+    }
+
+    @Test
+    void replayFeedsRecordedPulsesAndInput() {
+        // Arrange
+        var recording = new Recording();
+        recording.add(new RecordedEntry.Keyframe(List.of()));
+        recording.add(new RecordedEntry.KeysChanged(Set.of(KeyCode.A)));
+        recording.add(new RecordedEntry.Pulse(37L));
+        when(scene.getRoot()).thenReturn(pane);
+        when(entityCollection.restoreState(any())).thenReturn(true);
+        sut.replay(recording);
+        var handler = activateAndCaptureHandler();
+
+        // Act
+        handler.handle(1000L);
+
+        // Assert
+        verify(entityCollection).restoreState(List.of());
+        verify(entityCollection).notifyGameObjectsOfPressedKeys(Set.of(KeyCode.A));
+        verify(updater).update(37L);
+        verify(updater, never()).update(1000L);
+        assertEquals(1, sut.getReplayPosition());
+    }
+
+    @Test
+    void replayPausesAfterLastPulse() {
+        // Arrange
+        var recording = new Recording();
+        recording.add(new RecordedEntry.Pulse(37L));
+        when(scene.getRoot()).thenReturn(pane);
+        sut.replay(recording);
+        var handler = activateAndCaptureHandler();
+        handler.handle(1000L);
+
+        // Act
+        handler.handle(2000L);
+
+        // Assert
+        assertFalse(sut.isReplaying());
+        assertFalse(sut.isActiveGWU());
+        verify(updater, times(1)).update(anyLong());
+    }
+
+    @Test
+    void actualInputIsIgnoredWhileReplaying() {
+        // Arrange
+        sut.activate();
+        sut.replay(new Recording());
+
+        // Act
+        sut.onInputChanged(Set.of(KeyCode.A));
+
+        // Assert
+        verify(entityCollection, never()).notifyGameObjectsOfPressedKeys(any());
+    }
+
+    @Test
+    void replayOfMismatchingEntitiesThrowsException() {
+        // Arrange
+        var recording = new Recording();
+        recording.add(new RecordedEntry.Keyframe(List.of()));
+        recording.add(new RecordedEntry.Pulse(37L));
+        when(entityCollection.restoreState(any())).thenReturn(false);
+        sut.replay(recording);
+        var handler = activateAndCaptureHandler();
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> handler.handle(1000L));
+    }
+
+    @Test
+    void seekWithoutReplayThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.seek(0));
+    }
+
+    @Test
+    void seekThroughRecordingThatIsNotSeekableThrowsException() {
+        // Arrange
+        var recording = new Recording();
+        recording.add(new RecordedEntry.Keyframe(List.of()));
+        recording.add(new RecordedEntry.Pulse(0L));
+        recording.add(new RecordedEntry.Keyframe(List.of(new EntityState("com.example.Entity", 0, 0, 0, 0, 0))));
+        recording.add(new RecordedEntry.Pulse(10L));
+        sut.replay(recording);
+
+        // Act & Assert
+        assertThrows(YaegerEngineException.class, () -> sut.seek(1));
+        verify(entityCollection, never()).restoreState(any());
+    }
+
+    @Test
+    void startRecordingWithEntitySpawnerThrowsException() {
+        // Arrange
+        sut.getSpawners().add(mock(EntitySpawner.class));
+
+        // Act & Assert
+        assertThrows(YaegerLifecycleException.class, () -> sut.startRecording());
+        assertFalse(sut.isRecording());
+    }
+
+    @Test
+    void seekBackwardsRestoresKeyframeAndReplaysPulses() {
+        // Arrange
+        var recording = new Recording();
+        for (var pulse = 0; pulse < 4; pulse++) {
+            if (pulse % 2 == 0) {
+                recording.add(new RecordedEntry.Keyframe(List.of()));
+            }
+            recording.add(new RecordedEntry.Pulse(pulse * 10L));
+        }
+        when(scene.getRoot()).thenReturn(pane);
+        when(entityCollection.restoreState(any())).thenReturn(true);
+        sut.replay(recording);
+        sut.activate();
+        sut.seek(4);
+        clearInvocations(updater, entityCollection);
+
+        // Act
+        sut.seek(3);
+
+        // Assert
+        assertEquals(3, sut.getReplayPosition());
+        verify(entityCollection).restoreState(List.of());
+        verify(updater).update(20L);
+        verify(updater, never()).update(0L);
+    }
+
+    private AnimationTimerHandler activateAndCaptureHandler() {
+        sut.activate();
+        ArgumentCaptor<AnimationTimerHandler> argument = ArgumentCaptor.forClass(AnimationTimerHandler.class);
+        verify(animationTimerFactory).create(argument.capture());
+        return argument.getValue();
+    }
+
     private static class DynamicSceneImpl extends DynamicScene {
 
         @Override
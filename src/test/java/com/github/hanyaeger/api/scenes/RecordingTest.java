@@ -0,0 +1,182 @@
+package com.github.hanyaeger.api.scenes;
+
+import com.github.hanyaeger.core.replay.EntityState;
+import com.github.hanyaeger.core.replay.RecordedEntry;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingTest {
+
+    private Recording sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new Recording();
+    }
+
+    @Test
+    void newRecordingContainsNoPulses() {
+        // Arrange
+        // Act & Assert
+        assertEquals(0, sut.getPulseCount());
+        assertEquals(0, sut.getKeyframeCount());
+    }
+
+    @Test
+    void addCountsPulsesAndKeyframes() {
+        // Arrange
+        // Act
+        sut.add(new RecordedEntry.Keyframe(List.of()));
+        sut.add(new RecordedEntry.Pulse(37));
+        sut.add(new RecordedEntry.Pulse(42));
+
+        // Assert
+        assertEquals(2, sut.getPulseCount());
+        assertEquals(1, sut.getKeyframeCount());
+        assertEquals(3, sut.getEntries().size());
+    }
+
+    @Test
+    void getKeyframeBeforeReturnsLastKeyframeAtOrBeforePulse() {
+        // Arrange
+        sut.add(new RecordedEntry.Keyframe(List.of()));
+        sut.add(new RecordedEntry.Pulse(1));
+        sut.add(new RecordedEntry.Pulse(2));
+        sut.add(new RecordedEntry.Keyframe(List.of()));
+        sut.add(new RecordedEntry.Pulse(3));
+
+        // Act & Assert
+        assertEquals(0, sut.getKeyframeBefore(0));
+        assertEquals(0, sut.getKeyframeBefore(1));
+        assertEquals(1, sut.getKeyframeBefore(2));
+        assertEquals(1, sut.getKeyframeBefore(3));
+        assertEquals(2, sut.getPulseOfKeyframe(1));
+        assertEquals(3, sut.getEntryOfKeyframe(1));
+    }
+
+    @Test
+    void getKeyframeBeforeReturnsMinusOneIfThereIsNone() {
+        // Arrange
+        sut.add(new RecordedEntry.Pulse(1));
+        sut.add(new RecordedEntry.Keyframe(List.of()));
+
+        // Act & Assert
+        assertEquals(-1, sut.getKeyframeBefore(0));
+    }
+
+    @Test
+    void writtenRecordingCanBeReadAgain() throws IOException {
+        // Arrange
+        var state = new EntityState("com.example.Entity", 1.5, 2.5, 3, 90, 45);
+        sut.add(new RecordedEntry.Keyframe(List.of(state, state)));
+        sut.add(new RecordedEntry.KeysChanged(EnumSet.of(KeyCode.LEFT, KeyCode.SPACE)));
+        sut.add(new RecordedEntry.Pulse(16_666_667L));
+        sut.add(new RecordedEntry.MouseInput(0, 10.25, 20.75, MouseButton.PRIMARY, 1, 17));
+        sut.add(new RecordedEntry.Pulse(33_333_333L));
+        sut.add(new RecordedEntry.Pulse(30_000_000L));
+        var out = new ByteArrayOutputStream();
+
+        // Act
+        sut.write(out);
+        var actual = Recording.read(new ByteArrayInputStream(out.toByteArray()));
+
+        // Assert
+        assertEquals(sut.getEntries(), actual.getEntries());
+        assertEquals(3, actual.getPulseCount());
+        assertEquals(1, actual.getKeyframeCount());
+    }
+
+    @Test
+    void keysAndMouseButtonsAreStoredByName() throws IOException {
+        // Arrange
+        sut.add(new RecordedEntry.KeysChanged(EnumSet.of(KeyCode.SPACE)));
+        sut.add(new RecordedEntry.MouseInput(0, 0, 0, MouseButton.SECONDARY, 1, 0));
+        var out = new ByteArrayOutputStream();
+
+        // Act
+        sut.write(out);
+
+        // Assert
+        var written = out.toString(StandardCharsets.ISO_8859_1);
+        assertTrue(written.contains(KeyCode.SPACE.getName()));
+        assertTrue(written.contains(MouseButton.SECONDARY.name()));
+    }
+
+    @Test
+    void recordingWithSameEntitiesInAllKeyframesIsSeekable() {
+        // Arrange
+        var state = new EntityState("com.example.Entity", 0, 0, 0, 0, 0);
+
+        // Act
+        sut.add(new RecordedEntry.Keyframe(List.of(state)));
+        sut.add(new RecordedEntry.Pulse(1));
+        sut.add(new RecordedEntry.Keyframe(List.of(state)));
+
+        // Assert
+        assertTrue(sut.isSeekable());
+    }
+
+    @Test
+    void recordingWithOtherEntitiesInLaterKeyframeIsNotSeekable() {
+        // Arrange
+        var state = new EntityState("com.example.Entity", 0, 0, 0, 0, 0);
+
+        // Act
+        sut.add(new RecordedEntry.Keyframe(List.of(state)));
+        sut.add(new RecordedEntry.Pulse(1));
+        sut.add(new RecordedEntry.Keyframe(List.of(state, state)));
+        sut.add(new RecordedEntry.Pulse(2));
+        sut.add(new RecordedEntry.Keyframe(List.of(state)));
+
+        // Assert
+        assertFalse(sut.isSeekable());
+    }
+
+    @Test
+    void pulsesAreStoredCompactly() throws IOException {
+        // Arrange
+        for (var i = 1; i <= 1000; i++) {
+            sut.add(new RecordedEntry.Pulse(i * 16_666_667L));
+        }
+        var out = new ByteArrayOutputStream();
+
+        // Act
+        sut.write(out);
+
+        // Assert
+        assertTrue(out.size() < 3 * 1000);
+    }
+
+    @Test
+    void readOfOtherContentThrowsIOException() {
+        // Arrange
+        var in = new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5});
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> Recording.read(in));
+    }
+
+    @Test
+    void readOfTruncatedRecordingThrowsIOException() throws IOException {
+        // Arrange
+        sut.add(new RecordedEntry.Pulse(37));
+        var out = new ByteArrayOutputStream();
+        sut.write(out);
+        var bytes = out.toByteArray();
+        var in = new ByteArrayInputStream(bytes, 0, bytes.length - 1);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> Recording.read(in));
+    }
+}
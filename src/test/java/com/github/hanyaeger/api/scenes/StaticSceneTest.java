@@ -1,5 +1,7 @@
 package com.github.hanyaeger.api.scenes;
 
+import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.core.YaegerConfig;
 import com.github.hanyaeger.core.entities.Debugger;
 import com.github.hanyaeger.core.entities.EntitySupplier;
@@ -10,6 +12,7 @@ import com.github.hanyaeger.core.factories.EntityCollectionFactory;
 import com.github.hanyaeger.core.factories.SceneFactory;
 import com.google.inject.Injector;
 import javafx.collections.ObservableList;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.effect.ColorAdjust;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -130,6 +134,28 @@ class StaticSceneTest {
         assertEquals(actual, entityCollection);
     }
 
+    @Test
+    void spatialQueriesAreDelegatedToEntityCollection() {
+        // Arrange
+        sut.activate();
+        var region = new BoundingBox(0, 0, 10, 10);
+        var from = new Coordinate2D(0, 0);
+        var to = new Coordinate2D(10, 10);
+        var result = new ArrayList<YaegerEntity>();
+
+        // Act
+        sut.queryRegion(region, YaegerEntity.class, result);
+        sut.queryRadius(from, 5, YaegerEntity.class, result);
+        sut.queryNearest(from, 2, YaegerEntity.class, result);
+        sut.raycast(from, to, YaegerEntity.class, result);
+
+        // Assert
+        verify(entityCollection).queryRegion(region, YaegerEntity.class, result);
+        verify(entityCollection).queryRadius(from, 5, YaegerEntity.class, result);
+        verify(entityCollection).queryNearest(from, 2, YaegerEntity.class, result);
+        verify(entityCollection).raycast(from, to, YaegerEntity.class, result);
+    }
+
     @Test
     void getNodeReturnsOptionalOfParentNode() {
         // Arrange
@@ -157,6 +183,21 @@ class StaticSceneTest {
     }
 
 
+    @Test
+    void activateWhenHeadlessDoesNotCreateAScene() {
+        // Arrange
+        sut.setHeadless(new Size(37, 42));
+
+        // Act
+        sut.activate();
+
+        // Verify
+        verify(sceneFactory, never()).create(any());
+        verify(pane).resize(37, 42);
+        assertEquals(37, sut.getWidth());
+        assertEquals(42, sut.getHeight());
+    }
+
     @Test
     void activateSetsUpADebuggerIfConfigHasShowDebug() {
         // Arrange
@@ -0,0 +1,116 @@
+package com.github.hanyaeger.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepTest {
+
+    private static final long STEP = 10_000_000L;
+
+    @Test
+    void stepsPerSecondOfZeroThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0));
+    }
+
+    @Test
+    void maxStepsPerPulseOfZeroThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(60, 0));
+    }
+
+    @Test
+    void stepDurationIsDerivedFromStepsPerSecond() {
+        // Arrange
+        var sut = new FixedTimestep(100);
+
+        // Act
+        var actual = sut.getStepDuration();
+
+        // Assert
+        assertEquals(STEP, actual);
+    }
+
+    @Test
+    void firstPulseResultsInSingleStepAtPulseTimestamp() {
+        // Arrange
+        var sut = new FixedTimestep(100);
+
+        // Act
+        var steps = sut.advance(5 * STEP);
+
+        // Assert
+        assertEquals(1, steps);
+        assertEquals(5 * STEP, sut.nextStep());
+        assertEquals(0D, sut.getAlpha());
+    }
+
+    @Test
+    void remainderIsKeptForNextPulse() {
+        // Arrange
+        var sut = new FixedTimestep(100);
+        sut.advance(0);
+        sut.nextStep();
+
+        // Act
+        var first = sut.advance(STEP / 2);
+        var alpha = sut.getAlpha();
+        var second = sut.advance(STEP + STEP / 4);
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(0.5D, alpha);
+        assertEquals(1, second);
+        assertEquals(0.25D, sut.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void stepsAreCappedAndExcessTimeIsDropped() {
+        // Arrange
+        var sut = new FixedTimestep(100, 3);
+        sut.advance(0);
+
+        // Act
+        var steps = sut.advance(100 * STEP + STEP / 2);
+
+        // Assert
+        assertEquals(3, steps);
+        assertEquals(0.5D, sut.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void nextStepAdvancesBySingleStep() {
+        // Arrange
+        var sut = new FixedTimestep(100);
+        sut.advance(0);
+        sut.nextStep();
+        sut.advance(2 * STEP);
+
+        // Act
+        var first = sut.nextStep();
+        var second = sut.nextStep();
+
+        // Assert
+        assertEquals(STEP, first);
+        assertEquals(2 * STEP, second);
+    }
+
+    @Test
+    void resetForgetsTimeBetweenPulses() {
+        // Arrange
+        var sut = new FixedTimestep(100);
+        sut.advance(0);
+
+        // Act
+        sut.reset();
+        var steps = sut.advance(1000 * STEP);
+
+        // Assert
+        assertEquals(1, steps);
+    }
+}
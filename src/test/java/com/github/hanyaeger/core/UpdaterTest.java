@@ -1,9 +1,12 @@
 package com.github.hanyaeger.core;
 
+import com.github.hanyaeger.api.UpdatePhase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class UpdaterTest {
@@ -75,4 +78,84 @@ class UpdaterTest {
         // Assert
         verify(updatable).update(TIMESTAMP);
     }
+
+    @Test
+    void updatablesAreCalledInTheOrderOfTheirPhases() {
+        // Arrange
+        var animationUpdatable = mock(Updatable.class);
+        var inputUpdatable = mock(Updatable.class);
+        sut.addUpdatable(animationUpdatable, UpdatePhase.ANIMATION);
+        sut.addUpdatable(updatable);
+        sut.addUpdatable(inputUpdatable, UpdatePhase.INPUT);
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        InOrder inOrder = inOrder(inputUpdatable, updatable, animationUpdatable);
+        inOrder.verify(inputUpdatable).update(TIMESTAMP);
+        inOrder.verify(updatable).update(TIMESTAMP);
+        inOrder.verify(animationUpdatable).update(TIMESTAMP);
+    }
+
+    @Test
+    void updateOfPhaseOnlyCallsUpdatablesOfThatPhase() {
+        // Arrange
+        var animationUpdatable = mock(Updatable.class);
+        sut.addUpdatable(animationUpdatable, UpdatePhase.ANIMATION);
+        sut.addUpdatable(updatable);
+
+        // Act
+        sut.update(TIMESTAMP, UpdatePhase.ANIMATION);
+
+        // Assert
+        verify(animationUpdatable).update(TIMESTAMP);
+        verify(updatable, never()).update(TIMESTAMP);
+    }
+
+    @Test
+    void updatableAddedDuringPhaseIsCalledFromTheNextUpdateOfThatPhase() {
+        // Arrange
+        sut.addUpdatable(timestamp -> sut.addUpdatable(updatable));
+
+        // Act
+        sut.update(TIMESTAMP);
+
+        // Assert
+        verify(updatable, never()).update(TIMESTAMP);
+    }
+
+    @Test
+    void hasUpdatablesIsTrueOnlyForPhaseWithUpdatables() {
+        // Arrange
+        sut.addUpdatable(updatable, UpdatePhase.ANIMATION);
+
+        // Act & Assert
+        assertTrue(sut.hasUpdatables(UpdatePhase.ANIMATION));
+        assertFalse(sut.hasUpdatables(UpdatePhase.MOTION));
+    }
+
+    @Test
+    void newUpdaterIsNotAsleep() {
+        // Arrange
+
+        // Act & Assert
+        assertFalse(sut.isAsleep());
+        assertFalse(sut.hasCustomUpdatables());
+    }
+
+    @Test
+    void wakeUpCallsWakeUpHandlerOnce() {
+        // Arrange
+        var wakeUpHandler = mock(Runnable.class);
+        sut.setWakeUpHandler(wakeUpHandler);
+
+        // Act
+        sut.wakeUp();
+        sut.wakeUp();
+
+        // Assert
+        verify(wakeUpHandler).run();
+        assertFalse(sut.isAsleep());
+    }
 }
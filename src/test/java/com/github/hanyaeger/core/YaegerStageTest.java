@@ -4,6 +4,7 @@ import com.github.hanyaeger.api.Size;
 import com.github.hanyaeger.api.YaegerGame;
 import com.github.hanyaeger.core.factories.SceneCollectionFactory;
 import com.github.hanyaeger.core.factories.SceneFactory;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
 import com.google.inject.Injector;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -28,6 +29,7 @@ class YaegerStageTest {
     private SceneCollectionFactory sceneCollectionFactory;
     private SceneFactory sceneFactory;
     private SceneCollection sceneCollection;
+    private UpdateProfiler profiler;
 
     @BeforeEach
     void setUp() {
@@ -39,15 +41,46 @@ class YaegerStageTest {
         sceneCollectionFactory = mock(SceneCollectionFactory.class);
         sceneFactory = mock(SceneFactory.class);
         sceneCollection = mock(SceneCollection.class);
+        profiler = mock(UpdateProfiler.class);
 
         sut = new YaegerStage(yaegerGame, stage, yaegerConfig);
         sut.setSceneCollectionFactory(sceneCollectionFactory);
         sut.setSceneFactory(sceneFactory);
+        sut.setProfiler(profiler);
 
         when(sceneCollectionFactory.create(stage, yaegerConfig)).thenReturn(sceneCollection);
         when(sceneFactory.createEmptyForSize(any(Size.class))).thenReturn(scene);
     }
 
+    @Test
+    void atInitProfilerIsNotEnabledByDefault() {
+        // Arrange
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(profiler, never()).setEnabled(true);
+    }
+
+    @Test
+    void atInitProfilerIsEnabledWhenConfigStatesProfiling() {
+        // Arrange
+        var profilingConfig = new YaegerConfig(true, false, false, true);
+        when(sceneCollectionFactory.create(stage, profilingConfig)).thenReturn(sceneCollection);
+        sut = new YaegerStage(yaegerGame, stage, profilingConfig);
+        sut.setSceneCollectionFactory(sceneCollectionFactory);
+        sut.setSceneFactory(sceneFactory);
+        sut.setProfiler(profiler);
+
+        // Act
+        sut.init(injector);
+
+        // Assert
+        verify(profiler).setEnabled(true);
+        verify(stage).setOnHidden(any());
+    }
+
     @Test
     void atInitSceneCollectionFactoryCreateIsCalledWithCorrectConfig() {
         // Arrange
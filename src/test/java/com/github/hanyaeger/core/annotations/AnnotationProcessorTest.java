@@ -3,9 +3,12 @@ package com.github.hanyaeger.core.annotations;
 import com.github.hanyaeger.api.Timer;
 import com.github.hanyaeger.core.Updatable;
 import com.github.hanyaeger.core.UpdateDelegator;
+import com.github.hanyaeger.api.UpdatePhase;
 import com.github.hanyaeger.core.Updater;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
 import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.api.entities.YaegerEntity;
+import com.github.hanyaeger.api.scenes.DynamicScene;
 import com.google.inject.Injector;
 import javafx.scene.Node;
 
@@ -61,7 +64,7 @@ class AnnotationProcessorTest {
         sut.configureUpdateDelegators(firstUpdateDelegatingEntity);
 
         // Verify
-        verify(updater).addUpdatable(any(Updatable.class), eq(true));
+        verify(updater).addUpdatable(any(Updatable.class), eq(UpdatePhase.MOTION), eq(true));
     }
 
     @Test
@@ -74,7 +77,107 @@ class AnnotationProcessorTest {
         sut.configureUpdateDelegators(updateDelegatingEntity);
 
         // Verify
-        verify(updater).addUpdatable(any(Updatable.class), eq(false));
+        verify(updater).addUpdatable(any(Updatable.class), eq(UpdatePhase.MOTION), eq(false));
+    }
+
+    @Test
+    void entityWithPhasedUpdateGetsAddedToTheUpdatersForThatPhase() {
+        var animationUpdateDelegatingEntity = new AnimationUpdateDelegatingEntity(LOCATION);
+        var updater = mock(Updater.class);
+        animationUpdateDelegatingEntity.setUpdater(updater);
+
+        // Test
+        sut.configureUpdateDelegators(animationUpdateDelegatingEntity);
+
+        // Verify
+        verify(updater).addUpdatable(any(Updatable.class), eq(UpdatePhase.ANIMATION), eq(false));
+    }
+
+    @Test
+    void providedUpdatableIsNotWrappedWhenProfilingIsDisabled() {
+        // Arrange
+        var updateDelegatingEntity = new UpdateDelegatingEntity(LOCATION);
+        var updater = new Updater();
+        updateDelegatingEntity.setUpdater(updater);
+        var profiler = new UpdateProfiler();
+        sut.setProfiler(profiler);
+
+        // Act
+        sut.configureUpdateDelegators(updateDelegatingEntity);
+        updater.update(0);
+
+        // Assert
+        Assertions.assertTrue(profiler.getSlowest(1).isEmpty());
+    }
+
+    @Test
+    void providedUpdatableIsMeasuredPerClassWhenProfilingIsEnabled() {
+        // Arrange
+        var first = new UpdateDelegatingEntity(LOCATION);
+        var second = new UpdateDelegatingEntity(LOCATION);
+        var updater = new Updater();
+        first.setUpdater(updater);
+        second.setUpdater(updater);
+        var profiler = new UpdateProfiler();
+        profiler.setEnabled(true);
+        sut.setProfiler(profiler);
+
+        // Act
+        sut.configureUpdateDelegators(first);
+        sut.configureUpdateDelegators(second);
+        updater.update(0);
+
+        // Assert
+        var slowest = profiler.getSlowest(2);
+        Assertions.assertEquals(1, slowest.size());
+        Assertions.assertEquals(UpdateDelegatingEntity.class.getName() + "#provideUpdate", slowest.get(0).label());
+        Assertions.assertEquals(2, slowest.get(0).count());
+    }
+
+    @Test
+    void entityCollectionUpdatableIsNotWrappedWhenProfilingIsEnabled() {
+        // Arrange
+        var scene = new DynamicSceneImpl();
+        var updater = mock(Updater.class);
+        scene.setUpdater(updater);
+        var profiler = mock(UpdateProfiler.class);
+        when(profiler.isEnabled()).thenReturn(true);
+        sut.setProfiler(profiler);
+
+        // Act
+        sut.configureUpdateDelegators(scene);
+
+        // Assert
+        verify(updater).addUpdatable(any(Updatable.class), eq(UpdatePhase.DEFAULT), eq(false));
+        verify(profiler, never()).wrap(anyString(), any(Updatable.class));
+    }
+
+    private static class DynamicSceneImpl extends DynamicScene {
+
+        @Override
+        public void setupScene() {
+            // Not required here
+        }
+
+        @Override
+        public void setupEntities() {
+            // Not required here
+        }
+    }
+
+    private class AnimationUpdateDelegatingEntity extends UpdateDelegatingEntity {
+
+        public AnimationUpdateDelegatingEntity(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+
+        @Override
+        @UpdatableProvider(phase = UpdatePhase.ANIMATION)
+        public Updatable provideUpdate() {
+            return timestamp -> {
+                // Not required here
+            };
+        }
     }
 
     private class FirstUpdateDelegatingEntity extends YaegerEntity implements UpdateDelegator {
@@ -3,15 +3,26 @@ package com.github.hanyaeger.core.entities;
 import com.github.hanyaeger.api.Timer;
 import com.github.hanyaeger.api.AnchorPoint;
 import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.entities.BatchCollided;
 import com.github.hanyaeger.api.entities.Collided;
 import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.CompositeEntity;
+import com.github.hanyaeger.api.entities.ContinuousCollided;
+import com.github.hanyaeger.api.entities.TrackedCollided;
 import com.github.hanyaeger.api.entities.YaegerEntity;
+import com.github.hanyaeger.core.entities.collisions.AABBTreeBroadphase;
+import com.github.hanyaeger.core.entities.collisions.Broadphase;
+import com.github.hanyaeger.core.entities.collisions.BruteForceBroadphase;
+import com.github.hanyaeger.core.entities.collisions.ColliderGroup;
+import com.github.hanyaeger.core.entities.collisions.SweepAndPruneBroadphase;
+import com.github.hanyaeger.core.entities.collisions.UniformGridBroadphase;
 import com.google.inject.Injector;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Node;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,19 +43,55 @@ class CollisionDelegateTest {
     void onlyCollidedGetsCollisionCheck() {
         // Arrange
         var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
         var collider = mock(Collider.class);
 
         collisionDelegate.register(collided);
         collisionDelegate.register(collider);
 
-        ArgumentCaptor<List> argument = ArgumentCaptor.forClass(List.class);
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).onCollision(collider);
+    }
+
+    @Test
+    void detectedCollisionIsReportedWithoutCheckingAgain() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        var collider = mock(ColliderImpl.class);
+        when(collided.isCollidingWith(collider)).thenReturn(true);
+
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.register((YaegerEntity) collider);
 
         // Act
         collisionDelegate.checkCollisions();
 
         // Assert
-        verify(collided).checkForCollisions(argument.capture());
-        assertEquals(1, argument.getValue().size());
+        verify(collided, times(1)).isCollidingWith(collider);
+        verify(collided, never()).checkForCollisions(any());
+        verify(collided).onCollision(collider);
+    }
+
+    @Test
+    void collidedOverridingCheckForCollisionsReceivesAllHits() {
+        // Arrange
+        var collided = mock(ContinuousCollided.class);
+        var first = mock(Collider.class);
+        var second = mock(Collider.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(first);
+        collisionDelegate.register(second);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).checkForCollisions(List.of(first, second));
     }
 
     @Test
@@ -88,18 +135,16 @@ class CollisionDelegateTest {
         // Arrange
         YaegerEntity collidedEntity = mock(CollidedImpl.class);
         YaegerEntity colliderEntity = mock(ColliderImpl.class);
+        when(((Collided) collidedEntity).isCollidingWith(any())).thenReturn(true);
 
         collisionDelegate.register(collidedEntity);
         collisionDelegate.register(colliderEntity);
 
-        ArgumentCaptor<List> argument = ArgumentCaptor.forClass(List.class);
-
         // Act
         collisionDelegate.checkCollisions();
 
         // Assert
-        verify((Collided) collidedEntity).checkForCollisions(argument.capture());
-        assertEquals(1, argument.getValue().size());
+        verify((Collided) collidedEntity).onCollision((Collider) colliderEntity);
     }
 
     @Test
@@ -116,6 +161,7 @@ class CollisionDelegateTest {
         collisionDelegate.checkCollisions();
 
         // Assert
+        verify((Collided) collidedEntity).getIgnoredCollisionLayers();
         verifyNoMoreInteractions(collidedEntity);
     }
 
@@ -124,19 +170,774 @@ class CollisionDelegateTest {
         // Arrange
         YaegerEntity collidedEntity = mock(CollidedImpl.class);
         YaegerEntity colliderEntity = mock(ColliderImpl.class);
+        when(((Collided) collidedEntity).isCollidingWith(any())).thenReturn(true);
 
         collisionDelegate.register(collidedEntity);
         collisionDelegate.register(colliderEntity);
 
-        ArgumentCaptor<List> argument = ArgumentCaptor.forClass(List.class);
+        // Act
+        collisionDelegate.remove(colliderEntity);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify((Collided) collidedEntity, never()).onCollision(any());
+    }
+
+    @Test
+    void withGridOnlyNearbyCollidersAreChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var nearCollider = mock(Collider.class);
+        var farCollider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(nearCollider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(farCollider.getBoundingBox()).thenReturn(new BoundingBox(500, 500, 10, 10));
+
+        collisionDelegate.setBroadphaseSupplier(() -> new UniformGridBroadphase(50));
+        collisionDelegate.register(collided);
+        collisionDelegate.register(farCollider);
+        collisionDelegate.register(nearCollider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(farCollider);
+        verify(collided).onCollision(nearCollider);
+    }
+
+    @Test
+    void settingBruteForceBroadphaseRestoresCheckingAllColliders() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var farCollider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(farCollider.getBoundingBox()).thenReturn(new BoundingBox(500, 500, 10, 10));
+
+        collisionDelegate.setBroadphaseSupplier(() -> new UniformGridBroadphase(50));
+        collisionDelegate.register(collided);
+        collisionDelegate.register(farCollider);
+
+        // Act
+        collisionDelegate.setBroadphaseSupplier(BruteForceBroadphase::new);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).onCollision(farCollider);
+    }
+
+    @Test
+    void setBroadphaseSupplierTransfersRegisteredColliders() {
+        // Arrange
+        var collider = mock(Collider.class);
+        var broadphase = mock(Broadphase.class);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+
+        // Assert
+        verify(broadphase).register(collider);
+    }
+
+    @Test
+    void removeColliderIsDelegatedToBroadphase() {
+        // Arrange
+        YaegerEntity colliderEntity = mock(ColliderImpl.class);
+        var broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+        collisionDelegate.register(colliderEntity);
 
         // Act
         collisionDelegate.remove(colliderEntity);
+
+        // Assert
+        verify(broadphase).remove((Collider) colliderEntity);
+    }
+
+    @Test
+    void collidedIsRegisteredWithBroadphase() {
+        // Arrange
+        YaegerEntity collidedEntity = mock(CollidedImpl.class);
+        var broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+        collisionDelegate.register(mock(Collider.class));
+
+        // Act
+        collisionDelegate.register(collidedEntity);
+
+        // Assert
+        verify(broadphase).register((Collided) collidedEntity);
+    }
+
+    @Test
+    void colliderOnIgnoredLayerIsNotChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var enemy = mock(Collider.class);
+        var wall = mock(Collider.class);
+        when(enemy.getCollisionLayer()).thenReturn(2);
+        when(collided.getIgnoredCollisionLayers()).thenReturn(1 << 2);
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(enemy);
+        collisionDelegate.register(wall);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(enemy);
+        verify(collided).onCollision(wall);
+    }
+
+    @Test
+    void candidatesOfMultipleLayersAreOrderedByLayer() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var enemy = mock(Collider.class);
+        var wall = mock(Collider.class);
+        var bullet = mock(Collider.class);
+        when(enemy.getCollisionLayer()).thenReturn(2);
+        when(bullet.getCollisionLayer()).thenReturn(1);
+
+        collisionDelegate.register(enemy);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(wall);
+        collisionDelegate.register(bullet);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        var inOrder = inOrder(collided);
+        inOrder.verify(collided).isCollidingWith(wall);
+        inOrder.verify(collided).isCollidingWith(bullet);
+        inOrder.verify(collided).isCollidingWith(enemy);
+        verify(collided).onCollision(wall);
+    }
+
+    @Test
+    void collidedIgnoringLayerIsNotRegisteredWithThatLayer() {
+        // Arrange
+        var collided = mock(Collided.class);
+        var collider = mock(Collider.class);
+        var broadphase = mock(Broadphase.class);
+        when(collided.getIgnoredCollisionLayers()).thenReturn(1);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.register(collided);
+
+        // Assert
+        verify(broadphase, never()).register(collided);
+    }
+
+    @Test
+    void colliderOnInvalidLayerThrowsIllegalArgumentException() {
+        // Arrange
+        var collider = mock(Collider.class);
+        when(collider.getCollisionLayer()).thenReturn(Collider.COLLISION_LAYERS);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> collisionDelegate.register(collider));
+    }
+
+    @Test
+    void withSweepAndPruneOnlyOverlappingPairsAreChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var nearCollider = mock(Collider.class);
+        var farCollider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(nearCollider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(farCollider.getBoundingBox()).thenReturn(new BoundingBox(5, 500, 10, 10));
+
+        collisionDelegate.setBroadphaseSupplier(SweepAndPruneBroadphase::new);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(nearCollider);
+        collisionDelegate.register(farCollider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(farCollider);
+        verify(collided).onCollision(nearCollider);
+    }
+
+    @Test
+    void withAABBTreeOnlyOverlappingBranchesAreChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var nearCollider = mock(Collider.class);
+        var farCollider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(nearCollider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(farCollider.getBoundingBox()).thenReturn(new BoundingBox(500, 500, 10, 10));
+
+        collisionDelegate.setBroadphaseSupplier(AABBTreeBroadphase::new);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(nearCollider);
+        collisionDelegate.register(farCollider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(farCollider);
+        verify(collided).onCollision(nearCollider);
+    }
+
+    @Test
+    void trackedCollidedReceivesEnterInsteadOfCheckForCollisions() {
+        // Arrange
+        var collided = mock(TrackedCollided.class);
+        var collider = mock(Collider.class);
+        when(collided.isCollidingWith(collider)).thenReturn(true);
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).onCollision(any());
+        verify(collided).onCollisionEnter(collider);
+        verify(collided).onCollisionStay(collider);
+    }
+
+    @Test
+    void parallelCollisionDetectionOnlyPassesIntersectingColliders() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var nearCollider = mock(Collider.class);
+        var farCollider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(nearCollider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(farCollider.getBoundingBox()).thenReturn(new BoundingBox(50, 50, 10, 10));
+
+        collisionDelegate.setParallel(true);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(nearCollider);
+        collisionDelegate.register(farCollider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(farCollider);
+        verify(collided).onCollision(nearCollider);
+    }
+
+    @Test
+    void parallelCollisionDetectionOnlyTestsCandidatesOfBroadphase() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var nearCollider = mock(Collider.class);
+        var farCollider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(nearCollider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        var broadphase = mock(Broadphase.class);
+        when(broadphase.getCandidates(collided)).thenReturn(List.of(nearCollider));
+
+        collisionDelegate.setParallel(true);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(nearCollider);
+        collisionDelegate.register(farCollider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(broadphase).update();
+        verify(farCollider, never()).getBoundingBox();
+        verify(collided).onCollision(nearCollider);
+    }
+
+    @Test
+    void parallelCollisionDetectionDispatchesTrackedCollisions() {
+        // Arrange
+        var collided = mock(TrackedCollided.class);
+        var collider = mock(Collider.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        when(collided.isCollidingWith(collider)).thenReturn(true);
+
+        collisionDelegate.setParallel(true);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).onCollisionEnter(collider);
+    }
+
+    @Test
+    void batchCollidedReceivesAllCollidingColliders() {
+        // Arrange
+        var collided = mock(BatchCollided.class);
+        var first = mock(Collider.class);
+        var second = mock(Collider.class);
+        var missed = mock(Collider.class);
+        when(collided.isCollidingWith(first)).thenReturn(true);
+        when(collided.isCollidingWith(second)).thenReturn(true);
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(first);
+        collisionDelegate.register(missed);
+        collisionDelegate.register(second);
+
+        var received = new ArrayList<Collider>();
+        doAnswer(invocation -> received.addAll(invocation.getArgument(0))).when(collided).onCollisions(any());
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).onCollision(any());
+        verify(collided).onCollisions(any());
+        assertEquals(List.of(first, second), received);
+    }
+
+    @Test
+    void collisionsAreReportedAfterAllCollisionsHaveBeenDetected() {
+        // Arrange
+        var first = mock(Collided.class);
+        var second = mock(Collided.class);
+        var collider = mock(Collider.class);
+        when(first.isCollidingWith(collider)).thenReturn(true);
+        when(second.isCollidingWith(collider)).thenReturn(true);
+        doAnswer(invocation -> {
+            when(second.isCollidingWith(collider)).thenReturn(false);
+            return null;
+        }).when(first).onCollision(any());
+
+        collisionDelegate.register(first);
+        collisionDelegate.register(second);
+        collisionDelegate.register(collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(first).onCollision(collider);
+        verify(second).onCollision(collider);
+    }
+
+    @Test
+    void colliderRemovedByEarlierCallbackIsNotReported() {
+        // Arrange
+        var first = mock(Collided.class);
+        var second = mock(Collided.class);
+        var collider = mock(ColliderImpl.class);
+        when(first.isCollidingWith(any())).thenReturn(true);
+        when(second.isCollidingWith(any())).thenReturn(true);
+        doAnswer(invocation -> {
+            collisionDelegate.markAsRemoved(collider);
+            return null;
+        }).when(first).onCollision(any());
+
+        collisionDelegate.register(first);
+        collisionDelegate.register(second);
+        collisionDelegate.register((YaegerEntity) collider);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(first).onCollision(any());
+        verify(second, never()).onCollision(any());
+    }
+
+    @Test
+    void collidedMarkedAsRemovedIsNotChecked() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.register(mock(Collider.class));
+
+        // Act
+        collisionDelegate.markAsRemoved(collided);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(any());
+        verify(collided, never()).onCollision(any());
+    }
+
+    @Test
+    void collidedThatIsRemovedIsNoLongerMarkedAsRemoved() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.register(mock(Collider.class));
+        collisionDelegate.markAsRemoved(collided);
+        collisionDelegate.remove(collided);
+
+        // Act
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).onCollision(any());
+    }
+
+    @Test
+    void childColliderOfMissedCompositeIsNotChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        var composite = mock(CompositeEntity.class);
+        var part = mock(ColliderImpl.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(composite.getBoundingBox()).thenReturn(new BoundingBox(500, 500, 100, 100));
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(part, composite);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).onCollision(any());
+        verify(collided, never()).isCollidingWith(any());
+        verify(part, never()).getBoundingBox();
+    }
+
+    @Test
+    void childCollidersOfHitCompositeAreCandidates() {
+        // Arrange
+        var collided = mock(Collided.class);
+        var composite = mock(CompositeEntity.class);
+        var first = mock(ColliderImpl.class);
+        var second = mock(ColliderImpl.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(composite.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 100, 100));
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(first, composite);
+        collisionDelegate.register(second, composite);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        var inOrder = inOrder(collided);
+        inOrder.verify(collided).isCollidingWith(first);
+        inOrder.verify(collided).isCollidingWith(second);
+        verify(collided).onCollision(first);
+    }
+
+    @Test
+    void colliderGroupIsRegisteredOnceWithBroadphase() {
+        // Arrange
+        var composite = mock(CompositeEntity.class);
+        var broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+
+        // Act
+        collisionDelegate.register(mock(ColliderImpl.class), composite);
+        collisionDelegate.register(mock(ColliderImpl.class), composite);
+
+        // Assert
+        verify(broadphase).register(any(ColliderGroup.class));
+        verify(broadphase, never()).register(any(ColliderImpl.class));
+    }
+
+    @Test
+    void colliderGroupIsRemovedFromBroadphaseWithLastChild() {
+        // Arrange
+        var composite = mock(CompositeEntity.class);
+        var first = mock(ColliderImpl.class);
+        var second = mock(ColliderImpl.class);
+        var broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+        collisionDelegate.register(first, composite);
+        collisionDelegate.register(second, composite);
+
+        // Act
+        collisionDelegate.remove(first);
+        verify(broadphase, never()).remove(any(ColliderGroup.class));
+        collisionDelegate.remove(second);
+
+        // Assert
+        verify(broadphase).remove(any(ColliderGroup.class));
+    }
+
+    @Test
+    void pairOfUnmovedEntitiesIsNotCheckedAgain() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        var collider = mock(ColliderImpl.class);
+        when(collided.isCollidingWith(collider)).thenReturn(true);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.register((YaegerEntity) collider);
+        collisionDelegate.checkCollisions();
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).isCollidingWith(collider);
+        verify(collided, times(2)).onCollision(collider);
+    }
+
+    @Test
+    void pairWithMovedColliderIsCheckedAgain() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        var collider = spy(new ColliderImpl(new Coordinate2D()));
+        when(collided.isCollidingWith(collider)).thenReturn(true);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        doReturn(new BoundingBox(5, 5, 10, 10)).when(collider).getBoundingBox();
+
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.register((YaegerEntity) collider);
+        collisionDelegate.checkCollisions();
+
+        collider.move();
+        doReturn(new BoundingBox(20, 20, 10, 10)).when(collider).getBoundingBox();
+        when(collided.isCollidingWith(collider)).thenReturn(false);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, times(2)).isCollidingWith(collider);
+        verify(collided, times(1)).onCollision(any());
+    }
+
+    @Test
+    void pairWithCollidedOverridingIsCollidingWithIsCheckedAgain() {
+        // Arrange
+        var collided = mock(ConditionalCollidedImpl.class);
+        var collider = mock(ColliderImpl.class);
+        when(collided.isCollidingWith(collider)).thenReturn(true);
+
+        collisionDelegate.register((YaegerEntity) collided);
+        collisionDelegate.register((YaegerEntity) collider);
+        collisionDelegate.checkCollisions();
+
+        when(collided.isCollidingWith(collider)).thenReturn(false);
+
+        // Act
         collisionDelegate.checkCollisions();
 
         // Assert
-        verify((Collided) collidedEntity).checkForCollisions(argument.capture());
-        assertEquals(0, argument.getValue().size());
+        verify(collided, times(2)).isCollidingWith(collider);
+        verify(collided, times(1)).onCollision(any());
+    }
+
+    @Test
+    void batchCollidedWithoutCollisionsIsNotNotified() {
+        // Arrange
+        var collided = mock(BatchCollided.class);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(mock(Collider.class));
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).onCollisions(any());
+    }
+
+    @Test
+    void staticColliderIsCheckedByDynamicCollided() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var tile = mock(ColliderImpl.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(tile.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(tile, true);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided).onCollision(tile);
+    }
+
+    @Test
+    void staticCollidedIsNotCheckedAgainstStaticColliders() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var tile = mock(ColliderImpl.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(tile.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.register(collided, true);
+        collisionDelegate.register(tile, true);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).onCollision(any());
+        verify(tile, never()).getBoundingBox();
+    }
+
+    @Test
+    void staticCollidedIsNotCheckedAgainstStaticCollidersInParallel() {
+        // Arrange
+        var collided = mock(CollidedImpl.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var tile = mock(ColliderImpl.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(tile.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.setParallel(true);
+        collisionDelegate.register(collided, true);
+        collisionDelegate.register(tile, true);
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).isCollidingWith(any());
+        verify(collided, never()).onCollision(any());
+    }
+
+    @Test
+    void staticColliderThatMovesIsPassedByTheBroadphase() {
+        // Arrange
+        var collided = mock(Collided.class);
+        var tile = mock(ColliderImpl.class);
+        var node = mock(Node.class);
+        doReturn(Optional.of(node)).when(tile).getNode();
+        when(node.getBoundsInParent()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        var broadphase = mock(Broadphase.class);
+        when(broadphase.getCandidates(collided)).thenReturn(List.of(tile));
+
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+        collisionDelegate.register(collided);
+        collisionDelegate.register(tile, true);
+        when(node.getBoundsInParent()).thenReturn(new BoundingBox(5, 0, 10, 10));
+
+        // Act
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(broadphase).register(tile);
+    }
+
+    @Test
+    void colliderThatIsNotTopLevelIsNotStatic() {
+        // Arrange
+        var tile = mock(ColliderImpl.class);
+        var broadphase = mock(Broadphase.class);
+        collisionDelegate.setBroadphaseSupplier(() -> broadphase);
+
+        // Act
+        collisionDelegate.register(tile, false);
+
+        // Assert
+        verify(broadphase).register((Collider) tile);
+    }
+
+    @Test
+    void removedStaticColliderIsNoLongerChecked() {
+        // Arrange
+        var collided = mock(Collided.class);
+        when(collided.isCollidingWith(any())).thenReturn(true);
+        var tile = mock(ColliderImpl.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        when(tile.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+
+        collisionDelegate.register(collided);
+        collisionDelegate.register(tile, true);
+
+        // Act
+        collisionDelegate.remove(tile);
+        collisionDelegate.checkCollisions();
+
+        // Assert
+        verify(collided, never()).onCollision(any());
+    }
+
+    @Test
+    void parallelCollisionDetectionChecksSamePairsAsSerialCollisionDetection() {
+        // Arrange
+        var pairs = new ArrayList<List<Object>>();
+        var staticCollided = createPairRecordingCollided(new BoundingBox(0, 0, 10, 10), pairs);
+        var dynamicCollided = createPairRecordingCollided(new BoundingBox(0, 0, 10, 10), pairs);
+        var tile = mock(ColliderImpl.class);
+        when(tile.getBoundingBox()).thenReturn(new BoundingBox(5, 5, 10, 10));
+        var enemy = mock(ColliderImpl.class);
+        when(enemy.getBoundingBox()).thenReturn(new BoundingBox(2, 2, 10, 10));
+        when(enemy.getCollisionLayer()).thenReturn(1);
+        var composite = mock(CompositeEntity.class);
+        when(composite.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 100, 100));
+        var hitPart = mock(ColliderImpl.class);
+        when(hitPart.getBoundingBox()).thenReturn(new BoundingBox(3, 3, 5, 5));
+        var missedPart = mock(ColliderImpl.class);
+        when(missedPart.getBoundingBox()).thenReturn(new BoundingBox(50, 50, 5, 5));
+
+        var parallelDelegate = new CollisionDelegate();
+        parallelDelegate.setParallel(true);
+        for (var delegate : List.of(collisionDelegate, parallelDelegate)) {
+            delegate.register(staticCollided, true);
+            delegate.register((YaegerEntity) dynamicCollided);
+            delegate.register(tile, true);
+            delegate.register((YaegerEntity) enemy);
+            delegate.register(hitPart, composite);
+            delegate.register(missedPart, composite);
+        }
+
+        // Act
+        collisionDelegate.checkCollisions();
+        var serialPairs = new ArrayList<>(pairs);
+        pairs.clear();
+        parallelDelegate.checkCollisions();
+
+        // Assert
+        assertEquals(List.of(
+                List.of(staticCollided, hitPart, true),
+                List.of(staticCollided, missedPart, false),
+                List.of(staticCollided, enemy, true),
+                List.of(dynamicCollided, hitPart, true),
+                List.of(dynamicCollided, missedPart, false),
+                List.of(dynamicCollided, enemy, true),
+                List.of(dynamicCollided, tile, true)), serialPairs);
+        assertEquals(serialPairs, pairs);
+    }
+
+    private CollidedImpl createPairRecordingCollided(final BoundingBox boundingBox, final List<List<Object>> pairs) {
+        var collided = mock(CollidedImpl.class);
+        when(collided.getBoundingBox()).thenReturn(boundingBox);
+        when(collided.isCollidingWith(any())).thenAnswer(invocation -> {
+            Collider collider = invocation.getArgument(0);
+            var colliding = boundingBox.intersects(collider.getBoundingBox());
+            pairs.add(List.of(collided, collider, colliding));
+            return colliding;
+        });
+        return collided;
     }
 
     private class CollidedImpl extends YaegerEntity implements Collided {
@@ -191,6 +992,20 @@ class CollisionDelegateTest {
         }
     }
 
+    private class ConditionalCollidedImpl extends CollidedImpl {
+
+        private boolean active;
+
+        public ConditionalCollidedImpl(Coordinate2D initialPosition) {
+            super(initialPosition);
+        }
+
+        @Override
+        public boolean isCollidingWith(Collider collider) {
+            return active && super.isCollidingWith(collider);
+        }
+    }
+
     private class ColliderImpl extends YaegerEntity implements Collider {
 
         /**
@@ -202,6 +1017,10 @@ class CollisionDelegateTest {
             super(initialPosition);
         }
 
+        void move() {
+            markAsTransformed();
+        }
+
         @Override
         public void remove() {
             // Not required here
@@ -0,0 +1,79 @@
+package com.github.hanyaeger.core.entities;
+
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CullingTest {
+
+    private Rectangle node;
+
+    @BeforeEach
+    void setup() {
+        node = new Rectangle();
+    }
+
+    @Test
+    void newNodeIsNotCulled() {
+        // Arrange
+
+        // Act & Assert
+        assertFalse(Culling.isCulled(node));
+    }
+
+    @Test
+    void cullHidesNodeButKeepsVisibility() {
+        // Arrange
+
+        // Act
+        Culling.cull(node);
+
+        // Assert
+        assertTrue(Culling.isCulled(node));
+        assertFalse(node.isVisible());
+        assertFalse(node.isManaged());
+        assertTrue(Culling.isVisible(node));
+    }
+
+    @Test
+    void uncullRestoresNode() {
+        // Arrange
+        Culling.cull(node);
+
+        // Act
+        Culling.uncull(node);
+
+        // Assert
+        assertFalse(Culling.isCulled(node));
+        assertTrue(node.isVisible());
+        assertTrue(node.isManaged());
+    }
+
+    @Test
+    void setVisibleWhileCulledIsAppliedWhenUnculled() {
+        // Arrange
+        Culling.cull(node);
+
+        // Act
+        Culling.setVisible(node, false);
+        Culling.uncull(node);
+
+        // Assert
+        assertFalse(node.isVisible());
+        assertFalse(Culling.isVisible(node));
+    }
+
+    @Test
+    void setVisibleOfNodeThatIsNotCulledIsAppliedDirectly() {
+        // Arrange
+
+        // Act
+        Culling.setVisible(node, false);
+
+        // Assert
+        assertFalse(node.isVisible());
+        assertFalse(Culling.isCulled(node));
+    }
+}
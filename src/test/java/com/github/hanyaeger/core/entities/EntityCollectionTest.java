@@ -1,9 +1,20 @@
 package com.github.hanyaeger.core.entities;
 
+import com.github.hanyaeger.api.Timer;
 import com.github.hanyaeger.core.Updatable;
+import com.github.hanyaeger.core.UpdateDelegator;
+import com.github.hanyaeger.api.UpdatePhase;
+import com.github.hanyaeger.core.Updater;
 import com.github.hanyaeger.core.YaegerConfig;
 import com.github.hanyaeger.core.annotations.AnnotationProcessor;
+import com.github.hanyaeger.core.entities.motion.MotionApplier;
+import com.github.hanyaeger.core.entities.motion.Movable;
+import com.github.hanyaeger.core.profiling.UpdateProfiler;
+import com.github.hanyaeger.core.replay.EntityState;
 import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.entities.DynamicCompositeEntity;
+import com.github.hanyaeger.api.entities.EntityPool;
+import com.github.hanyaeger.api.entities.OffscreenPolicy;
 import com.github.hanyaeger.api.entities.YaegerEntity;
 import com.github.hanyaeger.api.userinput.KeyListener;
 import com.github.hanyaeger.core.exceptions.YaegerEngineException;
@@ -11,6 +22,8 @@ import com.google.inject.Injector;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
@@ -64,6 +77,66 @@ class EntityCollectionTest {
         assertEquals(0, sut.getStatistics().getSuppliers());
     }
 
+    @Test
+    void updateRecordsPartsOfGameWorldUpdateWhenProfilingIsEnabled() {
+        // Arrange
+        var profiler = new UpdateProfiler();
+        profiler.setEnabled(true);
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setProfiler(profiler);
+        sut.init(injector);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        assertEquals(1, profiler.getHistogram(EntityCollection.PROFILE_GARBAGE).getCount());
+        assertEquals(1, profiler.getHistogram(EntityCollection.PROFILE_UPDATABLES).getCount());
+        assertEquals(1, profiler.getHistogram(EntityCollection.PROFILE_COLLISIONS).getCount());
+        assertEquals(1, profiler.getHistogram(EntityCollection.PROFILE_SUPPLIERS).getCount());
+        assertEquals(4, sut.getStatistics().getSlowest().size());
+    }
+
+    @Test
+    void slowestUpdatesAreComputedWhenRequested() {
+        // Arrange
+        var profiler = new UpdateProfiler();
+        profiler.setEnabled(true);
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setProfiler(profiler);
+        sut.init(injector);
+        sut.update(0);
+
+        // Act
+        profiler.getHistogram("slowest").record(Long.MAX_VALUE / 2);
+        var slowest = sut.getStatistics().getSlowest();
+
+        // Assert
+        assertEquals("slowest", slowest.get(0).label());
+    }
+
+    @Test
+    void updateRecordsNothingWhenProfilingIsDisabled() {
+        // Arrange
+        var profiler = new UpdateProfiler();
+        when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.setProfiler(profiler);
+        sut.init(injector);
+
+        // Act
+        sut.update(0);
+
+        // Assert
+        assertTrue(profiler.getSlowest(UpdateProfiler.DEFAULT_REPORT_SIZE).isEmpty());
+        assertTrue(sut.getStatistics().getSlowest().isEmpty());
+    }
+
     @Test
     void removeSupplierClearsRemovedSupplier() {
         // Arrange
@@ -72,26 +145,650 @@ class EntityCollectionTest {
         sut.setAnnotationProcessor(annotationProcessor);
         sut.registerSupplier(supplier);
 
-        // Act
-        sut.removeSupplier(supplier);
+        // Act
+        sut.removeSupplier(supplier);
+
+        // Assert
+        verify(supplier).clear();
+    }
+
+    @Test
+    void clearClearsSupplier() {
+        // Arrange
+        var supplier = mock(EntitySupplier.class);
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.registerSupplier(supplier);
+
+        // Act
+        sut.clear();
+
+        // Assert
+        verify(supplier).clear();
+    }
+
+    @Test
+    void queryRegionFindsStaticEntity() {
+        // Arrange
+        var entity = mock(YaegerEntity.class);
+        doReturn(Optional.of(mock(Node.class))).when(entity).getNode();
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addStaticEntity(entity);
+        var result = new ArrayList<YaegerEntity>();
+
+        // Act
+        sut.queryRegion(new BoundingBox(0, 0, 15, 15), YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(entity), result);
+    }
+
+    @Test
+    void spatialIndexIsBuiltOncePerUpdate() {
+        // Arrange
+        var entity = mock(YaegerEntity.class);
+        doReturn(Optional.of(mock(Node.class))).when(entity).getNode();
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addStaticEntity(entity);
+        var result = new ArrayList<YaegerEntity>();
+
+        // Act
+        sut.queryRadius(new Coordinate2D(0, 0), 100, YaegerEntity.class, result);
+        sut.queryNearest(new Coordinate2D(0, 0), 1, YaegerEntity.class, result);
+        sut.update(0L);
+        sut.raycast(new Coordinate2D(0, 0), new Coordinate2D(100, 100), YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(entity, entity, entity), result);
+        verify(entity, times(2)).getBoundingBox();
+    }
+
+    @Test
+    void spatialIndexIsRebuiltRightAfterCollisionDetection() {
+        // Arrange
+        var entity = mock(YaegerEntity.class);
+        doReturn(Optional.of(mock(Node.class))).when(entity).getNode();
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20), new BoundingBox(500, 500, 20, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.addStaticEntity(entity);
+        var before = new ArrayList<YaegerEntity>();
+        var after = new ArrayList<YaegerEntity>();
+        sut.queryRegion(new BoundingBox(0, 0, 15, 15), YaegerEntity.class, before);
+
+        // Act
+        sut.update(37L);
+        sut.queryRegion(new BoundingBox(490, 490, 15, 15), YaegerEntity.class, after);
+        sut.queryRegion(new BoundingBox(490, 490, 15, 15), YaegerEntity.class, after);
+
+        // Assert
+        assertEquals(List.of(entity), before);
+        assertEquals(List.of(entity, entity), after);
+        verify(entity, times(2)).getBoundingBox();
+    }
+
+    @Test
+    void interpolateOffsetsDynamicEntityTowardsCapturedLocation() {
+        // Arrange
+        var entity = mock(DynamicEntity.class);
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        doReturn(Optional.of(node)).when(entity).getNode();
+        when(node.getTranslateX()).thenReturn(-5D);
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(10, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(entity);
+        sut.captureInterpolationState();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(30, 60));
+
+        // Act
+        sut.interpolate(0.25D);
+
+        // Assert
+        verify(node).setTranslateX(-20D);
+        verify(node).setTranslateY(-30D);
+        verify(entity, never()).setAnchorLocation(any());
+    }
+
+    @Test
+    void interpolateOffsetsMovedMovableTowardsCapturedLocation() {
+        // Arrange
+        var motionApplier = new MotionApplier();
+        var entity = mock(MovableDynamicEntity.class);
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        doReturn(Optional.of(node)).when(entity).getNode();
+        when(entity.getMotionApplier()).thenReturn(motionApplier);
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(10, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(entity);
+        sut.captureInterpolationState();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(30, 60));
+        motionApplier.setPreviousLocation(10, 20);
+
+        // Act
+        sut.interpolate(0.25D);
+
+        // Assert
+        verify(node).setTranslateX(-15D);
+        verify(node).setTranslateY(-30D);
+    }
+
+    @Test
+    void interpolateDoesNotOffsetMovableOfWhichLocationHasBeenSetDirectly() {
+        // Arrange
+        var motionApplier = new MotionApplier();
+        var entity = mock(MovableDynamicEntity.class);
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        doReturn(Optional.of(node)).when(entity).getNode();
+        when(entity.getMotionApplier()).thenReturn(motionApplier);
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(10, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(entity);
+        sut.captureInterpolationState();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(300, 60));
+        motionApplier.setPreviousLocation(300, 60);
+
+        // Act
+        sut.interpolate(0.25D);
+        sut.interpolate(0.5D);
+
+        // Assert
+        verify(node, never()).setTranslateX(anyDouble());
+        verify(node, never()).setTranslateY(anyDouble());
+    }
+
+    @Test
+    void clearInterpolationRemovesOffsets() {
+        // Arrange
+        var entity = mock(DynamicEntity.class);
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        doReturn(Optional.of(node)).when(entity).getNode();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(10, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(entity);
+        sut.captureInterpolationState();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(30, 60));
+        sut.interpolate(0.5D);
+        when(node.getTranslateX()).thenReturn(-10D);
+        when(node.getTranslateY()).thenReturn(-20D);
+
+        // Act
+        sut.clearInterpolation();
+
+        // Assert
+        verify(node).setTranslateX(0D);
+        verify(node).setTranslateY(0D);
+    }
+
+    @Test
+    void clearInterpolationKeepsTranslationThatHasBeenChangedSince() {
+        // Arrange
+        var entity = mock(DynamicEntity.class);
+        var node = mock(Node.class, withSettings().withoutAnnotations());
+        doReturn(Optional.of(node)).when(entity).getNode();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(10, 20));
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.addDynamicEntity(entity);
+        sut.captureInterpolationState();
+        when(entity.getAnchorLocation()).thenReturn(new Coordinate2D(30, 60));
+        sut.interpolate(0.5D);
+        when(node.getTranslateX()).thenReturn(-7D);
+        when(node.getTranslateY()).thenReturn(-20D);
+
+        // Act
+        sut.clearInterpolation();
+
+        // Assert
+        verify(node).setTranslateX(-7D);
+        verify(node).setTranslateY(0D);
+    }
+
+    @Test
+    void updateDelegatorsCompleteEachPhaseBeforeTheNextPhase() {
+        // Arrange
+        var first = mock(DelegatingEntity.class);
+        var second = mock(DelegatingEntity.class);
+
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.addDynamicEntity(first);
+        sut.addDynamicEntity(second);
+
+        // Act
+        sut.update(37L);
+
+        // Assert
+        var inOrder = inOrder(first, second);
+        inOrder.verify(first).update(37L, UpdatePhase.MOTION);
+        inOrder.verify(second).update(37L, UpdatePhase.MOTION);
+        inOrder.verify(first).update(37L, UpdatePhase.ANIMATION);
+        inOrder.verify(second).update(37L, UpdatePhase.ANIMATION);
+        verify(first, never()).update(37L);
+    }
+
+    @Test
+    void disabledPhaseIsSkipped() {
+        // Arrange
+        var entity = mock(DelegatingEntity.class);
+
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.addDynamicEntity(entity);
+
+        // Act
+        sut.setUpdatePhaseEnabled(UpdatePhase.ANIMATION, false);
+        sut.update(37L);
+
+        // Assert
+        assertFalse(sut.isUpdatePhaseEnabled(UpdatePhase.ANIMATION));
+        verify(entity).update(37L, UpdatePhase.MOTION);
+        verify(entity, never()).update(37L, UpdatePhase.ANIMATION);
+    }
+
+    @Test
+    void updateCollectsGarbageOfDynamicCompositesBeforeThePhases() {
+        // Arrange
+        var composite = mock(DynamicCompositeEntity.class);
+
+        sut = new EntityCollection(pane, config);
+        sut.setAnnotationProcessor(annotationProcessor);
+        sut.init(injector);
+        sut.addDynamicEntity(composite);
+        sut.setUpdatePhaseEnabled(UpdatePhase.INPUT, false);
+
+        // Act
+        sut.update(37L);
+
+        // Assert
+        var inOrder = inOrder(composite);
+        inOrder.verify(composite).collectGarbage();
+        inOrder.verify(composite).update(37L, UpdatePhase.PRE_PHYSICS);
+    }
+
+    @Nested
+    class TestsWithViewportCulling {
+
+        private CullableEntity cullableEntity;
+
+        @BeforeEach
+        void setup() {
+            cullableEntity = new CullableEntity();
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(List.of(cullableEntity), new ArrayList<>());
+            when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+            when(pane.getWidth()).thenReturn(640D);
+            when(pane.getHeight()).thenReturn(480D);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.setSleepingEnabled(false);
+            sut.setCullingEnabled(true);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+        }
+
+        @Test
+        void entityInsideViewIsNotCulled() {
+            // Arrange
+
+            // Act
+            sut.update(37L);
+
+            // Assert
+            assertFalse(sut.isCulled(cullableEntity));
+            assertEquals(1, cullableEntity.getUpdates());
+        }
+
+        @Test
+        void entityOutsideViewIsCulledAndFrozen() {
+            // Arrange
+            cullableEntity.setBounds(new BoundingBox(1000, 1000, 20, 20));
+            cullableEntity.setOffscreenPolicy(OffscreenPolicy.FROZEN);
+
+            // Act
+            sut.update(37L);
+            sut.update(38L);
+
+            // Assert
+            assertTrue(sut.isCulled(cullableEntity));
+            assertEquals(0, cullableEntity.getUpdates());
+        }
+
+        @Test
+        void entityWithinCullingMarginIsNotCulled() {
+            // Arrange
+            cullableEntity.setBounds(new BoundingBox(640 + EntityCollection.CULLING_MARGIN - 1, 0, 20, 20));
+
+            // Act
+            sut.update(37L);
+
+            // Assert
+            assertFalse(sut.isCulled(cullableEntity));
+        }
+
+        @Test
+        void culledEntityWithReducedUpdateIsUpdatedAtReducedRate() {
+            // Arrange
+            cullableEntity.setBounds(new BoundingBox(-1000, -1000, 20, 20));
+            cullableEntity.setOffscreenPolicy(OffscreenPolicy.REDUCED_UPDATE);
+
+            // Act
+            for (var i = 0; i < 2 * EntityCollection.REDUCED_UPDATE_INTERVAL; i++) {
+                sut.update(37L + i);
+            }
+
+            // Assert
+            assertEquals(2, cullableEntity.getUpdates());
+        }
+
+        @Test
+        void culledEntitiesWithReducedUpdateAreNotUpdatedDuringTheSameUpdate() {
+            // Arrange
+            var otherEntity = new CullableEntity();
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(List.of(otherEntity), new ArrayList<>());
+            sut.registerSupplier(supplier);
+            sut.update(36L);
+            cullableEntity.setBounds(new BoundingBox(-1000, -1000, 20, 20));
+            cullableEntity.setOffscreenPolicy(OffscreenPolicy.REDUCED_UPDATE);
+            otherEntity.setBounds(new BoundingBox(-1000, -1000, 20, 20));
+            otherEntity.setOffscreenPolicy(OffscreenPolicy.REDUCED_UPDATE);
+            var updatesBefore = cullableEntity.getUpdates();
+            var otherUpdatesBefore = otherEntity.getUpdates();
+
+            // Act & Assert
+            for (var i = 0; i < EntityCollection.REDUCED_UPDATE_INTERVAL; i++) {
+                sut.update(37L + i);
+                var updated = cullableEntity.getUpdates() - updatesBefore;
+                var otherUpdated = otherEntity.getUpdates() - otherUpdatesBefore;
+                assertTrue(updated + otherUpdated <= 1);
+                updatesBefore = cullableEntity.getUpdates();
+                otherUpdatesBefore = otherEntity.getUpdates();
+            }
+        }
+
+        @Test
+        void culledEntityWithFullUpdateIsUpdated() {
+            // Arrange
+            cullableEntity.setBounds(new BoundingBox(1000, 1000, 20, 20));
+
+            // Act
+            sut.update(37L);
+
+            // Assert
+            assertTrue(sut.isCulled(cullableEntity));
+            assertEquals(1, cullableEntity.getUpdates());
+        }
+
+        @Test
+        void entityBackInViewIsNoLongerCulled() {
+            // Arrange
+            cullableEntity.setBounds(new BoundingBox(1000, 1000, 20, 20));
+            cullableEntity.setOffscreenPolicy(OffscreenPolicy.FROZEN);
+            sut.update(37L);
+
+            // Act
+            cullableEntity.setBounds(new BoundingBox(10, 10, 20, 20));
+            sut.update(38L);
+
+            // Assert
+            assertFalse(sut.isCulled(cullableEntity));
+            assertEquals(1, cullableEntity.getUpdates());
+        }
+
+        @Test
+        void disablingCullingUncullsEntities() {
+            // Arrange
+            cullableEntity.setBounds(new BoundingBox(1000, 1000, 20, 20));
+            sut.update(37L);
+
+            // Act
+            sut.setCullingEnabled(false);
+
+            // Assert
+            assertFalse(sut.isCullingEnabled());
+            assertFalse(sut.isCulled(cullableEntity));
+        }
+    }
+
+    @Nested
+    class TestsWithEntityState {
+
+        private CullableEntity cullableEntity;
+
+        @BeforeEach
+        void setup() {
+            cullableEntity = new CullableEntity();
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(List.of(cullableEntity), new ArrayList<>());
+            when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+        }
+
+        @Test
+        void captureStateContainsLocationOfEachEntity() {
+            // Arrange
+            cullableEntity.setAnchorLocation(new Coordinate2D(37, 42));
+
+            // Act
+            var actual = sut.captureState();
+
+            // Assert
+            assertEquals(List.of(new EntityState(CullableEntity.class.getName(), 37, 42, 0, 0, 0)), actual);
+        }
+
+        @Test
+        void restoreStateRestoresLocation() {
+            // Arrange
+            var state = List.of(new EntityState(CullableEntity.class.getName(), 37, 42, 0, 0, 0));
+
+            // Act
+            var restored = sut.restoreState(state);
+
+            // Assert
+            assertTrue(restored);
+            assertEquals(new Coordinate2D(37, 42), cullableEntity.getAnchorLocation());
+        }
+
+        @Test
+        void restoreStateOfOtherEntitiesRestoresNothing() {
+            // Arrange
+            var state = List.of(new EntityState(IdleEntity.class.getName(), 37, 42, 0, 0, 0));
+
+            // Act
+            var restored = sut.restoreState(state);
+
+            // Assert
+            assertFalse(restored);
+            assertEquals(LOCATION, cullableEntity.getAnchorLocation());
+        }
+
+        @Test
+        void restoreStateOfOtherNumberOfEntitiesRestoresNothing() {
+            // Arrange
+
+            // Act
+            var restored = sut.restoreState(List.of());
+
+            // Assert
+            assertFalse(restored);
+        }
+    }
+
+    @Nested
+    class TestsWithSleepingEntities {
+
+        private IdleEntity idleEntity;
 
-        // Assert
-        verify(supplier).clear();
-    }
+        @BeforeEach
+        void setup() {
+            idleEntity = new IdleEntity();
 
-    @Test
-    void clearClearsSupplier() {
-        // Arrange
-        var supplier = mock(EntitySupplier.class);
-        sut = new EntityCollection(pane, config);
-        sut.setAnnotationProcessor(annotationProcessor);
-        sut.registerSupplier(supplier);
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.setSleepingEnabled(true);
+            sut.addDynamicEntity(idleEntity);
+        }
 
-        // Act
-        sut.clear();
+        @Test
+        void newEntityCollectionDoesNotPutEntitiesToSleep() {
+            // Arrange
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.addDynamicEntity(idleEntity);
 
-        // Assert
-        verify(supplier).clear();
+            // Act
+            sut.update(37L);
+            sut.update(38L);
+
+            // Assert
+            assertFalse(sut.isSleepingEnabled());
+            assertFalse(idleEntity.getUpdater().isAsleep());
+            assertEquals(2, idleEntity.getUpdates());
+        }
+
+        @Test
+        void entityWithCustomUpdatablesIsNotPutToSleep() {
+            // Arrange
+            idleEntity.getUpdater().setCustomUpdatables(true);
+
+            // Act
+            sut.update(37L);
+            sut.update(38L);
+
+            // Assert
+            assertFalse(idleEntity.getUpdater().isAsleep());
+            assertEquals(2, idleEntity.getUpdates());
+        }
+
+        @Test
+        void awakenedEntityIsUpdatedAtItsOriginalPosition() {
+            // Arrange
+            var updated = new ArrayList<Object>();
+            idleEntity.getUpdater().addUpdatable(timestamp -> updated.add(idleEntity));
+            var activeEntity = new IdleEntity();
+            activeEntity.getUpdater().setCustomUpdatables(true);
+            activeEntity.getUpdater().addUpdatable(timestamp -> updated.add(activeEntity));
+            sut.addDynamicEntity(activeEntity);
+            sut.update(37L);
+
+            // Act
+            idleEntity.wakeUp();
+            sut.update(38L);
+
+            // Assert
+            assertEquals(List.of(idleEntity, activeEntity, idleEntity, activeEntity), updated);
+        }
+
+        @Test
+        void idleEntityIsPutToSleepAfterUpdate() {
+            // Arrange
+
+            // Act
+            sut.update(37L);
+            sut.update(38L);
+
+            // Assert
+            assertTrue(idleEntity.getUpdater().isAsleep());
+            assertEquals(1, idleEntity.getUpdates());
+            assertEquals(1, sut.getStatistics().getSleeping());
+            assertEquals(1, sut.getStatistics().getUpdatables());
+        }
+
+        @Test
+        void awakenedEntityIsUpdatedAgain() {
+            // Arrange
+            sut.update(37L);
+
+            // Act
+            idleEntity.wakeUp();
+            sut.update(38L);
+
+            // Assert
+            assertEquals(2, idleEntity.getUpdates());
+        }
+
+        @Test
+        void entityWithTimerIsNotPutToSleep() {
+            // Arrange
+            idleEntity.getTimers().add(mock(Timer.class));
+
+            // Act
+            sut.update(37L);
+            sut.update(38L);
+
+            // Assert
+            assertFalse(idleEntity.getUpdater().isAsleep());
+            assertEquals(2, idleEntity.getUpdates());
+        }
+
+        @Test
+        void disablingSleepingWakesSleepingEntities() {
+            // Arrange
+            sut.update(37L);
+
+            // Act
+            sut.setSleepingEnabled(false);
+            sut.update(38L);
+            sut.update(39L);
+
+            // Assert
+            assertFalse(sut.isSleepingEnabled());
+            assertFalse(idleEntity.getUpdater().isAsleep());
+            assertEquals(3, idleEntity.getUpdates());
+        }
+
+        @Test
+        void sleepingEntityIsRemovedAsGarbage() {
+            // Arrange
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var node = mock(Node.class, withSettings().withoutAnnotations());
+            var removeHandler = new EventHandler[1];
+            doAnswer(invocation -> removeHandler[0] = invocation.getArgument(1)).when(node).addEventHandler(any(), any());
+            var removable = new IdleEntity();
+            removable.setNode(node);
+            var supplier = new EntitySupplier();
+            supplier.add(removable);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.setSleepingEnabled(true);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+            sut.update(37L);
+            var event = mock(javafx.event.Event.class);
+            when(event.getSource()).thenReturn(removable);
+
+            // Act
+            removeHandler[0].handle(event);
+            sut.update(38L);
+
+            // Assert
+            assertEquals(0, sut.getStatistics().getUpdatables());
+            assertEquals(0, sut.getStatistics().getSleeping());
+            assertFalse(removable.getUpdater().isAsleep());
+        }
     }
 
     @Nested
@@ -322,6 +1019,189 @@ class EntityCollectionTest {
             assertEquals(expected, updatableEntity.getLatestTimestamp());
         }
 
+        @Test
+        void suppliedNodesAreAddedToPaneInOneBatch() {
+            // Arrange
+            var otherEntity = new UpdatableEntity(LOCATION);
+            var otherNode = mock(Node.class, withSettings().withoutAnnotations());
+            otherEntity.setNode(otherNode);
+            List<YaegerEntity> updatables = new ArrayList<>();
+            updatables.add(updatableEntity);
+            updatables.add(otherEntity);
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(updatables);
+
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var added = new ArrayList<Object>();
+            when(children.addAll(anyCollection())).thenAnswer(invocation -> added.addAll(invocation.getArgument(0)));
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+
+            // Act
+            sut.initialUpdate();
+
+            // Assert
+            verify(children).addAll(anyCollection());
+            assertEquals(List.of(updatableEntity.getNode().get(), otherNode), added);
+            verify(children, never()).add(any());
+        }
+
+        @Test
+        void activatorsAreInvokedAfterNodesAreAddedToPane() {
+            // Arrange
+            List<YaegerEntity> updatables = new ArrayList<>();
+            updatables.add(updatableEntity);
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(updatables);
+
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+
+            // Act
+            sut.initialUpdate();
+
+            // Assert
+            var inOrder = inOrder(children, annotationProcessor);
+            inOrder.verify(children).addAll(anyCollection());
+            inOrder.verify(annotationProcessor).invokeActivators(updatableEntity);
+        }
+
+        @Test
+        void garbageIsRemovedFromPaneInOneBatchAndRetainsUpdateOrder() {
+            // Arrange
+            var entities = new ArrayList<UpdatableEntity>();
+            for (var i = 0; i < 4; i++) {
+                var entity = new UpdatableEntity(LOCATION);
+                entity.setNode(mock(Node.class, withSettings().withoutAnnotations()));
+                entities.add(entity);
+            }
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(new ArrayList<>(entities), new ArrayList<>());
+
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+            var removed = new ArrayList<Object>();
+            when(children.removeAll(anyCollection())).thenAnswer(invocation -> removed.addAll(invocation.getArgument(0)));
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+
+            entities.get(0).remove();
+            entities.get(2).remove();
+            entities.get(2).remove();
+
+            // Act
+            sut.update(37L);
+
+            // Assert
+            verify(children).removeAll(anyCollection());
+            assertTrue(removed.contains(entities.get(0).getNode().get()));
+            assertTrue(removed.contains(entities.get(2).getNode().get()));
+            assertFalse(removed.contains(entities.get(1).getNode().get()));
+            verify(children, never()).remove(any());
+            assertEquals(2, sut.getStatistics().getUpdatables());
+            assertEquals(0, entities.get(0).getLatestTimestamp());
+            assertEquals(37L, entities.get(1).getLatestTimestamp());
+            assertEquals(0, entities.get(2).getLatestTimestamp());
+            assertEquals(37L, entities.get(3).getLatestTimestamp());
+        }
+
+        @Test
+        void removedPooledEntityIsReleasedToItsPool() {
+            // Arrange
+            var pool = new EntityPool<>(() -> updatableEntity);
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(List.of(pool.obtain()), new ArrayList<>());
+
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+            updatableEntity.remove();
+
+            // Act
+            sut.update(37L);
+
+            // Assert
+            assertEquals(1, pool.getAvailable());
+            assertEquals(0, sut.getStatistics().getUpdatables());
+        }
+
+        @Test
+        void reusedPooledEntityIsNotInitializedAgain() {
+            // Arrange
+            var pool = new EntityPool<>(() -> updatableEntity);
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(List.of(pool.obtain()), new ArrayList<>(), List.of(updatableEntity), new ArrayList<>());
+
+            var children = mock(ObservableList.class);
+            when(pane.getChildren()).thenReturn(children);
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+            updatableEntity.remove();
+            sut.update(37L);
+            pool.obtain();
+
+            // Act
+            sut.update(38L);
+
+            // Assert
+            assertEquals(1, sut.getStatistics().getUpdatables());
+            verify(injector).injectMembers(updatableEntity);
+            verify(annotationProcessor).configureUpdateDelegators(updatableEntity);
+            verify(annotationProcessor).invokeActivators(updatableEntity);
+            verify(children, times(2)).addAll(anyCollection());
+        }
+
+        @Test
+        void reusedPooledEntityIsVisibleAgain() {
+            // Arrange
+            var pool = new EntityPool<>(() -> updatableEntity);
+            var supplier = mock(EntitySupplier.class);
+            when(supplier.get()).thenReturn(List.of(pool.obtain()), new ArrayList<>(), List.of(updatableEntity), new ArrayList<>());
+            var node = updatableEntity.getNode().get();
+            when(pane.getChildren()).thenReturn(mock(ObservableList.class));
+
+            sut = new EntityCollection(pane, config);
+            sut.setAnnotationProcessor(annotationProcessor);
+            sut.init(injector);
+            sut.registerSupplier(supplier);
+            sut.initialUpdate();
+            updatableEntity.setVisible(false);
+            updatableEntity.remove();
+            sut.update(37L);
+            pool.obtain();
+
+            // Act
+            sut.update(38L);
+
+            // Assert
+            var inOrder = inOrder(node);
+            inOrder.verify(node).setVisible(false);
+            inOrder.verify(node).setVisible(true);
+            inOrder.verify(node, never()).setVisible(false);
+        }
+
         private class UpdatableEntity extends YaegerEntity implements Updatable {
 
             private Node node;
@@ -329,6 +1209,7 @@ class EntityCollectionTest {
             private boolean applyTranslationsForAnchorPointCalled = false;
             private boolean attachEventListenerCalled = false;
             private boolean addToEntityCollectionCalled = false;
+            private EventHandler removeHandler;
             private long latestTimestamp;
 
             public UpdatableEntity(Coordinate2D initialPosition) {
@@ -361,6 +1242,14 @@ class EntityCollectionTest {
                 super.attachEventListener(eventType, eventHandler);
 
                 this.attachEventListenerCalled = true;
+                this.removeHandler = eventHandler;
+            }
+
+            @Override
+            public void remove() {
+                var event = mock(javafx.event.Event.class);
+                when(event.getSource()).thenReturn(this);
+                removeHandler.handle(event);
             }
 
             @Override
@@ -511,4 +1400,75 @@ class EntityCollectionTest {
             return pressedKeys;
         }
     }
+
+    private static class IdleEntity extends YaegerEntity implements UpdateDelegator {
+
+        private final Updater updater = new Updater();
+        private Node node;
+        private int updates;
+
+        IdleEntity() {
+            super(LOCATION);
+            updater.addUpdatable(timestamp -> updates++);
+        }
+
+        @Override
+        public Updater getUpdater() {
+            return updater;
+        }
+
+        @Override
+        public void update(final long timestamp) {
+            updater.update(timestamp);
+        }
+
+        @Override
+        public Optional<? extends Node> getNode() {
+            return Optional.ofNullable(node);
+        }
+
+        void setNode(final Node node) {
+            this.node = node;
+        }
+
+        int getUpdates() {
+            return updates;
+        }
+    }
+
+    private static class CullableEntity extends IdleEntity {
+
+        private Bounds bounds = new BoundingBox(10, 10, 20, 20);
+
+        @Override
+        public void addToEntityCollection(final EntityCollection collection) {
+            collection.addDynamicEntity(this);
+        }
+
+        @Override
+        public Bounds getBoundingBox() {
+            return bounds;
+        }
+
+        void setBounds(final Bounds bounds) {
+            this.bounds = bounds;
+        }
+    }
+
+    private abstract static class DelegatingEntity extends YaegerEntity implements UpdateDelegator {
+
+        DelegatingEntity() {
+            super(LOCATION);
+        }
+    }
+
+    private abstract static class DynamicEntity extends YaegerEntity implements Updatable {
+
+        DynamicEntity() {
+            super(LOCATION);
+        }
+    }
+
+    private abstract static class MovableDynamicEntity extends DynamicEntity implements Movable {
+    }
 }
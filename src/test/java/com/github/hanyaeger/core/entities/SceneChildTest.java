@@ -3,6 +3,8 @@ package com.github.hanyaeger.core.entities;
 import com.github.hanyaeger.core.entities.SceneChild;
 import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +56,24 @@ class SceneChildTest {
         assertEquals(HEIGHT, sceneHeight);
     }
 
+    @Test
+    void getWidthAndHeightDelegateToRootIfSceneNotPresent() {
+        // Arrange
+        var root = new Pane();
+        root.resize(WIDTH, HEIGHT);
+        var node = new Rectangle(10, 10);
+        root.getChildren().add(node);
+        sut.setNode(Optional.of(node));
+
+        // Act
+        double sceneWidth = sut.getSceneWidth();
+        double sceneHeight = sut.getSceneHeight();
+
+        // Assert
+        assertEquals(WIDTH, sceneWidth);
+        assertEquals(HEIGHT, sceneHeight);
+    }
+
     @Test
     void getWidthReturnsZeroIfNodeNotPresent() {
         // Arrange
@@ -0,0 +1,87 @@
+package com.github.hanyaeger.core.entities;
+
+import com.github.hanyaeger.api.Coordinate2D;
+import com.github.hanyaeger.api.entities.impl.RectangleEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransformationsTest {
+
+    private RectangleEntity entity;
+
+    @BeforeEach
+    void setup() {
+        entity = new RectangleEntity(new Coordinate2D()) {
+        };
+    }
+
+    @Test
+    void stampIsLaterThanAllEarlierStamps() {
+        // Arrange
+        var earlier = Transformations.stamp();
+
+        // Act
+        var later = Transformations.stamp();
+
+        // Assert
+        assertTrue(later > earlier);
+        assertEquals(later, Transformations.now());
+    }
+
+    @Test
+    void newEntityHasBeenTransformed() {
+        // Arrange
+        // Act & Assert
+        assertTrue(Transformations.getStamp(entity) > 0);
+    }
+
+    @Test
+    void setAnchorLocationStampsEntity() {
+        // Arrange
+        var before = Transformations.now();
+
+        // Act
+        entity.setAnchorLocation(new Coordinate2D(37, 42));
+
+        // Assert
+        assertTrue(Transformations.getStamp(entity) > before);
+    }
+
+    @Test
+    void setRotateStampsEntity() {
+        // Arrange
+        var before = Transformations.now();
+
+        // Act
+        entity.setRotate(37);
+
+        // Assert
+        assertTrue(Transformations.getStamp(entity) > before);
+    }
+
+    @Test
+    void setWidthStampsEntity() {
+        // Arrange
+        var before = Transformations.now();
+
+        // Act
+        entity.setWidth(37);
+
+        // Assert
+        assertTrue(Transformations.getStamp(entity) > before);
+    }
+
+    @Test
+    void stampIsKeptWhenEntityIsNotTransformed() {
+        // Arrange
+        var stamp = Transformations.getStamp(entity);
+
+        // Act
+        Transformations.stamp();
+
+        // Assert
+        assertEquals(stamp, Transformations.getStamp(entity));
+    }
+}
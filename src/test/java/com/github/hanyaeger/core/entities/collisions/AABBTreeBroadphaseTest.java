@@ -0,0 +1,187 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AABBTreeBroadphaseTest {
+
+    private AABBTreeBroadphase sut;
+    private Collided collided;
+
+    @BeforeEach
+    void setup() {
+        sut = new AABBTreeBroadphase(0);
+        collided = mock(Collided.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20));
+    }
+
+    @Test
+    void negativeMarginThrowsIllegalArgumentException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new AABBTreeBroadphase(-1));
+    }
+
+    @Test
+    void emptyTreeReturnsNoCandidates() {
+        // Arrange
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    void overlappingColliderIsACandidate() {
+        // Arrange
+        var collider = createCollider(25, 25, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void distantColliderIsNotACandidate() {
+        // Arrange
+        var collider = createCollider(500, 500, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    void candidatesAreReturnedInRegistrationOrder() {
+        // Arrange
+        var first = createCollider(28, 28, 5, 5);
+        var second = createCollider(12, 12, 5, 5);
+        var third = createCollider(20, 20, 5, 5);
+        sut.register(first);
+        sut.register(second);
+        sut.register(third);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(first, second, third), candidates);
+    }
+
+    @Test
+    void removedColliderIsNoLongerACandidate() {
+        // Arrange
+        var first = createCollider(12, 12, 5, 5);
+        var second = createCollider(20, 20, 5, 5);
+        sut.register(first);
+        sut.register(second);
+
+        // Act
+        sut.remove(first);
+        sut.update();
+
+        // Assert
+        assertEquals(List.of(second), sut.getCandidates(collided));
+    }
+
+    @Test
+    void movedColliderIsFoundAtItsNewLocation() {
+        // Arrange
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(500, 500, 10, 10));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(15, 15, 10, 10));
+        sut.update();
+
+        // Assert
+        assertEquals(List.of(collider), sut.getCandidates(collided));
+    }
+
+    @Test
+    void colliderWithinMarginIsACandidate() {
+        // Arrange
+        sut = new AABBTreeBroadphase(AABBTreeBroadphase.DEFAULT_MARGIN);
+        var collider = createCollider(34, 34, 10, 10);
+        sut.register(collider);
+
+        // Act
+        sut.update();
+
+        // Assert
+        assertEquals(List.of(collider), sut.getCandidates(collided));
+    }
+
+    @Test
+    void treeStaysBalancedForManyColliders() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var i = 0; i < 1024; i++) {
+            colliders.add(createCollider(i * 20, 0, 10, 10));
+        }
+
+        // Act
+        colliders.forEach(sut::register);
+        sut.update();
+
+        // Assert
+        assertTrue(sut.getHeight() <= 20);
+        assertEquals(List.of(colliders.get(0), colliders.get(1)), sut.getCandidates(collided));
+    }
+
+    @Test
+    void resultMatchesBruteForceAfterRemovals() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var i = 0; i < 100; i++) {
+            colliders.add(createCollider((i * 37) % 200, (i * 53) % 200, 15, 15));
+        }
+        colliders.forEach(sut::register);
+        for (var i = 0; i < 100; i += 3) {
+            sut.remove(colliders.get(i));
+        }
+        sut.update();
+
+        var expected = new ArrayList<Collider>();
+        for (var i = 0; i < 100; i++) {
+            if (i % 3 != 0 && colliders.get(i).getBoundingBox().intersects(collided.getBoundingBox())) {
+                expected.add(colliders.get(i));
+            }
+        }
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(expected, candidates);
+    }
+
+    private Collider createCollider(final double x, final double y, final double width, final double height) {
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(x, y, width, height));
+        return collider;
+    }
+}
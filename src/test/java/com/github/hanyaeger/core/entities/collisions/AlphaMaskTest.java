@@ -0,0 +1,134 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.PixelReader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AlphaMaskTest {
+
+    private static final int OPAQUE = 0xFF000000;
+    private static final int TRANSPARENT = 0x00FFFFFF;
+
+    @Test
+    void opaquePixelsAreSet() {
+        // Arrange
+        var sut = createMask("#.", ".#");
+
+        // Act & Assert
+        assertTrue(sut.isOpaque(0, 0));
+        assertFalse(sut.isOpaque(1, 0));
+        assertFalse(sut.isOpaque(0, 1));
+        assertTrue(sut.isOpaque(1, 1));
+    }
+
+    @Test
+    void pixelsBelowThresholdAreTransparent() {
+        // Arrange
+        var pixelReader = mock(PixelReader.class);
+        when(pixelReader.getArgb(anyInt(), anyInt())).thenReturn(AlphaMask.ALPHA_THRESHOLD << 24);
+
+        // Act
+        var sut = new AlphaMask(pixelReader, new Rectangle2D(0, 0, 1, 1));
+
+        // Assert
+        assertFalse(sut.isOpaque(0, 0));
+    }
+
+    @Test
+    void regionOfImageIsUsed() {
+        // Arrange
+        var pixelReader = createPixelReader("....", "..#.");
+
+        // Act
+        var sut = new AlphaMask(pixelReader, new Rectangle2D(2, 0, 2, 2));
+
+        // Assert
+        assertEquals(2, sut.getWidth());
+        assertEquals(2, sut.getHeight());
+        assertTrue(sut.isOpaque(0, 1));
+    }
+
+    @Test
+    void overlappingOpaquePixelsOverlap() {
+        // Arrange
+        var sut = createMask("##", "##");
+        var other = createMask("#.", "..");
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other, 1, 1));
+    }
+
+    @Test
+    void onlyTransparentPixelsOverlappingDoNotOverlap() {
+        // Arrange
+        var sut = createMask("#.", "..");
+        var other = createMask(".#", "##");
+
+        // Act & Assert
+        assertFalse(sut.overlaps(other, 0, 0));
+    }
+
+    @Test
+    void masksNotTouchingDoNotOverlap() {
+        // Arrange
+        var sut = createMask("##", "##");
+        var other = createMask("##", "##");
+
+        // Act & Assert
+        assertFalse(sut.overlaps(other, 2, 0));
+        assertFalse(sut.overlaps(other, -2, 0));
+        assertFalse(sut.overlaps(other, 0, 2));
+    }
+
+    @Test
+    void negativeOffsetIsSupported() {
+        // Arrange
+        var sut = createMask("#.", "..");
+        var other = createMask("..", ".#");
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other, -1, -1));
+    }
+
+    @Test
+    void overlapIsDetectedAcrossWordBoundaries() {
+        // Arrange
+        var wide = ".".repeat(69) + "#" + ".".repeat(30);
+        var sut = createMask(wide);
+        var other = createMask(".#");
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other, 68, 0));
+        assertFalse(sut.overlaps(other, 67, 0));
+        assertTrue(other.overlaps(sut, -68, 0));
+    }
+
+    @Test
+    void rectangleContainingOpaquePixelOverlaps() {
+        // Arrange
+        var sut = createMask("...", "..#");
+
+        // Act & Assert
+        assertTrue(sut.overlaps(2, 1, 10, 10));
+        assertFalse(sut.overlaps(0, 0, 2, 2));
+    }
+
+    private AlphaMask createMask(final String... rows) {
+        return new AlphaMask(createPixelReader(rows), new Rectangle2D(0, 0, rows[0].length(), rows.length));
+    }
+
+    private PixelReader createPixelReader(final String... rows) {
+        var pixelReader = mock(PixelReader.class);
+        when(pixelReader.getArgb(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int x = invocation.getArgument(0);
+            int y = invocation.getArgument(1);
+            return rows[y].charAt(x) == '#' ? OPAQUE : TRANSPARENT;
+        });
+        return pixelReader;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BruteForceBroadphaseTest {
+
+    private BruteForceBroadphase sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new BruteForceBroadphase();
+    }
+
+    @Test
+    void allRegisteredCollidersAreCandidatesInRegistrationOrder() {
+        // Arrange
+        var first = mock(Collider.class);
+        var second = mock(Collider.class);
+        sut.register(first);
+        sut.register(second);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(mock(Collided.class));
+
+        // Assert
+        assertEquals(List.of(first, second), candidates);
+    }
+
+    @Test
+    void boundingBoxesAreNeverRequested() {
+        // Arrange
+        var collider = mock(Collider.class);
+        var collided = mock(Collided.class);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        sut.getCandidates(collided);
+
+        // Assert
+        verify(collider, never()).getBoundingBox();
+        verify(collided, never()).getBoundingBox();
+    }
+
+    @Test
+    void removedColliderIsNoLongerACandidate() {
+        // Arrange
+        var first = mock(Collider.class);
+        var second = mock(Collider.class);
+        sut.register(first);
+        sut.register(second);
+
+        // Act
+        sut.remove(first);
+        sut.update();
+
+        // Assert
+        assertEquals(List.of(second), sut.getCandidates(mock(Collided.class)));
+    }
+
+    @Test
+    void registeringTheSameColliderTwiceAddsItOnce() {
+        // Arrange
+        var collider = mock(Collider.class);
+
+        // Act
+        sut.register(collider);
+        sut.register(collider);
+        sut.update();
+
+        // Assert
+        assertEquals(1, sut.getCandidates(mock(Collided.class)).size());
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.CompositeEntity;
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ColliderGroupTest {
+
+    private static final int LAYER = 3;
+
+    private CompositeEntity composite;
+    private ColliderGroup sut;
+
+    @BeforeEach
+    void setup() {
+        composite = mock(CompositeEntity.class);
+        when(composite.getBoundingBox()).thenReturn(new BoundingBox(100, 100, 50, 50));
+        sut = new ColliderGroup(composite, LAYER);
+    }
+
+    @Test
+    void boundingBoxIsThatOfComposite() {
+        // Arrange
+
+        // Act
+        var actual = sut.getBoundingBox();
+
+        // Assert
+        assertEquals(new BoundingBox(100, 100, 50, 50), actual);
+    }
+
+    @Test
+    void collisionLayerIsThatProvidedThroughConstructor() {
+        // Arrange
+
+        // Act
+        var actual = sut.getCollisionLayer();
+
+        // Assert
+        assertEquals(LAYER, actual);
+    }
+
+    @Test
+    void collectAddsAllCollidersWhenCompositeIsHit() {
+        // Arrange
+        var first = mock(Collider.class);
+        var second = mock(Collider.class);
+        sut.add(first);
+        sut.add(second);
+        var result = new ArrayList<Collider>();
+
+        // Act
+        sut.collect(new BoundingBox(140, 140, 20, 20), result);
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void collectAddsNothingWhenCompositeIsMissed() {
+        // Arrange
+        var collider = mock(Collider.class);
+        sut.add(collider);
+        var result = new ArrayList<Collider>();
+
+        // Act
+        sut.collect(new BoundingBox(0, 0, 20, 20), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(collider);
+    }
+
+    @Test
+    void groupIsEmptyAfterLastColliderIsRemoved() {
+        // Arrange
+        var collider = mock(Collider.class);
+        sut.add(collider);
+
+        // Act
+        sut.remove(collider);
+
+        // Assert
+        assertTrue(sut.isEmpty());
+    }
+}
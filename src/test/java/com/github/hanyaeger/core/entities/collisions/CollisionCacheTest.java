@@ -0,0 +1,151 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CollisionCacheTest {
+
+    private CollisionCache sut;
+    private Collided collided;
+    private Collider collider;
+
+    @BeforeEach
+    void setup() {
+        sut = new CollisionCache();
+        collided = mock(Collided.class);
+        collider = mock(Collider.class);
+    }
+
+    @Test
+    void firstBeginIsNotReusable() {
+        // Arrange
+
+        // Act
+        var actual = sut.begin(collided, true);
+
+        // Assert
+        assertFalse(actual);
+    }
+
+    @Test
+    void unchangedCollidedCanReusePreviousResult() {
+        // Arrange
+        sut.begin(collided, true);
+        sut.add(collider);
+        sut.end();
+
+        // Act
+        var reusable = sut.begin(collided, true);
+
+        // Assert
+        assertTrue(reusable);
+        assertTrue(sut.wasColliding(collider));
+        assertFalse(sut.wasColliding(mock(Collider.class)));
+    }
+
+    @Test
+    void changedCollidedCanNotReusePreviousResult() {
+        // Arrange
+        sut.begin(collided, true);
+        sut.add(collider);
+        sut.end();
+
+        // Act
+        var reusable = sut.begin(collided, false);
+
+        // Assert
+        assertFalse(reusable);
+        assertFalse(sut.wasColliding(collider));
+    }
+
+    @Test
+    void previousResultCanBeReadWhileNewResultIsRecorded() {
+        // Arrange
+        var other = mock(Collider.class);
+        sut.begin(collided, true);
+        sut.add(collider);
+        sut.end();
+
+        // Act
+        sut.begin(collided, true);
+        sut.add(other);
+        var wasCollidingWithCollider = sut.wasColliding(collider);
+        sut.end();
+        sut.begin(collided, true);
+
+        // Assert
+        assertTrue(wasCollidingWithCollider);
+        assertFalse(sut.wasColliding(collider));
+        assertTrue(sut.wasColliding(other));
+    }
+
+    @Test
+    void resultGrowsBeyondInitialCapacity() {
+        // Arrange
+        var colliders = new Collider[10];
+        sut.begin(collided, true);
+        for (var i = 0; i < colliders.length; i++) {
+            colliders[i] = mock(Collider.class);
+            sut.add(colliders[i]);
+        }
+        sut.end();
+
+        // Act
+        sut.begin(collided, true);
+
+        // Assert
+        for (final var c : colliders) {
+            assertTrue(sut.wasColliding(c));
+        }
+    }
+
+    @Test
+    void resultOfPreviousDetectionCanBeReused() {
+        // Arrange
+        sut.begin(collided, true);
+        sut.add(collider);
+        sut.end();
+
+        // Act
+        sut.nextDetection();
+        var reusable = sut.begin(collided, true);
+
+        // Assert
+        assertTrue(reusable);
+    }
+
+    @Test
+    void resultOfSkippedDetectionCanNotBeReused() {
+        // Arrange
+        sut.begin(collided, true);
+        sut.add(collider);
+        sut.end();
+
+        // Act
+        sut.nextDetection();
+        sut.nextDetection();
+        var reusable = sut.begin(collided, true);
+
+        // Assert
+        assertFalse(reusable);
+    }
+
+    @Test
+    void removedCollidedCanNotReusePreviousResult() {
+        // Arrange
+        sut.begin(collided, true);
+        sut.add(collider);
+        sut.end();
+
+        // Act
+        sut.remove(collided);
+
+        // Assert
+        assertFalse(sut.begin(collided, true));
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CollisionPairBufferTest {
+
+    private CollisionPairBuffer sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new CollisionPairBuffer();
+    }
+
+    @Test
+    void newBufferIsEmpty() {
+        // Arrange
+
+        // Act & Assert
+        assertEquals(0, sut.getCollidedCount());
+        assertEquals(0, sut.getPairCount());
+    }
+
+    @Test
+    void pairsAreGroupedPerCollided() {
+        // Arrange
+        var first = mock(Collided.class);
+        var second = mock(Collided.class);
+        var colliderA = mock(Collider.class);
+        var colliderB = mock(Collider.class);
+        var colliderC = mock(Collider.class);
+
+        // Act
+        sut.begin(first);
+        sut.add(colliderA);
+        sut.add(colliderB);
+        sut.end();
+        sut.begin(second);
+        sut.add(colliderC);
+        sut.end();
+
+        // Assert
+        assertEquals(2, sut.getCollidedCount());
+        assertEquals(3, sut.getPairCount());
+        assertSame(first, sut.getCollided(0));
+        assertEquals(0, sut.getStart(0));
+        assertEquals(2, sut.getEnd(0));
+        assertSame(colliderB, sut.getCollider(1));
+        assertSame(second, sut.getCollided(1));
+        assertEquals(2, sut.getStart(1));
+        assertEquals(3, sut.getEnd(1));
+        assertSame(colliderC, sut.getCollider(2));
+    }
+
+    @Test
+    void collidedWithoutPairsIsNotStored() {
+        // Arrange
+        var withoutPairs = mock(Collided.class);
+        var withPairs = mock(Collided.class);
+
+        // Act
+        sut.begin(withoutPairs);
+        sut.end();
+        sut.begin(withPairs);
+        sut.add(mock(Collider.class));
+        sut.end();
+
+        // Assert
+        assertEquals(1, sut.getCollidedCount());
+        assertSame(withPairs, sut.getCollided(0));
+    }
+
+    @Test
+    void addWithoutBeginThrowsException() {
+        // Arrange
+        var collider = mock(Collider.class);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> sut.add(collider));
+    }
+
+    @Test
+    void bufferGrowsBeyondInitialCapacity() {
+        // Arrange
+        var colliders = new Collider[100];
+        for (var i = 0; i < colliders.length; i++) {
+            colliders[i] = mock(Collider.class);
+        }
+
+        // Act
+        for (var i = 0; i < 50; i++) {
+            sut.begin(mock(Collided.class));
+            sut.add(colliders[2 * i]);
+            sut.add(colliders[2 * i + 1]);
+            sut.end();
+        }
+
+        // Assert
+        assertEquals(50, sut.getCollidedCount());
+        assertEquals(100, sut.getPairCount());
+        assertSame(colliders[99], sut.getCollider(99));
+    }
+
+    @Test
+    void clearRemovesAllPairs() {
+        // Arrange
+        sut.begin(mock(Collided.class));
+        sut.add(mock(Collider.class));
+        sut.end();
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.getCollidedCount());
+        assertEquals(0, sut.getPairCount());
+    }
+}
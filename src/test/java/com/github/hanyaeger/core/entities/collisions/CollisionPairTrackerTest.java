@@ -0,0 +1,195 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.TrackedCollided;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CollisionPairTrackerTest {
+
+    private CollisionPairTracker sut;
+    private TrackedCollided collided;
+    private Collider collider;
+
+    @BeforeEach
+    void setup() {
+        sut = new CollisionPairTracker();
+        collided = mock(TrackedCollided.class);
+        collider = mock(Collider.class);
+
+        sut.register(collided);
+        sut.register(collider);
+    }
+
+    @Test
+    void firstCollisionCallsEnter() {
+        // Arrange
+        sut.record(collided, List.of(collider));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionEnter(collider);
+        verify(collided, never()).onCollisionStay(any());
+        verify(collided, never()).onCollisionExit(any());
+    }
+
+    @Test
+    void continuedCollisionCallsStay() {
+        // Arrange
+        sut.record(collided, List.of(collider));
+        sut.dispatch();
+        sut.record(collided, List.of(collider));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionEnter(collider);
+        verify(collided).onCollisionStay(collider);
+        verify(collided, never()).onCollisionExit(any());
+    }
+
+    @Test
+    void endedCollisionCallsExitOnce() {
+        // Arrange
+        sut.record(collided, List.of(collider));
+        sut.dispatch();
+        sut.record(collided, List.of());
+
+        // Act
+        sut.dispatch();
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionExit(collider);
+        assertEquals(0, sut.getActivePairCount());
+    }
+
+    @Test
+    void unregisteredColliderIsNotTracked() {
+        // Arrange
+        var other = mock(Collider.class);
+        sut.record(collided, List.of(other));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(collided, never()).onCollisionEnter(any());
+        assertEquals(0, sut.getActivePairCount());
+    }
+
+    @Test
+    void recordedColliderIsTrackedWithoutCheckingForCollision() {
+        // Arrange
+        var other = mock(Collider.class);
+        sut.register(other);
+        sut.record(collided, List.of(other));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionEnter(other);
+        verify(collided, never()).isCollidingWith(other);
+    }
+
+    @Test
+    void duplicateCandidatesResultInSinglePair() {
+        // Arrange
+        sut.record(collided, List.of(collider, collider));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionEnter(collider);
+        assertEquals(1, sut.getActivePairCount());
+    }
+
+    @Test
+    void removedColliderCallsExit() {
+        // Arrange
+        sut.record(collided, List.of(collider));
+        sut.dispatch();
+
+        // Act
+        sut.remove(collider);
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionExit(collider);
+    }
+
+    @Test
+    void removedCollidedReceivesNoExit() {
+        // Arrange
+        sut.record(collided, List.of(collider));
+        sut.dispatch();
+
+        // Act
+        sut.remove(collided);
+        sut.dispatch();
+
+        // Assert
+        verify(collided, never()).onCollisionExit(any());
+    }
+
+    @Test
+    void idOfRemovedColliderIsReusedWithoutStayForNewCollider() {
+        // Arrange
+        sut.record(collided, List.of(collider));
+        sut.dispatch();
+        sut.remove(collider);
+        sut.dispatch();
+
+        var newCollider = mock(Collider.class);
+        sut.register(newCollider);
+        sut.record(collided, List.of(newCollider));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(collided).onCollisionEnter(newCollider);
+        verify(collided, never()).onCollisionStay(any());
+    }
+
+    @Test
+    void callbacksAreDispatchedInRegistrationOrder() {
+        // Arrange
+        var second = mock(Collider.class);
+        sut.register(second);
+        sut.record(collided, List.of(second, collider));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        InOrder inOrder = inOrder(collided);
+        inOrder.verify(collided).onCollisionEnter(collider);
+        inOrder.verify(collided).onCollisionEnter(second);
+    }
+
+    @Test
+    void unregisteredCollidedIsIgnored() {
+        // Arrange
+        var unregistered = mock(TrackedCollided.class);
+        sut.record(unregistered, List.of(collider));
+
+        // Act
+        sut.dispatch();
+
+        // Assert
+        verify(unregistered, never()).onCollisionEnter(any());
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Transform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionShapeTest {
+
+    private static final Transform IDENTITY = new Affine();
+
+    private CollisionShape sut;
+    private CollisionShape other;
+
+    @BeforeEach
+    void setup() {
+        sut = new CollisionShape();
+        other = new CollisionShape();
+    }
+
+    @Test
+    void describeCircleDescribesCircle() {
+        // Arrange
+        var node = new Circle(10, 20, 5);
+
+        // Act
+        sut.describe(node);
+
+        // Assert
+        assertTrue(sut.isCircle());
+        assertTrue(sut.overlaps(14, 20, 100, 21));
+        assertFalse(sut.overlaps(16, 20, 100, 21));
+    }
+
+    @Test
+    void describeEllipseDescribesPolygon() {
+        // Arrange
+        var node = new Ellipse(0, 0, 20, 5);
+
+        // Act
+        sut.describe(node);
+
+        // Assert
+        assertFalse(sut.isCircle());
+        assertEquals(CollisionShape.ELLIPSE_SEGMENTS, sut.getVertexCount());
+    }
+
+    @Test
+    void describeRectangleIgnoresStroke() {
+        // Arrange
+        var node = new Rectangle(0, 0, 10, 10);
+        node.setStrokeWidth(10);
+
+        // Act
+        sut.describe(node);
+
+        // Assert
+        assertEquals(4, sut.getVertexCount());
+        assertFalse(sut.overlaps(11, 0, 20, 10));
+    }
+
+    @Test
+    void describeOtherNodeDescribesItsLocalBounds() {
+        // Arrange
+        var node = new Group(new Rectangle(0, 0, 10, 10), new Rectangle(30, 0, 10, 10));
+
+        // Act
+        sut.describe(node);
+
+        // Assert
+        assertEquals(4, sut.getVertexCount());
+        assertTrue(sut.overlaps(15, 0, 20, 10));
+    }
+
+    @Test
+    void describeAppliesTransformOfParent() {
+        // Arrange
+        var node = new Rectangle(0, 0, 10, 10);
+        var parent = new Group(node);
+        parent.setTranslateX(100);
+
+        // Act
+        sut.describe(node);
+
+        // Assert
+        assertFalse(sut.overlaps(0, 0, 10, 10));
+        assertTrue(sut.overlaps(100, 0, 110, 10));
+    }
+
+    @Test
+    void overlappingCirclesOverlap() {
+        // Arrange
+        sut.setCircle(IDENTITY, 0, 0, 10);
+        other.setCircle(IDENTITY, 15, 0, 10);
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other));
+    }
+
+    @Test
+    void circlesWithIntersectingBoundingBoxesDoNotOverlapDiagonally() {
+        // Arrange
+        sut.setCircle(IDENTITY, 0, 0, 10);
+        other.setCircle(IDENTITY, 16, 16, 10);
+
+        // Act & Assert
+        assertFalse(sut.overlaps(other));
+    }
+
+    @Test
+    void circleNearCornerOfRectangleDoesNotOverlap() {
+        // Arrange
+        sut.setCircle(IDENTITY, 0, 0, 10);
+        other.setRectangle(IDENTITY, 8, 8, 10, 10);
+
+        // Act & Assert
+        assertFalse(sut.overlaps(other));
+        assertFalse(other.overlaps(sut));
+    }
+
+    @Test
+    void circleAlongEdgeOfRectangleOverlaps() {
+        // Arrange
+        sut.setCircle(IDENTITY, 0, 15, 10);
+        other.setRectangle(IDENTITY, 8, 0, 10, 30);
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other));
+    }
+
+    @Test
+    void rotatedSquareNearCornerOfSquareDoesNotOverlap() {
+        // Arrange
+        sut.setRectangle(new Rotate(45, 5, 5), 0, 0, 10, 10);
+        other.setRectangle(IDENTITY, 11.5, 11.5, 10, 10);
+
+        // Act & Assert
+        assertFalse(sut.overlaps(other));
+    }
+
+    @Test
+    void rotatedSquareTouchingEdgeOfSquareOverlaps() {
+        // Arrange
+        sut.setRectangle(new Rotate(45, 5, 5), 0, 0, 10, 10);
+        other.setRectangle(IDENTITY, 11, -5, 10, 20);
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other));
+    }
+
+    @Test
+    void ellipseIsDescribedAsPolygon() {
+        // Arrange
+
+        // Act
+        sut.setEllipse(IDENTITY, 0, 0, 20, 5);
+
+        // Assert
+        assertFalse(sut.isCircle());
+        assertEquals(CollisionShape.ELLIPSE_SEGMENTS, sut.getVertexCount());
+    }
+
+    @Test
+    void ellipseWithEqualRadiiIsDescribedAsCircle() {
+        // Arrange
+
+        // Act
+        sut.setEllipse(IDENTITY, 0, 0, 5, 5);
+
+        // Assert
+        assertTrue(sut.isCircle());
+    }
+
+    @Test
+    void circleScaledUnevenlyIsDescribedAsPolygon() {
+        // Arrange
+
+        // Act
+        sut.setCircle(new Scale(2, 1), 0, 0, 5);
+
+        // Assert
+        assertFalse(sut.isCircle());
+    }
+
+    @Test
+    void flatEllipseDoesNotOverlapCircleAboveIt() {
+        // Arrange
+        sut.setEllipse(IDENTITY, 0, 0, 20, 5);
+        other.setCircle(IDENTITY, 0, 12, 5);
+
+        // Act & Assert
+        assertFalse(sut.overlaps(other));
+    }
+
+    @Test
+    void flatEllipseOverlapsCircleAtItsSide() {
+        // Arrange
+        sut.setEllipse(IDENTITY, 0, 0, 20, 5);
+        other.setCircle(IDENTITY, 24, 0, 5);
+
+        // Act & Assert
+        assertTrue(sut.overlaps(other));
+    }
+
+    @Test
+    void circleDoesNotOverlapRectangleAtItsCorner() {
+        // Arrange
+        sut.setCircle(IDENTITY, 0, 0, 10);
+
+        // Act & Assert
+        assertFalse(sut.overlaps(8, 8, 20, 20));
+        assertTrue(sut.overlaps(5, -2, 20, 2));
+    }
+
+    @Test
+    void rotatedSquareDoesNotOverlapRectangleAtItsCorner() {
+        // Arrange
+        sut.setRectangle(new Rotate(45, 5, 5), 0, 0, 10, 10);
+
+        // Act & Assert
+        assertFalse(sut.overlaps(11.5, 11.5, 20, 20));
+        assertTrue(sut.overlaps(11, -5, 20, 15));
+    }
+}
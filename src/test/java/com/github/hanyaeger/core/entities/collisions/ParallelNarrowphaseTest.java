@@ -0,0 +1,181 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelNarrowphaseTest {
+
+    private ParallelNarrowphase sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new ParallelNarrowphase(ForkJoinPool.commonPool());
+    }
+
+    @Test
+    void intersectingCandidateIsHit() {
+        // Arrange
+        var collider = createCollider(5, 5);
+        sut.addCollided(createCollided(0, 0), List.of(collider));
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertEquals(List.of(collider), sut.getHits(0));
+    }
+
+    @Test
+    void separateCandidateIsNotHit() {
+        // Arrange
+        sut.addCollided(createCollided(0, 0), List.of(createCollider(50, 50)));
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertTrue(sut.getHits(0).isEmpty());
+    }
+
+    @Test
+    void colliderThatIsNoCandidateIsNotHit() {
+        // Arrange
+        var collider = createCollider(5, 5);
+        sut.addCollided(createCollided(0, 0), List.of());
+        sut.addCollided(createCollided(0, 0), List.of(collider));
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertTrue(sut.getHits(0).isEmpty());
+        assertEquals(List.of(collider), sut.getHits(1));
+    }
+
+    @Test
+    void collidedIsNotHitByItself() {
+        // Arrange
+        var entity = mock(CollidedCollider.class);
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 10, 10));
+        sut.addCollided(entity, List.of(entity));
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertTrue(sut.getHits(0).isEmpty());
+    }
+
+    @Test
+    void collidedWithoutBoundsHitsNothing() {
+        // Arrange
+        var collided = mock(Collided.class);
+        sut.addCollided(collided, List.of(createCollider(0, 0)));
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertTrue(sut.getHits(0).isEmpty());
+    }
+
+    @Test
+    void hitsKeepTheOrderOfTheCandidates() {
+        // Arrange
+        var first = createCollider(1, 1);
+        var second = createCollider(2, 2);
+        var third = createCollider(3, 3);
+        sut.addCollided(createCollided(0, 0), List.of(second, first, third));
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertEquals(List.of(second, first, third), sut.getHits(0));
+    }
+
+    @Test
+    void candidatesAreCopied() {
+        // Arrange
+        var collider = createCollider(5, 5);
+        var candidates = new ArrayList<Collider>(List.of(collider));
+        sut.addCollided(createCollided(0, 0), candidates);
+
+        // Act
+        candidates.clear();
+        sut.run();
+
+        // Assert
+        assertEquals(List.of(collider), sut.getHits(0));
+    }
+
+    @Test
+    void manyCollidedsGiveSameResultAsSequentialChecks() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var i = 0; i < 100; i++) {
+            colliders.add(createCollider(i * 7, (i % 5) * 7));
+        }
+        var collideds = new ArrayList<Collided>();
+        for (var i = 0; i < ParallelNarrowphase.BATCH_SIZE * 5; i++) {
+            var collided = createCollided(i * 2, (i % 7) * 5);
+            collideds.add(collided);
+            sut.addCollided(collided, i % 2 == 0 ? colliders : colliders.subList(50, 100));
+        }
+
+        // Act
+        sut.run();
+
+        // Assert
+        assertEquals(collideds.size(), sut.getCollidedCount());
+        for (var i = 0; i < collideds.size(); i++) {
+            var collided = collideds.get(i);
+            var expected = new ArrayList<Collider>();
+            for (var collider : i % 2 == 0 ? colliders : colliders.subList(50, 100)) {
+                if (collided.getBoundingBox().intersects(collider.getBoundingBox())) {
+                    expected.add(collider);
+                }
+            }
+            assertEquals(collided, sut.getCollided(i));
+            assertEquals(expected, sut.getHits(i));
+        }
+    }
+
+    @Test
+    void clearEmptiesSnapshot() {
+        // Arrange
+        sut.addCollided(createCollided(0, 0), List.of(createCollider(5, 5)));
+
+        // Act
+        sut.clear();
+
+        // Assert
+        assertEquals(0, sut.getCollidedCount());
+    }
+
+    private Collider createCollider(final double x, final double y) {
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(x, y, 10, 10));
+        return collider;
+    }
+
+    private Collided createCollided(final double x, final double y) {
+        var collided = mock(Collided.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(x, y, 10, 10));
+        return collided;
+    }
+
+    private interface CollidedCollider extends Collided, Collider {
+    }
+}
@@ -0,0 +1,278 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.YaegerEntity;
+import javafx.geometry.BoundingBox;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpatialIndexTest {
+
+    private SpatialIndex sut;
+    private List<YaegerEntity> result;
+
+    @BeforeEach
+    void setup() {
+        sut = new SpatialIndex();
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void cellSizeOfZeroThrowsException() {
+        // Arrange
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SpatialIndex(0));
+    }
+
+    @Test
+    void emptyIndexFindsNothing() {
+        // Arrange
+        sut.build();
+
+        // Act
+        sut.queryRect(0, 0, 100, 100, YaegerEntity.class, result);
+        sut.nearest(0, 0, 3, YaegerEntity.class, result);
+        var hit = sut.raycast(0, 0, 100, 100, YaegerEntity.class, result);
+
+        // Assert
+        assertFalse(hit);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void entityWithoutNodeIsIgnored() {
+        // Arrange
+        var entity = mock(YaegerEntity.class);
+        when(entity.getNode()).thenReturn(Optional.empty());
+        sut.add(entity);
+        sut.build();
+
+        // Act
+        sut.queryRect(-1000, -1000, 1000, 1000, YaegerEntity.class, result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void queryRectReturnsIntersectingEntitiesInOrderOfAddition() {
+        // Arrange
+        var far = entity(500, 500, 10, 10);
+        var second = entity(150, 10, 10, 10);
+        var first = entity(10, 10, 10, 10);
+        var spanning = entity(60, 60, 100, 20);
+        sut.add(far);
+        sut.add(second);
+        sut.add(first);
+        sut.add(spanning);
+        sut.build();
+
+        // Act
+        sut.queryRect(0, 0, 200, 100, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(second, first, spanning), result);
+    }
+
+    @Test
+    void queryRectOnlyReturnsEntitiesOfType() {
+        // Arrange
+        var plain = entity(10, 10, 10, 10);
+        var collider = colliderEntity(20, 20, 10, 10);
+        sut.add(plain);
+        sut.add(collider);
+        sut.build();
+        var colliders = new ArrayList<Collider>();
+
+        // Act
+        sut.queryRect(0, 0, 100, 100, Collider.class, colliders);
+
+        // Assert
+        assertEquals(List.of(collider), colliders);
+    }
+
+    @Test
+    void queryRectFindsLargeEntities() {
+        // Arrange
+        var background = entity(0, 0, 5000, 5000);
+        sut.add(background);
+        sut.build();
+
+        // Act
+        sut.queryRect(2000, 2000, 2010, 2010, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(background), result);
+    }
+
+    @Test
+    void queryRadiusExcludesEntitiesInCornerOfSquare() {
+        // Arrange
+        var inside = entity(110, 95, 10, 10);
+        var corner = entity(175, 175, 10, 10);
+        sut.add(inside);
+        sut.add(corner);
+        sut.build();
+
+        // Act
+        sut.queryRadius(100, 100, 80, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(inside), result);
+    }
+
+    @Test
+    void nearestReturnsEntitiesOrderedByDistance() {
+        // Arrange
+        var farthest = entity(900, 0, 10, 10);
+        var nearest = entity(100, 0, 10, 10);
+        var middle = entity(0, 300, 10, 10);
+        sut.add(farthest);
+        sut.add(nearest);
+        sut.add(middle);
+        sut.build();
+
+        // Act
+        sut.nearest(0, 0, 2, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(nearest, middle), result);
+    }
+
+    @Test
+    void nearestReturnsAllEntitiesWhenKExceedsCount() {
+        // Arrange
+        var first = entity(1000, 1000, 10, 10);
+        var second = entity(-1000, -1000, 10, 10);
+        sut.add(first);
+        sut.add(second);
+        sut.build();
+
+        // Act
+        sut.nearest(900, 900, 5, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void nearestFromPointFarOutsidePopulatedCellsReturnsNearestEntity() {
+        // Arrange
+        var far = entity(0, 0, 10, 10);
+        var near = entity(500, 500, 10, 10);
+        sut.add(far);
+        sut.add(near);
+        sut.build();
+
+        // Act
+        sut.nearest(1E9, 1E9, 1, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(List.of(near), result);
+    }
+
+    @Test
+    void nearestFromPointBesidePopulatedCellsFindsEntitiesOnAllSides() {
+        // Arrange
+        var above = entity(1000, 0, 10, 10);
+        var below = entity(1000, 2000, 10, 10);
+        sut.add(above);
+        sut.add(below);
+        sut.build();
+
+        // Act
+        sut.nearest(-5000, 1005, 2, YaegerEntity.class, result);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(above, below)));
+    }
+
+    @Test
+    void raycastReturnsFirstEntityHit() {
+        // Arrange
+        var behind = entity(300, 0, 10, 10);
+        var first = entity(200, 0, 10, 10);
+        var aside = entity(100, 100, 10, 10);
+        sut.add(behind);
+        sut.add(first);
+        sut.add(aside);
+        sut.build();
+
+        // Act
+        var hit = sut.raycast(0, 5, 500, 5, YaegerEntity.class, result);
+
+        // Assert
+        assertTrue(hit);
+        assertEquals(List.of(first), result);
+    }
+
+    @Test
+    void raycastDoesNotReachBeyondEndOfSegment() {
+        // Arrange
+        sut.add(entity(300, 300, 10, 10));
+        sut.build();
+
+        // Act
+        var hit = sut.raycast(0, 0, 200, 200, YaegerEntity.class, result);
+
+        // Assert
+        assertFalse(hit);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void raycastInNegativeDirectionFindsNearestToStart() {
+        // Arrange
+        var far = entity(-400, -400, 20, 20);
+        var near = entity(-100, -100, 20, 20);
+        sut.add(far);
+        sut.add(near);
+        sut.build();
+
+        // Act
+        var hit = sut.raycast(0, 0, -500, -500, YaegerEntity.class, result);
+
+        // Assert
+        assertTrue(hit);
+        assertEquals(List.of(near), result);
+    }
+
+    @Test
+    void clearRemovesAllEntities() {
+        // Arrange
+        sut.add(entity(10, 10, 10, 10));
+        sut.build();
+
+        // Act
+        sut.clear();
+        sut.build();
+        sut.queryRect(0, 0, 100, 100, YaegerEntity.class, result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    private YaegerEntity entity(final double x, final double y, final double width, final double height) {
+        return configure(mock(YaegerEntity.class), x, y, width, height);
+    }
+
+    private YaegerEntity colliderEntity(final double x, final double y, final double width, final double height) {
+        return configure(mock(YaegerEntity.class, withSettings().extraInterfaces(Collider.class)), x, y, width, height);
+    }
+
+    private YaegerEntity configure(final YaegerEntity entity, final double x, final double y, final double width, final double height) {
+        doReturn(Optional.of(mock(Node.class))).when(entity).getNode();
+        when(entity.getBoundingBox()).thenReturn(new BoundingBox(x, y, width, height));
+        return entity;
+    }
+}
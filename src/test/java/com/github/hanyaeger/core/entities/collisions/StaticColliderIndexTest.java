@@ -0,0 +1,161 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StaticColliderIndexTest {
+
+    private static final int ALL_LAYERS = -1;
+
+    private StaticColliderIndex sut;
+    private List<Collider> result;
+
+    @BeforeEach
+    void setup() {
+        sut = new StaticColliderIndex();
+        result = new ArrayList<>();
+    }
+
+    @Test
+    void newIndexIsEmpty() {
+        // Arrange
+
+        // Act & Assert
+        assertTrue(sut.isEmpty());
+    }
+
+    @Test
+    void intersectingColliderIsFound() {
+        // Arrange
+        var collider = createCollider(10, 10);
+        sut.register(collider, 0);
+
+        // Act
+        sut.query(new BoundingBox(5, 5, 10, 10), ALL_LAYERS, result);
+
+        // Assert
+        assertEquals(List.of(collider), result);
+    }
+
+    @Test
+    void separateColliderIsNotFound() {
+        // Arrange
+        sut.register(createCollider(100, 100), 0);
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), ALL_LAYERS, result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void colliderOnExcludedLayerIsNotFound() {
+        // Arrange
+        sut.register(createCollider(0, 0), 2);
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), ~(1 << 2), result);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void removedColliderIsNotFound() {
+        // Arrange
+        var collider = createCollider(0, 0);
+        sut.register(collider, 0);
+        sut.query(new BoundingBox(0, 0, 10, 10), ALL_LAYERS, result);
+        result.clear();
+
+        // Act
+        var removed = sut.remove(collider);
+        sut.query(new BoundingBox(0, 0, 10, 10), ALL_LAYERS, result);
+
+        // Assert
+        assertTrue(removed);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void removingUnknownColliderReturnsFalse() {
+        // Arrange
+
+        // Act & Assert
+        assertFalse(sut.remove(createCollider(0, 0)));
+    }
+
+    @Test
+    void boundingBoxesAreOnlyReadWhenIndexIsRebuilt() {
+        // Arrange
+        var collider = createCollider(0, 0);
+        sut.register(collider, 0);
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), ALL_LAYERS, result);
+        sut.query(new BoundingBox(0, 0, 10, 10), ALL_LAYERS, result);
+
+        // Assert
+        verify(collider, times(1)).getBoundingBox();
+    }
+
+    @Test
+    void collidersAreOrderedByLayerAndThenByRegistration() {
+        // Arrange
+        var first = createCollider(0, 0);
+        var second = createCollider(1, 1);
+        var third = createCollider(2, 2);
+        sut.register(first, 1);
+        sut.register(second, 0);
+        sut.register(third, 1);
+
+        // Act
+        sut.query(new BoundingBox(0, 0, 10, 10), ALL_LAYERS, result);
+
+        // Assert
+        assertEquals(List.of(second, first, third), result);
+    }
+
+    @Test
+    void largeIndexGivesSameResultAsCheckingAllColliders() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var x = 0; x < 30; x++) {
+            for (var y = 0; y < 20; y++) {
+                var collider = createCollider(x * 16, y * 16);
+                colliders.add(collider);
+                sut.register(collider, 0);
+            }
+        }
+        var queryBounds = new BoundingBox(37, 42, 50, 30);
+
+        // Act
+        sut.query(queryBounds, ALL_LAYERS, result);
+
+        // Assert
+        var expected = new ArrayList<Collider>();
+        for (var collider : colliders) {
+            if (queryBounds.intersects(collider.getBoundingBox())) {
+                expected.add(collider);
+            }
+        }
+        assertEquals(expected, result);
+    }
+
+    private Collider createCollider(final double x, final double y) {
+        var collider = mock(Collider.class);
+        Bounds bounds = new BoundingBox(x, y, 16, 16);
+        when(collider.getBoundingBox()).thenReturn(bounds);
+        return collider;
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SweepAndPruneBroadphaseTest {
+
+    private SweepAndPruneBroadphase sut;
+    private Collided collided;
+
+    @BeforeEach
+    void setup() {
+        sut = new SweepAndPruneBroadphase();
+        collided = mock(Collided.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        sut.register(collided);
+    }
+
+    @Test
+    void overlappingColliderIsACandidate() {
+        // Arrange
+        var collider = createCollider(25, 25, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void touchingColliderIsACandidate() {
+        // Arrange
+        var collider = createCollider(30, 10, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void colliderOverlappingOnlyHorizontallyIsNotACandidate() {
+        // Arrange
+        var collider = createCollider(15, 500, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    void unregisteredCollidedHasNoCandidates() {
+        // Arrange
+        var other = mock(Collided.class);
+        when(other.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20));
+        sut.register(createCollider(15, 15, 10, 10));
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(other);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    void candidatesAreReturnedInRegistrationOrder() {
+        // Arrange
+        var first = createCollider(28, 28, 5, 5);
+        var second = createCollider(12, 12, 5, 5);
+        var third = createCollider(20, 20, 5, 5);
+        sut.register(first);
+        sut.register(second);
+        sut.register(third);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(first, second, third), candidates);
+    }
+
+    @Test
+    void movedColliderIsFoundAtItsNewLocation() {
+        // Arrange
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(500, 10, 10, 10));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(15, 15, 10, 10));
+        sut.update();
+
+        // Assert
+        assertEquals(List.of(collider), sut.getCandidates(collided));
+    }
+
+    @Test
+    void removedColliderIsNoLongerACandidate() {
+        // Arrange
+        var first = createCollider(12, 12, 5, 5);
+        var second = createCollider(20, 20, 5, 5);
+        sut.register(first);
+        sut.register(second);
+        sut.update();
+
+        // Act
+        sut.remove(first);
+        sut.update();
+
+        // Assert
+        assertEquals(List.of(second), sut.getCandidates(collided));
+    }
+
+    @Test
+    void removedCollidedHasNoCandidates() {
+        // Arrange
+        sut.register(createCollider(12, 12, 5, 5));
+        sut.update();
+
+        // Act
+        sut.remove(collided);
+        sut.update();
+
+        // Assert
+        assertTrue(sut.getCandidates(collided).isEmpty());
+    }
+
+    @Test
+    void resultMatchesBruteForceAfterMovementAndRemovals() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var i = 0; i < 100; i++) {
+            colliders.add(createCollider((i * 37) % 200, (i * 53) % 200, 15, 15));
+        }
+        colliders.forEach(sut::register);
+        sut.update();
+
+        for (var i = 0; i < 100; i++) {
+            when(colliders.get(i).getBoundingBox()).thenReturn(new BoundingBox((i * 41) % 200, (i * 29) % 200, 15, 15));
+        }
+        for (var i = 0; i < 100; i += 3) {
+            sut.remove(colliders.get(i));
+        }
+        sut.update();
+
+        var expected = new ArrayList<Collider>();
+        for (var i = 0; i < 100; i++) {
+            if (i % 3 != 0 && colliders.get(i).getBoundingBox().intersects(collided.getBoundingBox())) {
+                expected.add(colliders.get(i));
+            }
+        }
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(expected, candidates);
+    }
+
+    private Collider createCollider(final double x, final double y, final double width, final double height) {
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(x, y, width, height));
+        return collider;
+    }
+}
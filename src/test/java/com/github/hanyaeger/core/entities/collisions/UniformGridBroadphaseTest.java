@@ -0,0 +1,193 @@
+package com.github.hanyaeger.core.entities.collisions;
+
+import com.github.hanyaeger.api.entities.Collided;
+import com.github.hanyaeger.api.entities.Collider;
+import com.github.hanyaeger.api.entities.ContinuousCollided;
+import javafx.geometry.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UniformGridBroadphaseTest {
+
+    private static final double CELL_SIZE = 100;
+
+    private UniformGridBroadphase sut;
+    private Collided collided;
+
+    @BeforeEach
+    void setup() {
+        sut = new UniformGridBroadphase(CELL_SIZE);
+        collided = mock(Collided.class);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(10, 10, 20, 20));
+    }
+
+    @Test
+    void zeroCellSizeThrowsIllegalArgumentException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridBroadphase(0));
+    }
+
+    @Test
+    void negativeCellSizeThrowsIllegalArgumentException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridBroadphase(-1));
+    }
+
+    @Test
+    void colliderInSameCellIsCandidate() {
+        // Arrange
+        var collider = createCollider(50, 50, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void colliderInDistantCellIsNoCandidate() {
+        // Arrange
+        var collider = createCollider(500, 500, 10, 10);
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    void colliderSpanningMultipleCellsIsReturnedOnce() {
+        // Arrange
+        var collider = createCollider(0, 0, 350, 350);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(90, 90, 120, 120));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(1, candidates.size());
+    }
+
+    @Test
+    void touchingCollidersOnCellBorderAreCandidates() {
+        // Arrange
+        var collider = createCollider(100, 0, 10, 10);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(90, 0, 10, 10));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void candidatesAreReturnedInRegistrationOrder() {
+        // Arrange
+        var first = createCollider(0, 0, 250, 250);
+        var second = createCollider(15, 15, 5, 5);
+        var third = createCollider(-50, -50, 70, 70);
+        sut.register(first);
+        sut.register(second);
+        sut.register(third);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(first, second, third), candidates);
+    }
+
+    @Test
+    void negativeCoordinatesAreSupported() {
+        // Arrange
+        var collider = createCollider(-150, -150, 10, 10);
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(-145, -145, 1, 1));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void continuousCollidedUsesSweptBoundingBox() {
+        // Arrange
+        var bullet = mock(ContinuousCollided.class);
+        when(bullet.getBoundingBox()).thenReturn(new BoundingBox(500, 10, 10, 10));
+        when(bullet.getSweptBoundingBox()).thenReturn(new BoundingBox(10, 10, 500, 10));
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(250, 0, 5, 50));
+        sut.register(collider);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(bullet);
+
+        // Assert
+        assertEquals(List.of(collider), candidates);
+    }
+
+    @Test
+    void updateReplacesPreviousBuckets() {
+        // Arrange
+        var collider = createCollider(50, 50, 10, 10);
+        sut.register(collider);
+        sut.update();
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(1000, 1000, 10, 10));
+
+        // Act
+        sut.register(collider);
+        sut.update();
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    void manyCollidersGrowInternalBuffers() {
+        // Arrange
+        var colliders = new ArrayList<Collider>();
+        for (var i = 0; i < 500; i++) {
+            colliders.add(createCollider(i * 10, i * 10, 5, 5));
+        }
+        when(collided.getBoundingBox()).thenReturn(new BoundingBox(0, 0, 5000, 5000));
+        colliders.forEach(sut::register);
+        sut.update();
+
+        // Act
+        var candidates = sut.getCandidates(collided);
+
+        // Assert
+        assertEquals(colliders, candidates);
+    }
+
+    private Collider createCollider(final double x, final double y, final double width, final double height) {
+        var collider = mock(Collider.class);
+        when(collider.getBoundingBox()).thenReturn(new BoundingBox(x, y, width, height));
+        return collider;
+    }
+}
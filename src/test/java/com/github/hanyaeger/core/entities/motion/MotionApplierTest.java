@@ -1,5 +1,6 @@
 package com.github.hanyaeger.core.entities.motion;
 
+import com.github.hanyaeger.api.Coordinate2D;
 import com.github.hanyaeger.api.entities.Direction;
 import javafx.geometry.Point2D;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,70 @@ class MotionApplierTest {
         assertEquals(DEFAULT_START_LOCATION.getY(), updatedLocation.getY(), DELTA);
     }
 
+    @Test
+    void setSpeedCallsWakeUpHandler() {
+        // Arrange
+        var wakeUps = new int[1];
+        sut.setWakeUpHandler(() -> wakeUps[0]++);
+
+        // Act
+        sut.setSpeed(3);
+
+        // Assert
+        assertEquals(1, wakeUps[0]);
+    }
+
+    @Test
+    void setSpeedToZeroDoesNotCallWakeUpHandler() {
+        // Arrange
+        var wakeUps = new int[1];
+        sut.setWakeUpHandler(() -> wakeUps[0]++);
+
+        // Act
+        sut.setSpeed(0);
+
+        // Assert
+        assertEquals(0, wakeUps[0]);
+    }
+
+    @Test
+    void addToMotionAndSetGravityConstantCallWakeUpHandler() {
+        // Arrange
+        var wakeUps = new int[1];
+        sut.setWakeUpHandler(() -> wakeUps[0]++);
+
+        // Act
+        sut.addToMotion(2, DIRECTION);
+        sut.setGravityConstant(GRAVITATIONAL_CONSTANT);
+
+        // Assert
+        assertEquals(2, wakeUps[0]);
+    }
+
+    @Test
+    void newInstanceHasNoPreviousLocation() {
+        // Arrange
+
+        // Act
+        var hasPreviousLocation = sut.hasPreviousLocation();
+
+        // Assert
+        assertFalse(hasPreviousLocation);
+    }
+
+    @Test
+    void setPreviousLocationSetsPreviousLocation() {
+        // Arrange
+
+        // Act
+        sut.setPreviousLocation(37, 42);
+
+        // Assert
+        assertTrue(sut.hasPreviousLocation());
+        assertEquals(37, sut.getPreviousX());
+        assertEquals(42, sut.getPreviousY());
+    }
+
     @Test
     void speedWithNoAngleDefaultsToDirectionOfZero() {
         // Arrange
@@ -286,9 +286,25 @@ class MovableTest {
         verify(motionApplier).updateLocation(any(Coordinate2D.class));
     }
 
+    @Test
+    void callingTheUpdatableStoresPreviousLocation() {
+        // Arrange
+        var anchorLocation = new Coordinate2D(37, 42);
+        sut.setAnchorLocation(anchorLocation);
+        Updatable updatable = sut.updateLocation();
+        when(motionApplier.getSpeed()).thenReturn(0d);
+
+        // Act
+        updatable.update(TIMESTAMP);
+
+        // Assert
+        verify(motionApplier).setPreviousLocation(37, 42);
+    }
+
     @Test
     void callingTheUpdatableWithZeroSpeedDoesNotDoAnything() {
         // Arrange
+        sut.setAnchorLocation(new Coordinate2D(37, 42));
         Updatable updatable = sut.updateLocation();
         Node node = mock(Node.class, withSettings().withoutAnnotations());
         Bounds bounds = new BoundingBox(0, 0, 10, 10);
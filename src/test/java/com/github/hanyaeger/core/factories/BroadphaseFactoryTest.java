@@ -0,0 +1,64 @@
+package com.github.hanyaeger.core.factories;
+
+import com.github.hanyaeger.api.scenes.CollisionStrategy;
+import com.github.hanyaeger.core.entities.collisions.AABBTreeBroadphase;
+import com.github.hanyaeger.core.entities.collisions.BruteForceBroadphase;
+import com.github.hanyaeger.core.entities.collisions.SweepAndPruneBroadphase;
+import com.github.hanyaeger.core.entities.collisions.UniformGridBroadphase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadphaseFactoryTest {
+
+    private BroadphaseFactory sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new BroadphaseFactory();
+    }
+
+    @Test
+    void createBruteForceReturnsBruteForceBroadphase() {
+        // Arrange
+        // Act
+        var broadphase = sut.create(CollisionStrategy.BRUTE_FORCE, 64D);
+
+        // Assert
+        assertTrue(broadphase instanceof BruteForceBroadphase);
+    }
+
+    @Test
+    void createUniformGridUsesCellSize() {
+        // Arrange
+        var cellSize = 37D;
+
+        // Act
+        var broadphase = sut.create(CollisionStrategy.UNIFORM_GRID, cellSize);
+
+        // Assert
+        assertTrue(broadphase instanceof UniformGridBroadphase);
+        assertEquals(cellSize, ((UniformGridBroadphase) broadphase).getCellSize());
+    }
+
+    @Test
+    void createAABBTreeReturnsAABBTreeBroadphase() {
+        // Arrange
+        // Act
+        var broadphase = sut.create(CollisionStrategy.AABB_TREE, 64D);
+
+        // Assert
+        assertTrue(broadphase instanceof AABBTreeBroadphase);
+    }
+
+    @Test
+    void createSweepAndPruneReturnsSweepAndPruneBroadphase() {
+        // Arrange
+        // Act
+        var broadphase = sut.create(CollisionStrategy.SWEEP_AND_PRUNE, 64D);
+
+        // Assert
+        assertTrue(broadphase instanceof SweepAndPruneBroadphase);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.hanyaeger.core.profiling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationHistogramTest {
+
+    private DurationHistogram sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new DurationHistogram();
+    }
+
+    @Test
+    void newInstanceIsEmpty() {
+        // Arrange
+        // Act & Assert
+        assertEquals(0, sut.getCount());
+        assertEquals(0, sut.getTotal());
+        assertEquals(0, sut.getMax());
+        assertEquals(0, sut.getMean());
+        assertEquals(0, sut.getPercentile(0.95));
+    }
+
+    @Test
+    void recordAggregatesDurations() {
+        // Arrange
+        // Act
+        sut.record(100);
+        sut.record(300);
+
+        // Assert
+        assertEquals(2, sut.getCount());
+        assertEquals(400, sut.getTotal());
+        assertEquals(300, sut.getMax());
+        assertEquals(200, sut.getMean());
+    }
+
+    @Test
+    void negativeDurationIsRecordedAsZero() {
+        // Arrange
+        // Act
+        sut.record(-5);
+
+        // Assert
+        assertEquals(1, sut.getCount());
+        assertEquals(0, sut.getTotal());
+    }
+
+    @Test
+    void percentileIsUpperBoundOfBucket() {
+        // Arrange
+        for (var i = 0; i < 99; i++) {
+            sut.record(100);
+        }
+        sut.record(100_000);
+
+        // Act
+        var p95 = sut.getPercentile(0.95);
+        var p100 = sut.getPercentile(1);
+
+        // Assert
+        assertTrue(p95 >= 100 && p95 < 200);
+        assertEquals(100_000, p100);
+    }
+
+    @Test
+    void percentileOutsideRangeThrowsException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sut.getPercentile(1.5));
+    }
+
+    @Test
+    void resetDiscardsDurations() {
+        // Arrange
+        sut.record(100);
+
+        // Act
+        sut.reset();
+
+        // Assert
+        assertEquals(0, sut.getCount());
+        assertEquals(0, sut.getTotal());
+        assertEquals(0, sut.getPercentile(0.5));
+    }
+}
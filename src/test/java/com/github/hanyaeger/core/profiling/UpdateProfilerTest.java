@@ -0,0 +1,89 @@
+package com.github.hanyaeger.core.profiling;
+
+import com.github.hanyaeger.core.Updatable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdateProfilerTest {
+
+    private UpdateProfiler sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new UpdateProfiler();
+    }
+
+    @Test
+    void newInstanceIsDisabled() {
+        // Arrange
+        // Act & Assert
+        assertFalse(sut.isEnabled());
+    }
+
+    @Test
+    void wrappedUpdatableDelegatesAndRecordsDuration() {
+        // Arrange
+        List<Long> timestamps = new ArrayList<>();
+        Updatable updatable = timestamps::add;
+        var wrapped = sut.wrap("label", updatable);
+
+        // Act
+        wrapped.update(37);
+        wrapped.update(42);
+
+        // Assert
+        assertEquals(List.of(37L, 42L), timestamps);
+        assertEquals(2, sut.getHistogram("label").getCount());
+    }
+
+    @Test
+    void getSlowestIsOrderedByTotalDuration() {
+        // Arrange
+        sut.getHistogram("fast").record(10);
+        sut.getHistogram("slow").record(1_000);
+        sut.getHistogram("medium").record(100);
+        sut.getHistogram("unused");
+
+        // Act
+        var slowest = sut.getSlowest(2);
+
+        // Assert
+        assertEquals(2, slowest.size());
+        assertEquals("slow", slowest.get(0).label());
+        assertEquals("medium", slowest.get(1).label());
+    }
+
+    @Test
+    void reportContainsSlowestLabels() {
+        // Arrange
+        sut.getHistogram("slow").record(1_000);
+        sut.getHistogram("fast").record(10);
+
+        // Act
+        var report = sut.report(1);
+
+        // Assert
+        assertTrue(report.contains("slow"));
+        assertFalse(report.contains("fast"));
+    }
+
+    @Test
+    void resetKeepsHistogramsOfWrappedUpdatables() {
+        // Arrange
+        var wrapped = sut.wrap("label", timestamp -> {
+        });
+        wrapped.update(0);
+
+        // Act
+        sut.reset();
+        wrapped.update(1);
+
+        // Assert
+        assertEquals(1, sut.getHistogram("label").getCount());
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.hanyaeger.core.replay;
+
+import com.github.hanyaeger.core.entities.EntityCollection;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SessionRecorderTest {
+
+    private EntityCollection entityCollection;
+    private SessionRecorder sut;
+
+    @BeforeEach
+    void setup() {
+        entityCollection = mock(EntityCollection.class);
+        when(entityCollection.captureState()).thenReturn(List.of());
+        sut = new SessionRecorder(2);
+    }
+
+    @Test
+    void constructorWithIntervalBelowOneThrowsException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SessionRecorder(0));
+    }
+
+    @Test
+    void recordPulseRecordsKeyframeAtInterval() {
+        // Arrange
+        // Act
+        sut.recordPulse(1, entityCollection);
+        sut.recordPulse(2, entityCollection);
+        sut.recordPulse(3, entityCollection);
+
+        // Assert
+        var recording = sut.getRecording();
+        assertEquals(3, recording.getPulseCount());
+        assertEquals(2, recording.getKeyframeCount());
+        assertEquals(2, recording.getPulseOfKeyframe(1));
+        verify(entityCollection, times(2)).captureState();
+    }
+
+    @Test
+    void recordKeysRecordsCopyOfKeys() {
+        // Arrange
+        var keys = new HashSet<>(Set.of(KeyCode.UP));
+
+        // Act
+        sut.recordKeys(keys);
+        keys.add(KeyCode.DOWN);
+
+        // Assert
+        var entry = (RecordedEntry.KeysChanged) sut.getRecording().getEntries().get(0);
+        assertEquals(Set.of(KeyCode.UP), entry.keys());
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.hanyaeger.core.replay;
+
+import com.github.hanyaeger.api.scenes.Recording;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionReplayerTest {
+
+    private Recording recording;
+    private List<Set<KeyCode>> keyChanges;
+    private SessionReplayer sut;
+
+    @BeforeEach
+    void setup() {
+        recording = new Recording();
+        keyChanges = new ArrayList<>();
+        sut = new SessionReplayer(recording);
+    }
+
+    @Test
+    void constructorWithoutRecordingThrowsException() {
+        // Arrange
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SessionReplayer(null));
+    }
+
+    @Test
+    void nextPulseDispatchesKeysAndReturnsTimestamp() {
+        // Arrange
+        recording.add(new RecordedEntry.Keyframe(List.of()));
+        recording.add(new RecordedEntry.KeysChanged(Set.of(KeyCode.A)));
+        recording.add(new RecordedEntry.Pulse(37));
+        recording.add(new RecordedEntry.Pulse(42));
+
+        // Act
+        var timestamp = sut.nextPulse(keyChanges::add, null);
+
+        // Assert
+        assertEquals(37, timestamp);
+        assertEquals(List.of(Set.of(KeyCode.A)), keyChanges);
+        assertEquals(1, sut.getPosition());
+        assertTrue(sut.hasNextPulse());
+    }
+
+    @Test
+    void nextPulseFiresMouseEventAtTopMostNode() {
+        // Arrange
+        var root = new Pane();
+        var bottom = new Rectangle(0, 0, 50, 50);
+        var top = new Rectangle(20, 20);
+        top.setTranslateX(10);
+        top.setTranslateY(10);
+        root.getChildren().addAll(bottom, top);
+        var received = new ArrayList<MouseEvent>();
+        top.setOnMousePressed(received::add);
+        bottom.setOnMousePressed(received::add);
+
+        recording.add(new RecordedEntry.MouseInput(0, 15, 15, MouseButton.PRIMARY, 1, 0));
+        recording.add(new RecordedEntry.Pulse(37));
+
+        // Act
+        sut.nextPulse(keyChanges::add, root);
+
+        // Assert
+        assertEquals(1, received.size());
+        assertSame(top, received.get(0).getTarget());
+        assertEquals(5, received.get(0).getX());
+        assertEquals(MouseButton.PRIMARY, received.get(0).getButton());
+    }
+
+    @Test
+    void nextPulseFiresMouseEventAtNodeWithLowestViewOrder() {
+        // Arrange
+        var root = new Pane();
+        var front = new Rectangle(0, 0, 50, 50);
+        front.setViewOrder(1);
+        var behind = new Rectangle(0, 0, 50, 50);
+        behind.setViewOrder(100);
+        var sameViewOrder = new Rectangle(0, 0, 10, 10);
+        sameViewOrder.setViewOrder(1);
+        root.getChildren().addAll(sameViewOrder, front, behind);
+        var received = new ArrayList<MouseEvent>();
+        front.setOnMousePressed(received::add);
+        behind.setOnMousePressed(received::add);
+        sameViewOrder.setOnMousePressed(received::add);
+
+        recording.add(new RecordedEntry.MouseInput(0, 5, 5, MouseButton.PRIMARY, 1, 0));
+        recording.add(new RecordedEntry.Pulse(37));
+
+        // Act
+        sut.nextPulse(keyChanges::add, root);
+
+        // Assert
+        assertEquals(1, received.size());
+        assertSame(front, received.get(0).getTarget());
+    }
+
+    @Test
+    void continueFromKeyframeResumesAtFollowingPulse() {
+        // Arrange
+        recording.add(new RecordedEntry.Keyframe(List.of()));
+        recording.add(new RecordedEntry.Pulse(1));
+        var keyframe = new RecordedEntry.Keyframe(List.of(new EntityState("type", 1, 2, 0, 0, 0)));
+        recording.add(keyframe);
+        recording.add(new RecordedEntry.Pulse(2));
+
+        // Act
+        var actual = sut.continueFrom(1);
+
+        // Assert
+        assertSame(keyframe, actual);
+        assertEquals(1, sut.getPosition());
+        assertEquals(2, sut.nextPulse(keyChanges::add, null));
+        assertFalse(sut.hasNextPulse());
+    }
+}
@@ -1,7 +1,9 @@
 package com.github.hanyaeger.core.repositories;
 
 import com.github.hanyaeger.core.factories.image.ImageFactory;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -109,5 +111,51 @@ class ImageRepositoryTest {
         Assertions.assertSame(firstImage, secondImage);
         Assertions.assertEquals(1, imageRepository.size());
     }
-}
 
+    @Test
+    void getAlphaMaskIsCachedPerImageAndViewport() {
+        // Arrange
+        var image = mock(Image.class);
+        var pixelReader = mock(PixelReader.class);
+        when(image.getPixelReader()).thenReturn(pixelReader);
+        var viewport = new Rectangle2D(0, 0, 2, 2);
+
+        // Act
+        var first = imageRepository.getAlphaMask(image, viewport);
+        var second = imageRepository.getAlphaMask(image, new Rectangle2D(0, 0, 2, 2));
+
+        // Assert
+        Assertions.assertSame(first, second);
+        verify(pixelReader, times(4)).getArgb(anyInt(), anyInt());
+    }
+
+    @Test
+    void getAlphaMaskWithoutViewportUsesCompleteImage() {
+        // Arrange
+        var image = mock(Image.class);
+        when(image.getPixelReader()).thenReturn(mock(PixelReader.class));
+        when(image.getWidth()).thenReturn(3D);
+        when(image.getHeight()).thenReturn(2D);
+
+        // Act
+        var alphaMask = imageRepository.getAlphaMask(image, null);
+
+        // Assert
+        Assertions.assertEquals(3, alphaMask.getWidth());
+        Assertions.assertEquals(2, alphaMask.getHeight());
+    }
+
+    @Test
+    void differentViewportsHaveDifferentAlphaMasks() {
+        // Arrange
+        var image = mock(Image.class);
+        when(image.getPixelReader()).thenReturn(mock(PixelReader.class));
+
+        // Act
+        var first = imageRepository.getAlphaMask(image, new Rectangle2D(0, 0, 2, 2));
+        var second = imageRepository.getAlphaMask(image, new Rectangle2D(2, 0, 2, 2));
+
+        // Assert
+        Assertions.assertNotSame(first, second);
+    }
+}